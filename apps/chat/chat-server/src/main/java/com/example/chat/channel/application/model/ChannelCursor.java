@@ -0,0 +1,52 @@
+package com.example.chat.channel.application.model;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.shared.exception.ChatException;
+import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
+
+/**
+ * 채널 목록(inbox) keyset 페이징 커서.
+ *
+ * 형식: {lastActivityAt ISO-8601}_{channelId}
+ * - (last_activity_at, channel_id) 복합 키로 비교하므로 같은 시각에 활동한 채널도 누락/중복 없이 페이징된다.
+ * - channelId 가 없는 형식(시각 단독)도 허용한다 (하위 호환).
+ *
+ * @param lastActivityAt 이전 페이지 마지막 채널의 lastActivityAt
+ * @param channelId      이전 페이지 마지막 채널 ID (시각 단독 형식이면 null)
+ */
+public record ChannelCursor(Instant lastActivityAt, String channelId) {
+
+    private static final char SEPARATOR = '_';
+
+    public static ChannelCursor of(ChatChannelMetadataEntity last) {
+        return new ChannelCursor(last.getLastActivityAt(), last.getChannelId());
+    }
+
+    /**
+     * 요청 파라미터 파싱
+     *
+     * @throws ChatException CHANNEL_INVALID_CURSOR — 형식 오류
+     */
+    public static ChannelCursor parse(String raw) {
+        int separator = raw.indexOf(SEPARATOR);
+        try {
+            if (separator < 0) {
+                return new ChannelCursor(Instant.parse(raw), null);
+            }
+            String channelId = raw.substring(separator + 1);
+            if (channelId.isBlank()) {
+                throw new ChatException(ChatErrorCode.CHANNEL_INVALID_CURSOR);
+            }
+            return new ChannelCursor(Instant.parse(raw.substring(0, separator)), channelId);
+        } catch (DateTimeParseException e) {
+            throw new ChatException(ChatErrorCode.CHANNEL_INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return lastActivityAt.toString() + SEPARATOR + channelId;
+    }
+}
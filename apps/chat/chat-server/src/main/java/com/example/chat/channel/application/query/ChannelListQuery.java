@@ -1,7 +1,5 @@
 package com.example.chat.channel.application.query;
 
-import java.time.Instant;
-
 import com.example.chat.common.core.enums.ChannelType;
 
 /**
@@ -9,8 +7,8 @@ import com.example.chat.common.core.enums.ChannelType;
  *
  * CQRS Query Side:
  * - 커서 기반 페이징 — offset 사용 금지
- *   cursor: 마지막으로 수신한 채널의 createdAt (null 이면 첫 페이지)
- * - 정렬은 createdAt DESC 고정
+ *   cursor: 이전 페이지 nextCursor ({lastActivityAt}_{channelId}, null 이면 첫 페이지)
+ * - 정렬은 lastActivityAt DESC (최근 활동 채널 우선) 고정
  */
 public record ChannelListQuery(
         String userId,
@@ -19,7 +17,7 @@ public record ChannelListQuery(
         Boolean onlyUnread,
         Boolean onlyPinned,
         String searchKeyword,
-        Instant cursor,
+        String cursor,
         int size) {
     public ChannelListQuery {
         if (size <= 0)
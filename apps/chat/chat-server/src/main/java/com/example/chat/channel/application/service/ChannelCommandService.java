@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.chat.auth.core.util.SecurityUtils;
+import com.example.chat.shared.cache.ChannelStateCacheService;
 import com.example.chat.shared.cache.UnreadCacheService;
 import com.example.chat.channel.rest.dto.request.CreateChannelRequest;
 import com.example.chat.channel.rest.dto.response.ChannelResponse;
@@ -18,6 +19,7 @@ import com.example.chat.shared.exception.ResourceNotFoundException;
 import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
 import com.example.chat.storage.domain.entity.ChatChannelEntity;
 import com.example.chat.storage.domain.entity.ChatChannelMemberEntity;
+import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
 import com.example.chat.storage.domain.entity.UserEntity;
 import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
 import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
@@ -33,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
  * - 채널 생성 (DIRECT / GROUP / PUBLIC / PRIVATE)
  * - 채널 비활성화(삭제)
  * - 채널 멤버 추가/제거
+ * - 멤버별 inbox 행(chat_channel_metadata) 생성 / 비활성화 반영
  * <p>
  * SRP: 채널 상태 변경 전담
  * DIP: JPA Repository 직접 주입 (Adapter 제거됨)
@@ -49,6 +52,7 @@ public class ChannelCommandService {
 	private final JpaChannelMetadataRepository channelMetadataRepository;
 	private final KafkaMessageProducer kafkaMessageProducer;
 	private final UnreadCacheService unreadCacheService;
+	private final ChannelStateCacheService channelStateCacheService;
 
 	/**
 	 * 채널 생성
@@ -65,6 +69,7 @@ public class ChannelCommandService {
 
 		// 생성자를 멤버로 추가
 		channelMemberRepository.save(buildMember(saved.getId(), currentUserId));
+		channelMetadataRepository.save(buildMetadata(saved, currentUserId));
 
 		// DIRECT 채널이면 상대방도 멤버로 추가
 		if (request.type() == ChannelType.DIRECT) {
@@ -72,6 +77,7 @@ public class ChannelCommandService {
 			validateDifferentUsers(currentUserId, otherId);
 			findUser(otherId); // 존재 확인
 			channelMemberRepository.save(buildMember(saved.getId(), otherId));
+			channelMetadataRepository.save(buildMetadata(saved, otherId));
 		}
 
 		log.info("Channel created: channelId={}", saved.getId());
@@ -90,6 +96,12 @@ public class ChannelCommandService {
 		validateOwner(channel, currentUserId);
 		channel.deactivate();
 		channelRepository.save(channel);
+
+		// 멤버 inbox 에서 숨김
+		channelMetadataRepository.deactivateChannel(channelId);
+
+		// 발송 경로 채널 상태 캐시 무효화 (커밋 후 전파)
+		channelStateCacheService.invalidateChannel(channelId);
 	}
 
 	/**
@@ -109,6 +121,11 @@ public class ChannelCommandService {
 			throw new ChatException(ChatErrorCode.CHANNEL_ALREADY_MEMBER);
 		}
 		channelMemberRepository.save(buildMember(channelId, targetUserId));
+		// 재합류 시 퇴장 Consumer 가 아직 이전 행을 지우지 않았을 수 있음 — 중복 생성 방지
+		if (!channelMetadataRepository.existsByChannelIdAndUserId(channelId, targetUserId)) {
+			channelMetadataRepository.save(buildMetadata(channel, targetUserId));
+		}
+		channelStateCacheService.invalidateChannel(channelId);
 	}
 
 	/**
@@ -139,8 +156,9 @@ public class ChannelCommandService {
 
 		// Redis Cache: 퇴장 사용자 unread 필드 즉시 제거 (Phase 9)
 		unreadCacheService.evictUser(channelId, targetUserId);
+		channelStateCacheService.invalidateChannel(channelId);
 
-		// Kafka 비동기: 퇴장 멤버의 미읽음 message.unread_count 보정
+		// Kafka 비동기: 퇴장 멤버의 메타데이터(읽음 커서) 정리
 		// (channelMetadataRepository.deleteByChannelIdAndUserId는 Consumer에서 처리)
 		kafkaMessageProducer.publishMemberLeft(targetUserId, channelId, lastReadAt);
 	}
@@ -173,6 +191,11 @@ public class ChannelCommandService {
 		return ChatChannelMemberEntity.create(channelId, userId);
 	}
 
+	private ChatChannelMetadataEntity buildMetadata(ChatChannelEntity channel, String userId) {
+		return ChatChannelMetadataEntity.create(
+				UUID.randomUUID().toString(), channel.getId(), userId, channel.getChannelType());
+	}
+
 	private ChatChannelEntity findChannel(String channelId) {
 		return channelRepository.findById(channelId)
 				.orElseThrow(() -> new ResourceNotFoundException(ChatErrorCode.CHANNEL_NOT_FOUND));
@@ -3,29 +3,35 @@ package com.example.chat.channel.application.service;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.shared.query.LikePatterns;
 import com.example.chat.channel.rest.dto.response.ChannelListItem;
+import com.example.chat.channel.application.model.ChannelCursor;
 import com.example.chat.channel.application.model.CursorPage;
 import com.example.chat.channel.application.query.ChannelListQuery;
 import com.example.chat.common.core.enums.ChannelType;
+import com.example.chat.storage.domain.entity.ChannelLastMessageEntity;
 import com.example.chat.storage.domain.entity.ChatChannelEntity;
 import com.example.chat.storage.domain.entity.ChatChannelMemberEntity;
 import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
-import com.example.chat.storage.domain.entity.ChatMessageEntity;
 import com.example.chat.storage.domain.entity.UserEntity;
+import com.example.chat.storage.domain.repository.JpaChannelLastMessageRepository;
 import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
 import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
 import com.example.chat.storage.domain.repository.JpaChannelRepository;
-import com.example.chat.storage.domain.repository.JpaMessageRepository;
 import com.example.chat.storage.domain.repository.JpaUserRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -40,17 +46,24 @@ import lombok.extern.slf4j.Slf4j;
  *                → PostgreSQL Replica (readOnly=true 트랜잭션 → ReplicaDataSource 라우팅)
  *                → Redis Hash 캐시 우선 조회 (UnreadCacheService)
  *
- * 커서 페이징:
- *   cursor = 마지막으로 받은 채널의 createdAt (null 이면 첫 페이지)
+ * 커서 페이징 (사용자 inbox):
+ *   chat_channel_metadata 를 사용자별 inbox 로 사용 — lastActivityAt DESC(최근 활동 채널 우선) 정렬
+ *   cursor = {lastActivityAt}_{channelId} (null 이면 첫 페이지)
  *   size+1 개를 조회해 hasNext 를 판단한다.
+ *   첫 페이지 / 커서 이후, 채널 타입 필터 유무, 키워드 유무마다 별도 쿼리를 사용한다 (catch-all 술어 없음).
+ *   favorite / pinned / unread / channelType 필터는 inbox 행에서 바로 평가되어 채널·멤버 JOIN 이 없다.
+ *   채널명 키워드 검색일 때만 chat_channels 를 PK 로 JOIN 한다.
  *
  * unreadCount 조회 전략 (Two-Level Read):
- *   L1: Redis HGET chat:channel:{channelId}:unread {userId}
- *       → hit:  캐시 값 사용 (< 1ms)
- *       → miss: PostgreSQL metadata.unreadCount 사용 (fallback)
+ *   L1: Redis HGET chat:channel:{channelId}:unread {userId} — 페이지 전체를 Pipeline 1회 왕복으로 조회
+ *       → hit:  캐시 값 사용 (< 1ms, 페이지 크기와 무관)
+ *       → miss: 해당 채널만 PostgreSQL metadata.unreadCount 사용 (fallback)
  *   이를 통해 채널 목록 조회 시 PostgreSQL unreadCount 집계 쿼리 부하 제거
  *
- * N+1 방지: User / Member / Metadata / LastMessage 배치 조회 유지
+ * 마지막 메시지: channel_last_message Read Model PK 배치 조회
+ *   Outbox 릴레이가 발송 시 UPSERT 하므로 chat_messages 를 조회하지 않는다.
+ *
+ * N+1 방지: Channel / User / Member / LastMessage 배치 조회 유지
  */
 @Service
 @Transactional(readOnly = true)   // → TransactionRoutingDataSource: REPLICA 자동 라우팅
@@ -60,7 +73,7 @@ public class ChannelListQueryService {
     private final JpaChannelRepository channelRepository;
     private final JpaChannelMemberRepository channelMemberRepository;
     private final JpaChannelMetadataRepository metadataRepository;
-    private final JpaMessageRepository messageRepository;
+    private final JpaChannelLastMessageRepository lastMessageRepository;
     private final JpaUserRepository userRepository;
     private final UnreadCacheService unreadCacheService;
 
@@ -68,13 +81,13 @@ public class ChannelListQueryService {
             JpaChannelRepository channelRepository,
             JpaChannelMemberRepository channelMemberRepository,
             JpaChannelMetadataRepository metadataRepository,
-            JpaMessageRepository messageRepository,
+            JpaChannelLastMessageRepository lastMessageRepository,
             JpaUserRepository userRepository,
             UnreadCacheService unreadCacheService) {
         this.channelRepository = channelRepository;
         this.channelMemberRepository = channelMemberRepository;
         this.metadataRepository = metadataRepository;
-        this.messageRepository = messageRepository;
+        this.lastMessageRepository = lastMessageRepository;
         this.userRepository = userRepository;
         this.unreadCacheService = unreadCacheService;
     }
@@ -83,56 +96,112 @@ public class ChannelListQueryService {
      * 채팅방 목록 조회 (Read Model, Cursor-based)
      *
      * 단계:
-     * 1. PostgreSQL Replica에서 커서/필터 적용한 채널 목록 조회 (size+1 개)
-     * 2. 멤버/메타데이터/마지막메시지 배치 fetch (N+1 방지)
+     * 1. PostgreSQL Replica에서 커서/필터 적용한 inbox 행 조회 (size+1 개)
+     * 2. 채널/멤버/마지막메시지 배치 fetch (N+1 방지)
      * 3. unreadCount: Redis L1 → miss 시 PostgreSQL L2 fallback
      * 4. CursorPage 래핑 (hasNext 판단)
      */
     public CursorPage<ChannelListItem> getChannelList(ChannelListQuery query) {
         log.debug("ChannelListQueryService: userId={}, cursor={}, size={}", query.userId(), query.cursor(), query.size());
 
-        String channelTypeStr = query.type() != null ? query.type().name() : null;
         boolean onlyFavorites  = Boolean.TRUE.equals(query.onlyFavorites());
         boolean onlyPinned     = Boolean.TRUE.equals(query.onlyPinned());
         boolean onlyUnread     = Boolean.TRUE.equals(query.onlyUnread());
         String keyword = (query.searchKeyword() != null && !query.searchKeyword().isBlank())
                 ? query.searchKeyword() : null;
 
+        ChannelCursor cursor = (query.cursor() != null && !query.cursor().isBlank())
+                ? ChannelCursor.parse(query.cursor()) : null;
+
         // size+1 조회로 hasNext 판단 (offset 없음)
         var pageable = PageRequest.ofSize(query.size() + 1);
 
-        List<ChatChannelEntity> fetched = channelRepository.findByMemberIdWithAllFilters(
-                query.userId(), channelTypeStr,
-                onlyFavorites, onlyPinned, onlyUnread, keyword,
-                query.cursor(), pageable);
+        List<ChatChannelMetadataEntity> fetched = fetchInbox(query.userId(), query.type(),
+                onlyFavorites, onlyPinned, onlyUnread, keyword != null ? keywordPattern(keyword) : null,
+                cursor, pageable);
 
         if (fetched.isEmpty()) return CursorPage.empty();
 
         boolean hasNext = fetched.size() > query.size();
-        List<ChatChannelEntity> channels = hasNext ? fetched.subList(0, query.size()) : fetched;
+        List<ChatChannelMetadataEntity> inbox = hasNext ? fetched.subList(0, query.size()) : fetched;
 
-        List<String> channelIds = channels.stream()
-                .map(ChatChannelEntity::getId)
+        List<String> channelIds = inbox.stream()
+                .map(ChatChannelMetadataEntity::getChannelId)
                 .collect(Collectors.toList());
 
-        // 배치 조회 (N+1 방지)
+        // 배치 조회 (N+1 방지) — 채널은 PK 배치 조회, inbox 순서 유지
+        Map<String, ChatChannelEntity> channelMap = fetchChannelMap(channelIds);
+        List<ChatChannelEntity> channels = channelIds.stream()
+                .map(channelMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<String, ChatChannelMetadataEntity> metadataMap = inbox.stream()
+                .collect(Collectors.toMap(ChatChannelMetadataEntity::getChannelId, Function.identity()));
         Map<String, Set<String>> membersByChannel = fetchMemberIdsBatch(channelIds);
-        Map<String, ChatChannelMetadataEntity> metadataMap = fetchMetadataMap(channelIds, query.userId());
-        Map<String, ChatMessageEntity> lastMessageMap = fetchLastMessageMap(channelIds);
+        Map<String, ChannelLastMessageEntity> lastMessageMap = fetchLastMessageMap(channelIds);
         Map<String, UserEntity> userCache = buildUserCache(channels, lastMessageMap, query.userId(), membersByChannel);
+        Map<String, Integer> cachedUnread = unreadCacheService.getUnreadCounts(query.userId(), channelIds);
 
         List<ChannelListItem> items = channels.stream()
                 .map(ch -> buildItem(ch,
                         membersByChannel.getOrDefault(ch.getId(), Set.of()),
                         metadataMap.get(ch.getId()),
                         lastMessageMap.get(ch.getId()),
+                        cachedUnread.get(ch.getId()),
                         query.userId(), userCache))
                 .collect(Collectors.toList());
 
-        Instant nextCursor = hasNext ? channels.get(channels.size() - 1).getCreatedAt() : null;
+        String nextCursor = hasNext ? ChannelCursor.of(inbox.get(inbox.size() - 1)).encode() : null;
         return new CursorPage<>(items, nextCursor, hasNext);
     }
 
+    /**
+     * 첫 페이지 / 커서 이후 × 채널 타입 필터 × 키워드 조합에 맞는 inbox 쿼리 선택.
+     * 시각 단독(하위 호환) 커서는 빈 문자열 channelId 로 조회한다 — 빈 문자열보다 작은 ID 가 없어 시각만 비교된다.
+     */
+    private List<ChatChannelMetadataEntity> fetchInbox(
+            String userId, ChannelType type, boolean onlyFavorites, boolean onlyPinned, boolean onlyUnread,
+            String keywordPattern, ChannelCursor cursor, Pageable pageable) {
+
+        if (cursor == null) {
+            if (keywordPattern == null) {
+                return type == null
+                        ? metadataRepository.findInboxFirstPage(userId, onlyFavorites, onlyPinned, onlyUnread, pageable)
+                        : metadataRepository.findInboxFirstPageByType(
+                                userId, type, onlyFavorites, onlyPinned, onlyUnread, pageable);
+            }
+            return type == null
+                    ? metadataRepository.findInboxFirstPageByKeyword(
+                            userId, onlyFavorites, onlyPinned, onlyUnread, keywordPattern, pageable)
+                    : metadataRepository.findInboxFirstPageByTypeAndKeyword(
+                            userId, type, onlyFavorites, onlyPinned, onlyUnread, keywordPattern, pageable);
+        }
+
+        Instant activityAt = cursor.lastActivityAt();
+        String channelId   = cursor.channelId() != null ? cursor.channelId() : "";
+        if (keywordPattern == null) {
+            return type == null
+                    ? metadataRepository.findInboxPageAfter(
+                            userId, onlyFavorites, onlyPinned, onlyUnread, activityAt, channelId, pageable)
+                    : metadataRepository.findInboxPageAfterByType(
+                            userId, type, onlyFavorites, onlyPinned, onlyUnread, activityAt, channelId, pageable);
+        }
+        return type == null
+                ? metadataRepository.findInboxPageAfterByKeyword(
+                        userId, onlyFavorites, onlyPinned, onlyUnread, keywordPattern, activityAt, channelId, pageable)
+                : metadataRepository.findInboxPageAfterByTypeAndKeyword(
+                        userId, type, onlyFavorites, onlyPinned, onlyUnread, keywordPattern,
+                        activityAt, channelId, pageable);
+    }
+
+    /**
+     * 채널명 LIKE 패턴 — 소문자화 후 '%키워드%' 로 감싼다.
+     * SQL 에서 LOWER 로 만들지 않고 완성된 패턴을 바인딩해 lower(name) 트라이그램 인덱스가 쓰이도록 한다.
+     */
+    static String keywordPattern(String keyword) {
+        return LikePatterns.contains(keyword.strip().toLowerCase(Locale.ROOT));
+    }
+
     // ─────────────────────────────────────────────
     // Batch Fetch Helpers (N+1 방지)
     // ─────────────────────────────────────────────
@@ -144,20 +213,19 @@ public class ChannelListQueryService {
                         Collectors.mapping(ChatChannelMemberEntity::getUserId, Collectors.toSet())));
     }
 
-    private Map<String, ChatChannelMetadataEntity> fetchMetadataMap(List<String> channelIds, String userId) {
-        return metadataRepository.findByChannelIdInAndUserId(channelIds, userId).stream()
-                .collect(Collectors.toMap(ChatChannelMetadataEntity::getChannelId, m -> m));
+    private Map<String, ChatChannelEntity> fetchChannelMap(List<String> channelIds) {
+        return channelRepository.findAllById(channelIds).stream()
+                .collect(Collectors.toMap(ChatChannelEntity::getId, Function.identity()));
     }
 
-    private Map<String, ChatMessageEntity> fetchLastMessageMap(List<String> channelIds) {
-        return messageRepository.findLastMessagesByChannelIds(channelIds).stream()
-                .collect(Collectors.toMap(ChatMessageEntity::getChannelId, m -> m,
-                        (a, b) -> a.getCreatedAt().isAfter(b.getCreatedAt()) ? a : b));
+    private Map<String, ChannelLastMessageEntity> fetchLastMessageMap(List<String> channelIds) {
+        return lastMessageRepository.findAllById(channelIds).stream()
+                .collect(Collectors.toMap(ChannelLastMessageEntity::getChannelId, m -> m));
     }
 
     private Map<String, UserEntity> buildUserCache(
             List<ChatChannelEntity> channels,
-            Map<String, ChatMessageEntity> lastMessageMap,
+            Map<String, ChannelLastMessageEntity> lastMessageMap,
             String currentUserId,
             Map<String, Set<String>> membersByChannel) {
 
@@ -172,7 +240,7 @@ public class ChannelListQueryService {
             }
         }
         lastMessageMap.values().stream()
-                .map(ChatMessageEntity::getSenderId)
+                .map(ChannelLastMessageEntity::getSenderId)
                 .forEach(requiredIds::add);
 
         return userRepository.findAllById(requiredIds).stream()
@@ -184,10 +252,10 @@ public class ChannelListQueryService {
     // ─────────────────────────────────────────────
 
     private ChannelListItem buildItem(ChatChannelEntity ch, Set<String> memberIds,
-            ChatChannelMetadataEntity meta, ChatMessageEntity lastMsg,
+            ChatChannelMetadataEntity meta, ChannelLastMessageEntity lastMsg, Integer cachedUnread,
             String currentUserId, Map<String, UserEntity> userCache) {
 
-        MetaInfo metaInfo = extractMeta(meta, ch.getId(), currentUserId);
+        MetaInfo metaInfo = extractMeta(meta, cachedUnread);
         LastMsgInfo msgInfo = extractLastMsg(lastMsg, userCache);
         ParticipantInfo participant = extractParticipant(ch, memberIds, currentUserId, userCache);
 
@@ -205,17 +273,16 @@ public class ChannelListQueryService {
     /**
      * 미읽음 수 조회 — Two-Level Read
      *
-     * L1 Redis:
+     * L1 Redis (getUnreadCounts 일괄 조회 결과):
      *   hit  → Redis 값 사용 (< 1ms, DB 부하 없음)
      *   miss → L2 PostgreSQL metadata.unreadCount fallback
      *
-     * Redis 장애 시 자동 fallback (UnreadCacheService 내부 예외 처리)
+     * Redis 장애 시 자동 fallback (UnreadCacheService 내부 예외 처리 → 빈 Map)
      */
-    private MetaInfo extractMeta(ChatChannelMetadataEntity meta, String channelId, String userId) {
-        // L1: Redis 캐시 조회
-        int unreadCount = unreadCacheService.getUnreadCount(channelId, userId)
-                // L2: PostgreSQL fallback
-                .orElseGet(() -> meta != null ? meta.getUnreadCount() : 0);
+    private MetaInfo extractMeta(ChatChannelMetadataEntity meta, Integer cachedUnread) {
+        // L1: Redis 캐시 값, miss 시 L2: PostgreSQL fallback
+        int unreadCount = cachedUnread != null ? cachedUnread
+                : meta != null ? meta.getUnreadCount() : 0;
 
         if (meta == null) return new MetaInfo(unreadCount, false, false, true, null, null);
 
@@ -226,16 +293,11 @@ public class ChannelListQueryService {
                 meta.isNotificationEnabled(), meta.getLastReadAt(), activity);
     }
 
-    private LastMsgInfo extractLastMsg(ChatMessageEntity msg, Map<String, UserEntity> userCache) {
+    private LastMsgInfo extractLastMsg(ChannelLastMessageEntity msg, Map<String, UserEntity> userCache) {
         if (msg == null) return new LastMsgInfo(null, null, null, null, null);
-        String content = switch (msg.getMessageType()) {
-            case TEXT, SYSTEM       -> msg.getContentText() != null ? msg.getContentText() : "";
-            case IMAGE              -> "[Image] " + msg.getContentFileName();
-            case FILE, VIDEO, AUDIO -> "[File] " + msg.getContentFileName();
-        };
         String senderName = Optional.ofNullable(userCache.get(msg.getSenderId()))
                 .map(UserEntity::getUsername).orElse(null);
-        return new LastMsgInfo(msg.getId(), content, msg.getSenderId(), senderName, msg.getCreatedAt());
+        return new LastMsgInfo(msg.getMessageId(), msg.getPreview(), msg.getSenderId(), senderName, msg.getMessageAt());
     }
 
     private ParticipantInfo extractParticipant(ChatChannelEntity ch, Set<String> memberIds,
@@ -1,5 +1,6 @@
 package com.example.chat.channel.application.service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -9,15 +10,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.chat.shared.cache.ChannelReadCursorCache;
 import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer;
 import com.example.chat.channel.rest.dto.response.ChannelMetadataResponse;
 import com.example.chat.channel.infrastructure.redis.ReadReceiptEventPublisher;
 import com.example.chat.common.core.exception.ChatErrorCode;
 import com.example.chat.shared.exception.ChatException;
 import com.example.chat.shared.exception.ResourceNotFoundException;
-import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
-import com.example.chat.message.infrastructure.kafka.ReadReceiptKafkaEvent;
+import com.example.chat.storage.domain.entity.ChatChannelEntity;
 import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
+import com.example.chat.storage.domain.entity.ChatMessageEntity;
 import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
 import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
 import com.example.chat.storage.domain.repository.JpaChannelRepository;
@@ -40,16 +43,17 @@ public class ChannelMetadataApplicationService {
     private final JpaChannelRepository channelRepository;
     private final JpaChannelMemberRepository channelMemberRepository;
     private final ReadReceiptEventPublisher readReceiptEventPublisher;
-    private final KafkaMessageProducer kafkaMessageProducer;
     private final JpaMessageRepository messageRepository;
     private final UnreadCacheService unreadCacheService;
+    private final UnreadWriteBehindBuffer unreadWriteBehindBuffer;
+    private final ChannelReadCursorCache readCursorCache;
 
     /** 조회 또는 신규 생성 - 쓰기 트랜잭션 */
     @Transactional
     public ChannelMetadataResponse getOrCreateMetadata(String userId, String channelId) {
         log.debug("Getting or creating metadata: userId={}, channelId={}", userId, channelId);
 
-        channelRepository.findById(channelId)
+        ChatChannelEntity channel = channelRepository.findById(channelId)
                 .orElseThrow(() -> new ResourceNotFoundException(ChatErrorCode.CHANNEL_NOT_FOUND));
 
         if (!channelMemberRepository.existsByChannelIdAndUserId(channelId, userId)) {
@@ -58,17 +62,22 @@ public class ChannelMetadataApplicationService {
 
         ChatChannelMetadataEntity metadata = metadataRepository
                 .findByChannelIdAndUserId(channelId, userId)
-                .orElseGet(() -> metadataRepository.save(buildMetadata(channelId, userId)));
+                .orElseGet(() -> metadataRepository.save(buildMetadata(channel, userId)));
 
         return ChannelMetadataResponse.fromEntity(metadata);
     }
 
-    /** 읽음 처리 - 쓰기 트랜잭션 */
+    /**
+     * 읽음 처리 - 쓰기 트랜잭션
+     * 메타데이터 1행(읽음 커서)만 갱신한다 — 메시지별 미읽음 수는 조회 시 커서로 계산 ({@link ChannelReadCursorCache}).
+     */
     @Transactional
     public ChannelMetadataResponse markAsRead(String userId, String channelId, String messageId) {
         log.info("Marking as read: userId={}, channelId={}, messageId={}", userId, channelId, messageId);
         ChatChannelMetadataEntity metadata = findMetadata(userId, channelId);
-        metadata.markAsRead(messageId);
+        // 0 리셋 전에 미반영 Write-Behind 증분 폐기 — 읽기 이전 메시지 증분이 플러시로 다시 더해지지 않도록
+        unreadWriteBehindBuffer.discardUser(channelId, userId);
+        metadata.markAsRead(messageId, findMessageCreatedAt(channelId, messageId));
         ChannelMetadataResponse response = ChannelMetadataResponse.fromEntity(metadataRepository.save(metadata));
 
         // 1) 실시간: Redis Pub/Sub → WebSocket read receipt 브로드캐스트 (즉시)
@@ -77,28 +86,22 @@ public class ChannelMetadataApplicationService {
         // 2) Redis Cache: unreadCount 즉시 0 리셋 (Phase 9: 채널 목록 조회 최신화)
         unreadCacheService.resetUser(channelId, userId);
 
-        // 3) 비동기: Kafka → message.unread_count 배치 감소 (응답 지연 없음)
-        publishReadReceiptKafkaEvent(userId, channelId, messageId);
+        // 3) 읽음 커서 전진: 커밋 후 전 인스턴스 로컬 커서 반영 (메시지 '1' 계산 기준)
+        readCursorCache.advance(channelId, userId, metadata.getLastReadMessageAt());
 
         return response;
     }
 
     /**
-     * 읽음 처리 Kafka 이벤트 발행
-     * 메시지의 createdAt을 조회해 커서로 사용
+     * 읽은 메시지의 생성 시각 조회 (읽음 커서 위치)
+     * 메시지가 없거나 다른 채널 메시지면 null — 커서는 전진하지 않는다.
      */
-    private void publishReadReceiptKafkaEvent(String userId, String channelId, String messageId) {
-        try {
-            messageRepository.findById(messageId).ifPresent(msg -> {
-                kafkaMessageProducer.publishReadReceipt(
-                        new ReadReceiptKafkaEvent(userId, channelId, messageId, msg.getCreatedAt()));
-                log.debug("ReadReceipt Kafka event published: userId={}, channelId={}, cursor={}",
-                        userId, channelId, msg.getCreatedAt());
-            });
-        } catch (Exception e) {
-            // Kafka 발행 실패는 non-critical (미읽음 카운터 일시적 부정확)
-            log.error("Failed to publish read-receipt Kafka event: userId={}, channelId={}", userId, channelId, e);
-        }
+    private Instant findMessageCreatedAt(String channelId, String messageId) {
+        if (messageId == null) return null;
+        return messageRepository.findById(messageId)
+                .filter(msg -> channelId.equals(msg.getChannelId()))
+                .map(ChatMessageEntity::getCreatedAt)
+                .orElse(null);
     }
 
     /** 미읽음 카운트 증가 - 쓰기 트랜잭션 */
@@ -107,7 +110,9 @@ public class ChannelMetadataApplicationService {
         log.debug("Incrementing unread count: userId={}, channelId={}", userId, channelId);
         ChatChannelMetadataEntity metadata = metadataRepository
                 .findByChannelIdAndUserId(channelId, userId)
-                .orElseGet(() -> buildMetadata(channelId, userId));
+                .orElseGet(() -> channelRepository.findById(channelId)
+                        .map(channel -> buildMetadata(channel, userId))
+                        .orElseThrow(() -> new ResourceNotFoundException(ChatErrorCode.CHANNEL_NOT_FOUND)));
         metadata.incrementUnread();
         metadataRepository.save(metadata);
     }
@@ -163,7 +168,8 @@ public class ChannelMetadataApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException(ChatErrorCode.CHANNEL_NOT_FOUND));
     }
 
-    private ChatChannelMetadataEntity buildMetadata(String channelId, String userId) {
-        return ChatChannelMetadataEntity.create(UUID.randomUUID().toString(), channelId, userId);
+    private ChatChannelMetadataEntity buildMetadata(ChatChannelEntity channel, String userId) {
+        return ChatChannelMetadataEntity.create(
+                UUID.randomUUID().toString(), channel.getId(), userId, channel.getChannelType());
     }
 }
@@ -1,39 +1,46 @@
 package com.example.chat.channel.infrastructure.kafka;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
-import com.example.chat.storage.domain.repository.JpaMessageRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 채널 멤버 퇴장 Kafka Consumer
+ * 채널 멤버 퇴장 Kafka Consumer (배치 리스너)
  *
  * 토픽: member-left-events
- * 역할: 퇴장 멤버가 읽지 않은 메시지들의 unread_count 일괄 -1 감소
+ * 역할: 퇴장한 사용자의 chat_channel_metadata(읽음 커서 / inbox 행) 삭제
+ *
+ * 메시지별 미읽음 수('1')는 멤버 읽음 커서로 조회 시 계산하므로 메시지 행 보정은 없다.
+ * 퇴장자는 멤버 목록에서 빠지는 즉시 계산 대상에서 제외된다
+ * (removeMember 커밋 후 채널 상태 무효화 → 읽음 커서 캐시도 함께 제거).
  *
- * 처리 흐름:
- *  1. 퇴장한 사용자의 lastReadAt 기준으로 미읽음 메시지 조회
- *  2. chat_messages.unread_count 일괄 감소 (퇴장자는 영원히 읽지 않음)
- *  3. 해당 사용자의 chat_channel_metadata 삭제
+ * 배치 처리:
+ * - poll 1회분 레코드를 channelId 로 묶고 같은 채널의 퇴장자를 합친다 (중복 이벤트는 1건으로 병합)
+ * - 채널당 DELETE 1회 → 대량 퇴장(채널 정리, 일괄 강퇴)에서도 레코드 수와 무관하게 채널 수만큼만 실행
+ * - 오프셋은 배치 처리 후 1회 커밋
+ * - DELETE 실패 채널이 있으면 ACK 하지 않고 그 채널의 첫 레코드 위치로 BatchListenerFailedException 을 던진다
+ *   → 에러 핸들러(KafkaConfig)가 앞선 레코드만 커밋하고 나머지를 재전달, 재시도 소진 시 해당 레코드를
+ *     member-left-events.DLT 로 보낸 뒤 다음 레코드부터 계속한다
  *
- * 大規模 채널 고려 사항:
+ * 설계 사항:
  * - Kafka 비동기 처리로 removeMember() API 응답 블로킹 없음
  * - channelId 파티션 키로 순서 보장 (같은 채널의 연속 퇴장도 안전)
- * - 멱등성: CASE WHEN unread_count > 0 THEN - 1 ELSE 0 → 중복 소비 안전
- *
- * 트랜잭션 설계:
- * - processEvent()를 별도 @Transactional 메서드로 분리
- * - consume()의 try-catch가 예외를 삼켜도 processEvent() 내부에서 발생한
- *   RuntimeException은 @Transactional 경계에서 롤백됨 → 부분 커밋 방지
- * - bulkDecrement 성공 + deleteMetadata 실패 시 전체 롤백 보장
+ * - 멱등성: 이미 삭제된 행 재삭제는 no-op → 중복 소비 안전 (재전달 시 성공했던 채널이 다시 처리되어도 무해)
+ * - 채널 단위 장애 격리: 한 채널 DELETE 실패가 같은 배치의 다른 채널 처리를 막지 않음
  */
 @Component
 @RequiredArgsConstructor
@@ -43,45 +50,87 @@ public class MemberLeftKafkaConsumer {
     private static final String TOPIC = "member-left-events";
     private static final String GROUP = "chat-server-group";
 
-    private final JpaMessageRepository messageRepository;
     private final JpaChannelMetadataRepository metadataRepository;
     private final ObjectMapper objectMapper;
 
-    @KafkaListener(topics = TOPIC, groupId = GROUP)
-    public void consume(ConsumerRecord<String, String> record, Acknowledgment ack) {
-        try {
-            MemberLeftKafkaEvent event = objectMapper.readValue(record.value(), MemberLeftKafkaEvent.class);
-            if (event == null || event.channelId() == null || event.userId() == null) {
-                log.warn("Invalid member-left event: {}", record.value());
-                ack.acknowledge();
-                return;
+    @KafkaListener(topics = TOPIC, groupId = GROUP, batch = "true")
+    public void consume(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        List<MemberLeftKafkaEvent> events = records.stream().map(this::parse).toList();
+        Map<String, Exception> failures = processBatch(groupByChannel(events));
+
+        // Step 1: 실패 채널이 있으면 ACK 하지 않고 첫 실패 레코드부터 재전달 (에러 핸들러가 재시도 / DLT 처리)
+        if (!failures.isEmpty()) {
+            int index = firstFailedIndex(events, failures.keySet());
+            throw new BatchListenerFailedException(
+                    "Failed to process member-left batch: channels=" + failures.keySet(),
+                    failures.values().iterator().next(), index);
+        }
+
+        // Step 2: 배치 전체 처리 성공 → 1회 커밋
+        ack.acknowledge();
+    }
+
+    /**
+     * 채널별 퇴장자 일괄 삭제 — 채널당 DELETE 1회
+     * TransactionRoutingDataSource: 리포지토리 @Transactional(readOnly=false) → SOURCE(Write DB)
+     *
+     * @return DELETE 에 실패한 채널 → 예외 (한 채널 실패가 다른 채널 처리를 막지 않음)
+     */
+    public Map<String, Exception> processBatch(Map<String, Set<String>> leftByChannel) {
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : leftByChannel.entrySet()) {
+            String channelId = entry.getKey();
+            Set<String> userIds = entry.getValue();
+            try {
+                int deleted = metadataRepository.deleteByChannelIdAndUserIdIn(channelId, userIds);
+                log.info("MemberLeft processed: channelId={}, users={}, deletedMetadata={}",
+                        channelId, userIds.size(), deleted);
+            } catch (Exception e) {
+                log.error("Failed to process member-left batch: channelId={}, userIds={}", channelId, userIds, e);
+                failures.put(channelId, e);
             }
-            processEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("Failed to process member-left event: {}", record.value(), e);
-            // ACK: 파싱/DB 실패 시 무한 재처리 방지
-            // 프로덕션 환경에서는 DLQ(member-left-events.DLT)로 이동 권장
-            ack.acknowledge();
         }
+        return failures;
     }
 
     /**
-     * DB 작업을 단일 트랜잭션으로 묶어 원자성 보장
-     * - bulkDecrementUnreadCountAfterCursor 성공 후 deleteByChannelIdAndUserId 실패 시 전체 롤백
-     * - TransactionRoutingDataSource: readOnly=false → SOURCE(Write DB) 자동 라우팅
+     * 실패 채널에 속한 첫 레코드 위치 — 그 앞의 레코드는 처리가 끝났으므로 커밋해도 된다.
+     * 실패 채널은 유효 레코드에서만 나오므로 반드시 찾는다.
      */
-    @Transactional
-    public void processEvent(MemberLeftKafkaEvent event) {
-        // lastReadAt 커서 이후(미읽음) 메시지의 unread_count 일괄 -1 감소
-        // lastReadAt == null: 한 번도 읽지 않음 → 채널 전체 메시지 감소
-        int updated = messageRepository.bulkDecrementUnreadCountAfterCursor(
-                event.channelId(), event.lastReadAt());
+    private int firstFailedIndex(List<MemberLeftKafkaEvent> events, Set<String> failedChannels) {
+        for (int i = 0; i < events.size(); i++) {
+            MemberLeftKafkaEvent event = events.get(i);
+            if (event != null && failedChannels.contains(event.channelId())) {
+                return i;
+            }
+        }
+        return 0;
+    }
 
-        // 퇴장 사용자의 채널 메타데이터 삭제
-        metadataRepository.deleteByChannelIdAndUserId(event.channelId(), event.userId());
+    /**
+     * channelId 별 퇴장자 병합 (유효하지 않은 레코드는 건너뜀)
+     */
+    private Map<String, Set<String>> groupByChannel(List<MemberLeftKafkaEvent> events) {
+        Map<String, Set<String>> leftByChannel = new LinkedHashMap<>();
+        for (MemberLeftKafkaEvent event : events) {
+            if (event == null) continue;
+            leftByChannel.computeIfAbsent(event.channelId(), id -> new LinkedHashSet<>()).add(event.userId());
+        }
+        return leftByChannel;
+    }
 
-        log.info("MemberLeft processed: userId={}, channelId={}, updatedMessages={}",
-                event.userId(), event.channelId(), updated);
+    /** 역직렬화 + 필수 필드 검증 — 유효하지 않으면 로그 후 null */
+    private MemberLeftKafkaEvent parse(ConsumerRecord<String, String> record) {
+        try {
+            MemberLeftKafkaEvent event = objectMapper.readValue(record.value(), MemberLeftKafkaEvent.class);
+            if (event == null || event.channelId() == null || event.userId() == null) {
+                log.warn("Invalid member-left event: {}", record.value());
+                return null;
+            }
+            return event;
+        } catch (Exception e) {
+            log.error("Failed to parse member-left event: {}", record.value(), e);
+            return null;
+        }
     }
 }
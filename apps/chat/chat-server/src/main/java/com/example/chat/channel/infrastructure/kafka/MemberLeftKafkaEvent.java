@@ -9,12 +9,11 @@ import java.time.Instant;
  * 발행자: ChannelCommandService.removeMember()
  * 소비자: MemberLeftKafkaConsumer
  *
- * 목적: 멤버 퇴장 시 해당 사용자가 읽지 않은 메시지들의 unread_count 일괄 감소
- *       퇴장한 멤버는 더 이상 읽을 수 없으므로 미읽음 카운터에서 제거
+ * 목적: 멤버 퇴장 시 해당 사용자의 채널 메타데이터(읽음 커서 / inbox 행) 정리
  *
  * @param userId          퇴장한 사용자 ID
  * @param channelId       채널 ID
- * @param lastReadAt      마지막 읽음 기준 시각 (null이면 한 번도 읽지 않음 → 전체 감소)
+ * @param lastReadAt      마지막 읽음 시각 (null이면 한 번도 읽지 않음) — 현재 소비자는 사용하지 않음, 스키마 호환 유지
  */
 public record MemberLeftKafkaEvent(
         String userId,
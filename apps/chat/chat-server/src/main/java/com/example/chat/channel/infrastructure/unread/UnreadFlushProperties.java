@@ -0,0 +1,22 @@
+package com.example.chat.channel.infrastructure.unread;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat.unread.flush")
+@Getter
+@Setter
+public class UnreadFlushProperties {
+
+    /** 플러시 주기 (= 증분 병합 윈도우) */
+    private long intervalMs = 2000;
+
+    /** 1회 플러시에서 처리할 최대 채널 수 */
+    private int batchChannels = 500;
+
+    /** 점유 후 반영되지 않은 스냅샷을 장애로 간주하고 재처리하는 시간 */
+    private long inflightTimeoutMs = 60_000;
+}
@@ -0,0 +1,96 @@
+package com.example.chat.channel.infrastructure.unread;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer;
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer.Snapshot;
+import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 채널 메타데이터 미읽음 수 Write-Behind 플러셔
+ *
+ * intervalMs 마다 dirty 채널의 누적 증분을 점유해 채널당 UPDATE 1회로 chat_channel_metadata 에 반영한다.
+ * 1,000명 채널에 20 msg/s 가 들어와도 메타데이터 쓰기는 채널당 주기 1회(N행)로 줄어든다.
+ *
+ * 실패한 채널은 점유 스냅샷을 남겨 두고 다음 채널로 넘어간다 — inflightTimeoutMs 후 재처리된다.
+ * 재처리도 최초 점유 시각을 기준으로 하므로 그 사이 읽음 처리한 사용자에게는 증분이 더해지지 않는다.
+ * inflightTimeoutMs 는 UPDATE 1회보다 충분히 길어야 한다 — 회수된 뒤 늦게 끝난 반영은 중복 반영이 된다
+ * (acknowledge 가 거부되어 로그로 드러난다).
+ */
+@Component
+public class UnreadWriteBehindFlusher {
+
+    private static final Logger log = LoggerFactory.getLogger(UnreadWriteBehindFlusher.class);
+
+    private final UnreadWriteBehindBuffer buffer;
+    private final JpaChannelMetadataRepository metadataRepository;
+    private final UnreadFlushProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public UnreadWriteBehindFlusher(UnreadWriteBehindBuffer buffer,
+                                    JpaChannelMetadataRepository metadataRepository,
+                                    UnreadFlushProperties properties,
+                                    ObjectMapper objectMapper) {
+        this.buffer = buffer;
+        this.metadataRepository = metadataRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.unread.flush.interval-ms:2000}")
+    public void flush() {
+        Set<String> channelIds;
+        try {
+            // Step 1: 장애로 남은 점유 스냅샷 회수
+            buffer.requeueStale(Duration.ofMillis(properties.getInflightTimeoutMs()));
+            // Step 2: 반영 대기 채널 조회
+            channelIds = buffer.findDirtyChannels(properties.getBatchChannels());
+        } catch (Exception e) {
+            log.warn("Unread flush skipped (redis unavailable)", e);
+            return;
+        }
+
+        int flushed = 0;
+        for (String channelId : channelIds) {
+            if (flushChannel(channelId)) {
+                flushed++;
+            }
+        }
+        if (flushed > 0) {
+            log.debug("Unread deltas flushed: channels={}", flushed);
+        }
+    }
+
+    /**
+     * 채널 1개 반영: 점유 → UPDATE 1회 → 스냅샷 삭제
+     */
+    boolean flushChannel(String channelId) {
+        try {
+            Snapshot snapshot = buffer.claim(channelId).orElse(null);
+            if (snapshot == null) {
+                return false;
+            }
+
+            Instant activityAt = snapshot.activityAt() != null ? snapshot.activityAt() : snapshot.claimedAt();
+            metadataRepository.applyUnreadDelta(channelId,
+                    objectMapper.writeValueAsString(snapshot.deltas()), activityAt, snapshot.claimedAt());
+
+            if (!buffer.acknowledge(channelId, snapshot.claimToken())) {
+                log.warn("Unread flush claim was requeued before acknowledge (delta may be applied twice): "
+                        + "channelId={}, inflightTimeoutMs={}", channelId, properties.getInflightTimeoutMs());
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Unread flush failed, will retry after inflight timeout: channelId={}", channelId, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.chat.channel.rest.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.chat.channel.rest.dto.response.ChannelMembershipResponse;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서비스 간 내부 호출용 채널 컨트롤러
+ *
+ * /internal/** 은 게이트웨이에서 라우팅하지 않으며 내부 네트워크에서만 접근한다.
+ * websocket-server 는 Redis 채널 상태 캐시(chat:channel:{channelId}:state)가 비어 있을 때만 호출하고,
+ * 조회 과정에서 캐시가 다시 적재되므로 같은 채널의 후속 검증은 Redis 에서 끝난다.
+ */
+@RestController
+@RequestMapping("/internal/channels")
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelInternalController {
+
+    private final ChannelStateCacheService channelStateCacheService;
+
+    @GetMapping("/{channelId}/members/{userId}")
+    public ResponseEntity<ChannelMembershipResponse> checkMembership(
+            @PathVariable String channelId,
+            @PathVariable String userId) {
+        log.debug("GET /internal/channels/{}/members/{}", channelId, userId);
+        boolean member = channelStateCacheService.getChannelState(channelId)
+                .map(state -> state.active() && state.isMember(userId))
+                .orElse(false);
+        return ResponseEntity.ok(new ChannelMembershipResponse(channelId, userId, member));
+    }
+}
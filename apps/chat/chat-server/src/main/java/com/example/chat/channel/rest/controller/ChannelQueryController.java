@@ -1,7 +1,5 @@
 package com.example.chat.channel.rest.controller;
 
-import java.time.Instant;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -31,7 +29,7 @@ import lombok.extern.slf4j.Slf4j;
  * - Application Service 위임
  *
  * 커서 페이징:
- * - cursor 파라미터: 이전 응답의 nextCursor 값 (Instant ISO-8601)
+ * - cursor 파라미터: 이전 응답의 nextCursor 값 ({lastActivityAt}_{channelId}, 최근 활동 채널 우선 정렬)
  * - null 이면 첫 페이지
  */
 @RestController
@@ -68,8 +66,8 @@ public class ChannelQueryController {
             @Parameter(description = "검색 키워드 (채널명, 상대방 이름)")
             @RequestParam(required = false) String search,
 
-            @Parameter(description = "커서 (이전 페이지 마지막 채널의 createdAt ISO-8601, null 이면 첫 페이지)")
-            @RequestParam(required = false) Instant cursor,
+            @Parameter(description = "커서 (이전 페이지 nextCursor — {lastActivityAt}_{channelId}, null 이면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
 
             @Parameter(description = "페이지 크기")
             @RequestParam(required = false, defaultValue = "20") int size) {
@@ -116,8 +114,8 @@ public class ChannelQueryController {
             @Parameter(description = "검색 키워드 (채널명, 상대방 이름)")
             @RequestParam(required = false) String search,
 
-            @Parameter(description = "커서 (이전 페이지 마지막 채널의 createdAt ISO-8601, null 이면 첫 페이지)")
-            @RequestParam(required = false) Instant cursor,
+            @Parameter(description = "커서 (이전 페이지 nextCursor — {lastActivityAt}_{channelId}, null 이면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
 
             @Parameter(description = "페이지 크기")
             @RequestParam(required = false, defaultValue = "20") int size) {
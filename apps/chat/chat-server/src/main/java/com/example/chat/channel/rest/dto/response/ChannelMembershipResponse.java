@@ -0,0 +1,14 @@
+package com.example.chat.channel.rest.dto.response;
+
+/**
+ * 채널 멤버 여부 응답 DTO (websocket-server 구독 검증용)
+ *
+ * @param channelId 채널 ID
+ * @param userId    사용자 ID
+ * @param member    활성 채널의 멤버이면 true (채널이 없거나 비활성이면 false)
+ */
+public record ChannelMembershipResponse(
+        String channelId,
+        String userId,
+        boolean member) {
+}
@@ -1,8 +1,32 @@
 package com.example.chat.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
 @EnableKafka
-public class KafkaConfig {}
+public class KafkaConfig {
+
+    private static final long RETRY_INTERVAL_MS = 1_000L;
+    private static final long MAX_RETRIES = 3L;
+
+    /**
+     * 리스너 공통 에러 핸들러 (Boot 기본 컨테이너 팩토리에 자동 적용)
+     *
+     * 배치 리스너가 BatchListenerFailedException(index) 를 던지면 index 앞의 레코드는 커밋하고 나머지를 재전달한다.
+     * 같은 레코드가 MAX_RETRIES 회 더 실패하면 {토픽}.DLT 의 같은 파티션으로 보내고 다음 레코드부터 계속한다
+     * (DLT 토픽은 원본 이상의 파티션 수로 미리 만들어 둔다).
+     */
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler(KafkaTemplate<String, String> kafkaTemplate) {
+        return new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(kafkaTemplate),
+                new FixedBackOff(RETRY_INTERVAL_MS, MAX_RETRIES));
+    }
+}
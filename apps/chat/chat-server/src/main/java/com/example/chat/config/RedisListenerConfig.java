@@ -3,26 +3,45 @@ package com.example.chat.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.lang.NonNull;
 
 import com.example.chat.channel.infrastructure.redis.ClientReadReceiptSubscriber;
+import com.example.chat.message.infrastructure.recent.RecentMessageCache;
+import com.example.chat.message.infrastructure.recent.RecentMessageInvalidationSubscriber;
+import com.example.chat.shared.cache.ChannelReadCursorCache;
+import com.example.chat.shared.cache.ChannelReadCursorSubscriber;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateInvalidationSubscriber;
 
 /**
  * chat-server Redis Pub/Sub 구독 설정
  * <p>
  * 구독 채널:
  * - chat:read:{channelId}  : 클라이언트가 WebSocket으로 보낸 읽음 이벤트 수신
+ * - chat:cache:channel:invalidate : 채널 상태 캐시 무효화 (인스턴스 간 로컬 캐시 동기화)
+ * - chat:cache:read-cursor:advance : 멤버 읽음 커서 전진 (인스턴스 간 로컬 커서 동기화)
+ * - chat:cache:recent:invalidate : 최근 메시지 링 적재 (인스턴스 간 로컬 near cache 무효화)
  */
 @Configuration
 public class RedisListenerConfig {
 
 	private final ClientReadReceiptSubscriber clientReadReceiptSubscriber;
+	private final ChannelStateInvalidationSubscriber channelStateInvalidationSubscriber;
+	private final ChannelReadCursorSubscriber channelReadCursorSubscriber;
+	private final RecentMessageInvalidationSubscriber recentMessageInvalidationSubscriber;
 
-	public RedisListenerConfig(ClientReadReceiptSubscriber clientReadReceiptSubscriber) {
+	public RedisListenerConfig(ClientReadReceiptSubscriber clientReadReceiptSubscriber,
+			ChannelStateInvalidationSubscriber channelStateInvalidationSubscriber,
+			ChannelReadCursorSubscriber channelReadCursorSubscriber,
+			RecentMessageInvalidationSubscriber recentMessageInvalidationSubscriber) {
 		this.clientReadReceiptSubscriber = clientReadReceiptSubscriber;
+		this.channelStateInvalidationSubscriber = channelStateInvalidationSubscriber;
+		this.channelReadCursorSubscriber = channelReadCursorSubscriber;
+		this.recentMessageInvalidationSubscriber = recentMessageInvalidationSubscriber;
 	}
 
 	@Bean
@@ -36,6 +55,21 @@ public class RedisListenerConfig {
 				clientReadReceiptListenerAdapter(),
 				new PatternTopic("chat:read:*"));
 
+		// 채널 상태 캐시 무효화 구독 (chat-server 인스턴스 간)
+		container.addMessageListener(
+				channelStateInvalidationSubscriber,
+				new ChannelTopic(ChannelStateCacheService.INVALIDATION_TOPIC));
+
+		// 읽음 커서 전진 구독 (chat-server 인스턴스 간)
+		container.addMessageListener(
+				channelReadCursorSubscriber,
+				new ChannelTopic(ChannelReadCursorCache.ADVANCE_TOPIC));
+
+		// 최근 메시지 near cache 무효화 구독 (chat-server 인스턴스 간)
+		container.addMessageListener(
+				recentMessageInvalidationSubscriber,
+				new ChannelTopic(RecentMessageCache.INVALIDATION_TOPIC));
+
 		return container;
 	}
 
@@ -14,6 +14,8 @@ public class SecurityConfig {
 		return auth -> {
 			auth.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll();
 			auth.requestMatchers("/actuator/health", "/actuator/info", "/api/messages/health").permitAll();
+			// 서비스 간 내부 호출 (게이트웨이 미노출)
+			auth.requestMatchers("/internal/**").permitAll();
 		};
 	}
 }
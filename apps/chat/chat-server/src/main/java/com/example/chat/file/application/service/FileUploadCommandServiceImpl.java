@@ -5,14 +5,15 @@ import com.example.chat.common.core.exception.ChatErrorCode;
 import com.example.chat.file.domain.model.*;
 import com.example.chat.file.domain.repository.UploadedFileRepository;
 import com.example.chat.file.domain.service.S3StorageService;
+import com.example.chat.file.domain.service.StorageBusyException;
 import com.example.chat.file.rest.dto.response.FileUploadResponse;
 import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -28,8 +29,12 @@ public class FileUploadCommandServiceImpl implements FileUploadCommandService {
     private final S3StorageService s3StorageService;
     private final JpaChannelMemberRepository channelMemberRepository;
 
+    /**
+     * 메서드 전체를 트랜잭션으로 묶지 않는다 — S3 업로드(최대 50MB) 동안 DB 커넥션을 점유하지 않도록
+     * PENDING 저장 / 업로드 / 상태 저장을 나누고, 각 저장은 Repository 의 짧은 트랜잭션으로 커밋한다.
+     * 업로드 도중 프로세스가 죽으면 PENDING 행이 남는다.
+     */
     @Override
-    @Transactional
     public FileUploadResponse uploadFile(String uploaderId, String channelId, MultipartFile file) {
         validateFile(uploaderId, channelId, file);
 
@@ -48,24 +53,42 @@ public class FileUploadCommandServiceImpl implements FileUploadCommandService {
                 ZonedDateTime.now()
         );
 
+        // Step 1: PENDING 저장 (짧은 트랜잭션)
         uploadedFileRepository.save(uploadedFile);
         log.info("파일 업로드 시작: fileId={}, channelId={}, fileName={}, size={}",
                 uploadedFile.getId(), channelId, file.getOriginalFilename(), file.getSize());
 
-        try {
-            String fileUrl = s3StorageService.upload(s3Key, file.getBytes(), file.getContentType());
+        // Step 2: 트랜잭션 밖에서 S3 업로드 — 임시 파일에서 스트리밍 — getBytes() 로 파일 전체를 힙에 올리지 않는다
+        try (InputStream content = file.getInputStream()) {
+            String fileUrl = s3StorageService.upload(s3Key, content, file.getSize(), file.getContentType());
             uploadedFile.markCompleted(fileUrl);
             log.info("파일 업로드 완료: fileId={}, fileUrl={}", uploadedFile.getId(), fileUrl);
+        } catch (StorageBusyException e) {
+            saveFailed(uploadedFile);
+            log.warn("파일 업로드 거절 (동시 업로드 한도 초과): fileId={}", uploadedFile.getId());
+            throw new ChatException(ChatErrorCode.FILE_UPLOAD_BUSY);
         } catch (Exception e) {
-            uploadedFile.markFailed();
-            uploadedFileRepository.save(uploadedFile);
+            saveFailed(uploadedFile);
             log.error("파일 업로드 실패: fileId={}, error={}", uploadedFile.getId(), e.getMessage());
             throw new ChatException(ChatErrorCode.FILE_UPLOAD_FAILED);
         }
 
+        // Step 3: COMPLETED 저장 (짧은 트랜잭션)
         return FileUploadResponse.from(uploadedFileRepository.save(uploadedFile));
     }
 
+    /**
+     * FAILED 상태 저장. 저장 자체가 실패해도 원래 업로드 오류를 응답하도록 예외를 삼킨다 (행은 PENDING 으로 남음).
+     */
+    private void saveFailed(UploadedFile uploadedFile) {
+        uploadedFile.markFailed();
+        try {
+            uploadedFileRepository.save(uploadedFile);
+        } catch (Exception e) {
+            log.error("파일 업로드 실패 상태 저장 실패: fileId={}", uploadedFile.getId(), e);
+        }
+    }
+
     private void validateFile(String uploaderId, String channelId, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new ChatException(ChatErrorCode.FILE_EMPTY);
@@ -2,16 +2,20 @@ package com.example.chat.file.domain.service;
 
 import com.example.chat.file.domain.model.S3Key;
 
+import java.io.InputStream;
+
 /** 외부 스토리지 Port (domain layer — Spring 미의존) */
 public interface S3StorageService {
 
     /**
-     * S3에 바이트 배열 업로드.
+     * S3에 스트림 업로드. 파일 전체를 메모리에 올리지 않는다.
      *
-     * @param s3Key    업로드할 S3 키
-     * @param bytes    파일 바이트
-     * @param mimeType Content-Type
+     * @param s3Key         업로드할 S3 키
+     * @param content       파일 내용 스트림 (호출자가 닫는다)
+     * @param contentLength 파일 크기 (byte)
+     * @param mimeType      Content-Type
      * @return 퍼블릭 접근 URL
+     * @throws StorageBusyException 동시 업로드 한도 초과로 대기 시간 내 시작하지 못한 경우
      */
-    String upload(S3Key s3Key, byte[] bytes, String mimeType);
+    String upload(S3Key s3Key, InputStream content, long contentLength, String mimeType);
 }
@@ -0,0 +1,9 @@
+package com.example.chat.file.domain.service;
+
+/** 동시 업로드 한도 초과 — 잠시 후 재시도 가능한 일시적 실패 */
+public class StorageBusyException extends RuntimeException {
+
+    public StorageBusyException(String message) {
+        super(message);
+    }
+}
@@ -16,4 +16,16 @@ public class S3Properties {
     private String endpoint   = "";
     private String accessKey  = "";
     private String secretKey  = "";
+
+    /** 이 크기(MB) 이상이면 멀티파트 업로드, 미만이면 단일 PutObject 스트리밍 */
+    private int multipartThresholdMb = 16;
+
+    /** 멀티파트 파트 크기(MB) — 업로드 1건이 힙에 잡는 버퍼 크기 (S3 최소 5MB) */
+    private int partSizeMb = 8;
+
+    /** 인스턴스당 동시 업로드 수 — 업로드 버퍼 힙 사용량 상한 = maxConcurrentUploads × partSizeMb */
+    private int maxConcurrentUploads = 4;
+
+    /** 동시 업로드 한도 초과 시 대기 시간(ms) — 초과하면 FILE_UPLOAD_BUSY */
+    private long acquireTimeoutMs = 3000;
 }
@@ -2,8 +2,9 @@ package com.example.chat.file.infrastructure.storage;
 
 import com.example.chat.file.domain.model.S3Key;
 import com.example.chat.file.domain.service.S3StorageService;
-import lombok.RequiredArgsConstructor;
+import com.example.chat.file.domain.service.StorageBusyException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -11,22 +12,55 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
-import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
-/** AWS SDK v2 기반 S3 업로드 구현체 */
+/**
+ * AWS SDK v2 기반 S3 업로드 구현체
+ *
+ * 파일 전체를 힙에 올리지 않는다:
+ * - multipartThresholdMb 미만: PutObject 에 입력 스트림을 그대로 전달
+ * - 이상: 멀티파트 업로드 — partSizeMb 버퍼 1개를 파트마다 재사용, 실패 시 업로드 중단(abort)
+ * 동시 업로드는 maxConcurrentUploads 로 제한해 업로드 버퍼 힙 사용량에 상한을 둔다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3StorageServiceImpl implements S3StorageService {
 
+    private static final long MB = 1024L * 1024;
+
     private final S3Properties s3Properties;
-    private S3Client s3Client;
+    private final S3Client s3Client;
+    private final Semaphore uploadPermits;
+
+    @Autowired
+    public S3StorageServiceImpl(S3Properties s3Properties) {
+        this(s3Properties, buildClient(s3Properties));
+    }
+
+    S3StorageServiceImpl(S3Properties s3Properties, S3Client s3Client) {
+        this.s3Properties = s3Properties;
+        this.s3Client = s3Client;
+        this.uploadPermits = new Semaphore(Math.max(1, s3Properties.getMaxConcurrentUploads()), true);
+    }
 
-    @PostConstruct
-    void init() {
+    private static S3Client buildClient(S3Properties s3Properties) {
         S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(s3Properties.getRegion()));
 
@@ -44,21 +78,125 @@ public class S3StorageServiceImpl implements S3StorageService {
                    .forcePathStyle(true);
         }
 
-        this.s3Client = builder.build();
+        return builder.build();
+    }
+
+    @PreDestroy
+    void close() {
+        s3Client.close();
     }
 
     @Override
-    public String upload(S3Key s3Key, byte[] bytes, String mimeType) {
+    public String upload(S3Key s3Key, InputStream content, long contentLength, String mimeType) {
+        // Step 1: 동시 업로드 슬롯 확보
+        if (!acquirePermit()) {
+            throw new StorageBusyException("Too many concurrent uploads: limit=" + s3Properties.getMaxConcurrentUploads());
+        }
+
+        try {
+            // Step 2: 크기에 따라 단일 스트리밍 / 멀티파트 업로드
+            if (contentLength < s3Properties.getMultipartThresholdMb() * MB) {
+                putObject(s3Key, content, contentLength, mimeType);
+            } else {
+                uploadMultipart(s3Key, content, contentLength, mimeType);
+            }
+        } finally {
+            uploadPermits.release();
+        }
+
+        return buildPublicUrl(s3Key);
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return uploadPermits.tryAcquire(s3Properties.getAcquireTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void putObject(S3Key s3Key, InputStream content, long contentLength, String mimeType) {
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(s3Properties.getBucketName())
                 .key(s3Key.value())
                 .contentType(mimeType)
-                .contentLength((long) bytes.length)
+                .contentLength(contentLength)
                 .build();
 
-        s3Client.putObject(request, RequestBody.fromBytes(bytes));
+        s3Client.putObject(request, RequestBody.fromInputStream(content, contentLength));
+    }
 
-        return buildPublicUrl(s3Key);
+    private void uploadMultipart(S3Key s3Key, InputStream content, long contentLength, String mimeType) {
+        String bucket = s3Properties.getBucketName();
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key.value())
+                .contentType(mimeType)
+                .build()).uploadId();
+
+        try {
+            byte[] buffer = new byte[(int) (Math.max(5, s3Properties.getPartSizeMb()) * MB)];
+            List<CompletedPart> parts = new ArrayList<>();
+            long remaining = contentLength;
+
+            for (int partNumber = 1; remaining > 0; partNumber++) {
+                int length = readPart(content, buffer, (int) Math.min(buffer.length, remaining));
+                UploadPartRequest request = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key.value())
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build();
+                // fromBytes 는 배열을 복사하므로 버퍼를 스트림으로 감싸 그대로 전송
+                String eTag = s3Client.uploadPart(request,
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                remaining -= length;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key.value())
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Multipart upload completed: key={}, parts={}, size={}", s3Key.value(), parts.size(), contentLength);
+        } catch (RuntimeException e) {
+            abortQuietly(s3Key, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 파트 크기만큼 채워 읽는다 (스트림이 선언된 크기보다 먼저 끝나면 실패)
+     */
+    private int readPart(InputStream content, byte[] buffer, int length) {
+        try {
+            int read = content.readNBytes(buffer, 0, length);
+            if (read < length) {
+                throw new IOException("Unexpected end of upload stream: expected=" + length + ", read=" + read);
+            }
+            return read;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 완료되지 않은 파트는 중단하지 않으면 버킷 스토리지 비용으로 남는다
+     */
+    private void abortQuietly(S3Key s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(s3Properties.getBucketName())
+                    .key(s3Key.value())
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload: key={}, uploadId={}", s3Key.value(), uploadId, e);
+        }
     }
 
     private String buildPublicUrl(S3Key s3Key) {
@@ -0,0 +1,56 @@
+package com.example.chat.message.application.model;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.shared.exception.ChatException;
+import com.example.chat.storage.domain.entity.ChatMessageEntity;
+
+/**
+ * 메시지 keyset 페이징 커서.
+ *
+ * 형식: {createdAt ISO-8601}_{messageId}
+ * - (created_at, id) 복합 키로 비교하므로 같은 시각에 생성된 메시지도 누락/중복 없이 페이징된다.
+ * - messageId 가 없는 기존 형식(createdAt 단독)도 허용한다 (하위 호환).
+ *
+ * @param createdAt 이전 페이지 마지막 메시지의 createdAt
+ * @param messageId 이전 페이지 마지막 메시지의 ID (기존 형식이면 null)
+ */
+public record MessageCursor(Instant createdAt, String messageId) {
+
+    private static final char SEPARATOR = '_';
+
+    public static MessageCursor of(ChatMessageEntity last) {
+        return new MessageCursor(last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * 요청 파라미터 파싱
+     *
+     * @throws ChatException MESSAGE_INVALID_CURSOR — 형식 오류
+     */
+    public static MessageCursor parse(String raw) {
+        int separator = raw.indexOf(SEPARATOR);
+        try {
+            if (separator < 0) {
+                return new MessageCursor(Instant.parse(raw), null);
+            }
+            String messageId = raw.substring(separator + 1);
+            if (messageId.isBlank()) {
+                throw new ChatException(ChatErrorCode.MESSAGE_INVALID_CURSOR);
+            }
+            return new MessageCursor(Instant.parse(raw.substring(0, separator)), messageId);
+        } catch (DateTimeParseException e) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_CURSOR);
+        }
+    }
+
+    public boolean hasMessageId() {
+        return messageId != null;
+    }
+
+    public String encode() {
+        return createdAt.toString() + SEPARATOR + messageId;
+    }
+}
@@ -2,11 +2,16 @@ package com.example.chat.message.application.service;
 
 import com.example.chat.auth.core.util.SecurityUtils;
 import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.message.application.model.MessageCursor;
+import com.example.chat.message.infrastructure.recent.RecentMessageCache;
 import com.example.chat.shared.exception.ChatException;
 import com.example.chat.message.rest.dto.response.CursorPageResponse;
 import com.example.chat.message.rest.dto.response.MessageResponse;
-import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
-import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.shared.cache.ChannelReadCursorCache;
+import com.example.chat.shared.cache.ChannelReadCursorCache.ReadCursors;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.storage.domain.entity.ChatMessageEntity;
 import com.example.chat.storage.domain.repository.JpaMessageRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,15 +19,24 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 메시지 조회 Query Service
  *
  * 책임: cursor 기반 페이징 메시지 조회
- * - GET /api/messages/{channelId}?cursor=...&limit=...
+ * - GET /api/messages/{channelId}?cursor=...&limit=...        (과거 방향)
+ * - GET /api/messages/{channelId}/since?cursor=...&limit=...  (재접속 catch-up, 미래 방향)
+ * - GET /api/messages/{channelId}/since?seq=...&limit=...     (재접속 catch-up, 채널 순번 기준)
+ * - (created_at, id) keyset 페이징 — 메시지 ID 는 시간 정렬 UUIDv7
+ * - 메시지별 미읽음 수('1')는 멤버 읽음 커서로 계산 (chat_messages.unread_count 미사용)
+ *
+ * 캐시 경로:
+ * - 채널 존재 / 멤버십: ChannelStateCacheService (발송 경로와 공유)
+ * - 첫 페이지 / catch-up: RecentMessageCache 가 구간을 덮으면 DB 미조회
  */
 @Service
 @Transactional(readOnly = true)
@@ -33,58 +47,166 @@ public class MessageQueryService {
     private static final int MAX_LIMIT = 100;
 
     private final JpaMessageRepository messageRepository;
-    private final JpaChannelRepository channelRepository;
-    private final JpaChannelMemberRepository channelMemberRepository;
+    private final ChannelStateCacheService channelStateCacheService;
+    private final ChannelReadCursorCache readCursorCache;
+    private final RecentMessageCache recentMessageCache;
 
     public MessageQueryService(
             JpaMessageRepository messageRepository,
-            JpaChannelRepository channelRepository,
-            JpaChannelMemberRepository channelMemberRepository) {
+            ChannelStateCacheService channelStateCacheService,
+            ChannelReadCursorCache readCursorCache,
+            RecentMessageCache recentMessageCache) {
         this.messageRepository = messageRepository;
-        this.channelRepository = channelRepository;
-        this.channelMemberRepository = channelMemberRepository;
+        this.channelStateCacheService = channelStateCacheService;
+        this.readCursorCache = readCursorCache;
+        this.recentMessageCache = recentMessageCache;
     }
 
     /**
      * 채널 메시지 목록 조회 (cursor 기반 페이징)
      *
      * @param channelId 채널 ID
-     * @param cursor    이전 페이지 마지막 메시지의 createdAt (null 이면 최신부터)
+     * @param cursor    이전 페이지 nextCursor ({createdAt}_{messageId}, null 이면 최신부터)
      * @param limit     페이지 크기 (max 100)
      * @return cursor 페이지 응답
      */
     public CursorPageResponse<MessageResponse> getMessages(String channelId, String cursor, int limit) {
         log.debug("Getting messages: channelId={}, cursor={}, limit={}", channelId, cursor, limit);
 
+        verifyMember(channelId);
+
+        int safeLimit = safeLimit(limit);
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        // 첫 페이지: 최근 메시지 링 hit 시 DB 미조회 (limit+1 개 → hasNext 판단)
+        Optional<List<MessageResponse>> cached = firstPage
+                ? recentMessageCache.findLatest(channelId, safeLimit + 1)
+                : Optional.empty();
+
+        List<MessageResponse> messages = cached.orElseGet(() -> {
+            // limit+1 개 조회 → hasNext 판단
+            var pageable = PageRequest.of(0, safeLimit + 1);
+            var entities = firstPage
+                    ? messageRepository.findByChannelIdOrderByCreatedAtDescIdDesc(channelId, pageable)
+                    : findPageBefore(channelId, MessageCursor.parse(cursor), pageable);
+            return toResponses(entities);
+        });
+
+        return toPage(channelId, messages, safeLimit, MessageQueryService::keysetCursor);
+    }
+
+    /**
+     * 커서 이후 메시지 조회 (재접속 catch-up, 오래된 순)
+     * nextCursor 가 있으면 같은 API 로 이어서 조회한다.
+     *
+     * @param channelId 채널 ID
+     * @param cursor    마지막으로 받은 메시지 커서 ({createdAt}_{messageId})
+     * @param limit     페이지 크기 (max 100)
+     * @return cursor 페이지 응답
+     */
+    public CursorPageResponse<MessageResponse> getMessagesAfter(String channelId, String cursor, int limit) {
+        log.debug("Getting messages after: channelId={}, cursor={}, limit={}", channelId, cursor, limit);
+
+        verifyMember(channelId);
+
+        // Early return: 커서 누락
+        if (cursor == null || cursor.isBlank()) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_CURSOR);
+        }
+
+        int safeLimit = safeLimit(limit);
+        MessageCursor from = MessageCursor.parse(cursor);
+
+        List<MessageResponse> messages = recentMessageCache.findAfter(channelId, from)
+                .map(newer -> newer.size() > safeLimit + 1 ? newer.subList(0, safeLimit + 1) : newer)
+                .orElseGet(() -> toResponses(findPageAfter(channelId, from, PageRequest.of(0, safeLimit + 1))));
+
+        return toPage(channelId, messages, safeLimit, MessageQueryService::keysetCursor);
+    }
+
+    /**
+     * 채널 순번 이후 메시지 조회 (재접속 catch-up, 순번 오름차순)
+     * 클라이언트가 마지막으로 받은 MESSAGE 이벤트의 seq 를 넘기면 빈 번호 없이 누락분만 받는다.
+     * nextCursor 는 마지막 항목의 seq 이며 같은 API 의 seq 로 이어서 조회한다.
+     *
+     * @param channelId 채널 ID
+     * @param afterSeq  마지막으로 받은 메시지 순번 (0 이면 처음부터)
+     * @param limit     페이지 크기 (max 100)
+     * @return cursor 페이지 응답
+     */
+    public CursorPageResponse<MessageResponse> getMessagesSinceSeq(String channelId, long afterSeq, int limit) {
+        log.debug("Getting messages since seq: channelId={}, afterSeq={}, limit={}", channelId, afterSeq, limit);
+
+        verifyMember(channelId);
+
+        int safeLimit = safeLimit(limit);
+
+        List<MessageResponse> messages = recentMessageCache.findAfterSeq(channelId, afterSeq)
+                .map(newer -> newer.size() > safeLimit + 1 ? newer.subList(0, safeLimit + 1) : newer)
+                .orElseGet(() -> toResponses(messageRepository.findByChannelIdAndChannelSeqGreaterThanOrderByChannelSeqAsc(
+                        channelId, afterSeq, PageRequest.of(0, safeLimit + 1))));
+
+        return toPage(channelId, messages, safeLimit, last -> String.valueOf(last.seq()));
+    }
+
+    private void verifyMember(String channelId) {
         String currentUserId = SecurityUtils.getCurrentUserId()
                 .orElseThrow(() -> new IllegalStateException("User not authenticated"));
 
-        channelRepository.findById(channelId)
+        ChannelState channel = channelStateCacheService.getChannelState(channelId)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHANNEL_NOT_FOUND));
 
-        if (!channelMemberRepository.existsByChannelIdAndUserId(channelId, currentUserId)) {
+        if (!channel.isMember(currentUserId)) {
             throw new ChatException(ChatErrorCode.CHANNEL_NOT_MEMBER);
         }
+    }
 
-        int safeLimit = Math.min(limit <= 0 ? DEFAULT_LIMIT : limit, MAX_LIMIT);
-        // limit+1 개 조회 → hasNext 판단
-        var pageable = PageRequest.of(0, safeLimit + 1);
+    /**
+     * limit+1 개 목록 → 페이지 (미읽음 수는 읽음 커서로 현재 값 계산)
+     */
+    private CursorPageResponse<MessageResponse> toPage(String channelId, List<MessageResponse> messages, int safeLimit,
+                                                       Function<MessageResponse, String> cursorOf) {
+        boolean hasNext = messages.size() > safeLimit;
+        var page = hasNext ? messages.subList(0, safeLimit) : messages;
 
-        var entities = (cursor == null || cursor.isBlank())
-                ? messageRepository.findByChannelIdOrderByCreatedAtDesc(channelId, pageable)
-                : messageRepository.findByChannelIdAndCreatedAtBeforeOrderByCreatedAtDesc(channelId, Instant.parse(cursor), pageable);
+        ReadCursors cursors = readCursorCache.getCursors(channelId);
+        List<MessageResponse> items = page.stream()
+                .map(m -> m.withUnreadCount(cursors.unreadCount(m.senderId(), m.createdAt())))
+                .collect(Collectors.toList());
 
-        boolean hasNext = entities.size() > safeLimit;
-        var page = hasNext ? entities.subList(0, safeLimit) : entities;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
 
-        List<MessageResponse> items = page.stream()
+        return new CursorPageResponse<>(items, nextCursor, hasNext, items.size());
+    }
+
+    private static String keysetCursor(MessageResponse last) {
+        return new MessageCursor(last.createdAt(), last.id()).encode();
+    }
+
+    private List<MessageResponse> toResponses(List<ChatMessageEntity> entities) {
+        return entities.stream()
                 .map(MessageResponse::fromEntity)
                 .collect(Collectors.toList());
+    }
 
-        String nextCursor = hasNext
-                ? page.get(page.size() - 1).getCreatedAt().toString()
-                : null;
+    private int safeLimit(int limit) {
+        return Math.min(limit <= 0 ? DEFAULT_LIMIT : limit, MAX_LIMIT);
+    }
 
-        return new CursorPageResponse<>(items, nextCursor, hasNext, items.size());
+    private List<ChatMessageEntity> findPageBefore(String channelId, MessageCursor cursor, PageRequest pageable) {
+        // 기존 형식(createdAt 단독) 커서 — 동일 시각 메시지 경계는 createdAt 기준으로만 구분
+        if (!cursor.hasMessageId()) {
+            return messageRepository.findByChannelIdAndCreatedAtBeforeOrderByCreatedAtDesc(
+                    channelId, cursor.createdAt(), pageable);
+        }
+        return messageRepository.findPageBeforeKeyset(channelId, cursor.createdAt(), cursor.messageId(), pageable);
+    }
+
+    private List<ChatMessageEntity> findPageAfter(String channelId, MessageCursor cursor, PageRequest pageable) {
+        if (!cursor.hasMessageId()) {
+            return messageRepository.findByChannelIdAndCreatedAtAfterOrderByCreatedAtAscIdAsc(
+                    channelId, cursor.createdAt(), pageable);
+        }
+        return messageRepository.findPageAfterKeyset(channelId, cursor.createdAt(), cursor.messageId(), pageable);
     }
 }
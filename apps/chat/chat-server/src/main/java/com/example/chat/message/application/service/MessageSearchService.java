@@ -0,0 +1,137 @@
+package com.example.chat.message.application.service;
+
+import com.example.chat.auth.core.util.SecurityUtils;
+import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.message.application.model.MessageCursor;
+import com.example.chat.message.rest.dto.response.CursorPageResponse;
+import com.example.chat.message.rest.dto.response.MessageSearchResponse;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.shared.exception.ChatException;
+import com.example.chat.shared.query.LikePatterns;
+import com.example.chat.storage.domain.entity.MessageSearchEntity;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 메시지 검색 Query Service
+ *
+ * 책임: 사용자가 속한 채널의 텍스트 메시지 검색 (최신순, cursor 기반 페이징)
+ * - GET /api/messages/search?q=...&channelId=...&cursor=...&limit=...
+ * - 검색 대상은 Outbox 릴레이가 비동기로 적재하는 chat_message_search (발송 직후 수백 ms 지연 가능)
+ * - 매칭: 'simple' tsvector 단어 일치 OR 부분 문자열(ILIKE, pg_trgm 인덱스) — 조사가 붙은 한글도 검색
+ * - 멤버십: 전체 검색은 쿼리에서 chat_channel_members 로 범위 제한, channelId 지정 시 채널 상태 캐시로 선검증 후
+ *          채널 한정 쿼리로 조회
+ */
+@Service
+@Transactional(readOnly = true)
+public class MessageSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageSearchService.class);
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final JpaMessageSearchRepository messageSearchRepository;
+    private final ChannelStateCacheService channelStateCacheService;
+
+    public MessageSearchService(
+            JpaMessageSearchRepository messageSearchRepository,
+            ChannelStateCacheService channelStateCacheService) {
+        this.messageSearchRepository = messageSearchRepository;
+        this.channelStateCacheService = channelStateCacheService;
+    }
+
+    /**
+     * 메시지 검색
+     *
+     * @param query     검색어 (앞뒤 공백 제거 후 2~100자)
+     * @param channelId 검색할 채널 (null 이면 사용자가 속한 전체 채널)
+     * @param cursor    이전 페이지 nextCursor ({createdAt}_{messageId}, null 이면 최신부터)
+     * @param limit     페이지 크기 (max 50)
+     * @return cursor 페이지 응답
+     */
+    public CursorPageResponse<MessageSearchResponse> search(String query, String channelId, String cursor, int limit) {
+        String currentUserId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("User not authenticated"));
+
+        // Step 1: 검색어 검증
+        String normalized = query == null ? "" : query.strip();
+        if (normalized.length() < MIN_QUERY_LENGTH || normalized.length() > MAX_QUERY_LENGTH) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_SEARCH_QUERY);
+        }
+
+        // Step 2: 채널 지정 시 멤버십 선검증 (비멤버에게 빈 결과 대신 403)
+        String scope = channelId == null || channelId.isBlank() ? null : channelId;
+        if (scope != null) {
+            verifyMember(scope, currentUserId);
+        }
+
+        // Step 3: keyset 조회 (limit+1 개 → hasNext 판단)
+        int safeLimit = Math.min(limit <= 0 ? DEFAULT_LIMIT : limit, MAX_LIMIT);
+        String pattern = LikePatterns.contains(normalized);
+        List<MessageSearchEntity> rows = fetchPage(currentUserId, scope, normalized, pattern, cursor, safeLimit + 1);
+
+        boolean hasNext = rows.size() > safeLimit;
+        var page = hasNext ? rows.subList(0, safeLimit) : rows;
+        List<MessageSearchResponse> items = page.stream()
+                .map(MessageSearchResponse::fromEntity)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            MessageSearchResponse last = items.get(items.size() - 1);
+            nextCursor = new MessageCursor(last.createdAt(), last.messageId()).encode();
+        }
+
+        log.debug("Message search: userId={}, channelId={}, results={}, hasNext={}",
+                currentUserId, scope, items.size(), hasNext);
+        return new CursorPageResponse<>(items, nextCursor, hasNext, items.size());
+    }
+
+    /**
+     * 채널 지정 / 전체 채널 × 첫 페이지 / cursor 페이지 조합별 쿼리 선택
+     * (채널 지정 쿼리는 idx_message_search_channel_at 범위 스캔)
+     */
+    private List<MessageSearchEntity> fetchPage(String userId, String channelId, String query, String pattern,
+                                                String cursor, int fetchSize) {
+        if (cursor == null || cursor.isBlank()) {
+            return channelId != null
+                    ? messageSearchRepository.searchChannelFirstPage(channelId, query, pattern, fetchSize)
+                    : messageSearchRepository.searchFirstPage(userId, query, pattern, fetchSize);
+        }
+        MessageCursor from = parseCursor(cursor);
+        return channelId != null
+                ? messageSearchRepository.searchChannelPageBefore(channelId, query, pattern,
+                        from.createdAt(), from.messageId(), fetchSize)
+                : messageSearchRepository.searchPageBefore(userId, query, pattern,
+                        from.createdAt(), from.messageId(), fetchSize);
+    }
+
+    private void verifyMember(String channelId, String userId) {
+        ChannelState channel = channelStateCacheService.getChannelState(channelId)
+                .orElseThrow(() -> new ChatException(ChatErrorCode.CHANNEL_NOT_FOUND));
+
+        if (!channel.isMember(userId)) {
+            throw new ChatException(ChatErrorCode.CHANNEL_NOT_MEMBER);
+        }
+    }
+
+    /**
+     * 검색 커서는 (createdAt, messageId) 복합 형식만 허용
+     */
+    private MessageCursor parseCursor(String cursor) {
+        MessageCursor parsed = MessageCursor.parse(cursor);
+        if (!parsed.hasMessageId()) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_CURSOR);
+        }
+        return parsed;
+    }
+}
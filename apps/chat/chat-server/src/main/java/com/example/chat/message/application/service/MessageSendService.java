@@ -1,32 +1,25 @@
 package com.example.chat.message.application.service;
 
-import java.util.List;
-import java.util.UUID;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.chat.auth.core.util.SecurityUtils;
-import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.common.core.enums.UserStatus;
 import com.example.chat.common.core.enums.MessageType;
 import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
 import com.example.chat.shared.exception.ChatException;
+import com.example.chat.shared.id.TimeOrderedIds;
 import com.example.chat.message.rest.dto.request.SendMessageRequest;
 import com.example.chat.message.rest.dto.response.MessageResponse;
 import com.example.chat.message.domain.MessageContent;
-import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
-import com.example.chat.message.infrastructure.messaging.MessageEventPublisher;
-import com.example.chat.storage.domain.entity.ChatChannelEntity;
-import com.example.chat.storage.domain.entity.ChatChannelMemberEntity;
+import com.example.chat.message.infrastructure.outbox.MessageOutboxAppender;
+import com.example.chat.message.infrastructure.recent.RecentMessageCache;
 import com.example.chat.storage.domain.entity.ChatMessageEntity;
-import com.example.chat.storage.domain.entity.UserEntity;
-import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
-import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
-import com.example.chat.storage.domain.repository.JpaChannelRepository;
 import com.example.chat.storage.domain.repository.JpaMessageRepository;
-import com.example.chat.storage.domain.repository.JpaUserRepository;
 
 @Service
 @Transactional(readOnly = true)
@@ -35,31 +28,19 @@ public class MessageSendService {
     private static final Logger log = LoggerFactory.getLogger(MessageSendService.class);
 
     private final JpaMessageRepository messageRepository;
-    private final JpaChannelRepository channelRepository;
-    private final JpaChannelMemberRepository channelMemberRepository;
-    private final JpaChannelMetadataRepository channelMetadataRepository;
-    private final JpaUserRepository userRepository;
-    private final MessageEventPublisher messageEventPublisher;
-    private final KafkaMessageProducer kafkaMessageProducer;
-    private final UnreadCacheService unreadCacheService;
+    private final ChannelStateCacheService channelStateCacheService;
+    private final MessageOutboxAppender outboxAppender;
+    private final RecentMessageCache recentMessageCache;
 
     public MessageSendService(
             JpaMessageRepository messageRepository,
-            JpaChannelRepository channelRepository,
-            JpaChannelMemberRepository channelMemberRepository,
-            JpaChannelMetadataRepository channelMetadataRepository,
-            JpaUserRepository userRepository,
-            MessageEventPublisher messageEventPublisher,
-            KafkaMessageProducer kafkaMessageProducer,
-            UnreadCacheService unreadCacheService) {
+            ChannelStateCacheService channelStateCacheService,
+            MessageOutboxAppender outboxAppender,
+            RecentMessageCache recentMessageCache) {
         this.messageRepository = messageRepository;
-        this.channelRepository = channelRepository;
-        this.channelMemberRepository = channelMemberRepository;
-        this.channelMetadataRepository = channelMetadataRepository;
-        this.userRepository = userRepository;
-        this.messageEventPublisher = messageEventPublisher;
-        this.kafkaMessageProducer = kafkaMessageProducer;
-        this.unreadCacheService = unreadCacheService;
+        this.channelStateCacheService = channelStateCacheService;
+        this.outboxAppender = outboxAppender;
+        this.recentMessageCache = recentMessageCache;
     }
 
     @Transactional
@@ -69,43 +50,36 @@ public class MessageSendService {
         String senderId = SecurityUtils.getCurrentUserId()
                 .orElseThrow(() -> new IllegalStateException("User not authenticated"));
 
-        ChatChannelEntity channel = channelRepository.findById(request.channelId())
+        // 채널 상태 + 멤버 ID 캐시 조회 (hit 시 DB 왕복 없음, memberCount 산정에 사용)
+        ChannelState channel = channelStateCacheService.getChannelState(request.channelId())
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHANNEL_NOT_FOUND));
 
-        UserEntity sender = userRepository.findById(senderId)
+        UserStatus senderStatus = channelStateCacheService.getUserStatus(senderId)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.USER_NOT_FOUND));
 
-        validateSendPermission(channel, sender, request.channelId());
+        validateSendPermission(channel, senderStatus, senderId);
 
-        // 채널 멤버 목록 단일 조회 (memberCount, Redis 캐시, 푸시 알림에 공유 사용)
-        List<ChatChannelMemberEntity> members = channelMemberRepository.findByChannelId(request.channelId());
-        List<String> memberIds = members.stream().map(ChatChannelMemberEntity::getUserId).toList();
-        int memberCount = memberIds.size();
+        int memberCount = channel.memberIds().size();
 
         ChatMessageEntity message = buildMessageEntity(request, senderId);
+        message.markAsSent();
+        message.initUnreadCount(memberCount);
+        // 채널 순번 할당 — 채널 행 잠금 구간을 줄이기 위해 검증이 끝난 뒤 save 직전에 수행
+        message.assignChannelSeq(messageRepository.nextChannelSeq(request.channelId()));
+        // 완전히 초기화된 엔티티를 단일 persist (INSERT 1회, merge SELECT / 후속 UPDATE 없음)
         ChatMessageEntity saved = messageRepository.save(message);
-        saved.markAsSent();
-        saved.initUnreadCount(memberCount);
-        messageRepository.save(saved);
-
-        // [DB Write] 발신자 제외 모든 멤버의 metadata.unreadCount 일괄 증가 (단일 UPDATE)
-        int updatedRows = channelMetadataRepository.bulkIncrementUnreadCount(request.channelId(), senderId);
-        // 발신자 lastActivityAt 갱신
-        channelMetadataRepository.updateLastActivity(request.channelId(), senderId);
-        log.debug("Incremented unreadCount for {} members in channel={}", updatedRows, request.channelId());
-
-        // [Redis Write] unread 캐시 일괄 증가 (Phase 9: Read Model 조회 가속)
-        unreadCacheService.incrementAllMembers(request.channelId(), senderId, memberIds);
 
-        // Redis Pub/Sub으로 실시간 브로드캐스트 (unreadCount 포함)
-        publishEvent(saved, memberCount);
+        // [Outbox] unread 캐시 증가 / metadata unreadCount·lastActivityAt Write-Behind 적재 /
+        //          Redis Pub/Sub 브로드캐스트 / Kafka 푸시는 커밋 후 릴레이가 수행
+        outboxAppender.appendMessageSent(saved, memberCount);
 
-        // Kafka 푸시 알림 (오프라인 사용자 포함, 발신자 제외)
-        sendPushNotifications(senderId, memberIds, saved);
+        // 최근 메시지 링 write-through (커밋 후 적재)
+        MessageResponse response = MessageResponse.fromEntity(saved);
+        recentMessageCache.append(response);
 
         log.info("Message sent: messageId={}, channelId={}, senderId={}, memberCount={}",
-                saved.getId(), channel.getId(), senderId, memberCount);
-        return MessageResponse.fromEntity(saved);
+                saved.getId(), request.channelId(), senderId, memberCount);
+        return response;
     }
 
     /**
@@ -116,17 +90,15 @@ public class MessageSendService {
     public MessageResponse sendScheduledMessage(String senderId, String channelId, MessageContent domainContent) {
         log.info("Sending scheduled message: channelId={}, senderId={}", channelId, senderId);
 
-        ChatChannelEntity channel = channelRepository.findById(channelId)
+        ChannelState channel = channelStateCacheService.getChannelState(channelId)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHANNEL_NOT_FOUND));
 
-        UserEntity sender = userRepository.findById(senderId)
+        UserStatus senderStatus = channelStateCacheService.getUserStatus(senderId)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.USER_NOT_FOUND));
 
-        validateSendPermission(channel, sender, channelId);
+        validateSendPermission(channel, senderStatus, senderId);
 
-        List<ChatChannelMemberEntity> members = channelMemberRepository.findByChannelId(channelId);
-        List<String> memberIds = members.stream().map(ChatChannelMemberEntity::getUserId).toList();
-        int memberCount = memberIds.size();
+        int memberCount = channel.memberIds().size();
 
         MessageType messageType = switch (domainContent) {
             case MessageContent.Text ignored -> MessageType.TEXT;
@@ -142,27 +114,25 @@ public class MessageSendService {
                     com.example.chat.storage.domain.entity.MessageContent.of(null, f.mediaUrl(), f.fileName(), f.fileSize(), f.mimeType());
         };
         ChatMessageEntity message = ChatMessageEntity.create(
-                UUID.randomUUID().toString(), channelId, senderId, messageType, storageContent);
+                TimeOrderedIds.next(), channelId, senderId, messageType, storageContent);
+        message.markAsSent();
+        message.initUnreadCount(memberCount);
+        message.assignChannelSeq(messageRepository.nextChannelSeq(channelId));
         ChatMessageEntity saved = messageRepository.save(message);
-        saved.markAsSent();
-        saved.initUnreadCount(memberCount);
-        messageRepository.save(saved);
 
-        channelMetadataRepository.bulkIncrementUnreadCount(channelId, senderId);
-        channelMetadataRepository.updateLastActivity(channelId, senderId);
-        unreadCacheService.incrementAllMembers(channelId, senderId, memberIds);
-        publishEvent(saved, memberCount);
-        sendPushNotifications(senderId, memberIds, saved);
+        outboxAppender.appendMessageSent(saved, memberCount);
+
+        MessageResponse response = MessageResponse.fromEntity(saved);
+        recentMessageCache.append(response);
 
         log.info("Scheduled message sent: messageId={}, channelId={}, senderId={}", saved.getId(), channelId, senderId);
-        return MessageResponse.fromEntity(saved);
+        return response;
     }
 
-    private void validateSendPermission(ChatChannelEntity channel, UserEntity sender, String channelId) {
-        if (!channel.isActive()) throw new ChatException(ChatErrorCode.CHANNEL_NOT_ACTIVE);
-        if (!channelMemberRepository.existsByChannelIdAndUserId(channelId, sender.getId()))
-            throw new ChatException(ChatErrorCode.CHANNEL_NOT_MEMBER);
-        if (!sender.isActive()) throw new ChatException(ChatErrorCode.USER_NOT_ACTIVE);
+    private void validateSendPermission(ChannelState channel, UserStatus senderStatus, String senderId) {
+        if (!channel.active()) throw new ChatException(ChatErrorCode.CHANNEL_NOT_ACTIVE);
+        if (!channel.isMember(senderId)) throw new ChatException(ChatErrorCode.CHANNEL_NOT_MEMBER);
+        if (senderStatus != UserStatus.ACTIVE) throw new ChatException(ChatErrorCode.USER_NOT_ACTIVE);
     }
 
     private ChatMessageEntity buildMessageEntity(SendMessageRequest request, String senderId) {
@@ -176,42 +146,10 @@ public class MessageSendService {
                     com.example.chat.storage.domain.entity.MessageContent.of(null, f.mediaUrl(), f.fileName(), f.fileSize(), f.mimeType());
         };
         return ChatMessageEntity.create(
-                UUID.randomUUID().toString(),
+                TimeOrderedIds.next(),
                 request.channelId(),
                 senderId,
                 request.messageType(),
                 storageContent);
     }
-
-    private void publishEvent(ChatMessageEntity saved, int memberCount) {
-        try {
-            messageEventPublisher.publishMessageSent(saved, memberCount);
-        } catch (Exception e) {
-            log.error("Failed to publish message event: messageId={}", saved.getId(), e);
-        }
-    }
-
-    /**
-     * 발신자를 제외한 모든 채널 멤버에게 Kafka 푸시 알림 발행
-     * memberIds는 sendMessage()에서 이미 조회한 목록을 재사용 (DB 중복 조회 제거)
-     */
-    private void sendPushNotifications(String senderId, List<String> memberIds, ChatMessageEntity saved) {
-        try {
-            String pushContent = switch (saved.getMessageType()) {
-                case TEXT, SYSTEM       -> saved.getContentText() != null ? saved.getContentText() : "";
-                case IMAGE              -> "[이미지]";
-                case FILE, VIDEO, AUDIO -> "[파일] " + saved.getContentFileName();
-            };
-            List<String> receiverIds = memberIds.stream()
-                    .filter(uid -> !uid.equals(senderId))
-                    .toList();
-
-            for (String receiverId : receiverIds) {
-                kafkaMessageProducer.publishNotification(receiverId, "새 메시지", pushContent, "CHAT_MESSAGE");
-            }
-            log.debug("Push notifications sent: channelId={}, receivers={}", saved.getChannelId(), receiverIds.size());
-        } catch (Exception e) {
-            log.error("Failed to send push notifications: channelId={}", saved.getChannelId(), e);
-        }
-    }
 }
@@ -1,6 +1,7 @@
 package com.example.chat.message.infrastructure.kafka;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
@@ -15,15 +16,16 @@ import lombok.extern.slf4j.Slf4j;
  * Kafka 메시지 발행자
  *
  * 책임: 메시지 이벤트를 push-service로 전달
- * - notification-events 토픽으로 발행
- * - push-service의 NotificationEvent 스키마 준수
+ * - notification-events 토픽으로 발행 (수신자 1명 단위)
+ * - channel-notification-events 토픽으로 발행 (채널 fan-out 1건 단위)
+ * - push-service의 NotificationEvent / ChannelNotificationEvent 스키마 준수
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaMessageProducer {
     private static final String NOTIFICATION_TOPIC = "notification-events";
-    private static final String READ_RECEIPT_TOPIC  = "read-receipt-events";
+    private static final String CHANNEL_NOTIFICATION_TOPIC = "channel-notification-events";
     private static final String MEMBER_LEFT_TOPIC   = "member-left-events";
 
     private final KafkaTemplate<String, String> kafkaTemplate;
@@ -49,23 +51,39 @@ public class KafkaMessageProducer {
     }
 
     /**
-     * 읽음 처리 이벤트 발행 (message.unread_count 비동기 감소용)
+     * 채널 fan-out 알림 이벤트 발행
      *
-     * @param event ReadReceiptKafkaEvent
+     * 수신자 N명에 대해 N건을 발행하던 방식을 대체한다.
+     * 레코드 1건에 수신자 목록을 담아 보내고, push-service가 수신자별 PushMessage로 전개한다.
+     * → 채널 규모와 무관하게 발송 요청 스레드의 Kafka send / JSON 직렬화는 1회
+     *
+     * @param channelId   채널 ID (파티션 키 → 같은 채널 알림 순서 보장)
+     * @param messageId   원본 메시지 ID
+     * @param senderId    발신자 ID
+     * @param receiverIds 수신 대상 사용자 ID 목록 (발신자 제외)
+     * @param title       알림 제목
+     * @param content     알림 내용
+     * @param pushType    푸시 타입 (예: CHAT_MESSAGE)
      */
-    public void publishReadReceipt(ReadReceiptKafkaEvent event) {
+    public void publishChannelNotification(String channelId, String messageId, String senderId,
+                                           List<String> receiverIds, String title, String content,
+                                           String pushType) {
+        if (receiverIds == null || receiverIds.isEmpty()) return;
+
+        ChannelNotificationEvent event = new ChannelNotificationEvent(
+                channelId, messageId, senderId, receiverIds, title, content, pushType);
         try {
             String message = objectMapper.writeValueAsString(event);
-            // channelId를 파티션 키로 사용 → 같은 채널 이벤트는 순서 보장
-            kafkaTemplate.send(READ_RECEIPT_TOPIC, event.channelId(), message);
-            log.debug("ReadReceipt event published: userId={}, channelId={}", event.userId(), event.channelId());
+            kafkaTemplate.send(CHANNEL_NOTIFICATION_TOPIC, channelId, message);
+            log.debug("Channel notification published: channelId={}, messageId={}, receivers={}",
+                    channelId, messageId, receiverIds.size());
         } catch (Exception e) {
-            log.error("Failed to publish read-receipt event: userId={}, channelId={}", event.userId(), event.channelId(), e);
+            log.error("Failed to publish channel notification: channelId={}, messageId={}", channelId, messageId, e);
         }
     }
 
     /**
-     * 멤버 퇴장 이벤트 발행 (미읽음 message.unread_count 보정용)
+     * 멤버 퇴장 이벤트 발행 (퇴장 멤버 메타데이터 정리용)
      *
      * @param userId    퇴장한 사용자 ID
      * @param channelId 채널 ID
@@ -92,4 +110,18 @@ public class KafkaMessageProducer {
             String content,
             String pushType) {
     }
+
+    /**
+     * 채널 fan-out 알림 이벤트 DTO
+     * push-service의 ChannelNotificationEvent와 동일한 구조
+     */
+    public record ChannelNotificationEvent(
+            String channelId,
+            String messageId,
+            String senderId,
+            List<String> receiverIds,
+            String title,
+            String content,
+            String pushType) {
+    }
 }
@@ -5,13 +5,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
-import com.example.chat.storage.domain.entity.ChatMessageEntity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * 메시지 이벤트 발행자 (Redis Pub/Sub)
  *
  * Phase 4: Domain POJO 의존 제거 - Entity 기반 단일 발행 메서드만 유지
+ * Outbox 도입 후: 이벤트 생성은 {@link MessageSentEvent#fromEntity} 로 이동, 발행만 담당
  */
 @Component
 public class MessageEventPublisher {
@@ -27,28 +27,17 @@ public class MessageEventPublisher {
         this.objectMapper = objectMapper;
     }
 
-    public void publishMessageSent(ChatMessageEntity entity, int memberCount) {
-        if (entity.getId() == null) {
+    /**
+     * MESSAGE 이벤트를 채널 토픽으로 발행한다.
+     * Outbox 릴레이에서 호출되며, 실패 시 예외를 던져 해당 이벤트가 재시도되도록 한다.
+     */
+    public void publishMessageSent(MessageSentEvent event) {
+        if (event.messageId() == null) {
             log.warn("Cannot publish message without ID");
             return;
         }
-        try {
-            String content = switch (entity.getMessageType()) {
-                case TEXT, SYSTEM       -> entity.getContentText() != null ? entity.getContentText() : "";
-                case IMAGE              -> "[Image] " + entity.getContentFileName();
-                case FILE, VIDEO, AUDIO -> "[File] " + entity.getContentFileName();
-            };
-            int unreadCount = Math.max(0, memberCount - 1);
-            publish(entity.getChannelId(), new MessageSentEvent(
-                    "MESSAGE",
-                    entity.getId(), entity.getChannelId(), entity.getSenderId(),
-                    entity.getMessageType().name(), content,
-                    entity.getMessageStatus().name(), unreadCount, entity.getSentAt()));
-            log.info("Message event published: messageId={}, unreadCount={}", entity.getId(), unreadCount);
-        } catch (Exception e) {
-            log.error("Failed to publish message event: messageId={}", entity.getId(), e);
-            throw new RuntimeException("Failed to publish message event", e);
-        }
+        publish(event.channelId(), event);
+        log.info("Message event published: messageId={}, unreadCount={}", event.messageId(), event.unreadCount());
     }
 
     private void publish(String channelId, MessageSentEvent event) {
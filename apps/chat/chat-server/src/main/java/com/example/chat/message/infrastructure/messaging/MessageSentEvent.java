@@ -2,6 +2,8 @@ package com.example.chat.message.infrastructure.messaging;
 
 import java.time.Instant;
 
+import com.example.chat.storage.domain.entity.ChatMessageEntity;
+
 /**
  * 메시지 발송 이벤트 DTO
  * Redis Pub/Sub으로 전송되는 이벤트
@@ -12,10 +14,29 @@ public record MessageSentEvent(
         String eventType,   // 이벤트 타입: MESSAGE | READ_RECEIPT
         String messageId,   // String (UUID)
         String channelId,   // ChannelId
+        Long seq,           // 채널 내 메시지 순번 (클라이언트 재접속 시 RESUME 기준)
         String senderId,    // UserId
         String messageType, // MessageType name
         String content,     // 텍스트 내용
         String status,      // MessageStatus name
         int unreadCount,    // 차단 멤버 수 - 1 (기본 미읽음 시작값)
         Instant sentAt) {
+
+    /**
+     * 발송 완료된 메시지 엔티티로부터 MESSAGE 이벤트 생성
+     *
+     * @param memberCount 채널 전체 멤버 수 (unreadCount = memberCount - 1)
+     */
+    public static MessageSentEvent fromEntity(ChatMessageEntity entity, int memberCount) {
+        String content = switch (entity.getMessageType()) {
+            case TEXT, SYSTEM       -> entity.getContentText() != null ? entity.getContentText() : "";
+            case IMAGE              -> "[Image] " + entity.getContentFileName();
+            case FILE, VIDEO, AUDIO -> "[File] " + entity.getContentFileName();
+        };
+        return new MessageSentEvent(
+                "MESSAGE",
+                entity.getId(), entity.getChannelId(), entity.getChannelSeq(), entity.getSenderId(),
+                entity.getMessageType().name(), content,
+                entity.getMessageStatus().name(), Math.max(0, memberCount - 1), entity.getSentAt());
+    }
 }
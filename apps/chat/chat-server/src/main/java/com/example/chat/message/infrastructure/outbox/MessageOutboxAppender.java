@@ -0,0 +1,82 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.storage.domain.entity.ChatMessageEntity;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 메시지 발송 부수효과를 Outbox 에 기록한다.
+ *
+ * 호출자의 트랜잭션 안에서 INSERT 1건만 수행하고, 커밋 직후 릴레이를 깨워
+ * Redis Pub/Sub / unread 캐시 / Kafka 푸시를 트랜잭션 밖에서 처리하게 한다.
+ * 롤백되면 이벤트도 함께 사라지므로 유령 메시지가 브로드캐스트되지 않는다.
+ */
+@Component
+public class MessageOutboxAppender {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageOutboxAppender.class);
+    public static final String MESSAGE_SENT = "MESSAGE_SENT";
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final MessageOutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    public MessageOutboxAppender(JpaOutboxEventRepository outboxEventRepository,
+                                 MessageOutboxRelay outboxRelay,
+                                 ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxRelay = outboxRelay;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * MESSAGE_SENT 이벤트 기록. 반드시 메시지 저장과 같은 트랜잭션에서 호출한다.
+     *
+     * @param saved       SENT 상태로 전환된 메시지
+     * @param memberCount 채널 멤버 수 (발신자 포함, 이벤트 unreadCount 산정용)
+     */
+    public void appendMessageSent(ChatMessageEntity saved, int memberCount) {
+        MessageOutboxPayload payload = new MessageOutboxPayload(
+                MessageSentEvent.fromEntity(saved, memberCount),
+                pushContent(saved));
+        try {
+            outboxEventRepository.save(OutboxEventEntity.create(
+                    saved.getChannelId(), MESSAGE_SENT, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패는 메시지 저장까지 롤백 — 부수효과 없는 메시지를 남기지 않는다
+            throw new IllegalStateException("Failed to serialize outbox payload: messageId=" + saved.getId(), e);
+        }
+        wakeRelayAfterCommit();
+        log.debug("Outbox appended: type={}, messageId={}, channelId={}", MESSAGE_SENT, saved.getId(), saved.getChannelId());
+    }
+
+    private void wakeRelayAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRelay.wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+
+    private String pushContent(ChatMessageEntity saved) {
+        return switch (saved.getMessageType()) {
+            case TEXT, SYSTEM       -> saved.getContentText() != null ? saved.getContentText() : "";
+            case IMAGE              -> "[이미지]";
+            case FILE, VIDEO, AUDIO -> "[파일] " + saved.getContentFileName();
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * MESSAGE_SENT Outbox 페이로드 (ms_outbox_event.payload, JSONB)
+ *
+ * 멤버 ID 목록은 담지 않는다 — 2,000명 채널이면 행마다 수십 KB 가 되므로
+ * 릴레이가 ChannelStateCacheService 에서 채널 멤버를 조회한다 (채널 ID 는 event.channelId).
+ * 이전 형식(memberIds 포함) 행은 해당 필드를 무시하고 읽는다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MessageOutboxPayload(
+        MessageSentEvent event,    // Redis Pub/Sub 브로드캐스트 이벤트
+        String pushContent) {      // 푸시 알림 본문
+}
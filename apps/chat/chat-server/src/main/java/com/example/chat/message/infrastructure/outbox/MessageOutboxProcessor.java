@@ -0,0 +1,189 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
+import com.example.chat.message.infrastructure.messaging.MessageEventPublisher;
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.shared.cache.PresenceCacheService;
+import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Outbox 배치 릴레이 처리기.
+ *
+ * 1) 점유: 짧은 트랜잭션에서 파티션 임대를 얻고 미처리 이벤트를 id 순으로 읽는다 ({@link MessageOutboxStore#claim})
+ * 2) 부수효과: 트랜잭션 / 커넥션 없이 Redis 발행, unread 증분, 푸시 전송
+ * 3) 완료: 짧은 트랜잭션에서 마지막 메시지 UPSERT + 처리 완료 표시 + 임대 반납 ({@link MessageOutboxStore#complete})
+ * Redis 발행이 실패하면 해당 이벤트에서 배치를 멈추고 다음 릴레이에서 재시도한다 (채널 내 순서 유지).
+ * unread 증분 / 푸시 대상 멤버는 릴레이 시점에 ChannelStateCacheService 에서 조회한다 (페이로드에 멤버 목록 없음).
+ * 완료 단계가 실패하면 임대 만료 후 부수효과가 다시 수행되므로 unread 증분은 메시지 id 기준으로 1회만 반영된다
+ * (Redis 발행 / 푸시는 at-least-once — 수신 측이 메시지 id 로 중복을 거른다).
+ */
+@Component
+public class MessageOutboxProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageOutboxProcessor.class);
+    private static final Comparator<MessageSentEvent> SENT_ORDER = Comparator
+            .comparing(MessageSentEvent::sentAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(MessageSentEvent::messageId);
+
+    private final MessageOutboxStore outboxStore;
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final MessageEventPublisher messageEventPublisher;
+    private final KafkaMessageProducer kafkaMessageProducer;
+    private final UnreadCacheService unreadCacheService;
+    private final UnreadWriteBehindBuffer unreadWriteBehindBuffer;
+    private final PresenceCacheService presenceCacheService;
+    private final ChannelStateCacheService channelStateCacheService;
+    private final OutboxRelayProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public MessageOutboxProcessor(
+            MessageOutboxStore outboxStore,
+            JpaOutboxEventRepository outboxEventRepository,
+            MessageEventPublisher messageEventPublisher,
+            KafkaMessageProducer kafkaMessageProducer,
+            UnreadCacheService unreadCacheService,
+            UnreadWriteBehindBuffer unreadWriteBehindBuffer,
+            PresenceCacheService presenceCacheService,
+            ChannelStateCacheService channelStateCacheService,
+            OutboxRelayProperties properties,
+            ObjectMapper objectMapper) {
+        this.outboxStore = outboxStore;
+        this.outboxEventRepository = outboxEventRepository;
+        this.messageEventPublisher = messageEventPublisher;
+        this.kafkaMessageProducer = kafkaMessageProducer;
+        this.unreadCacheService = unreadCacheService;
+        this.unreadWriteBehindBuffer = unreadWriteBehindBuffer;
+        this.presenceCacheService = presenceCacheService;
+        this.channelStateCacheService = channelStateCacheService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 파티션 1개에 대해 배치 1회 릴레이. 트랜잭션 없이 호출한다.
+     *
+     * @return 처리 완료 표시한 이벤트 수 (배치 크기와 같으면 잔여 이벤트가 더 있을 수 있음)
+     */
+    public int relayBatch(int partition) {
+        // Step 1: 파티션 임대 + 미처리 이벤트 조회 (짧은 트랜잭션)
+        String token = UUID.randomUUID().toString();
+        List<OutboxEventEntity> batch = outboxStore.claim(partition, token);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Step 2: 순서대로 디스패치 (트랜잭션 밖) — 일시 장애 시 이후 이벤트는 보류
+        List<Long> processedIds = new ArrayList<>(batch.size());
+        Map<String, MessageSentEvent> latestByChannel = new HashMap<>();
+        List<MessageSentEvent> unbuffered = new ArrayList<>();
+        for (OutboxEventEntity event : batch) {
+            try {
+                MessageSentEvent sent = dispatch(event, unbuffered);
+                processedIds.add(event.getId());
+                if (sent != null) {
+                    latestByChannel.merge(sent.channelId(), sent, (a, b) -> SENT_ORDER.compare(a, b) >= 0 ? a : b);
+                }
+            } catch (Exception e) {
+                log.warn("Outbox relay halted: id={}, aggregateId={}, remaining={}",
+                        event.getId(), event.getAggregateId(), batch.size() - processedIds.size(), e);
+                break;
+            }
+        }
+
+        // Step 3: 마지막 메시지 / 버퍼 실패분 반영 + 처리 완료 표시 + 임대 반납 (짧은 트랜잭션)
+        outboxStore.complete(partition, token, processedIds, latestByChannel.values(), unbuffered);
+        log.debug("Outbox relayed: partition={}, relayed={}/{}", partition, processedIds.size(), batch.size());
+        return processedIds.size();
+    }
+
+    /**
+     * 보존 기간이 지난 처리 완료 이벤트 삭제 (검색 적재 전 이벤트는 MessageSearchIndexer 가 읽을 때까지 남긴다)
+     */
+    @Transactional
+    public int purgeProcessed() {
+        Instant threshold = Instant.now().minus(Duration.ofHours(properties.getRetentionHours()));
+        return outboxEventRepository.deleteProcessedBefore(threshold);
+    }
+
+    /**
+     * @param unbuffered Write-Behind 버퍼 적재에 실패한 메시지를 모으는 목록 (완료 트랜잭션에서 DB 직접 갱신)
+     * @return 디스패치한 메시지 이벤트 (건너뛴 이벤트는 null)
+     */
+    private MessageSentEvent dispatch(OutboxEventEntity event, List<MessageSentEvent> unbuffered) {
+        if (!MessageOutboxAppender.MESSAGE_SENT.equals(event.getEventType())) {
+            // 재시도해도 처리할 수 없는 이벤트 — 건너뛰고 처리 완료 표시
+            log.error("Unknown outbox event type, skipping: id={}, type={}", event.getId(), event.getEventType());
+            return null;
+        }
+
+        MessageOutboxPayload payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), MessageOutboxPayload.class);
+        } catch (Exception e) {
+            log.error("Malformed outbox payload, skipping: id={}", event.getId(), e);
+            return null;
+        }
+        MessageSentEvent sent = payload.event();
+
+        // 채널 멤버 조회 (L1 → Redis → DB) — 조회 실패 시 예외 전파 → 재시도
+        // 채널이 삭제됐으면 브로드캐스트만 하고 unread / 푸시는 생략
+        List<String> memberIds = channelStateCacheService.getChannelState(sent.channelId())
+                .map(ChannelState::memberIds)
+                .orElse(List.of());
+
+        // Redis Pub/Sub 실시간 브로드캐스트 — 실패 시 예외 전파 → 재시도
+        messageEventPublisher.publishMessageSent(sent);
+
+        // 이후 단계는 예외를 삼킨다 — unread 증분은 메시지 id 기준 1회만 반영되어 재시도해도 중복되지 않는다
+        unreadCacheService.incrementAllMembers(sent.channelId(), sent.messageId(), sent.senderId(), memberIds);
+        if (!unreadWriteBehindBuffer.record(sent.channelId(), sent.messageId(), sent.senderId(),
+                memberIds, sent.sentAt())) {
+            // Redis 장애로 적재하지 못하면 완료 트랜잭션에서 메타데이터를 직접 UPDATE 한다
+            unbuffered.add(sent);
+        }
+        sendPushNotifications(sent, memberIds, payload.pushContent());
+        return sent;
+    }
+
+    /**
+     * 발신자와 채널 열람 중인 사용자를 제외한 멤버에게 fan-out 푸시 이벤트 1건 발행
+     * 열람 여부는 발송 시점이 아닌 릴레이 시점 기준으로 판단한다.
+     */
+    private void sendPushNotifications(MessageSentEvent sent, List<String> memberIds, String pushContent) {
+        if (memberIds.isEmpty()) return;
+        try {
+            List<String> candidateIds = memberIds.stream()
+                    .filter(uid -> !uid.equals(sent.senderId()))
+                    .toList();
+            List<String> receiverIds = presenceCacheService.filterNotViewing(sent.channelId(), candidateIds);
+
+            kafkaMessageProducer.publishChannelNotification(
+                    sent.channelId(), sent.messageId(), sent.senderId(), receiverIds,
+                    "새 메시지", pushContent, "CHAT_MESSAGE");
+            log.debug("Push notifications sent: channelId={}, receivers={}, suppressed={}",
+                    sent.channelId(), receiverIds.size(), candidateIds.size() - receiverIds.size());
+        } catch (Exception e) {
+            log.error("Failed to send push notifications: channelId={}", sent.channelId(), e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Outbox 릴레이 스케줄러.
+ *
+ * 파티션마다 최대 1개의 드레인 작업만 실행하여 채널 내 순서를 지키면서 파티션 간에는 병렬 처리한다.
+ * - 커밋 직후 {@link #wakeUp()} 호출 → 지연 없이 릴레이 (정상 경로)
+ * - 주기 폴링 → 프로세스 재시작 / 알림 누락 / 재시도 대상 회수 (복구 경로)
+ * 드레인 중 wakeUp 이 겹치면 pending 플래그로 합쳐 한 번 더 돌린다.
+ */
+@Component
+public class MessageOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageOutboxRelay.class);
+
+    private final MessageOutboxProcessor processor;
+    private final OutboxRelayProperties properties;
+    private final Executor executor;
+    private final PartitionState[] states;
+
+    @Autowired
+    public MessageOutboxRelay(MessageOutboxProcessor processor, OutboxRelayProperties properties) {
+        this(processor, properties, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    MessageOutboxRelay(MessageOutboxProcessor processor, OutboxRelayProperties properties, Executor executor) {
+        this.processor = processor;
+        this.properties = properties;
+        this.executor = executor;
+        this.states = new PartitionState[properties.getPartitions()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = new PartitionState();
+        }
+    }
+
+    /**
+     * 모든 파티션 드레인 요청 (커밋 직후 호출)
+     */
+    public void wakeUp() {
+        for (int partition = 0; partition < states.length; partition++) {
+            drain(partition);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.outbox.relay.poll-delay-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @Scheduled(cron = "${chat.outbox.relay.purge-cron:0 0 * * * *}")
+    public void purge() {
+        try {
+            int deleted = processor.purgeProcessed();
+            if (deleted > 0) {
+                log.info("Outbox purged: deleted={}, retentionHours={}", deleted, properties.getRetentionHours());
+            }
+        } catch (Exception e) {
+            log.error("Outbox purge failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    private void drain(int partition) {
+        PartitionState state = states[partition];
+        state.pending.set(true);
+        if (!state.running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                while (state.pending.getAndSet(false)) {
+                    int relayed;
+                    do {
+                        relayed = processor.relayBatch(partition);
+                    } while (relayed >= properties.getBatchSize());
+                }
+            } catch (Exception e) {
+                log.error("Outbox drain failed: partition={}", partition, e);
+            } finally {
+                state.running.set(false);
+            }
+            // running 해제 직전에 들어온 wakeUp 회수
+            if (state.pending.get()) {
+                drain(partition);
+            }
+        });
+    }
+
+    private static final class PartitionState {
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+    }
+}
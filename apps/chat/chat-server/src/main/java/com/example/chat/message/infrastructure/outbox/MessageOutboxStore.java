@@ -0,0 +1,105 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.storage.domain.entity.ChannelLastMessageEntity;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaChannelLastMessageRepository;
+import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+
+/**
+ * Outbox 릴레이의 DB 단계 (점유 / 완료) — 각각 짧은 트랜잭션.
+ *
+ * 부수효과(Redis / Kafka)는 두 트랜잭션 사이에서 커넥션 없이 수행한다 ({@link MessageOutboxProcessor}).
+ * 파티션 임대(V22)가 트랜잭션 밖에서도 같은 파티션의 중복 릴레이를 막는다.
+ */
+@Component
+public class MessageOutboxStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageOutboxStore.class);
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final JpaChannelLastMessageRepository channelLastMessageRepository;
+    private final JpaChannelMetadataRepository channelMetadataRepository;
+    private final OutboxRelayProperties properties;
+
+    public MessageOutboxStore(JpaOutboxEventRepository outboxEventRepository,
+                              JpaChannelLastMessageRepository channelLastMessageRepository,
+                              JpaChannelMetadataRepository channelMetadataRepository,
+                              OutboxRelayProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.channelLastMessageRepository = channelLastMessageRepository;
+        this.channelMetadataRepository = channelMetadataRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 파티션 임대 획득 후 미처리 이벤트 조회 (id 오름차순).
+     * 다른 인스턴스가 임대 중이면 빈 목록, 읽을 이벤트가 없으면 임대를 바로 반납한다.
+     */
+    @Transactional
+    public List<OutboxEventEntity> claim(int partition, String token) {
+        // Step 1: 다른 인스턴스가 같은 파티션을 릴레이 중이면 양보
+        if (outboxEventRepository.acquireRelayLease(partition, token, properties.getLeaseSeconds()) == 0) {
+            return List.of();
+        }
+
+        // Step 2: 미처리 이벤트 조회
+        List<OutboxEventEntity> batch = outboxEventRepository.findPendingBatch(
+                properties.getPartitions(), partition, properties.getBatchSize());
+
+        // Early return: 이벤트 없음 → 임대 반납
+        if (batch.isEmpty()) {
+            outboxEventRepository.releaseRelayLease(partition, token);
+        }
+        return batch;
+    }
+
+    /**
+     * 릴레이 결과 반영 + 임대 반납 (한 트랜잭션).
+     * DB 직접 미읽음 갱신(버퍼 적재 실패분)은 처리 완료 표시와 같은 트랜잭션이라 재시도 시 중복 반영되지 않는다.
+     *
+     * @param processedIds    부수효과를 마친 이벤트 id
+     * @param latestByChannel 채널별 최신 메시지 (마지막 메시지 Read Model UPSERT 대상)
+     * @param unbuffered      Write-Behind 버퍼 적재에 실패한 메시지 (메타데이터 직접 UPDATE 대상)
+     */
+    @Transactional
+    public void complete(int partition, String token, List<Long> processedIds,
+                         Collection<MessageSentEvent> latestByChannel, List<MessageSentEvent> unbuffered) {
+        // Step 1: 채널 마지막 메시지 갱신 (채널당 1회 UPSERT)
+        latestByChannel.forEach(this::updateLastMessage);
+
+        // Step 2: 버퍼 적재 실패분 메타데이터 직접 갱신
+        for (MessageSentEvent sent : unbuffered) {
+            channelMetadataRepository.bulkIncrementUnreadCount(sent.channelId(), sent.senderId());
+            channelMetadataRepository.updateLastActivity(sent.channelId(), sent.senderId());
+        }
+
+        // Step 3: 처리 완료 표시 (단일 UPDATE)
+        if (!processedIds.isEmpty()) {
+            outboxEventRepository.markProcessed(processedIds);
+        }
+
+        // Step 4: 임대 반납 — 이미 만료되어 넘어갔으면 새 보유자가 같은 이벤트를 다시 릴레이했을 수 있다
+        if (outboxEventRepository.releaseRelayLease(partition, token) == 0) {
+            log.warn("Outbox relay lease expired before completion: partition={}, leaseSeconds={}",
+                    partition, properties.getLeaseSeconds());
+        }
+    }
+
+    private void updateLastMessage(MessageSentEvent sent) {
+        channelLastMessageRepository.upsertIfNewer(
+                sent.channelId(), sent.messageId(), sent.senderId(), sent.messageType(),
+                ChannelLastMessageEntity.truncatePreview(sent.content()),
+                sent.sentAt() != null ? sent.sentAt() : Instant.now());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat.outbox.relay")
+@Getter
+@Setter
+public class OutboxRelayProperties {
+
+    /** 릴레이 파티션 수 (= 인스턴스당 동시 릴레이 스레드/커넥션 상한) */
+    private int partitions = 2;
+
+    /** 파티션당 1회 조회 건수 */
+    private int batchSize = 200;
+
+    /** 커밋 알림을 놓친 이벤트를 회수하는 폴링 주기 */
+    private long pollDelayMs = 1000;
+
+    /** 파티션 임대 유효 시간 — 배치 1회 부수효과가 이 안에 끝나야 하며, 보유 인스턴스 장애 시 이후 다른 인스턴스가 이어받는다 */
+    private long leaseSeconds = 30;
+
+    /** 처리 완료 이벤트 보존 기간 */
+    private long retentionHours = 24;
+}
@@ -0,0 +1,109 @@
+package com.example.chat.message.infrastructure.partition;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.storage.domain.repository.JpaMessageRepository;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+
+/**
+ * chat_messages 월 파티션 유지보수 스케줄러 (V14)
+ *
+ * - 현재 달 ~ premakeMonths 후까지 월 파티션 선생성 → INSERT 가 DEFAULT 파티션으로 떨어지지 않게 한다
+ * - retentionMonths 가 설정되면 그 이전 월 파티션을 DETACH → chat_messages_archive_YYYYMM
+ *   분리된 테이블은 온라인 쿼리/VACUUM 대상에서 빠지며, 아카이브 후 운영자가 DROP 한다
+ *   legacy 파티션([MINVALUE, 전환 시점))은 상한이 기준을 지나야 통째로 DETACH 되므로, 그 전까지는 기준 이전 행을 배치 삭제한다
+ *   같은 기준으로 검색 Read Model(chat_message_search, V19) 행도 배치 단위로 삭제해 보존 기간 밖 메시지가 검색되지 않게 한다
+ *
+ * 파티션 관리 함수가 없는 환경(ddl-auto 로 만든 dev DB 등)에서는 경고 로그만 남긴다.
+ */
+@Component
+public class MessagePartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MessagePartitionMaintenanceJob.class);
+
+    private final JpaMessageRepository messageRepository;
+    private final JpaMessageSearchRepository messageSearchRepository;
+    private final MessagePartitionProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public MessagePartitionMaintenanceJob(JpaMessageRepository messageRepository,
+                                          JpaMessageSearchRepository messageSearchRepository,
+                                          MessagePartitionProperties properties) {
+        this(messageRepository, messageSearchRepository, properties, Clock.systemUTC());
+    }
+
+    MessagePartitionMaintenanceJob(JpaMessageRepository messageRepository,
+                                   JpaMessageSearchRepository messageSearchRepository,
+                                   MessagePartitionProperties properties,
+                                   Clock clock) {
+        this.messageRepository = messageRepository;
+        this.messageSearchRepository = messageSearchRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${chat.message.partition.cron:0 30 3 * * *}", zone = "UTC")
+    public void maintain() {
+        LocalDate currentMonth = LocalDate.now(clock).withDayOfMonth(1);
+        try {
+            createUpcomingPartitions(currentMonth);
+            detachExpiredPartitions(currentMonth);
+        } catch (Exception e) {
+            log.warn("Message partition maintenance failed", e);
+        }
+    }
+
+    private void createUpcomingPartitions(LocalDate currentMonth) {
+        for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+            LocalDate month = currentMonth.plusMonths(i);
+            if (messageRepository.ensureMonthlyPartition(month)) {
+                log.info("Message partition created: month={}", month);
+            }
+        }
+    }
+
+    private void detachExpiredPartitions(LocalDate currentMonth) {
+        if (properties.getRetentionMonths() <= 0) {
+            return;
+        }
+        LocalDate before = currentMonth.minusMonths(properties.getRetentionMonths());
+        List<String> detached = messageRepository.detachMonthlyPartitionsBefore(before);
+        if (!detached.isEmpty()) {
+            log.info("Message partitions detached: before={}, partitions={}", before, detached);
+        }
+
+        int legacyBatchSize = properties.getLegacyPurgeBatchSize();
+        int legacyPurged = 0;
+        int legacyDeleted;
+        do {
+            legacyDeleted = messageRepository.purgeLegacyPartitionBefore(before, legacyBatchSize);
+            legacyPurged += legacyDeleted;
+        } while (legacyDeleted >= legacyBatchSize);
+        if (legacyPurged > 0) {
+            log.info("Legacy message partition rows purged: before={}, rows={}", before, legacyPurged);
+        }
+
+        Instant threshold = before.atStartOfDay().toInstant(ZoneOffset.UTC);
+        int batchSize = properties.getSearchPurgeBatchSize();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = messageSearchRepository.deleteBatchByMessageAtBefore(threshold, batchSize);
+            purged += deleted;
+        } while (deleted >= batchSize);
+        if (purged > 0) {
+            log.info("Message search rows purged: before={}, rows={}", before, purged);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.chat.message.infrastructure.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat.message.partition")
+@Getter
+@Setter
+public class MessagePartitionProperties {
+
+    /** 현재 달 이후 미리 만들어 둘 월 파티션 수 */
+    private int premakeMonths = 3;
+
+    /** 보존 개월 수 — 이보다 오래된 월 파티션을 DETACH (0 이면 비활성) */
+    private int retentionMonths = 0;
+
+    /** 보존 기간 밖 검색 행 삭제 시 1회 DELETE 건수 — 배치마다 별도 트랜잭션 */
+    private int searchPurgeBatchSize = 5000;
+
+    /** 보존 기간 밖 legacy 파티션 행 삭제 시 1회 DELETE 건수 — 배치마다 별도 트랜잭션 */
+    private int legacyPurgeBatchSize = 5000;
+}
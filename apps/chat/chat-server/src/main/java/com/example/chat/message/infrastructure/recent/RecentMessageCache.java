@@ -0,0 +1,273 @@
+package com.example.chat.message.infrastructure.recent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.chat.message.application.model.MessageCursor;
+import com.example.chat.message.rest.dto.response.MessageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널별 최근 메시지 링 캐시 (Redis capped list + 로컬 near cache)
+ *
+ * 구조:
+ *   L1: 인스턴스 로컬 Caffeine — channelId → 최신순 정렬된 메시지 목록 (TTL chat.message.recent.local-ttl-ms)
+ *   L2: Redis List
+ *       Key:   chat:channel:{channelId}:recent
+ *       Value: MessageResponse JSON (LPUSH + LTRIM 으로 최근 capacity 개 유지)
+ *       TTL:   chat.message.recent.ttl-seconds (발송 시마다 갱신)
+ *
+ * 적재 (write-through):
+ *   MessageSendService 커밋 후 LPUSH — DB 에서 채우지 않는다.
+ *   LPUSH(또는 실패 시 링 삭제) 후 chat:cache:recent:invalidate 토픽으로 channelId 를 발행해
+ *   모든 인스턴스가 {@link RecentMessageInvalidationSubscriber} 로 L1 을 제거한다
+ *   (발송 인스턴스만 지우면 다른 인스턴스는 local-ttl 동안 새 메시지 없는 첫 페이지를 응답한다).
+ *   첫 페이지 요청 크기 이상 쌓였거나 catch-up 커서가 링 범위 안에 있을 때만 응답하고,
+ *   그 외에는 호출자가 DB 로 조회한다.
+ *
+ * 연속성 검사:
+ *   링은 연속 구간이라고 가정하지 않는다. 적재 실패 후 삭제도 실패하거나, 늦게 커밋된 메시지의 LPUSH 뒤
+ *   LTRIM 이 더 새로운 메시지를 잘라내면 중간에 구멍이 생긴다.
+ *   커밋 후 적재이므로 커밋 순서와 LPUSH 순서가 다를 수 있어 조회 시 (createdAt, id) 로 정렬하고,
+ *   모든 조회는 응답할 구간의 채널 순번(seq)에 빈 번호가 없는지 검사해 구멍이 있으면 empty 를 반환한다.
+ *   순번이 없는 항목(V18 이전 적재분)이 구간에 섞여 있으면 연속성을 확인할 수 없으므로 역시 empty.
+ *
+ * 장애 격리:
+ *   Redis / 역직렬화 예외 → warn 로그 후 empty 반환 (DB 조회로 계속 동작)
+ */
+@Component
+@Slf4j
+public class RecentMessageCache {
+
+    public static final String INVALIDATION_TOPIC = "chat:cache:recent:invalidate";
+
+    private static final String KEY_TEMPLATE = "chat:channel:%s:recent";
+    private static final Comparator<MessageResponse> NEWEST_FIRST = Comparator
+            .comparing(MessageResponse::createdAt)
+            .thenComparing(MessageResponse::id)
+            .reversed();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RecentMessageCacheProperties properties;
+    private final Cache<String, List<MessageResponse>> localWindows;
+
+    public RecentMessageCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            RecentMessageCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localWindows = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(properties.getLocalTtlMs()))
+                .build();
+    }
+
+    // ─────────────────────────────────────────────
+    // Write Path
+    // ─────────────────────────────────────────────
+
+    /**
+     * 발송 메시지 적재. 트랜잭션 안에서 호출되면 커밋 이후에 적재한다
+     * (롤백된 메시지가 링에 남지 않도록).
+     */
+    public void append(MessageResponse message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            push(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                push(message);
+            }
+        });
+    }
+
+    /**
+     * 무효화 토픽 수신 시 L1 제거 (자기 자신이 발행한 메시지 포함)
+     */
+    public void evictLocal(String channelId) {
+        localWindows.invalidate(channelId);
+    }
+
+    // ─────────────────────────────────────────────
+    // Read Path
+    // ─────────────────────────────────────────────
+
+    /**
+     * 최신 메시지 count 개 (최신순). 링에 count 개 미만이면 empty — 채널 전체 이력인지 알 수 없으므로 DB 로 조회.
+     * 반환할 구간의 순번에 빈 번호가 있어도 empty.
+     */
+    public Optional<List<MessageResponse>> findLatest(String channelId, int count) {
+        List<MessageResponse> window = window(channelId);
+        if (window.size() < count) return Optional.empty();
+
+        List<MessageResponse> latest = window.subList(0, count);
+        if (!isSeqContiguous(latest)) return Optional.empty();
+        return Optional.of(latest);
+    }
+
+    /**
+     * 커서 이후 메시지 (오래된 순). 링의 가장 오래된 메시지가 커서보다 새로우면 empty — 중간 구간이 링 밖에 있음.
+     * 커서 위치의 메시지(커서 이전 중 가장 최신)부터 최신 메시지까지 순번에 빈 번호가 있어도 empty.
+     */
+    public Optional<List<MessageResponse>> findAfter(String channelId, MessageCursor cursor) {
+        List<MessageResponse> window = window(channelId);
+        if (window.isEmpty() || isAfter(window.get(window.size() - 1), cursor)) return Optional.empty();
+
+        MessageResponse anchor = null;
+        List<MessageResponse> newer = new ArrayList<>();
+        for (int i = window.size() - 1; i >= 0; i--) {
+            MessageResponse message = window.get(i);
+            if (isAfter(message, cursor)) {
+                newer.add(message);
+            } else {
+                anchor = message;
+            }
+        }
+
+        // 커서와 첫 응답 메시지 사이의 구멍까지 드러나도록 기준 메시지를 포함해 검사
+        List<MessageResponse> span = new ArrayList<>(newer.size() + 1);
+        span.add(anchor);
+        span.addAll(newer);
+        if (!isSeqContiguous(span)) return Optional.empty();
+        return Optional.of(newer);
+    }
+
+    /**
+     * 채널 순번 afterSeq 이후 메시지 (순번 오름차순).
+     * 링이 afterSeq+1 부터 빈 번호 없이 이어질 때만 응답한다 — 순번에 빈 번호가 없으므로 링의 구멍도 여기서 드러난다.
+     * 순번이 없는 항목(V18 이전 적재분)은 무시한다.
+     */
+    public Optional<List<MessageResponse>> findAfterSeq(String channelId, long afterSeq) {
+        List<MessageResponse> sequenced = new ArrayList<>();
+        for (MessageResponse message : window(channelId)) {
+            if (message.seq() != null) {
+                sequenced.add(message);
+            }
+        }
+        if (sequenced.isEmpty()) return Optional.empty();
+        sequenced.sort(Comparator.comparing(MessageResponse::seq));
+
+        // 링의 가장 오래된 순번이 afterSeq+1 보다 크면 중간 구간이 링 밖에 있음
+        if (sequenced.get(0).seq() > afterSeq + 1) return Optional.empty();
+
+        List<MessageResponse> newer = new ArrayList<>();
+        long expected = afterSeq + 1;
+        for (MessageResponse message : sequenced) {
+            if (message.seq() <= afterSeq) continue;
+            if (message.seq() != expected) return Optional.empty();
+            newer.add(message);
+            expected++;
+        }
+        return Optional.of(newer);
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+
+    private void push(MessageResponse message) {
+        String key = key(message.channelId());
+        localWindows.invalidate(message.channelId());
+        try {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] value = objectMapper.writeValueAsBytes(message);
+            redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+                conn.listCommands().lPush(rawKey, value);
+                conn.listCommands().lTrim(rawKey, 0, properties.getCapacity() - 1L);
+                conn.keyCommands().expire(rawKey, properties.getTtlSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to append recent message (dropping ring): channelId={}, messageId={}",
+                    message.channelId(), message.id(), e);
+            dropRing(key);
+        }
+        publishInvalidation(message.channelId());
+    }
+
+    private void publishInvalidation(String channelId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC, channelId);
+        } catch (Exception e) {
+            // 다른 인스턴스 L1 은 local-ttl 로 수렴
+            log.warn("Failed to publish recent message invalidation: channelId={}", channelId, e);
+        }
+    }
+
+    private void dropRing(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("Failed to drop recent message ring: key={}", key, e);
+        }
+    }
+
+    private List<MessageResponse> window(String channelId) {
+        List<MessageResponse> window = localWindows.get(channelId, this::readRemote);
+        return window != null ? window : List.of();
+    }
+
+    private List<MessageResponse> readRemote(String channelId) {
+        try {
+            List<String> raw = redisTemplate.opsForList().range(key(channelId), 0, -1);
+            if (raw == null || raw.isEmpty()) return List.of();
+
+            List<MessageResponse> messages = new ArrayList<>(raw.size());
+            for (String json : raw) {
+                messages.add(objectMapper.readValue(json, MessageResponse.class));
+            }
+            messages.sort(NEWEST_FIRST);
+            return List.copyOf(messages);
+        } catch (Exception e) {
+            // null → 로컬에 캐시하지 않음
+            log.warn("Failed to read recent message ring (degraded mode): channelId={}", channelId, e);
+            return null;
+        }
+    }
+
+    /** 모든 항목에 순번이 있고, 순번을 정렬했을 때 빈 번호가 없는지 (정렬 기준이 시각이라 순번 순서는 섞일 수 있음) */
+    private static boolean isSeqContiguous(List<MessageResponse> messages) {
+        long[] seqs = new long[messages.size()];
+        for (int i = 0; i < seqs.length; i++) {
+            Long seq = messages.get(i).seq();
+            if (seq == null) return false;
+            seqs[i] = seq;
+        }
+        Arrays.sort(seqs);
+        for (int i = 1; i < seqs.length; i++) {
+            if (seqs[i] != seqs[i - 1] + 1) return false;
+        }
+        return true;
+    }
+
+    /** 메시지가 커서보다 새로운지 — 기존 형식(createdAt 단독) 커서는 시각만 비교 */
+    private static boolean isAfter(MessageResponse message, MessageCursor cursor) {
+        int byTime = message.createdAt().compareTo(cursor.createdAt());
+        if (byTime != 0 || !cursor.hasMessageId()) return byTime > 0;
+        return message.id().compareTo(cursor.messageId()) > 0;
+    }
+
+    private String key(String channelId) {
+        return String.format(KEY_TEMPLATE, channelId);
+    }
+}
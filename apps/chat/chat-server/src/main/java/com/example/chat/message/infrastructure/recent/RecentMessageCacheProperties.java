@@ -0,0 +1,22 @@
+package com.example.chat.message.infrastructure.recent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat.message.recent")
+@Getter
+@Setter
+public class RecentMessageCacheProperties {
+
+    /** 채널당 보관할 최근 메시지 수 (첫 페이지 최대 크기 + 1 이상이어야 hasNext 판단 가능) */
+    private int capacity = 150;
+
+    /** Redis 링 TTL — 메시지 발송 시마다 갱신 */
+    private long ttlSeconds = 3600;
+
+    /** 인스턴스 로컬 near cache TTL (다른 인스턴스 발송분 반영 지연 상한) */
+    private long localTtlMs = 1000;
+}
@@ -0,0 +1,37 @@
+package com.example.chat.message.infrastructure.recent;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 메시지 near cache 무효화 Redis 구독자
+ *
+ * 구독 채널: chat:cache:recent:invalidate
+ * 발행자: RecentMessageCache (링 적재 / 삭제 후)
+ * 역할: 본문(channelId)에 해당하는 인스턴스 로컬 최근 메시지 목록 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecentMessageInvalidationSubscriber implements MessageListener {
+
+    private final RecentMessageCache recentMessageCache;
+
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String channelId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (channelId.isBlank()) {
+            return;
+        }
+        recentMessageCache.evictLocal(channelId);
+        log.debug("RecentMessageCache local evicted: channelId={}", channelId);
+    }
+}
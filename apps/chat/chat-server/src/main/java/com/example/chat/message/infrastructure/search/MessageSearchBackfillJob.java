@@ -0,0 +1,82 @@
+package com.example.chat.message.infrastructure.search;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.storage.domain.entity.ChatChannelEntity;
+import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+
+/**
+ * V19 이전 메시지 검색 Read Model(chat_message_search) 백필 스케줄러
+ *
+ * 마이그레이션에서 전체 텍스트 메시지를 한 문장으로 복사하지 않고, chat_channels 를 ID keyset 으로 순회하며
+ * 채널마다 짧은 트랜잭션 하나로 적재한다 ({@link JpaMessageSearchRepository#backfillChannel}).
+ * 실패한 채널에서 멈추고 다음 실행에서 그 채널부터 다시 시도한다.
+ *
+ * 마지막 채널까지 순회하면 인스턴스가 재기동될 때까지 더 실행하지 않는다.
+ * 적재는 ON CONFLICT DO NOTHING 이라 여러 인스턴스가 동시에 돌거나 MessageSearchIndexer 와 겹쳐도 결과는 같다
+ * — 모든 환경에서 완료되면 enabled=false 로 끈다.
+ */
+@Component
+public class MessageSearchBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageSearchBackfillJob.class);
+
+    private final JpaChannelRepository channelRepository;
+    private final JpaMessageSearchRepository messageSearchRepository;
+    private final MessageSearchBackfillProperties properties;
+
+    private String cursor = "";
+    private long backfilledMessages;
+    private volatile boolean completed;
+
+    public MessageSearchBackfillJob(JpaChannelRepository channelRepository,
+                                    JpaMessageSearchRepository messageSearchRepository,
+                                    MessageSearchBackfillProperties properties) {
+        this.channelRepository = channelRepository;
+        this.messageSearchRepository = messageSearchRepository;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.message.search.backfill.delay-ms:5000}",
+            initialDelayString = "${chat.message.search.backfill.initial-delay-ms:60000}")
+    public synchronized void backfill() {
+        // Early return: 비활성 또는 순회 완료
+        if (!properties.isEnabled() || completed) {
+            return;
+        }
+
+        // Step 1: 다음 채널 배치
+        List<ChatChannelEntity> channels = channelRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor, PageRequest.of(0, properties.getBatchChannels()));
+
+        if (channels.isEmpty()) {
+            completed = true;
+            log.info("Message search backfill completed: messages={}", backfilledMessages);
+            return;
+        }
+
+        // Step 2: 채널 단위 적재 — 실패하면 커서를 그 채널 앞에 두고 다음 실행에서 재시도
+        for (ChatChannelEntity channel : channels) {
+            try {
+                backfilledMessages += messageSearchRepository.backfillChannel(channel.getId());
+                cursor = channel.getId();
+            } catch (Exception e) {
+                log.warn("Message search backfill failed, retrying next run: channelId={}", channel.getId(), e);
+                return;
+            }
+        }
+
+        log.debug("Message search backfill progress: cursor={}, messages={}", cursor, backfilledMessages);
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+}
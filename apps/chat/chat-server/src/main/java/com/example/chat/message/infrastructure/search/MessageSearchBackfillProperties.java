@@ -0,0 +1,19 @@
+package com.example.chat.message.infrastructure.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat.message.search.backfill")
+@Getter
+@Setter
+public class MessageSearchBackfillProperties {
+
+    /** V19 이전 메시지 검색 Read Model 백필 실행 여부 (백필 완료 후 false 로 끈다) */
+    private boolean enabled = true;
+
+    /** 한 번의 실행에서 처리할 채널 수 — 채널마다 별도 트랜잭션 */
+    private int batchChannels = 200;
+}
@@ -0,0 +1,38 @@
+package com.example.chat.message.infrastructure.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 검색 적재 스케줄러
+ *
+ * 주기마다 미적재 Outbox 이벤트를 배치 단위로 끝까지 적재한다.
+ * 배치가 실패하면 해당 배치는 표시되지 않은 채 남아 다음 실행에서 재시도된다.
+ */
+@Component
+public class MessageSearchIndexJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageSearchIndexJob.class);
+
+    private final MessageSearchIndexer indexer;
+    private final MessageSearchIndexProperties properties;
+
+    public MessageSearchIndexJob(MessageSearchIndexer indexer, MessageSearchIndexProperties properties) {
+        this.indexer = indexer;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.message.search.index.poll-delay-ms:1000}")
+    public void run() {
+        try {
+            int indexed;
+            do {
+                indexed = indexer.indexPending(properties.getBatchSize());
+            } while (indexed >= properties.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Message search indexing failed, retrying next run", e);
+        }
+    }
+}
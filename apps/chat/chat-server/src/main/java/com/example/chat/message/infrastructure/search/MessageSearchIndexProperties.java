@@ -0,0 +1,19 @@
+package com.example.chat.message.infrastructure.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat.message.search.index")
+@Getter
+@Setter
+public class MessageSearchIndexProperties {
+
+    /** 1회 트랜잭션에서 적재할 Outbox 이벤트 수 */
+    private int batchSize = 500;
+
+    /** 미적재 이벤트 폴링 주기 — 발송 후 검색에 노출되기까지의 지연 상한 */
+    private long pollDelayMs = 1000;
+}
@@ -0,0 +1,106 @@
+package com.example.chat.message.infrastructure.search;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.message.infrastructure.outbox.MessageOutboxAppender;
+import com.example.chat.message.infrastructure.outbox.MessageOutboxPayload;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 메시지 검색 인덱서 (chat_message_search, V19)
+ *
+ * Outbox 에서 검색 미적재(search_indexed = FALSE, V21) 이벤트를 id 순으로 읽어 텍스트 메시지만 검색 테이블에 적재하고,
+ * 같은 트랜잭션에서 적재 완료 표시한다.
+ * - 발송 트랜잭션 / 릴레이 트랜잭션과 분리되어 있어 발송 지연과 릴레이에 영향이 없다
+ * - 적재 중 예외가 나면 표시까지 함께 롤백되므로 다음 실행에서 같은 배치를 다시 시도한다 (누락 없음)
+ * - ON CONFLICT DO NOTHING 이라 재시도로 중복 적재되지 않는다
+ * - 인스턴스 간에는 advisory lock 으로 한 곳에서만 실행한다
+ */
+@Component
+public class MessageSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageSearchIndexer.class);
+    // "search" ASCII — Outbox 릴레이 파티션 잠금 키와 겹치지 않는 기준값
+    private static final long INDEX_LOCK_KEY = 0x736561726368L;
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final JpaMessageSearchRepository messageSearchRepository;
+    private final ObjectMapper objectMapper;
+
+    public MessageSearchIndexer(JpaOutboxEventRepository outboxEventRepository,
+                                JpaMessageSearchRepository messageSearchRepository,
+                                ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.messageSearchRepository = messageSearchRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 미적재 이벤트 1배치 적재.
+     *
+     * @return 적재 완료 표시한 이벤트 수 (limit 와 같으면 잔여 이벤트가 더 있을 수 있음)
+     */
+    @Transactional
+    public int indexPending(int limit) {
+        // Step 1: 다른 인스턴스가 적재 중이면 양보
+        if (!outboxEventRepository.tryLockPartition(INDEX_LOCK_KEY)) {
+            return 0;
+        }
+
+        // Step 2: 미적재 이벤트 조회 (id 오름차순)
+        List<OutboxEventEntity> batch = outboxEventRepository.findSearchPendingBatch(limit);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Step 3: 텍스트 메시지 적재 — 검색 대상이 아닌 이벤트도 다시 읽지 않도록 함께 표시
+        List<Long> ids = new ArrayList<>(batch.size());
+        int indexed = 0;
+        for (OutboxEventEntity event : batch) {
+            ids.add(event.getId());
+            MessageSentEvent sent = readMessageSent(event);
+            if (sent != null && isSearchable(sent)) {
+                indexed += messageSearchRepository.insertIfAbsent(
+                        sent.messageId(), sent.channelId(), sent.seq(), sent.senderId(), sent.content(),
+                        sent.sentAt() != null ? sent.sentAt() : Instant.now());
+            }
+        }
+
+        // Step 4: 적재 완료 표시 (단일 UPDATE)
+        outboxEventRepository.markSearchIndexed(ids);
+        log.debug("Message search indexed: events={}, indexed={}", batch.size(), indexed);
+        return batch.size();
+    }
+
+    /**
+     * @return MESSAGE_SENT 이벤트 (다른 타입이거나 역직렬화할 수 없으면 null — 재시도해도 적재할 수 없음)
+     */
+    private MessageSentEvent readMessageSent(OutboxEventEntity event) {
+        if (!MessageOutboxAppender.MESSAGE_SENT.equals(event.getEventType())) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(event.getPayload(), MessageOutboxPayload.class).event();
+        } catch (Exception e) {
+            log.error("Malformed outbox payload, not indexing: id={}", event.getId(), e);
+            return null;
+        }
+    }
+
+    // 이미지/파일은 "[Image] 파일명" 형태 미리보기라 검색 대상에서 제외
+    private boolean isSearchable(MessageSentEvent event) {
+        return ("TEXT".equals(event.messageType()) || "SYSTEM".equals(event.messageType()))
+                && event.content() != null && !event.content().isBlank();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.chat.message.infrastructure.sequence;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.storage.domain.entity.ChatChannelEntity;
+import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.storage.domain.repository.JpaMessageRepository;
+
+/**
+ * V18 이전 메시지 channel_seq 백필 스케줄러
+ *
+ * 마이그레이션에서 전체 테이블 UPDATE 를 하지 않고, chat_channels 를 ID keyset 으로 순회하며
+ * 채널마다 짧은 트랜잭션 하나로 번호를 매긴다 ({@link JpaMessageRepository#backfillChannelSeq}).
+ * 실패한 채널에서 멈추고 다음 실행에서 그 채널부터 다시 시도한다.
+ *
+ * 마지막 채널까지 순회하면 인스턴스가 재기동될 때까지 더 실행하지 않는다.
+ * 백필은 멱등이므로 여러 인스턴스가 동시에 돌아도 결과는 같다 — 모든 환경에서 완료되면 enabled=false 로 끈다.
+ */
+@Component
+public class ChannelSeqBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ChannelSeqBackfillJob.class);
+
+    private final JpaChannelRepository channelRepository;
+    private final JpaMessageRepository messageRepository;
+    private final ChannelSeqBackfillProperties properties;
+
+    private String cursor = "";
+    private long backfilledMessages;
+    private volatile boolean completed;
+
+    public ChannelSeqBackfillJob(JpaChannelRepository channelRepository,
+                                 JpaMessageRepository messageRepository,
+                                 ChannelSeqBackfillProperties properties) {
+        this.channelRepository = channelRepository;
+        this.messageRepository = messageRepository;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.message.seq-backfill.delay-ms:5000}",
+            initialDelayString = "${chat.message.seq-backfill.initial-delay-ms:60000}")
+    public synchronized void backfill() {
+        // Early return: 비활성 또는 순회 완료
+        if (!properties.isEnabled() || completed) {
+            return;
+        }
+
+        // Step 1: 다음 채널 배치
+        List<ChatChannelEntity> channels = channelRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor, PageRequest.of(0, properties.getBatchChannels()));
+
+        if (channels.isEmpty()) {
+            completed = true;
+            log.info("Channel seq backfill completed: messages={}", backfilledMessages);
+            return;
+        }
+
+        // Step 2: 채널 단위 백필 — 실패하면 커서를 그 채널 앞에 두고 다음 실행에서 재시도
+        for (ChatChannelEntity channel : channels) {
+            try {
+                backfilledMessages += messageRepository.backfillChannelSeq(channel.getId());
+                cursor = channel.getId();
+            } catch (Exception e) {
+                log.warn("Channel seq backfill failed, retrying next run: channelId={}", channel.getId(), e);
+                return;
+            }
+        }
+
+        log.debug("Channel seq backfill progress: cursor={}, messages={}", cursor, backfilledMessages);
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+}
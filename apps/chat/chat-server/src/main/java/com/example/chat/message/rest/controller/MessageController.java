@@ -3,7 +3,9 @@ package com.example.chat.message.rest.controller;
 import com.example.chat.message.rest.dto.request.SendMessageRequest;
 import com.example.chat.message.rest.dto.response.CursorPageResponse;
 import com.example.chat.message.rest.dto.response.MessageResponse;
+import com.example.chat.message.rest.dto.response.MessageSearchResponse;
 import com.example.chat.message.application.service.MessageQueryService;
+import com.example.chat.message.application.service.MessageSearchService;
 import com.example.chat.message.application.service.MessageSendService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,7 +26,9 @@ import org.springframework.web.bind.annotation.*;
  *
  * 책임: HTTP 요청/응답, Validation, Service 위임
  * - POST /api/messages          → 메시지 발송
+ * - GET  /api/messages/search    → 참여 채널 메시지 검색
  * - GET  /api/messages/{channelId} → cursor 기반 메시지 조회
+ * - GET  /api/messages/{channelId}/since → cursor 또는 채널 순번(seq) 이후 메시지 조회 (재접속 catch-up)
  */
 @Tag(name = "Message", description = "메시지 API")
 @RestController
@@ -35,6 +39,7 @@ public class MessageController {
 
     private final MessageSendService messageSendService;
     private final MessageQueryService messageQueryService;
+    private final MessageSearchService messageSearchService;
 
     @Operation(summary = "메시지 발송",
             description = "채팅방에 메시지를 발송합니다. 텍스트/이미지/파일/시스템 타입 지원.")
@@ -51,6 +56,30 @@ public class MessageController {
         return ResponseEntity.status(HttpStatus.CREATED).body(messageSendService.sendMessage(request));
     }
 
+    @Operation(summary = "메시지 검색",
+            description = "참여 중인 채널의 텍스트 메시지를 검색합니다. 최신순, cursor 기반 페이징. "
+                    + "발송 직후 메시지는 인덱싱 지연으로 잠시 검색되지 않을 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 길이 오류 또는 잘못된 cursor"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "채널 접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "채널 없음")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<MessageSearchResponse>> searchMessages(
+            @Parameter(description = "검색어 (2~100자)")
+            @RequestParam("q") String query,
+            @Parameter(description = "검색할 채널 ID. 없으면 참여 중인 전체 채널")
+            @RequestParam(required = false) String channelId,
+            @Parameter(description = "이전 응답의 nextCursor ({createdAt}_{messageId}). null이면 최신부터 조회")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)")
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /api/messages/search channelId={} cursor={} limit={}", channelId, cursor, limit);
+        return ResponseEntity.ok(messageSearchService.search(query, channelId, cursor, limit));
+    }
+
     @Operation(summary = "채널 메시지 조회",
             description = "cursor 기반 페이징으로 채널 메시지를 최신순으로 조회합니다.")
     @ApiResponses({
@@ -62,7 +91,7 @@ public class MessageController {
     @GetMapping("/{channelId}")
     public ResponseEntity<CursorPageResponse<MessageResponse>> getMessages(
             @PathVariable String channelId,
-            @Parameter(description = "이전 페이지 마지막 메시지 createdAt (ISO-8601). null이면 최신부터 조회")
+            @Parameter(description = "이전 응답의 nextCursor ({createdAt}_{messageId}). null이면 최신부터 조회")
             @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 크기 (기본 50, 최대 100)")
             @RequestParam(defaultValue = "50") int limit) {
@@ -70,6 +99,32 @@ public class MessageController {
         return ResponseEntity.ok(messageQueryService.getMessages(channelId, cursor, limit));
     }
 
+    @Operation(summary = "채널 메시지 catch-up 조회",
+            description = "마지막으로 받은 메시지 seq(또는 cursor) 이후의 메시지를 오래된 순으로 조회합니다. "
+                    + "재접속 시 누락분 조회용. seq 를 주면 seq 기준, 없으면 cursor 기준.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "채널 접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "채널 없음")
+    })
+    @GetMapping("/{channelId}/since")
+    public ResponseEntity<CursorPageResponse<MessageResponse>> getMessagesSince(
+            @PathVariable String channelId,
+            @Parameter(description = "마지막으로 받은 메시지 cursor ({createdAt}_{messageId})")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "마지막으로 받은 메시지 seq (MESSAGE 이벤트의 seq, 이전 응답의 nextCursor)")
+            @RequestParam(required = false) Long seq,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 100)")
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("GET /api/messages/{}/since seq={} cursor={} limit={}", channelId, seq, cursor, limit);
+        if (seq != null) {
+            return ResponseEntity.ok(messageQueryService.getMessagesSinceSeq(channelId, seq, limit));
+        }
+        return ResponseEntity.ok(messageQueryService.getMessagesAfter(channelId, cursor, limit));
+    }
+
     @Operation(summary = "Health Check")
     @GetMapping("/health")
     public ResponseEntity<String> health() {
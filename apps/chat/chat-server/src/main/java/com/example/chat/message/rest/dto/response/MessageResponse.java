@@ -14,6 +14,7 @@ import com.example.chat.storage.domain.entity.ChatMessageEntity;
 public record MessageResponse(
         String id,
         String channelId,
+        Long seq,
         String senderId,
         MessageType messageType,
         String content,
@@ -24,7 +25,17 @@ public record MessageResponse(
         Instant deliveredAt,
         Instant readAt) {
 
+    /**
+     * 발송 응답용 — unreadCount 는 발송 시점 값 (memberCount - 1)
+     */
     public static MessageResponse fromEntity(ChatMessageEntity entity) {
+        return fromEntity(entity, entity.getUnreadCount());
+    }
+
+    /**
+     * 조회 응답용 — unreadCount 는 멤버 읽음 커서로 계산한 현재 값
+     */
+    public static MessageResponse fromEntity(ChatMessageEntity entity, int unreadCount) {
         String content = switch (entity.getMessageType()) {
             case TEXT, SYSTEM -> entity.getContentText() != null ? entity.getContentText() : "";
             case IMAGE        -> "[Image] " + entity.getContentFileName();
@@ -33,14 +44,23 @@ public record MessageResponse(
         return new MessageResponse(
                 entity.getId(),
                 entity.getChannelId(),
+                entity.getChannelSeq(),
                 entity.getSenderId(),
                 entity.getMessageType(),
                 content,
                 entity.getMessageStatus(),
-                entity.getUnreadCount(),
+                unreadCount,
                 entity.getCreatedAt(),
                 entity.getSentAt(),
                 entity.getDeliveredAt(),
                 entity.getReadAt());
     }
+
+    /**
+     * unreadCount 만 교체한 사본 (최근 메시지 캐시 응답에 현재 미읽음 수 반영)
+     */
+    public MessageResponse withUnreadCount(int unreadCount) {
+        return new MessageResponse(id, channelId, seq, senderId, messageType, content, status,
+                unreadCount, createdAt, sentAt, deliveredAt, readAt);
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.chat.message.rest.dto.response;
+
+import java.time.Instant;
+
+import com.example.chat.storage.domain.entity.MessageSearchEntity;
+
+/**
+ * 메시지 검색 결과 DTO
+ *
+ * seq 로 GET /api/messages/{channelId}/since?seq={seq - 1} 을 호출하면 해당 메시지부터 이어서 조회할 수 있다.
+ */
+public record MessageSearchResponse(
+        String messageId,
+        String channelId,
+        Long seq,
+        String senderId,
+        String content,
+        Instant createdAt) {
+
+    public static MessageSearchResponse fromEntity(MessageSearchEntity entity) {
+        return new MessageSearchResponse(
+                entity.getMessageId(),
+                entity.getChannelId(),
+                entity.getChannelSeq(),
+                entity.getSenderId(),
+                entity.getContent(),
+                entity.getMessageAt());
+    }
+}
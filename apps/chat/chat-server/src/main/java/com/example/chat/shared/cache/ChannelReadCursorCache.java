@@ -0,0 +1,233 @@
+package com.example.chat.shared.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository.MemberReadCursor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널 멤버 읽음 커서 캐시 (메시지별 미읽음 수 '1' 계산용)
+ *
+ * 메시지 행의 unread_count 를 읽을 때마다 감소시키는 대신,
+ * 멤버별 읽음 커서(마지막으로 읽은 메시지의 생성 시각)만 저장하고
+ * 메시지 미읽음 수 = 커서가 메시지 생성 시각보다 이전인 멤버 수 (발신자 제외) 로 조회 시점에 계산한다.
+ *
+ * 구조:
+ *   L1: 인스턴스 로컬 Caffeine — channelId → {@link ReadCursors} (정렬된 커서 배열, 이진 탐색)
+ *   원본: chat_channel_metadata.last_read_message_at (+ chat_channel_members.joined_at)
+ *
+ * 커서 기준:
+ *   max(마지막 읽은 메시지 시각, 입장 시각) — 입장 전 메시지는 읽은 것으로 본다.
+ *
+ * 동기화:
+ *   읽음 처리 커밋 후 → 로컬 커서 전진 + chat:cache:read-cursor:advance 토픽 발행
+ *   → 다른 인스턴스가 {@link ChannelReadCursorSubscriber} 로 로컬 커서 전진 (적재된 채널만)
+ *   멤버 변경 → 채널 상태 무효화 토픽 수신 시 함께 제거 ({@link ChannelStateInvalidationSubscriber})
+ *
+ * 장애 격리:
+ *   Redis 발행 실패 → warn 로그, 다른 인스턴스는 만료 후 재적재로 수렴
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelReadCursorCache {
+
+    public static final String ADVANCE_TOPIC = "chat:cache:read-cursor:advance";
+    private static final char FIELD_SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JpaChannelMemberRepository channelMemberRepository;
+
+    private final Cache<String, ReadCursors> localCursors = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    // ─────────────────────────────────────────────
+    // Read Operations
+    // ─────────────────────────────────────────────
+
+    /**
+     * 채널 읽음 커서 조회 (L1 → DB read-through)
+     */
+    public ReadCursors getCursors(String channelId) {
+        return localCursors.get(channelId, this::load);
+    }
+
+    // ─────────────────────────────────────────────
+    // Write Operations
+    // ─────────────────────────────────────────────
+
+    /**
+     * 읽음 커서 전진. 트랜잭션 안에서 호출되면 커밋 이후에 반영/전파한다.
+     *
+     * @param messageAt 읽은 메시지의 생성 시각
+     */
+    public void advance(String channelId, String userId, Instant messageAt) {
+        if (messageAt == null) return;
+
+        long position = toPosition(messageAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishAdvance(channelId, userId, position);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishAdvance(channelId, userId, position);
+            }
+        });
+    }
+
+    /**
+     * 커서 전진 토픽 수신 시 로컬 반영 (적재되지 않은 채널은 무시 — 다음 조회 시 DB 에서 적재)
+     */
+    public void applyLocal(String channelId, String userId, long position) {
+        localCursors.asMap().computeIfPresent(channelId, (id, cursors) -> cursors.advance(userId, position));
+    }
+
+    /**
+     * 멤버 변경 시 로컬 제거
+     */
+    public void evictLocal(String channelId) {
+        localCursors.invalidate(channelId);
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+
+    private void publishAdvance(String channelId, String userId, long position) {
+        applyLocal(channelId, userId, position);
+        try {
+            redisTemplate.convertAndSend(ADVANCE_TOPIC, encode(channelId, userId, position));
+        } catch (Exception e) {
+            log.warn("Failed to publish read cursor advance: channelId={}, userId={}", channelId, userId, e);
+        }
+    }
+
+    private ReadCursors load(String channelId) {
+        List<MemberReadCursor> rows = channelMemberRepository.findReadCursorsByChannelId(channelId);
+        Map<String, Long> positions = new HashMap<>(rows.size() * 2);
+        for (MemberReadCursor row : rows) {
+            Instant cursor = row.getLastReadMessageAt();
+            Instant joinedAt = row.getJoinedAt();
+            Instant effective = cursor == null ? joinedAt
+                    : joinedAt == null || cursor.isAfter(joinedAt) ? cursor : joinedAt;
+            positions.put(row.getUserId(), effective != null ? toPosition(effective) : Long.MIN_VALUE);
+        }
+        return ReadCursors.of(positions);
+    }
+
+    static String encode(String channelId, String userId, long position) {
+        return channelId + FIELD_SEPARATOR + userId + FIELD_SEPARATOR + position;
+    }
+
+    /**
+     * DB(TIMESTAMP) 정밀도와 같은 마이크로초 단위 커서 위치
+     */
+    static long toPosition(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    /**
+     * 채널 멤버 읽음 커서 스냅샷 (불변)
+     * 멤버별 커서 Map + 정렬된 커서 배열 — 미읽음 수는 이진 탐색 O(log N), 전진은 배열 복사 O(N).
+     */
+    public static final class ReadCursors {
+
+        private final Map<String, Long> positions;
+        private final long[] sorted;
+
+        private ReadCursors(Map<String, Long> positions, long[] sorted) {
+            this.positions = positions;
+            this.sorted = sorted;
+        }
+
+        static ReadCursors of(Map<String, Long> positions) {
+            long[] sorted = positions.values().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return new ReadCursors(Map.copyOf(positions), sorted);
+        }
+
+        /**
+         * 메시지 미읽음 수 = 커서가 메시지 생성 시각 이전인 멤버 수 (발신자 제외)
+         */
+        public int unreadCount(String senderId, Instant createdAt) {
+            if (createdAt == null) return 0;
+
+            long position = toPosition(createdAt);
+            int unread = countBelow(position);
+            Long senderPosition = senderId != null ? positions.get(senderId) : null;
+            if (senderPosition != null && senderPosition < position) {
+                unread--;
+            }
+            return Math.max(0, unread);
+        }
+
+        public int memberCount() {
+            return sorted.length;
+        }
+
+        /**
+         * 커서 전진 — 멤버가 아니거나 뒤로 가는 커서면 그대로 반환
+         */
+        ReadCursors advance(String userId, long position) {
+            Long current = positions.get(userId);
+            if (current == null || current >= position) return this;
+
+            Map<String, Long> nextPositions = new HashMap<>(positions);
+            nextPositions.put(userId, position);
+
+            // 기존 값 1개 제거 + 새 값 삽입 (정렬 유지)
+            long[] next = new long[sorted.length];
+            int removeAt = Arrays.binarySearch(sorted, current);
+            int insertAt = countBelow(position);
+            int write = 0;
+            boolean inserted = false;
+            for (int read = 0; read < sorted.length; read++) {
+                if (read == removeAt) continue;
+                if (!inserted && read >= insertAt) {
+                    next[write++] = position;
+                    inserted = true;
+                }
+                next[write++] = sorted[read];
+            }
+            if (!inserted) {
+                next[write] = position;
+            }
+            return new ReadCursors(Map.copyOf(nextPositions), next);
+        }
+
+        /** position 보다 작은 커서 수 (lower bound) */
+        private int countBelow(long position) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
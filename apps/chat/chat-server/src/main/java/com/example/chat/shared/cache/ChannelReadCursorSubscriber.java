@@ -0,0 +1,42 @@
+package com.example.chat.shared.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽음 커서 전진 Redis 구독자
+ *
+ * 구독 채널: chat:cache:read-cursor:advance
+ * 발행자: ChannelReadCursorCache (읽음 처리 커밋 후)
+ * 역할: 본문({channelId}|{userId}|{position})에 해당하는 인스턴스 로컬 읽음 커서 전진
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelReadCursorSubscriber implements MessageListener {
+
+    private final ChannelReadCursorCache readCursorCache;
+
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] fields = body.split("\\|");
+        if (fields.length != 3) {
+            log.warn("Invalid read cursor advance message: {}", body);
+            return;
+        }
+        try {
+            readCursorCache.applyLocal(fields[0], fields[1], Long.parseLong(fields[2]));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid read cursor position: {}", body);
+        }
+    }
+}
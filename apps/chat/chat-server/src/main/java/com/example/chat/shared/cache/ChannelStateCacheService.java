@@ -0,0 +1,279 @@
+package com.example.chat.shared.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.chat.common.core.enums.UserStatus;
+import com.example.chat.storage.domain.entity.ChatChannelEntity;
+import com.example.chat.storage.domain.entity.UserEntity;
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
+import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.storage.domain.repository.JpaUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메시지 발송 경로용 채널 상태 / 사용자 상태 캐시 (Near Cache + Redis)
+ *
+ * 구조:
+ *   L1: 인스턴스 로컬 Caffeine (채널 60s / 사용자 30s)
+ *   L2: Redis String
+ *       Key:   chat:channel:{channelId}:state
+ *       Value: {active 0|1}|{userId},{userId},...   (멤버 ID 압축 배열)
+ *       TTL:   10m
+ *       버전:  chat:channel:{channelId}:state:ver (무효화마다 INCR)
+ *   L3: PostgreSQL (채널 + 멤버 userId 프로젝션)
+ *
+ * 무효화:
+ *   addMember / removeMember / deactivateChannel 커밋 후
+ *   → 버전 INCR + Redis 키 삭제 (Lua 1회) + chat:cache:channel:invalidate 토픽으로 channelId 발행
+ *   → 모든 인스턴스가 {@link ChannelStateInvalidationSubscriber} 로 L1 제거
+ *
+ * 적재 경합:
+ *   DB 적재 전에 버전을 읽고, L2 기록은 버전이 그대로일 때만 수행한다 (Lua compare-and-set).
+ *   무효화 이전에 DB 를 읽은 적재가 무효화 이후에 L2 를 덮어써 변경 전 멤버 목록이 TTL 동안 남는 것을 막는다.
+ *   사용자 상태는 chat-server 가 변경하지 않으므로 짧은 L1 TTL 로만 수렴시킨다.
+ *
+ * 장애 격리:
+ *   Redis 예외 → warn 로그 후 DB 조회로 계속 동작
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelStateCacheService {
+
+    public static final String INVALIDATION_TOPIC = "chat:cache:channel:invalidate";
+    private static final String KEY_TEMPLATE = "chat:channel:%s:state";
+    private static final String VERSION_KEY_SUFFIX = ":ver";
+    private static final long REDIS_TTL_SECONDS = 10 * 60L;
+    /** 적재가 아무리 지연돼도 버전 키가 먼저 만료되지 않도록 L2 TTL 보다 길게 유지 */
+    private static final long VERSION_TTL_SECONDS = 24 * 60 * 60L;
+    private static final String NO_VERSION = "";
+    private static final char FIELD_SEPARATOR = '|';
+    private static final String MEMBER_SEPARATOR = ",";
+
+    /** KEYS[1]=state, KEYS[2]=version / ARGV[1]=value, ARGV[2]=ttl, ARGV[3]=적재 전에 읽은 버전('' = 없음) */
+    private static final RedisScript<Long> WRITE_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[3] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** KEYS[1]=state, KEYS[2]=version / ARGV[1]=version ttl */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JpaChannelRepository channelRepository;
+    private final JpaChannelMemberRepository channelMemberRepository;
+    private final JpaUserRepository userRepository;
+
+    private final Cache<String, ChannelState> localChannels = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .build();
+
+    private final Cache<String, UserStatus> localUsers = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    // ─────────────────────────────────────────────
+    // Read Operations
+    // ─────────────────────────────────────────────
+
+    /**
+     * 채널 상태 조회 (L1 → L2 → DB read-through)
+     *
+     * @param channelId 채널 ID
+     * @return 채널 활성 여부 + 멤버 ID 목록, 채널이 없으면 empty (부재는 캐시하지 않음)
+     */
+    public Optional<ChannelState> getChannelState(String channelId) {
+        ChannelState local = localChannels.getIfPresent(channelId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        ChannelState state = readRemote(channelId);
+        if (state == null) {
+            // 버전은 DB 조회 전에 읽어야 그 사이의 무효화를 감지할 수 있다
+            String version = readVersion(channelId);
+            Optional<ChannelState> loaded = loadChannelState(channelId);
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            state = loaded.get();
+            writeRemote(channelId, state, version);
+        }
+        localChannels.put(channelId, state);
+        return Optional.of(state);
+    }
+
+    /**
+     * 사용자 상태 조회 (L1 → DB)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 상태, 사용자가 없으면 empty
+     */
+    public Optional<UserStatus> getUserStatus(String userId) {
+        UserStatus local = localUsers.getIfPresent(userId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        Optional<UserStatus> loaded = userRepository.findById(userId).map(UserEntity::getStatus);
+        loaded.ifPresent(status -> localUsers.put(userId, status));
+        return loaded;
+    }
+
+    // ─────────────────────────────────────────────
+    // Invalidation
+    // ─────────────────────────────────────────────
+
+    /**
+     * 채널 상태 무효화. 트랜잭션 안에서 호출되면 커밋 이후에 전파한다
+     * (커밋 전에 지우면 다른 인스턴스가 변경 전 값을 다시 적재할 수 있음).
+     *
+     * @param channelId 변경된 채널 ID
+     */
+    public void invalidateChannel(String channelId) {
+        localChannels.invalidate(channelId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishInvalidation(channelId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishInvalidation(channelId);
+            }
+        });
+    }
+
+    /**
+     * 무효화 토픽 수신 시 L1 제거 (자기 자신이 발행한 메시지 포함)
+     */
+    public void evictLocal(String channelId) {
+        localChannels.invalidate(channelId);
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+
+    private void publishInvalidation(String channelId) {
+        localChannels.invalidate(channelId);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(key(channelId), versionKey(channelId)),
+                    Long.toString(VERSION_TTL_SECONDS));
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC, channelId);
+            log.debug("ChannelStateCache invalidated: channelId={}", channelId);
+        } catch (Exception e) {
+            // 다른 인스턴스 L1 은 TTL 로 수렴
+            log.warn("Failed to publish channel state invalidation: channelId={}", channelId, e);
+        }
+    }
+
+    private Optional<ChannelState> loadChannelState(String channelId) {
+        return channelRepository.findById(channelId)
+                .map(ChatChannelEntity::isActive)
+                .map(active -> new ChannelState(active, channelMemberRepository.findUserIdsByChannelId(channelId)));
+    }
+
+    private ChannelState readRemote(String channelId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(channelId));
+            return value != null ? decode(value) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read channel state cache (degraded mode): channelId={}", channelId, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return 현재 버전 (없으면 NO_VERSION), Redis 장애 시 null
+     */
+    private String readVersion(String channelId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(channelId));
+            return version != null ? version : NO_VERSION;
+        } catch (Exception e) {
+            log.warn("Failed to read channel state version: channelId={}", channelId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 적재 전에 읽은 버전이 그대로일 때만 L2 기록 (버전을 모르면 기록하지 않음)
+     */
+    private void writeRemote(String channelId, ChannelState state, String version) {
+        if (version == null) {
+            return;
+        }
+        try {
+            Long written = redisTemplate.execute(WRITE_IF_VERSION_SCRIPT,
+                    List.of(key(channelId), versionKey(channelId)),
+                    encode(state), Long.toString(REDIS_TTL_SECONDS), version);
+            if (written == null || written == 0L) {
+                log.debug("Channel state cache write skipped (invalidated during load): channelId={}", channelId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write channel state cache: channelId={}", channelId, e);
+        }
+    }
+
+    static String encode(ChannelState state) {
+        return (state.active() ? "1" : "0") + FIELD_SEPARATOR + String.join(MEMBER_SEPARATOR, state.memberIds());
+    }
+
+    static ChannelState decode(String value) {
+        int separator = value.indexOf(FIELD_SEPARATOR);
+        boolean active = value.charAt(0) == '1';
+        String members = value.substring(separator + 1);
+        List<String> memberIds = members.isEmpty() ? List.of() : Arrays.asList(members.split(MEMBER_SEPARATOR));
+        return new ChannelState(active, memberIds);
+    }
+
+    private String key(String channelId) {
+        return String.format(KEY_TEMPLATE, channelId);
+    }
+
+    private String versionKey(String channelId) {
+        return key(channelId) + VERSION_KEY_SUFFIX;
+    }
+
+    /**
+     * 발송 경로에 필요한 채널 상태 스냅샷
+     */
+    public record ChannelState(
+            boolean active,              // 채널 활성 여부
+            List<String> memberIds,      // 채널 멤버 ID (발신자 포함)
+            Set<String> memberIdSet) {   // isMember O(1) 조회용 (memberIds 에서 파생)
+
+        public ChannelState(boolean active, List<String> memberIds) {
+            this(active, List.copyOf(memberIds), Set.copyOf(memberIds));
+        }
+
+        public boolean isMember(String userId) {
+            return userId != null && memberIdSet.contains(userId);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.chat.shared.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널 상태 캐시 무효화 Redis 구독자
+ *
+ * 구독 채널: chat:cache:channel:invalidate
+ * 발행자: ChannelStateCacheService (멤버 추가/제거, 채널 비활성화 커밋 후)
+ * 역할: 본문(channelId)에 해당하는 인스턴스 로컬 캐시 제거 (채널 상태 + 멤버 읽음 커서)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelStateInvalidationSubscriber implements MessageListener {
+
+    private final ChannelStateCacheService channelStateCacheService;
+    private final ChannelReadCursorCache readCursorCache;
+
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String channelId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (channelId.isBlank()) {
+            return;
+        }
+        channelStateCacheService.evictLocal(channelId);
+        readCursorCache.evictLocal(channelId);
+        log.debug("ChannelStateCache local evicted: channelId={}", channelId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.chat.shared.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 열람 presence 조회 서비스
+ *
+ * 구조 (websocket-server RedisPresenceManager가 기록):
+ *   Key:    chat:presence:{channelId}
+ *   Member: {userId}
+ *   Score:  만료 시각 (epoch millis, 노드 heartbeat 주기로 연장)
+ *
+ * 조회:
+ *   ZMSCORE 1회로 수신자 전체의 만료 시각을 조회 → 현재 시각 이후면 "열람 중"
+ *
+ * 장애 격리:
+ *   Redis 예외 → warn 로그 후 전체 수신자 반환 (푸시 누락보다 중복 발송이 안전)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceCacheService {
+
+    private static final String KEY_PREFIX = "chat:presence:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 채널을 보고 있지 않은 사용자만 필터링
+     *
+     * @param channelId 채널 ID
+     * @param userIds   푸시 수신 후보
+     * @return 푸시가 필요한 사용자 (입력 순서 유지)
+     */
+    public List<String> filterNotViewing(String channelId, List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<Double> expiresAt = redisTemplate.opsForZSet()
+                    .score(KEY_PREFIX + channelId, userIds.toArray());
+
+            // Early return: 열람 중인 사용자 없음
+            if (expiresAt == null) {
+                return userIds;
+            }
+
+            long now = System.currentTimeMillis();
+            List<String> result = new ArrayList<>(userIds.size());
+            for (int i = 0; i < userIds.size(); i++) {
+                Double score = i < expiresAt.size() ? expiresAt.get(i) : null;
+                if (score == null || score <= now) {
+                    result.add(userIds.get(i));
+                }
+            }
+            return result;
+
+        } catch (Exception e) {
+            log.warn("Failed to read presence (degraded mode): channelId={}", channelId, e);
+            return userIds;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.chat.shared.cache;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -22,13 +28,14 @@ import lombok.extern.slf4j.Slf4j;
  *   TTL:   24h
  *
  * Write/Read 이중 관리:
- *   메시지 발송 → HINCRBY (발신자 제외, Pipeline 일괄)
+ *   메시지 발송 → HINCRBY (발신자 제외, Lua 일괄 — 메시지당 1회)
  *   읽음 처리  → HSET 0
  *   퇴장 처리  → HDEL
  *
  * Read Model 우선순위:
  *   Redis HGET → hit  : Redis 값 반환
  *             → miss : 호출자가 PostgreSQL fallback 수행
+ *   채널 목록은 N개 채널의 HGET 을 Pipeline 으로 묶어 단일 왕복으로 조회 (getUnreadCounts)
  *
  * 장애 격리:
  *   Redis 예외 → warn 로그 후 Optional.empty() 반환
@@ -40,8 +47,28 @@ import lombok.extern.slf4j.Slf4j;
 public class UnreadCacheService {
 
     private static final String KEY_TEMPLATE = "chat:channel:%s:unread";
+    /** 메시지별 증분 반영 표시 — Outbox 릴레이 재시도 시 같은 메시지를 다시 더하지 않도록 */
+    private static final String APPLIED_KEY_TEMPLATE = "chat:channel:%s:unread:applied:%s";
     /** 24시간 TTL (세션 만료와 동기화) */
     private static final long TTL_SECONDS = 24 * 60 * 60L;
+    /** 반영 표시 TTL — 릴레이 재시도(임대 만료 후)보다 충분히 길게 */
+    private static final long APPLIED_TTL_SECONDS = 60 * 60L;
+
+    /**
+     * 메시지 1건 미읽음 증분 (원자적)
+     * KEYS: unread hash, applied 표시 / ARGV: ttlSeconds, appliedTtlSeconds, memberId...
+     * - applied 표시가 이미 있으면 (릴레이 재시도) 아무것도 하지 않는다
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[2], '1', 'NX', 'EX', ARGV[2]) then
+                return 0
+            end
+            for i = 3, #ARGV do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], 1)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
 
@@ -51,33 +78,30 @@ public class UnreadCacheService {
 
     /**
      * 메시지 발송 시: 발신자를 제외한 모든 멤버 미읽음 수 +1
-     * Redis Pipeline으로 N개의 HINCRBY를 단일 네트워크 왕복 처리 (쓰기 최적화)
+     * Lua 스크립트 1회로 N개의 HINCRBY 를 단일 네트워크 왕복 처리하며, 같은 메시지는 한 번만 반영한다.
      *
      * @param channelId 채널 ID
+     * @param messageId 메시지 ID (중복 반영 방지 기준)
      * @param senderId  발신자 ID (제외 대상)
      * @param memberIds 채널 전체 멤버 ID 목록
      */
-    public void incrementAllMembers(String channelId, String senderId, List<String> memberIds) {
+    public void incrementAllMembers(String channelId, String messageId, String senderId, List<String> memberIds) {
         if (memberIds == null || memberIds.isEmpty()) return;
 
-        String key = key(channelId);
+        List<String> args = new ArrayList<>(memberIds.size() + 2);
+        args.add(Long.toString(TTL_SECONDS));
+        args.add(Long.toString(APPLIED_TTL_SECONDS));
+        for (String memberId : memberIds) {
+            if (!memberId.equals(senderId)) {
+                args.add(memberId);
+            }
+        }
         try {
-            redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
-                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-                for (String memberId : memberIds) {
-                    if (!memberId.equals(senderId)) {
-                        conn.hashCommands().hIncrBy(
-                                keyBytes,
-                                memberId.getBytes(StandardCharsets.UTF_8),
-                                1L);
-                    }
-                }
-                // 마지막 접근 기준 TTL 갱신
-                conn.keyCommands().expire(keyBytes, TTL_SECONDS);
-                return null;
-            });
-            log.debug("UnreadCache incremented: channelId={}, membersUpdated={}",
-                    channelId, memberIds.size() - 1);
+            Long applied = redisTemplate.execute(INCREMENT_SCRIPT,
+                    List.of(key(channelId), String.format(APPLIED_KEY_TEMPLATE, channelId, messageId)),
+                    args.toArray());
+            log.debug("UnreadCache incremented: channelId={}, messageId={}, membersUpdated={}, applied={}",
+                    channelId, messageId, args.size() - 2, applied);
         } catch (Exception e) {
             // Redis 장애 시 PostgreSQL 값을 기준으로 계속 동작 (Degraded Mode)
             log.warn("Failed to increment unread cache (degraded mode): channelId={}", channelId, e);
@@ -141,6 +165,41 @@ public class UnreadCacheService {
         }
     }
 
+    /**
+     * 채널 목록 조회 시: 여러 채널의 미읽음 수를 Pipeline 으로 일괄 조회 (단일 네트워크 왕복)
+     * 결과 Map 에는 캐시 hit 채널만 포함되며, 누락된 채널은 호출자가 PostgreSQL fallback 을 수행한다.
+     *
+     * @param userId     조회 대상 사용자 ID
+     * @param channelIds 채널 ID 목록
+     * @return channelId → 캐시된 미읽음 수 (Redis 장애 시 빈 Map)
+     */
+    public Map<String, Integer> getUnreadCounts(String userId, Collection<String> channelIds) {
+        if (channelIds == null || channelIds.isEmpty()) return Map.of();
+
+        List<String> ids = List.copyOf(channelIds);
+        try {
+            byte[] field = userId.getBytes(StandardCharsets.UTF_8);
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+                for (String channelId : ids) {
+                    conn.hashCommands().hGet(key(channelId).getBytes(StandardCharsets.UTF_8), field);
+                }
+                return null;
+            });
+
+            Map<String, Integer> result = new HashMap<>(ids.size());
+            for (int i = 0; i < ids.size() && i < values.size(); i++) {
+                Object val = values.get(i);
+                if (val != null) {
+                    result.put(ids.get(i), Integer.parseInt(val.toString()));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("Failed to get unread cache in bulk: userId={}, channels={}", userId, ids.size(), e);
+            return Map.of();
+        }
+    }
+
     // ─────────────────────────────────────────────
     // Helpers
     // ─────────────────────────────────────────────
@@ -0,0 +1,261 @@
+package com.example.chat.shared.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널 메타데이터 미읽음 수 Write-Behind 버퍼 (Redis)
+ *
+ * 메시지마다 chat_channel_metadata N행을 UPDATE 하던 것을 Redis 에 (channel, user) 단위 증분으로 모아 두고,
+ * 플러셔가 주기적으로 채널당 UPDATE 1회로 반영한다.
+ *
+ * 구조:
+ *   chat:channel:{channelId}:unread:delta     Hash  {userId} → 미반영 증분, "@at" → 마지막 메시지 시각(epoch ms)
+ *   chat:channel:{channelId}:unread:inflight  Hash  플러셔가 점유한 증분 스냅샷 (DB 반영 완료 시 삭제)
+ *                                                   "@claimed" → 최초 점유 시각(epoch ms), "@token" → 현재 점유 토큰
+ *   chat:unread:dirty                         ZSet  반영 대기 채널 (score = 최초 적재 시각)
+ *   chat:unread:inflight                      ZSet  점유 중인 채널 (score = 점유 시각)
+ *   chat:channel:{channelId}:unread:delta:applied:{messageId}  String  메시지 적재 표시 (릴레이 재시도 시 중복 증분 방지, 1시간)
+ *
+ * 장애 복구:
+ *   점유 후 DB 반영 전에 인스턴스가 죽으면 inflight 스냅샷이 남는다.
+ *   점유 시각이 timeout 을 넘긴 채널은 dirty 로 되돌려 스냅샷을 다시 반영한다 (at-least-once).
+ *   다시 점유할 때 점유 시각은 최초 점유 시각을 그대로 쓴다 — 첫 점유 이후 읽음 처리한 사용자에게
+ *   이전 증분이 0 리셋 위로 다시 더해지지 않도록.
+ *   점유마다 새 토큰을 발급하고 acknowledge 는 토큰이 일치할 때만 스냅샷을 지운다 — 회수된 뒤 늦게 끝난
+ *   이전 점유자가 새 점유자의 스냅샷(또는 그 뒤의 새 스냅샷)을 지우지 못한다.
+ *
+ * 읽음 처리:
+ *   discardUser 로 해당 사용자의 미반영 증분을 버린다 — 읽기 이전 메시지 증분이 0 리셋 이후에 더해지지 않도록.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadWriteBehindBuffer {
+
+    private static final String DELTA_KEY_TEMPLATE    = "chat:channel:%s:unread:delta";
+    private static final String INFLIGHT_KEY_TEMPLATE = "chat:channel:%s:unread:inflight";
+    private static final String APPLIED_KEY_TEMPLATE  = "chat:channel:%s:unread:delta:applied:%s";
+    private static final String DIRTY_KEY    = "chat:unread:dirty";
+    private static final String INFLIGHT_KEY = "chat:unread:inflight";
+    /** 사용자 ID(UUID)와 충돌하지 않는 예약 필드 */
+    private static final String ACTIVITY_FIELD = "@at";
+    private static final String CLAIMED_FIELD  = "@claimed";
+    private static final String TOKEN_FIELD    = "@token";
+    /** 메시지별 적재 표시 TTL — Outbox 릴레이 재시도(임대 만료 후)보다 충분히 길게 */
+    private static final long APPLIED_TTL_SECONDS = 60 * 60L;
+
+    /**
+     * 메시지 1건 증분 적재 (원자적)
+     * KEYS: delta hash, dirty zset, applied 표시 / ARGV: channelId, activityMillis, nowMillis, appliedTtlSeconds, memberId...
+     * - applied 표시가 이미 있으면 (릴레이 재시도) 아무것도 하지 않는다
+     * - '@at' 은 ACTIVITY_FIELD
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[3], '1', 'NX', 'EX', ARGV[4]) then
+                return 0
+            end
+            for i = 5, #ARGV do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], 1)
+            end
+            redis.call('HSET', KEYS[1], '@at', ARGV[2])
+            redis.call('ZADD', KEYS[2], 'NX', ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 채널 증분 점유 (원자적)
+     * KEYS: delta, inflight hash, dirty zset, inflight zset / ARGV: channelId, nowMillis, claimToken
+     * - 다른 인스턴스가 점유 중이면 건너뛴다 (dirty 유지)
+     * - 이전 점유 스냅샷이 남아 있으면 그것을 먼저 반영한다 (새 증분은 다음 회차)
+     *   이때 '@claimed'(CLAIMED_FIELD) 는 최초 점유 시각을 유지하고 '@token'(TOKEN_FIELD) 만 바꾼다
+     * - 남은 증분이 없을 때만 dirty 에서 제거한다
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZSCORE', KEYS[4], ARGV[1]) then
+                return {}
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZREM', KEYS[3], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return {}
+            end
+            redis.call('HSETNX', KEYS[2], '@claimed', ARGV[2])
+            redis.call('HSET', KEYS[2], '@token', ARGV[3])
+            redis.call('ZADD', KEYS[4], ARGV[2], ARGV[1])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    /**
+     * 점유 스냅샷 삭제 (토큰 일치 시에만, 원자적)
+     * KEYS: inflight hash, inflight zset / ARGV: channelId, claimToken
+     */
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], '@token') ~= ARGV[2] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 점유한 채널 증분 스냅샷
+     *
+     * @param deltas     userId → 미반영 미읽음 증분
+     * @param activityAt 스냅샷에 포함된 마지막 메시지 시각 (없으면 null)
+     * @param claimedAt  최초 점유 시각 (회수 후 재점유해도 유지) — 이후 읽음 처리한 사용자는 증분을 건너뛴다
+     * @param claimToken 이번 점유의 토큰 — acknowledge 시 일치해야 스냅샷이 삭제된다
+     */
+    public record Snapshot(String channelId, Map<String, Integer> deltas, Instant activityAt, Instant claimedAt,
+                           String claimToken) {}
+
+    // ─────────────────────────────────────────────
+    // Write Path (Outbox 릴레이)
+    // ─────────────────────────────────────────────
+
+    /**
+     * 메시지 발송 증분 적재: 발신자를 제외한 멤버 +1, 마지막 활동 시각 기록, 채널 dirty 표시
+     * Lua 스크립트 단일 왕복. 같은 메시지는 한 번만 적재한다 (릴레이 재시도 시 중복 증분 방지).
+     *
+     * @return 적재 성공 여부 — 이미 적재된 메시지도 true (false 면 호출자가 DB 직접 갱신으로 대체)
+     */
+    public boolean record(String channelId, String messageId, String senderId, List<String> memberIds,
+                          Instant activityAt) {
+        if (memberIds == null || memberIds.isEmpty()) return true;
+
+        long activityMillis = (activityAt != null ? activityAt : Instant.now()).toEpochMilli();
+        List<String> args = new ArrayList<>(memberIds.size() + 4);
+        args.add(channelId);
+        args.add(Long.toString(activityMillis));
+        args.add(Long.toString(System.currentTimeMillis()));
+        args.add(Long.toString(APPLIED_TTL_SECONDS));
+        for (String memberId : memberIds) {
+            if (!memberId.equals(senderId)) {
+                args.add(memberId);
+            }
+        }
+        try {
+            redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(deltaKey(channelId), DIRTY_KEY, String.format(APPLIED_KEY_TEMPLATE, channelId, messageId)),
+                    args.toArray());
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to buffer unread delta (falling back to DB): channelId={}", channelId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 읽음 처리 시: 해당 사용자의 미반영 증분 폐기
+     */
+    public void discardUser(String channelId, String userId) {
+        try {
+            redisTemplate.opsForHash().delete(deltaKey(channelId), (Object) userId);
+        } catch (Exception e) {
+            log.warn("Failed to discard unread delta: channelId={}, userId={}", channelId, userId, e);
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Flush Path (플러셔)
+    // ─────────────────────────────────────────────
+
+    /**
+     * 반영 대기 채널 조회 (오래 기다린 채널 우선)
+     */
+    public Set<String> findDirtyChannels(int limit) {
+        Set<String> channels = redisTemplate.opsForZSet().range(DIRTY_KEY, 0, limit - 1L);
+        return channels != null ? channels : Set.of();
+    }
+
+    /**
+     * 채널 증분 점유 — 반영할 증분이 없으면 empty
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Snapshot> claim(String channelId) {
+        Instant now = Instant.now();
+        String token = UUID.randomUUID().toString();
+        List<Object> flat = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(deltaKey(channelId), inflightKey(channelId), DIRTY_KEY, INFLIGHT_KEY),
+                channelId, Long.toString(now.toEpochMilli()), token);
+        if (flat == null || flat.isEmpty()) return Optional.empty();
+
+        Map<String, Integer> deltas = new HashMap<>();
+        Instant activityAt = null;
+        Instant claimedAt = now;
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            String field = flat.get(i).toString();
+            String value = flat.get(i + 1).toString();
+            switch (field) {
+                case ACTIVITY_FIELD -> activityAt = Instant.ofEpochMilli(Long.parseLong(value));
+                case CLAIMED_FIELD -> claimedAt = Instant.ofEpochMilli(Long.parseLong(value));
+                case TOKEN_FIELD -> { }
+                default -> deltas.put(field, Integer.parseInt(value));
+            }
+        }
+        return Optional.of(new Snapshot(channelId, deltas, activityAt, claimedAt, token));
+    }
+
+    /**
+     * DB 반영 완료 — 점유 토큰이 일치할 때만 스냅샷 삭제
+     *
+     * @return false 면 점유가 회수되어 다른 플러셔가 다시 점유한 상태 (스냅샷은 그쪽이 처리)
+     */
+    public boolean acknowledge(String channelId, String claimToken) {
+        Long removed = redisTemplate.execute(ACKNOWLEDGE_SCRIPT,
+                List.of(inflightKey(channelId), INFLIGHT_KEY), channelId, claimToken);
+        return removed != null && removed == 1L;
+    }
+
+    /**
+     * 점유 후 timeout 이 지나도록 반영되지 않은 채널을 dirty 로 되돌린다 (인스턴스 장애 복구)
+     *
+     * @return 되돌린 채널 수
+     */
+    public int requeueStale(Duration timeout) {
+        long threshold = System.currentTimeMillis() - timeout.toMillis();
+        Set<String> stale = redisTemplate.opsForZSet().rangeByScore(INFLIGHT_KEY, Double.NEGATIVE_INFINITY, threshold);
+        if (stale == null || stale.isEmpty()) return 0;
+
+        for (String channelId : stale) {
+            redisTemplate.opsForZSet().addIfAbsent(DIRTY_KEY, channelId, threshold);
+            redisTemplate.opsForZSet().remove(INFLIGHT_KEY, channelId);
+        }
+        log.warn("Requeued stale unread flush snapshots: channels={}", stale.size());
+        return stale.size();
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+
+    private String deltaKey(String channelId) {
+        return String.format(DELTA_KEY_TEMPLATE, channelId);
+    }
+
+    private String inflightKey(String channelId) {
+        return String.format(INFLIGHT_KEY_TEMPLATE, channelId);
+    }
+}
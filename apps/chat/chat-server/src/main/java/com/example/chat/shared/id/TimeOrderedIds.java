@@ -0,0 +1,44 @@
+package com.example.chat.shared.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 정렬 UUID (RFC 9562 UUIDv7) 생성기.
+ * <p>
+ * 상위 48bit 에 epoch millis 를 두어 생성 순서대로 B-tree 오른쪽 끝에 삽입되도록 한다
+ * (랜덤 UUIDv4 대비 PK 인덱스 페이지 분할 / WAL 감소).
+ * 같은 millis 안에서는 rand_a 12bit 를 카운터로 사용해 프로세스 내 단조 증가를 보장하고,
+ * 카운터가 넘치거나 시계가 뒤로 가면 논리 시각을 1ms 앞당겨 순서를 유지한다.
+ * </p>
+ * 소문자 16진 문자열 표현은 사전순 = 시간순이므로 기존 VARCHAR(36) 컬럼을 그대로 사용한다.
+ */
+public final class TimeOrderedIds {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    /** (millis << 12) | sequence — 마지막으로 발급한 논리 시각 */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedIds() {
+    }
+
+    /**
+     * 새 UUIDv7 문자열 발급
+     */
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    static UUID nextUuid() {
+        long now = System.currentTimeMillis();
+        long state = LAST.updateAndGet(prev -> Math.max(prev + 1, now << SEQUENCE_BITS));
+
+        long millis = state >>> SEQUENCE_BITS;
+        long sequence = state & ((1L << SEQUENCE_BITS) - 1);
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.chat.shared.query;
+
+/**
+ * SQL LIKE / ILIKE 패턴 생성기.
+ * <p>
+ * 사용자 입력의 LIKE 메타 문자(\, %, _)를 리터럴로 이스케이프한다 (PostgreSQL 기본 ESCAPE '\').
+ * SQL 에서 CONCAT 으로 감싸지 않고 완성된 패턴을 바인딩해야 트라이그램 인덱스가 쓰인다.
+ * </p>
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    /**
+     * 메타 문자를 이스케이프한 리터럴
+     */
+    public static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        appendEscaped(escaped, value);
+        return escaped.toString();
+    }
+
+    /**
+     * 부분 일치 패턴 — '%' + 이스케이프한 값 + '%'
+     */
+    public static String contains(String value) {
+        StringBuilder pattern = new StringBuilder(value.length() + 10).append('%');
+        appendEscaped(pattern, value);
+        return pattern.append('%').toString();
+    }
+
+    private static void appendEscaped(StringBuilder target, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                target.append('\\');
+            }
+            target.append(c);
+        }
+    }
+}
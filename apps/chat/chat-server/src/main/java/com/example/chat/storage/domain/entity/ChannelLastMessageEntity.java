@@ -0,0 +1,69 @@
+package com.example.chat.storage.domain.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채널 마지막 메시지 Read Model JPA Entity (channel_last_message).
+ * <p>
+ * 채널당 1행으로 마지막 메시지 ID / 미리보기 / 발신자 / 시각을 비정규화해 두어
+ * 채널 목록 조회가 chat_messages 를 읽지 않도록 한다.
+ * 쓰기는 Outbox 릴레이의 UPSERT({@code JpaChannelLastMessageRepository#upsertIfNewer}) 로만 수행하므로 읽기 전용으로 매핑한다.
+ * </p>
+ * 스키마는 V15 마이그레이션을 따른다.
+ */
+@Entity
+@Table(name = "channel_last_message")
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChannelLastMessageEntity {
+
+    /** 미리보기 최대 길이 (컬럼 길이와 동일) */
+    public static final int PREVIEW_MAX_LENGTH = 200;
+
+    @Id
+    @Column(name = "channel_id", length = 36, nullable = false)
+    private String channelId;
+
+    @Column(name = "last_message_id", length = 36, nullable = false)
+    private String messageId;
+
+    @Column(name = "last_message_sender_id", length = 36, nullable = false)
+    private String senderId;
+
+    @Column(name = "last_message_type", length = 20, nullable = false)
+    private String messageType;
+
+    @Column(name = "last_message_preview", length = PREVIEW_MAX_LENGTH)
+    private String preview;
+
+    @Column(name = "last_message_at", nullable = false)
+    private Instant messageAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * 미리보기 문자열을 컬럼 길이에 맞게 자른다 (surrogate pair 중간에서 자르지 않음).
+     */
+    public static String truncatePreview(String content) {
+        if (content == null || content.length() <= PREVIEW_MAX_LENGTH) {
+            return content;
+        }
+        int end = PREVIEW_MAX_LENGTH;
+        if (Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+        }
+        return content.substring(0, end);
+    }
+}
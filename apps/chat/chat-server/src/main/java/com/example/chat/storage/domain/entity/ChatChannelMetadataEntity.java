@@ -2,9 +2,13 @@ package com.example.chat.storage.domain.entity;
 
 import java.time.Instant;
 
+import com.example.chat.common.core.enums.ChannelType;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
@@ -18,12 +22,17 @@ import lombok.NoArgsConstructor;
  * 채팅방 메타데이터 JPA Entity.
  * createdAt / updatedAt 생명주기는 {@link BaseEntity} 에서 관리한다.
  * lastReadMessageId / lastReadAt 은 {@link LastReadPointer} 값 객체로 캡슐화한다.
+ * <p>
+ * 사용자별 채널 목록(inbox) Read Model 을 겸한다 — 멤버십마다 1행을 유지하고
+ * channelType / channelActive 를 비정규화해 두어 목록 조회가 채널·멤버 테이블 JOIN 없이
+ * (user_id, last_activity_at DESC, channel_id DESC) 인덱스만으로 페이징된다.
  */
 @Entity
 @Table(name = "chat_channel_metadata", indexes = {
         @Index(name = "idx_metadata_user_id", columnList = "user_id"),
         @Index(name = "idx_metadata_channel_id", columnList = "channel_id"),
         @Index(name = "idx_user_activity", columnList = "user_id, last_activity_at DESC"),
+        @Index(name = "idx_metadata_inbox", columnList = "user_id, last_activity_at DESC, channel_id DESC"),
         @Index(name = "idx_user_favorite", columnList = "user_id, favorite"),
         @Index(name = "idx_user_pinned", columnList = "user_id, pinned")
 }, uniqueConstraints = {
@@ -43,6 +52,13 @@ public class ChatChannelMetadataEntity extends BaseEntity {
     @Column(name = "user_id", length = 36, nullable = false)
     private String userId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel_type", length = 20)
+    private ChannelType channelType;
+
+    @Column(name = "channel_active", nullable = false)
+    private boolean channelActive = true;
+
     @Column(name = "notification_enabled", nullable = false)
     private boolean notificationEnabled = true;
 
@@ -70,10 +86,12 @@ public class ChatChannelMetadataEntity extends BaseEntity {
         }
     }
 
-    private ChatChannelMetadataEntity(String id, String channelId, String userId) {
+    private ChatChannelMetadataEntity(String id, String channelId, String userId, ChannelType channelType) {
         this.id = id;
         this.channelId = channelId;
         this.userId = userId;
+        this.channelType = channelType;
+        this.channelActive = true;
         this.notificationEnabled = true;
         this.favorite = false;
         this.pinned = false;
@@ -85,7 +103,14 @@ public class ChatChannelMetadataEntity extends BaseEntity {
      * 새 채널 메타데이터 엔티티를 생성하는 팩토리 메서드.
      */
     public static ChatChannelMetadataEntity create(String id, String channelId, String userId) {
-        return new ChatChannelMetadataEntity(id, channelId, userId);
+        return new ChatChannelMetadataEntity(id, channelId, userId, null);
+    }
+
+    /**
+     * 채널 타입을 포함한 메타데이터 생성 (멤버 합류 시 inbox 행 생성용).
+     */
+    public static ChatChannelMetadataEntity create(String id, String channelId, String userId, ChannelType channelType) {
+        return new ChatChannelMetadataEntity(id, channelId, userId, channelType);
     }
 
     // =============================================
@@ -100,6 +125,10 @@ public class ChatChannelMetadataEntity extends BaseEntity {
         return lastRead != null ? lastRead.getLastReadAt() : null;
     }
 
+    public Instant getLastReadMessageAt() {
+        return lastRead != null ? lastRead.getLastReadMessageAt() : null;
+    }
+
     // =============================================
     // 비즈니스 메서드
     // =============================================
@@ -121,6 +150,14 @@ public class ChatChannelMetadataEntity extends BaseEntity {
         this.unreadCount = 0;
     }
 
+    /**
+     * 읽음 처리 + 읽음 커서 전진 (messageAt: 읽은 메시지의 생성 시각).
+     */
+    public void markAsRead(String messageId, Instant messageAt) {
+        this.lastRead = lastRead.advance(messageId, messageAt);
+        this.unreadCount = 0;
+    }
+
     public void incrementUnread() {
         this.unreadCount++;
     }
@@ -2,6 +2,8 @@ package com.example.chat.storage.domain.entity;
 
 import java.time.Instant;
 
+import org.springframework.data.domain.Persistable;
+
 import com.example.chat.common.core.enums.MessageStatus;
 import com.example.chat.common.core.enums.MessageType;
 
@@ -12,8 +14,11 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -28,15 +33,25 @@ import lombok.NoArgsConstructor;
  * 이 결정은 jpa-storage-refactor_plan.md FR-1a 및 R-4 에 문서화되어 있다.
  * </p>
  * 메시지 콘텐츠 필드(content_*)는 {@link MessageContent} 값 객체로 캡슐화한다.
+ * <p>
+ * id 를 애플리케이션에서 할당하므로 {@link Persistable} 로 신규 여부를 직접 알린다.
+ * 그렇지 않으면 save() 가 merge 로 처리되어 INSERT 전에 SELECT 가 한 번 더 발생한다.
+ * </p>
+ * <p>
+ * 테이블은 created_at 월 단위 Range 파티션이다 (V14). DB PK 는 (id, created_at) 이지만
+ * id 가 UUIDv7 로 전역 유일하므로 JPA 식별자는 id 단독으로 유지한다.
+ * 조회 쿼리는 가능한 한 created_at 범위 조건을 포함해야 파티션 pruning 이 동작한다.
+ * </p>
  */
 @Entity
 @Table(name = "chat_messages", indexes = {
-        @Index(name = "idx_chat_message_channel_created", columnList = "channel_id, created_at"),
-        @Index(name = "idx_chat_message_sender", columnList = "sender_id")
+        @Index(name = "idx_chat_message_channel_created_id", columnList = "channel_id, created_at, id"),
+        @Index(name = "idx_chat_message_sender", columnList = "sender_id"),
+        @Index(name = "idx_chat_message_channel_seq", columnList = "channel_id, channel_seq")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ChatMessageEntity {
+public class ChatMessageEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", length = 36, nullable = false)
@@ -72,13 +87,23 @@ public class ChatMessageEntity {
     private Instant readAt;
 
     /**
-     * 이 메시지를 아직 읽지 않은 멤버 수.
-     * 발송 시 memberCount-1 로 초기화, 읽을 때마다 -1 (Kafka 비동기).
-     * KakaoTalk '1' 표시에 사용되는 필드.
+     * 발송 시점의 미읽음 멤버 수 (memberCount-1). 이후 갱신하지 않는다.
+     * KakaoTalk '1' 현재 값은 조회 시 멤버 읽음 커서로 계산한다 ({@code ChannelReadCursorCache}).
      */
     @Column(name = "unread_count", nullable = false)
     private int unreadCount = 0;
 
+    /**
+     * 채널 내 메시지 순번 (V18). 발송 트랜잭션에서 channel_message_seq 로 할당하며 빈 번호가 없다.
+     * 재접속 시 클라이언트는 마지막으로 받은 순번 이후만 요청한다.
+     */
+    @Column(name = "channel_seq")
+    private Long channelSeq;
+
+    /** create() 로 생성된 영속화 전 인스턴스 여부 (조회/저장 후 false) */
+    @Transient
+    private boolean isNew = false;
+
     @PrePersist
     protected void prePersist() {
         if (createdAt == null) {
@@ -86,6 +111,17 @@ public class ChatMessageEntity {
         }
     }
 
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     private ChatMessageEntity(String id, String channelId, String senderId,
                                MessageType messageType, MessageContent content) {
         this.id = id;
@@ -95,6 +131,7 @@ public class ChatMessageEntity {
         this.messageStatus = MessageStatus.PENDING;
         this.content = content;
         this.unreadCount = 0;
+        this.isNew = true;
     }
 
     /**
@@ -171,10 +208,11 @@ public class ChatMessageEntity {
     }
 
     /**
-     * 읽음 멤버 수 감소 (Kafka Consumer 호출).
-     * MAX(0, unreadCount-1) 로 하한 보장.
+     * 채널 내 메시지 순번 설정 (발송 시 save 직전 호출).
+     *
+     * @param channelSeq JpaMessageRepository#nextChannelSeq 로 할당한 순번
      */
-    public void decrementUnread() {
-        this.unreadCount = Math.max(0, this.unreadCount - 1);
+    public void assignChannelSeq(long channelSeq) {
+        this.channelSeq = channelSeq;
     }
 }
@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
  * 채널 내 사용자의 읽기 진행 마커 값 객체.
  * chat_channel_metadata 테이블의 last_read_* 컬럼 그룹을 캡슐화한다.
  * 컬럼 이름은 기존 DDL 을 그대로 유지한다.
+ * <p>
+ * lastReadMessageAt 은 읽은 메시지의 생성 시각(읽음 커서)으로, 메시지별 미읽음 수 계산의 기준이다.
+ * 뒤로 이동하지 않는다 — 늦게 도착한 과거 메시지 읽음 이벤트가 커서를 되돌리지 않도록.
  */
 @Embeddable
 @Getter
@@ -24,29 +27,45 @@ public class LastReadPointer {
     @Column(name = "last_read_at")
     private Instant lastReadAt;
 
-    private LastReadPointer(String lastReadMessageId, Instant lastReadAt) {
+    @Column(name = "last_read_message_at")
+    private Instant lastReadMessageAt;
+
+    private LastReadPointer(String lastReadMessageId, Instant lastReadAt, Instant lastReadMessageAt) {
         this.lastReadMessageId = lastReadMessageId;
         this.lastReadAt = lastReadAt;
+        this.lastReadMessageAt = lastReadMessageAt;
     }
 
     /**
      * 아직 읽은 기록이 없는 빈 포인터를 생성한다.
      */
     public static LastReadPointer empty() {
-        return new LastReadPointer(null, null);
+        return new LastReadPointer(null, null, null);
     }
 
     /**
      * 특정 메시지를 읽은 시점의 포인터를 생성한다.
      */
     public static LastReadPointer of(String messageId, Instant readAt) {
-        return new LastReadPointer(messageId, readAt);
+        return new LastReadPointer(messageId, readAt, null);
     }
 
     /**
      * 주어진 메시지로 읽기 마커를 갱신한 새 인스턴스를 반환한다.
      */
     public LastReadPointer advance(String messageId) {
-        return new LastReadPointer(messageId, Instant.now());
+        return new LastReadPointer(messageId, Instant.now(), lastReadMessageAt);
+    }
+
+    /**
+     * 읽은 메시지의 생성 시각과 함께 읽기 마커를 갱신한다.
+     * 현재 커서보다 이전 메시지면 커서(메시지 ID / 생성 시각)는 유지하고 읽은 시각만 갱신한다.
+     */
+    public LastReadPointer advance(String messageId, Instant messageAt) {
+        if (messageAt == null || (lastReadMessageAt != null && messageAt.isBefore(lastReadMessageAt))) {
+            return new LastReadPointer(lastReadMessageId != null ? lastReadMessageId : messageId,
+                    Instant.now(), lastReadMessageAt);
+        }
+        return new LastReadPointer(messageId, Instant.now(), messageAt);
     }
 }
@@ -0,0 +1,48 @@
+package com.example.chat.storage.domain.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 검색 Read Model JPA Entity (chat_message_search).
+ * <p>
+ * 텍스트 메시지 1건당 1행. 검색용 tsvector(content_tsv) 는 DB 생성 컬럼이라 매핑하지 않는다.
+ * 쓰기는 Outbox 이벤트를 읽는 {@code MessageSearchIndexer} 의 INSERT 로만 수행하므로 읽기 전용으로 매핑한다.
+ * </p>
+ * 스키마는 V19 마이그레이션을 따른다.
+ */
+@Entity
+@Table(name = "chat_message_search")
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageSearchEntity {
+
+    @Id
+    @Column(name = "message_id", length = 36, nullable = false)
+    private String messageId;
+
+    @Column(name = "channel_id", length = 36, nullable = false)
+    private String channelId;
+
+    @Column(name = "channel_seq")
+    private Long channelSeq;
+
+    @Column(name = "sender_id", length = 36, nullable = false)
+    private String senderId;
+
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Column(name = "message_at", nullable = false)
+    private Instant messageAt;
+}
@@ -0,0 +1,87 @@
+package com.example.chat.storage.domain.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transactional Outbox 이벤트 JPA Entity (ms_outbox_event).
+ * <p>
+ * 비즈니스 트랜잭션 안에서 부수효과(Redis Pub/Sub, Kafka, 캐시 갱신)를 이 테이블에 기록하고,
+ * 커밋 이후 릴레이가 배치로 읽어 실제 발행을 수행한다.
+ * aggregate_id 는 순서 보장 단위(채널 ID)이며, 릴레이 파티셔닝 키로도 사용된다.
+ * search_indexed 는 메시지 검색 Read Model 적재 여부로, 릴레이(processed)와 별도로 진행된다.
+ * </p>
+ * 스키마는 V5(생성) / V6(payload JSONB) / V21(search_indexed) 마이그레이션을 따른다.
+ * 시퀀스가 INCREMENT BY 1 이므로 allocationSize 도 1 로 맞춘다.
+ */
+@Entity
+@Table(name = "ms_outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ms_outbox_event_id_gen")
+    @SequenceGenerator(name = "ms_outbox_event_id_gen", sequenceName = "ms_outbox_event_id_seq", allocationSize = 1)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false, length = 128)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "processed", nullable = false)
+    private boolean processed = false;
+
+    @Column(name = "search_indexed", nullable = false)
+    private boolean searchIndexed = false;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void prePersist() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
+    private OutboxEventEntity(String aggregateId, String eventType, String payload) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.processed = false;
+        this.searchIndexed = false;
+    }
+
+    /**
+     * 새 Outbox 이벤트를 생성하는 팩토리 메서드.
+     *
+     * @param aggregateId 순서 보장 단위 (채널 ID)
+     * @param eventType   이벤트 타입 (릴레이 디스패치 키)
+     * @param payload     직렬화된 JSON 페이로드
+     */
+    public static OutboxEventEntity create(String aggregateId, String eventType, String payload) {
+        return new OutboxEventEntity(aggregateId, eventType, payload);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.chat.storage.domain.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.chat.storage.domain.entity.ChannelLastMessageEntity;
+
+/**
+ * 채널 마지막 메시지 Read Model JPA Repository
+ */
+@Repository
+public interface JpaChannelLastMessageRepository extends JpaRepository<ChannelLastMessageEntity, String> {
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: INSERT ... ON CONFLICT DO UPDATE ... WHERE (PostgreSQL UPSERT) 는 JPQL 로 표현 불가.
+     * 릴레이 재시도나 파티션 간 처리 순서 역전으로 과거 메시지가 늦게 도착해도
+     * (last_message_at, last_message_id) 가 더 최신일 때만 덮어써 포인터가 뒤로 가지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO channel_last_message (channel_id, last_message_id, last_message_sender_id, " +
+            "last_message_type, last_message_preview, last_message_at, updated_at) " +
+            "VALUES (:channelId, :messageId, :senderId, :messageType, :preview, :messageAt, NOW()) " +
+            "ON CONFLICT (channel_id) DO UPDATE SET " +
+            "last_message_id = EXCLUDED.last_message_id, " +
+            "last_message_sender_id = EXCLUDED.last_message_sender_id, " +
+            "last_message_type = EXCLUDED.last_message_type, " +
+            "last_message_preview = EXCLUDED.last_message_preview, " +
+            "last_message_at = EXCLUDED.last_message_at, " +
+            "updated_at = NOW() " +
+            "WHERE (channel_last_message.last_message_at, channel_last_message.last_message_id) " +
+            "    < (EXCLUDED.last_message_at, EXCLUDED.last_message_id)",
+            nativeQuery = true)
+    int upsertIfNewer(@Param("channelId") String channelId,
+                      @Param("messageId") String messageId,
+                      @Param("senderId") String senderId,
+                      @Param("messageType") String messageType,
+                      @Param("preview") String preview,
+                      @Param("messageAt") Instant messageAt);
+}
@@ -1,8 +1,11 @@
 package com.example.chat.storage.domain.repository;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.chat.storage.domain.entity.ChatChannelMemberEntity;
@@ -18,6 +21,24 @@ public interface JpaChannelMemberRepository extends JpaRepository<ChatChannelMem
      */
     List<ChatChannelMemberEntity> findByChannelId(String channelId);
 
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 스칼라(userId) 프로젝션 — 발송 경로 캐시 적재 시 엔티티 전체 로딩 없이 ID 만 조회.
+     */
+    @Query("SELECT m.userId FROM ChatChannelMemberEntity m WHERE m.channelId = :channelId")
+    List<String> findUserIdsByChannelId(@Param("channelId") String channelId);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 멤버 × 메타데이터 LEFT JOIN 프로젝션 — 메시지별 미읽음 수 계산용 읽음 커서 적재.
+     * 메타데이터 행이 없거나 읽은 적이 없는 멤버는 lastReadMessageAt 이 null.
+     */
+    @Query("SELECT m.userId AS userId, m.joinedAt AS joinedAt, md.lastRead.lastReadMessageAt AS lastReadMessageAt " +
+            "FROM ChatChannelMemberEntity m " +
+            "LEFT JOIN ChatChannelMetadataEntity md ON md.channelId = m.channelId AND md.userId = m.userId " +
+            "WHERE m.channelId = :channelId")
+    List<MemberReadCursor> findReadCursorsByChannelId(@Param("channelId") String channelId);
+
     /**
      * 사용자 ID로 소속 채널 ID 목록 조회
      */
@@ -47,4 +68,13 @@ public interface JpaChannelMemberRepository extends JpaRepository<ChatChannelMem
      * 채널 멤버 수 조회 (unreadCount 초기값 계산용)
      */
     long countByChannelId(String channelId);
+
+    /**
+     * 멤버 읽음 커서 프로젝션
+     */
+    interface MemberReadCursor {
+        String getUserId();
+        Instant getJoinedAt();
+        Instant getLastReadMessageAt();
+    }
 }
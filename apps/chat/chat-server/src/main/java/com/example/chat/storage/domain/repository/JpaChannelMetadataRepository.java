@@ -1,14 +1,19 @@
 package com.example.chat.storage.domain.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.chat.common.core.enums.ChannelType;
 import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
 
 /**
@@ -48,6 +53,163 @@ public interface JpaChannelMetadataRepository extends JpaRepository<ChatChannelM
     List<ChatChannelMetadataEntity> findByUserIdAndUnreadCountGreaterThanOrderByLastActivityAtDesc(
             String userId, int unreadCount);
 
+    // ─────────────────────────────────────────────
+    // Inbox 커서 페이징
+    //   첫 페이지 / 커서 이후 × 채널 타입 필터 유무 × 키워드 유무를 별도 쿼리로 나눈다.
+    //   (:param IS NULL OR ...) 형태의 catch-all 술어는 플래너가 일반 계획을 재사용할 때 커서 범위 조건을
+    //   인덱스 조건으로 쓰지 못하고, channel_type 에 CAST 를 걸면 비교도 행마다 평가되기 때문이다.
+    //   favorite / pinned / unread 플래그는 inbox 인덱스 범위 스캔 위의 잔여 필터라 하나로 둔다.
+    // ─────────────────────────────────────────────
+
+    String INBOX_SELECT = "SELECT m FROM ChatChannelMetadataEntity m ";
+    String INBOX_KEYWORD_JOIN = "JOIN ChatChannelEntity c ON c.id = m.channelId ";
+    String INBOX_FILTERS = "WHERE m.userId = :userId " +
+            "AND m.channelActive = true " +
+            "AND (:onlyFavorites = false OR m.favorite = true) " +
+            "AND (:onlyPinned = false OR m.pinned = true) " +
+            "AND (:onlyUnread = false OR m.unreadCount > 0) ";
+    String INBOX_TYPE = "AND m.channelType = :channelType ";
+    String INBOX_KEYWORD = "AND LOWER(c.name) LIKE :keywordPattern ESCAPE '\\' ";
+    String INBOX_AFTER_CURSOR = "AND (m.lastActivityAt < :cursorActivityAt " +
+            "OR (m.lastActivityAt = :cursorActivityAt AND m.channelId < :cursorChannelId)) ";
+    String INBOX_ORDER = "ORDER BY m.lastActivityAt DESC, m.channelId DESC";
+
+    /**
+     * 사용자 inbox 첫 페이지 — lastActivityAt DESC, channelId DESC.
+     * <p>
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 조건부 플래그 술어(onlyFavorites, onlyPinned, onlyUnread)는 named method 로 표현할 수 없다.
+     * 채널·멤버 테이블 JOIN 없이 idx_metadata_inbox 인덱스 범위 스캔만으로 처리된다.
+     *
+     * @param pageable size 지정 전용 (sort 는 쿼리 내 ORDER BY 고정)
+     */
+    @Query(INBOX_SELECT + INBOX_FILTERS + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxFirstPage(
+            @Param("userId") String userId,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: {@link #findInboxFirstPage} + 채널 타입 필터.
+     */
+    @Query(INBOX_SELECT + INBOX_FILTERS + INBOX_TYPE + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxFirstPageByType(
+            @Param("userId") String userId,
+            @Param("channelType") ChannelType channelType,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            Pageable pageable);
+
+    /**
+     * 커서 이후 inbox 페이지.
+     * <p>
+     * [APPROVED @Query EXCEPTION]
+     * Reason: {@link #findInboxFirstPage} + (lastActivityAt, channelId) 복합 keyset 커서는 named method 로 표현할 수 없다.
+     *
+     * @param cursorActivityAt 커서 — 이 시각 이전 활동 채널만 반환
+     * @param cursorChannelId  커서 동률 비교용 채널 ID (빈 문자열이면 시각만 비교)
+     */
+    @Query(INBOX_SELECT + INBOX_FILTERS + INBOX_AFTER_CURSOR + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxPageAfter(
+            @Param("userId") String userId,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            @Param("cursorActivityAt") Instant cursorActivityAt,
+            @Param("cursorChannelId") String cursorChannelId,
+            Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: {@link #findInboxPageAfter} + 채널 타입 필터.
+     */
+    @Query(INBOX_SELECT + INBOX_FILTERS + INBOX_TYPE + INBOX_AFTER_CURSOR + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxPageAfterByType(
+            @Param("userId") String userId,
+            @Param("channelType") ChannelType channelType,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            @Param("cursorActivityAt") Instant cursorActivityAt,
+            @Param("cursorChannelId") String cursorChannelId,
+            Pageable pageable);
+
+    /**
+     * 채널명 키워드 검색 inbox 첫 페이지.
+     * <p>
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 채널명은 chat_channels 에만 있으므로 키워드 검색 시에만 PK JOIN 이 필요하다.
+     * ChatChannelMetadataEntity 와 ChatChannelEntity 간 JPA 연관관계가 없어 named method 로 표현할 수 없다.
+     * keywordPattern 은 호출자가 소문자화·LIKE 이스케이프한 '%키워드%' 이며,
+     * lower(name) 트라이그램 인덱스(idx_channel_name_trgm, V20)로 매칭 채널을 먼저 찾을 수 있다.
+     */
+    @Query(INBOX_SELECT + INBOX_KEYWORD_JOIN + INBOX_FILTERS + INBOX_KEYWORD + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxFirstPageByKeyword(
+            @Param("userId") String userId,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            @Param("keywordPattern") String keywordPattern,
+            Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: {@link #findInboxFirstPageByKeyword} + 채널 타입 필터.
+     */
+    @Query(INBOX_SELECT + INBOX_KEYWORD_JOIN + INBOX_FILTERS + INBOX_TYPE + INBOX_KEYWORD + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxFirstPageByTypeAndKeyword(
+            @Param("userId") String userId,
+            @Param("channelType") ChannelType channelType,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            @Param("keywordPattern") String keywordPattern,
+            Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: {@link #findInboxFirstPageByKeyword} + (lastActivityAt, channelId) 복합 keyset 커서.
+     */
+    @Query(INBOX_SELECT + INBOX_KEYWORD_JOIN + INBOX_FILTERS + INBOX_KEYWORD + INBOX_AFTER_CURSOR + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxPageAfterByKeyword(
+            @Param("userId") String userId,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            @Param("keywordPattern") String keywordPattern,
+            @Param("cursorActivityAt") Instant cursorActivityAt,
+            @Param("cursorChannelId") String cursorChannelId,
+            Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: {@link #findInboxPageAfterByKeyword} + 채널 타입 필터.
+     */
+    @Query(INBOX_SELECT + INBOX_KEYWORD_JOIN + INBOX_FILTERS + INBOX_TYPE + INBOX_KEYWORD + INBOX_AFTER_CURSOR
+            + INBOX_ORDER)
+    List<ChatChannelMetadataEntity> findInboxPageAfterByTypeAndKeyword(
+            @Param("userId") String userId,
+            @Param("channelType") ChannelType channelType,
+            @Param("onlyFavorites") boolean onlyFavorites,
+            @Param("onlyPinned") boolean onlyPinned,
+            @Param("onlyUnread") boolean onlyUnread,
+            @Param("keywordPattern") String keywordPattern,
+            @Param("cursorActivityAt") Instant cursorActivityAt,
+            @Param("cursorChannelId") String cursorChannelId,
+            Pageable pageable);
+
+    /**
+     * 채널 비활성화 시 모든 멤버의 inbox 행 숨김 (단일 UPDATE)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatChannelMetadataEntity m SET m.channelActive = false WHERE m.channelId = :channelId")
+    int deactivateChannel(@Param("channelId") String channelId);
+
     /**
      * 채널의 모든 메타데이터 삭제
      */
@@ -58,6 +220,21 @@ public interface JpaChannelMetadataRepository extends JpaRepository<ChatChannelM
      */
     void deleteByChannelIdAndUserId(String channelId, String userId);
 
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 벌크 DELETE — 파생 deleteBy 는 엔티티를 조회해 행마다 DELETE 하므로
+     * member-left 배치 소비 시 채널당 DELETE 1회로 처리하기 위해 JPQL 로 작성.
+     * 이벤트 소비 전에 다시 입장한 사용자(현재 멤버)의 행은 남긴다.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChatChannelMetadataEntity m " +
+            "WHERE m.channelId = :channelId AND m.userId IN :userIds " +
+            "AND m.userId NOT IN (SELECT mb.userId FROM ChatChannelMemberEntity mb WHERE mb.channelId = :channelId)")
+    int deleteByChannelIdAndUserIdIn(
+            @Param("channelId") String channelId,
+            @Param("userIds") Collection<String> userIds);
+
     /**
      * 존재 여부 확인
      */
@@ -66,6 +243,7 @@ public interface JpaChannelMetadataRepository extends JpaRepository<ChatChannelM
     /**
      * 발신자를 제외한 모든 채널 멤버의 unreadCount 일괄 증가.
      * 단일 UPDATE로 N번 개별 호출을 대체 (쓰기 폭발 방지).
+     * 평시에는 Write-Behind 플러셔(applyUnreadDelta)가 대신하며, Redis 장애 시 대체 경로로만 사용한다.
      */
     @Modifying
     @Query("UPDATE ChatChannelMetadataEntity m "
@@ -83,4 +261,30 @@ public interface JpaChannelMetadataRepository extends JpaRepository<ChatChannelM
             + "WHERE m.channelId = :channelId AND m.userId = :userId")
     int updateLastActivity(@Param("channelId") String channelId,
                             @Param("userId") String userId);
+
+    /**
+     * Write-Behind 플러셔: 채널 1개에 누적된 (user → 증분) 을 단일 UPDATE 로 반영.
+     * <p>
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 사용자별로 다른 증분을 한 문장에 적용하려면 JSONB 파라미터 조회(->>)가 필요하며 JPQL 로 표현 불가.
+     * 스냅샷 점유 이후 읽음 처리한 사용자(last_read_at >= claimedAt)는 증분을 건너뛰어 0 리셋을 덮어쓰지 않는다.
+     * last_activity_at 은 뒤로 가지 않도록 GREATEST 로 갱신한다.
+     *
+     * @param deltas     {"userId": 증분, ...} JSON
+     * @param activityAt 스냅샷의 마지막 메시지 시각
+     * @param claimedAt  스냅샷 점유 시각
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE chat_channel_metadata m SET " +
+            "unread_count = CASE WHEN m.last_read_at IS NULL OR m.last_read_at < :claimedAt " +
+            "    THEN m.unread_count + COALESCE(CAST(CAST(:deltas AS jsonb) ->> m.user_id AS integer), 0) " +
+            "    ELSE m.unread_count END, " +
+            "last_activity_at = GREATEST(COALESCE(m.last_activity_at, :activityAt), :activityAt) " +
+            "WHERE m.channel_id = :channelId",
+            nativeQuery = true)
+    int applyUnreadDelta(@Param("channelId") String channelId,
+                         @Param("deltas") String deltas,
+                         @Param("activityAt") Instant activityAt,
+                         @Param("claimedAt") Instant claimedAt);
 }
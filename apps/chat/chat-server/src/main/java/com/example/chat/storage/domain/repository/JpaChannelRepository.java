@@ -14,8 +14,7 @@ import com.example.chat.storage.domain.entity.ChatChannelEntity;
 
 /**
  * 채널 JPA Repository.
- * favorite / pinned / unread / keyword 필터를 DB 레벨에서 처리하여
- * 메모리 필터 제거 및 커서 페이징 정확도 보장.
+ * 사용자별 채널 목록(inbox) 조회는 {@link JpaChannelMetadataRepository#findInboxFirstPage} 계열이 담당한다.
  */
 @Repository
 public interface JpaChannelRepository extends JpaRepository<ChatChannelEntity, String> {
@@ -30,6 +29,11 @@ public interface JpaChannelRepository extends JpaRepository<ChatChannelEntity, S
 	 */
 	List<ChatChannelEntity> findByChannelTypeAndActiveTrue(ChannelType channelType);
 
+	/**
+	 * 채널 ID keyset 순회 (배치용) — afterId 다음 채널부터 ID 오름차순
+	 */
+	List<ChatChannelEntity> findByIdGreaterThanOrderByIdAsc(String afterId, Pageable pageable);
+
 	/**
 	 * 특정 사용자가 멤버인 채널 목록을 DB 레벨 커서 페이징으로 조회.
 	 * channelType 필터 지원 (null 이면 전체).
@@ -60,49 +64,6 @@ public interface JpaChannelRepository extends JpaRepository<ChatChannelEntity, S
 			@Param("cursorCreatedAt") Instant cursorCreatedAt,
 			Pageable pageable);
 
-	/**
-	 * favorite/pinned/unread/keyword 를 DB 레벨에서 처리하는 풀 필터 커서 조회.
-	 * <p>
-	 * [APPROVED @Query EXCEPTION]
-	 * 세 aggregate root(ChatChannelEntity, ChatChannelMemberEntity,
-	 * ChatChannelMetadataEntity) 간에 JPA 연관관계가 없다. 조건부 다중 술어
-	 * (onlyFavorites, onlyPinned, onlyUnread, keyword)를 named method 로
-	 * 표현하면 조합 폭발이 발생하며, @EntityGraph 로도 처리할 수 없다.
-	 * 따라서 3-테이블 JOIN + 동적 WHERE 를 포함하는 JPQL @Query 가 유일한 수단이다.
-	 *
-	 * @param userId          조회할 사용자 ID
-	 * @param channelType     채널 타입 문자열 (null 이면 전체)
-	 * @param onlyFavorites   즐겨찾기만 필터
-	 * @param onlyPinned      고정만 필터
-	 * @param onlyUnread      미읽음만 필터
-	 * @param keyword         채널명 키워드 검색 (null 이면 전체)
-	 * @param cursorCreatedAt 커서 — 이 시각 이전에 생성된 채널만 반환 (null 이면 첫 페이지)
-	 * @param pageable        size 지정 전용 (sort 는 쿼리 내 ORDER BY 고정)
-	 */
-	@Query("""
-			SELECT c FROM ChatChannelEntity c
-			JOIN ChatChannelMemberEntity m ON m.channelId = c.id
-			LEFT JOIN ChatChannelMetadataEntity meta ON meta.channelId = c.id AND meta.userId = :userId
-			WHERE m.userId = :userId
-			AND c.active = true
-			AND (:channelType IS NULL OR CAST(c.channelType AS string) = :channelType)
-			AND (:onlyFavorites = false OR meta.favorite = true)
-			AND (:onlyPinned = false OR meta.pinned = true)
-			AND (:onlyUnread = false OR (meta.unreadCount IS NOT NULL AND meta.unreadCount > 0))
-			AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
-			AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt)
-			ORDER BY c.createdAt DESC
-			""")
-	List<ChatChannelEntity> findByMemberIdWithAllFilters(
-			@Param("userId") String userId,
-			@Param("channelType") String channelType,
-			@Param("onlyFavorites") boolean onlyFavorites,
-			@Param("onlyPinned") boolean onlyPinned,
-			@Param("onlyUnread") boolean onlyUnread,
-			@Param("keyword") String keyword,
-			@Param("cursorCreatedAt") Instant cursorCreatedAt,
-			Pageable pageable);
-
 	/**
 	 * 특정 사용자가 멤버인 채널 ID 목록 조회 (배치용).
 	 * <p>
@@ -1,6 +1,7 @@
 package com.example.chat.storage.domain.repository;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.chat.storage.domain.entity.ChatMessageEntity;
 
@@ -25,11 +27,106 @@ public interface JpaMessageRepository extends JpaRepository<ChatMessageEntity, S
             String channelId, Instant createdAt, Pageable pageable);
 
     /**
-     * Cursor 없이 첫 페이지 조회 (최신순)
+     * Cursor 없이 첫 페이지 조회 (최신순, 동일 시각은 id 역순)
      */
-    List<ChatMessageEntity> findByChannelIdOrderByCreatedAtDesc(
+    List<ChatMessageEntity> findByChannelIdOrderByCreatedAtDescIdDesc(
             String channelId, Pageable pageable);
 
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: (created_at, id) 복합 keyset 비교는 Spring Data named method 로 표현 불가.
+     * created_at <= :createdAt 를 중복 명시해 (channel_id, created_at, id) 인덱스 범위 스캔을 유도한다.
+     */
+    @Query("SELECT m FROM ChatMessageEntity m " +
+            "WHERE m.channelId = :channelId " +
+            "AND m.createdAt <= :createdAt " +
+            "AND (m.createdAt < :createdAt OR m.id < :messageId) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageEntity> findPageBeforeKeyset(
+            @Param("channelId") String channelId,
+            @Param("createdAt") Instant createdAt,
+            @Param("messageId") String messageId,
+            Pageable pageable);
+
+    /**
+     * 기존 형식(createdAt 단독) 커서 이후 메시지 조회 (오래된 순) — 재접속 catch-up
+     */
+    List<ChatMessageEntity> findByChannelIdAndCreatedAtAfterOrderByCreatedAtAscIdAsc(
+            String channelId, Instant createdAt, Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: (created_at, id) 복합 keyset 비교는 Spring Data named method 로 표현 불가.
+     * findPageBeforeKeyset 의 역방향 — 커서 이후 메시지를 오래된 순으로 조회 (재접속 catch-up).
+     */
+    @Query("SELECT m FROM ChatMessageEntity m " +
+            "WHERE m.channelId = :channelId " +
+            "AND m.createdAt >= :createdAt " +
+            "AND (m.createdAt > :createdAt OR m.id > :messageId) " +
+            "ORDER BY m.createdAt ASC, m.id ASC")
+    List<ChatMessageEntity> findPageAfterKeyset(
+            @Param("channelId") String channelId,
+            @Param("createdAt") Instant createdAt,
+            @Param("messageId") String messageId,
+            Pageable pageable);
+
+    /**
+     * 채널 순번 이후 메시지 조회 (오래된 순) — 재접속 catch-up ("seq N 이후")
+     */
+    List<ChatMessageEntity> findByChannelIdAndChannelSeqGreaterThanOrderByChannelSeqAsc(
+            String channelId, long channelSeq, Pageable pageable);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: UPDATE ... RETURNING + INSERT ... ON CONFLICT DO UPDATE (PostgreSQL UPSERT) 은 JPQL 로 표현 불가.
+     * 채널 행 잠금이 커밋까지 유지되어 같은 채널의 발송은 순번 순서대로 커밋되고,
+     * 롤백 시 증가분도 취소되어 빈 번호가 생기지 않는다. 반드시 발송 트랜잭션 안에서 save 직전에 호출한다.
+     *
+     * 카운터 행이 없는 채널(V18 이전 메시지만 있는 채널 포함)은 기존 메시지 수로 시드하여
+     * {@link #backfillChannelSeq} 가 기존 메시지에 매기는 1..N 과 겹치지 않게 한다.
+     * COUNT 는 카운터 행이 없을 때(채널당 최초 1회)만 실행된다.
+     *
+     * @return 새로 할당된 채널 내 순번 (1부터)
+     */
+    @Transactional
+    @Query(value = "WITH bumped AS (" +
+            "  UPDATE channel_message_seq SET last_seq = last_seq + 1 " +
+            "  WHERE channel_id = :channelId RETURNING last_seq" +
+            "), seeded AS (" +
+            "  INSERT INTO channel_message_seq (channel_id, last_seq) " +
+            "  SELECT :channelId, (SELECT COUNT(*) FROM chat_messages WHERE channel_id = :channelId) + 1 " +
+            "  WHERE NOT EXISTS (SELECT 1 FROM bumped) " +
+            "  ON CONFLICT (channel_id) DO UPDATE SET last_seq = channel_message_seq.last_seq + 1 " +
+            "  RETURNING last_seq" +
+            ") " +
+            "SELECT last_seq FROM bumped UNION ALL SELECT last_seq FROM seeded",
+            nativeQuery = true)
+    long nextChannelSeq(@Param("channelId") String channelId);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: ROW_NUMBER() 윈도우 함수를 쓰는 UPDATE ... FROM 은 JPQL 로 표현 불가.
+     * V18 이전 메시지(channel_seq IS NULL)에 채널 단위로 (created_at, id) 순서의 1..N 을 매긴다.
+     *
+     * 번호는 채널의 첫 시퀀스 메시지 번호 미만까지만 부여한다 — 카운터 시드(기존 메시지 수)와 같은 구간이다.
+     * 이미 백필된 채널(최소 seq = 1)은 갱신 대상이 없으므로 재실행해도 안전하다.
+     * 롤링 배포 중 구버전 인스턴스가 첫 시퀀스 메시지 이후에 넣은 메시지는 NULL 로 남는다 (시간 기준 조회로만 노출).
+     *
+     * @return 번호를 부여한 메시지 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE chat_messages m SET channel_seq = n.seq " +
+            "FROM (SELECT id, created_at, ROW_NUMBER() OVER (ORDER BY created_at, id) AS seq " +
+            "      FROM chat_messages WHERE channel_id = :channelId AND channel_seq IS NULL) n " +
+            "WHERE m.channel_id = :channelId " +
+            "AND m.id = n.id AND m.created_at = n.created_at " +
+            "AND m.channel_seq IS NULL " +
+            "AND n.seq < COALESCE((SELECT MIN(s.channel_seq) FROM chat_messages s " +
+            "                      WHERE s.channel_id = :channelId AND s.channel_seq IS NOT NULL), n.seq + 1)",
+            nativeQuery = true)
+    int backfillChannelSeq(@Param("channelId") String channelId);
+
     /**
      * 발신자 ID + Cursor 기반 조회
      */
@@ -42,41 +139,40 @@ public interface JpaMessageRepository extends JpaRepository<ChatMessageEntity, S
     List<ChatMessageEntity> findBySenderIdOrderByCreatedAtDesc(
             String senderId, Pageable pageable);
 
+    // =============================================
+    // 월 파티션 관리 (V14 함수 호출) — DDL 이므로 쓰기 트랜잭션(Source)에서 실행
+    // =============================================
+
     /**
      * [APPROVED @Query EXCEPTION]
-     * Reason: correlated subquery (SELECT MAX(m2.createdAt) ... GROUP BY channelId)
-     * cannot be expressed as a Spring Data named method.
+     * Reason: PostgreSQL 파티션 관리 함수 호출은 JPQL 로 표현 불가.
+     *
+     * @return 새로 생성했으면 true, 이미 있거나 기존 범위와 겹치면 false
      */
-    @Query("SELECT m FROM ChatMessageEntity m " +
-            "WHERE m.channelId IN :channelIds " +
-            "AND m.createdAt = (" +
-            "    SELECT MAX(m2.createdAt) FROM ChatMessageEntity m2 WHERE m2.channelId = m.channelId" +
-            ")")
-    List<ChatMessageEntity> findLastMessagesByChannelIds(@Param("channelIds") List<String> channelIds);
+    @Transactional
+    @Query(value = "SELECT ensure_chat_messages_partition(CAST(:month AS date))", nativeQuery = true)
+    boolean ensureMonthlyPartition(@Param("month") LocalDate month);
 
     /**
-     * 읽음 처리 시 커서 이전(포함) 메시지의 unread_count 일괄 -1 감소.
-     * MAX(0, unread_count - 1) 보장: CASE WHEN 사용 (JPQL은 GREATEST 미지원).
-     * Phase 6: Kafka Consumer 에서 호출 (비동기 배치 처리).
+     * [APPROVED @Query EXCEPTION]
+     * Reason: PostgreSQL 파티션 관리 함수 호출은 JPQL 로 표현 불가.
+     *
+     * @return DETACH 된 파티션 이름 (chat_messages_archive_YYYYMM 으로 이름 변경됨)
      */
-    @Modifying
-    @Query("UPDATE ChatMessageEntity m " +
-            "SET m.unreadCount = CASE WHEN m.unreadCount > 0 THEN m.unreadCount - 1 ELSE 0 END " +
-            "WHERE m.channelId = :channelId AND m.createdAt <= :cursor")
-    int bulkDecrementUnreadCountBeforeCursor(
-            @Param("channelId") String channelId,
-            @Param("cursor") Instant cursor);
+    @Transactional
+    @Query(value = "SELECT * FROM detach_chat_messages_partitions_before(CAST(:before AS date))", nativeQuery = true)
+    List<String> detachMonthlyPartitionsBefore(@Param("before") LocalDate before);
 
     /**
-     * 멤버 퇴장 시 해당 유저가 읽지 않은 메시지(cursor 이후)의 unread_count 일괄 -1 감소.
-     * lastReadAt이 null이면 채널 전체 메시지 감소.
-     * Phase 8: MemberLeftKafkaConsumer 에서 호출.
+     * [APPROVED @Query EXCEPTION]
+     * Reason: PostgreSQL 파티션 관리 함수 호출은 JPQL 로 표현 불가.
+     *
+     * legacy 파티션([MINVALUE, 전환 시점))에서 before 이전 행을 최대 limit 건 삭제.
+     * 호출자가 반환값이 limit 미만이 될 때까지 반복한다.
+     *
+     * @return 삭제 건수 (legacy 가 이미 DETACH 됐으면 0)
      */
-    @Modifying
-    @Query("UPDATE ChatMessageEntity m " +
-            "SET m.unreadCount = CASE WHEN m.unreadCount > 0 THEN m.unreadCount - 1 ELSE 0 END " +
-            "WHERE m.channelId = :channelId AND (:lastReadAt IS NULL OR m.createdAt > :lastReadAt)")
-    int bulkDecrementUnreadCountAfterCursor(
-            @Param("channelId") String channelId,
-            @Param("lastReadAt") Instant lastReadAt);
+    @Transactional
+    @Query(value = "SELECT purge_chat_messages_legacy_before(CAST(:before AS date), :limit)", nativeQuery = true)
+    int purgeLegacyPartitionBefore(@Param("before") LocalDate before, @Param("limit") int limit);
 }
@@ -0,0 +1,132 @@
+package com.example.chat.storage.domain.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.chat.storage.domain.entity.MessageSearchEntity;
+
+/**
+ * 메시지 검색 Read Model JPA Repository
+ */
+@Repository
+public interface JpaMessageSearchRepository extends JpaRepository<MessageSearchEntity, String> {
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: INSERT ... ON CONFLICT DO NOTHING 은 JPQL 로 표현 불가.
+     * 적재 재시도로 같은 메시지가 다시 들어와도 한 행만 남는다.
+     * 적재 전에 채널이 삭제됐으면 FK 위반으로 배치 전체가 매번 롤백되지 않도록 행을 만들지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO chat_message_search (message_id, channel_id, channel_seq, sender_id, content, message_at) " +
+            "SELECT :messageId, :channelId, :channelSeq, :senderId, :content, :messageAt " +
+            "WHERE EXISTS (SELECT 1 FROM chat_channels c WHERE c.id = :channelId) " +
+            "ON CONFLICT (message_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("messageId") String messageId,
+                       @Param("channelId") String channelId,
+                       @Param("channelSeq") Long channelSeq,
+                       @Param("senderId") String senderId,
+                       @Param("content") String content,
+                       @Param("messageAt") Instant messageAt);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: INSERT ... SELECT ... ON CONFLICT DO NOTHING 은 JPQL 로 표현 불가.
+     * 채널 하나의 기존 텍스트 메시지를 검색 Read Model 에 적재한다 (V19 이전 메시지 백필, MessageSearchBackfillJob).
+     * 이미 적재된 메시지는 건너뛰므로 재실행해도 결과가 같다.
+     *
+     * @return 새로 적재한 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO chat_message_search (message_id, channel_id, channel_seq, sender_id, content, message_at) " +
+            "SELECT m.id, m.channel_id, m.channel_seq, m.sender_id, m.content_text, COALESCE(m.sent_at, m.created_at) " +
+            "FROM chat_messages m " +
+            "WHERE m.channel_id = :channelId " +
+            "AND m.message_type IN ('TEXT', 'SYSTEM') " +
+            "AND m.content_text IS NOT NULL " +
+            "AND m.content_text <> '' " +
+            "ON CONFLICT (message_id) DO NOTHING",
+            nativeQuery = true)
+    int backfillChannel(@Param("channelId") String channelId);
+
+    // 검색 쿼리 조각 — 채널 지정 / 전체 채널을 별도 쿼리로 두어 채널 지정 시 idx_message_search_channel_at 범위 스캔을 쓴다
+    // ((:channelId IS NULL OR channel_id = :channelId) 형태는 플랜이 한 번 정해지면 인덱스 범위 스캔을 못 쓴다)
+    String SEARCH_SELECT = "SELECT s.* FROM chat_message_search s ";
+    String SEARCH_MEMBER_CHANNELS = "WHERE s.channel_id IN " +
+            "(SELECT cm.channel_id FROM chat_channel_members cm WHERE cm.user_id = :userId) ";
+    String SEARCH_CHANNEL = "WHERE s.channel_id = :channelId ";
+    String SEARCH_MATCH = "AND (s.content_tsv @@ plainto_tsquery('simple', :query) OR s.content ILIKE :pattern) ";
+    String SEARCH_BEFORE_CURSOR = "AND (s.message_at, s.message_id) < (:messageAt, :messageId) ";
+    String SEARCH_ORDER = "ORDER BY s.message_at DESC, s.message_id DESC LIMIT :limit";
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: tsvector 매칭(@@ plainto_tsquery)과 pg_trgm ILIKE 는 JPQL 로 표현 불가.
+     * 사용자가 속한 전체 채널로 범위를 제한하고 (message_at, message_id) 역순 첫 페이지를 조회한다.
+     */
+    @Query(value = SEARCH_SELECT + SEARCH_MEMBER_CHANNELS + SEARCH_MATCH + SEARCH_ORDER, nativeQuery = true)
+    List<MessageSearchEntity> searchFirstPage(@Param("userId") String userId,
+                                              @Param("query") String query,
+                                              @Param("pattern") String pattern,
+                                              @Param("limit") int limit);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: searchFirstPage 와 동일 조건 + (message_at, message_id) 복합 keyset 비교.
+     */
+    @Query(value = SEARCH_SELECT + SEARCH_MEMBER_CHANNELS + SEARCH_MATCH + SEARCH_BEFORE_CURSOR + SEARCH_ORDER,
+            nativeQuery = true)
+    List<MessageSearchEntity> searchPageBefore(@Param("userId") String userId,
+                                               @Param("query") String query,
+                                               @Param("pattern") String pattern,
+                                               @Param("messageAt") Instant messageAt,
+                                               @Param("messageId") String messageId,
+                                               @Param("limit") int limit);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: tsvector 매칭(@@ plainto_tsquery)과 pg_trgm ILIKE 는 JPQL 로 표현 불가.
+     * 채널 하나의 (message_at, message_id) 역순 첫 페이지 — 멤버십은 호출자가 선검증한다.
+     */
+    @Query(value = SEARCH_SELECT + SEARCH_CHANNEL + SEARCH_MATCH + SEARCH_ORDER, nativeQuery = true)
+    List<MessageSearchEntity> searchChannelFirstPage(@Param("channelId") String channelId,
+                                                     @Param("query") String query,
+                                                     @Param("pattern") String pattern,
+                                                     @Param("limit") int limit);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: searchChannelFirstPage 와 동일 조건 + (message_at, message_id) 복합 keyset 비교.
+     */
+    @Query(value = SEARCH_SELECT + SEARCH_CHANNEL + SEARCH_MATCH + SEARCH_BEFORE_CURSOR + SEARCH_ORDER,
+            nativeQuery = true)
+    List<MessageSearchEntity> searchChannelPageBefore(@Param("channelId") String channelId,
+                                                      @Param("query") String query,
+                                                      @Param("pattern") String pattern,
+                                                      @Param("messageAt") Instant messageAt,
+                                                      @Param("messageId") String messageId,
+                                                      @Param("limit") int limit);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: @Immutable Read Model 이라 JPQL 벌크 DELETE 대신 native DELETE 사용, LIMIT 서브쿼리도 JPQL 로 표현 불가.
+     * 보존 기간이 지난 검색 행을 최대 limit 건 삭제 (메시지 파티션 DETACH 와 같은 기준).
+     * 한 번에 지우면 장시간 트랜잭션 / 대량 WAL 이 생기므로 호출자가 반환값이 limit 미만이 될 때까지 반복한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM chat_message_search WHERE message_id IN (" +
+            "SELECT message_id FROM chat_message_search WHERE message_at < :before LIMIT :limit)",
+            nativeQuery = true)
+    int deleteBatchByMessageAtBefore(@Param("before") Instant before, @Param("limit") int limit);
+}
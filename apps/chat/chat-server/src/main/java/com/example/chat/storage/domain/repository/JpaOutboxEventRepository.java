@@ -0,0 +1,105 @@
+package com.example.chat.storage.domain.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+
+/**
+ * Outbox 이벤트 JPA Repository
+ */
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: PostgreSQL advisory lock 함수 호출은 JPQL/named method 로 표현 불가.
+     * 트랜잭션 종료 시 자동 해제되며, 같은 작업(검색 적재 등)을 여러 인스턴스가 동시에 실행하지 않도록 한다.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryLockPartition(@Param("lockKey") long lockKey);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: ON CONFLICT ... DO UPDATE ... WHERE 조건부 UPSERT 는 JPQL 로 표현 불가.
+     * 파티션 임대가 없거나 만료됐을 때만 token 으로 leaseSeconds 동안 점유한다 (V22).
+     *
+     * @return 점유했으면 1, 다른 보유자의 임대가 유효하면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ms_outbox_relay_lease (partition_no, owner_token, lease_until) " +
+            "VALUES (:partition, :token, now() + make_interval(secs => :leaseSeconds)) " +
+            "ON CONFLICT (partition_no) DO UPDATE " +
+            "SET owner_token = EXCLUDED.owner_token, lease_until = EXCLUDED.lease_until " +
+            "WHERE ms_outbox_relay_lease.lease_until < now()",
+            nativeQuery = true)
+    int acquireRelayLease(@Param("partition") int partition,
+                          @Param("token") String token,
+                          @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: 임대 테이블(V22)은 엔티티가 없는 운영 테이블.
+     * token 이 일치할 때만 반납한다 — 임대가 만료되어 다른 보유자에게 넘어갔으면 0.
+     */
+    @Modifying
+    @Query(value = "UPDATE ms_outbox_relay_lease SET lease_until = now() " +
+            "WHERE partition_no = :partition AND owner_token = :token",
+            nativeQuery = true)
+    int releaseRelayLease(@Param("partition") int partition, @Param("token") String token);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: hashtext() 기반 파티션 필터 + LIMIT 는 JPQL 로 표현 불가.
+     * aggregate_id(채널) 단위로 파티션을 고정하여 채널 내 발행 순서를 id 오름차순으로 보장한다.
+     */
+    @Query(value = "SELECT * FROM ms_outbox_event " +
+            "WHERE processed = FALSE " +
+            "AND mod(abs(hashtext(aggregate_id)), :partitions) = :partition " +
+            "ORDER BY id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<OutboxEventEntity> findPendingBatch(@Param("partitions") int partitions,
+                                             @Param("partition") int partition,
+                                             @Param("limit") int limit);
+
+    /**
+     * 릴레이 완료된 이벤트 일괄 처리 표시 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.processed = TRUE WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids);
+
+    /**
+     * [APPROVED @Query EXCEPTION]
+     * Reason: LIMIT 는 JPQL 로 표현 불가.
+     * 메시지 검색 미적재 이벤트를 id 오름차순으로 조회한다 (파티션 구분 없음 — 호출자가 advisory lock 으로 단일 실행 보장).
+     */
+    @Query(value = "SELECT * FROM ms_outbox_event " +
+            "WHERE search_indexed = FALSE " +
+            "ORDER BY id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<OutboxEventEntity> findSearchPendingBatch(@Param("limit") int limit);
+
+    /**
+     * 메시지 검색 적재 완료 일괄 표시 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.searchIndexed = TRUE WHERE e.id IN :ids")
+    int markSearchIndexed(@Param("ids") List<Long> ids);
+
+    /**
+     * 보존 기간이 지난 처리 완료 이벤트 삭제 (검색 미적재 이벤트는 적재될 때까지 남긴다)
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.processed = TRUE AND e.searchIndexed = TRUE " +
+            "AND e.createdAt < :threshold")
+    int deleteProcessedBefore(@Param("threshold") Instant threshold);
+}
@@ -0,0 +1,7 @@
+-- V12: Outbox 릴레이 조회용 부분 인덱스
+-- 릴레이는 processed = FALSE 행만 id 오름차순으로 읽는다.
+-- 처리 완료 행이 누적되어도 인덱스 크기가 미처리 건수에 비례하도록 부분 인덱스를 사용한다.
+
+CREATE INDEX IF NOT EXISTS idx_outbox_pending_id
+    ON ms_outbox_event (id)
+    WHERE processed = FALSE;
@@ -0,0 +1,9 @@
+-- V13: 메시지 keyset 페이징 인덱스
+-- 메시지 조회가 (created_at DESC, id DESC) 복합 커서로 바뀌면서 id 를 인덱스 끝에 포함한다.
+-- 새 인덱스가 (channel_id, created_at) 접두사를 포함하므로 기존 인덱스는 제거한다.
+-- 메시지 ID 는 UUIDv7(시간 정렬)로 발급되어 PK 인덱스도 append 위주로 쓰인다.
+
+CREATE INDEX IF NOT EXISTS idx_chat_message_channel_created_id
+    ON chat_messages (channel_id, created_at, id);
+
+DROP INDEX IF EXISTS idx_chat_message_channel_created;
@@ -0,0 +1,248 @@
+-- V14: chat_messages 월 단위 Range 파티셔닝 (created_at)
+--
+-- 전환 전략: 데이터 복사 없이 기존 테이블을 첫 파티션으로 편입
+--   0) [사전 작업 — 마이그레이션 전에 운영자가 실행] 대형 인덱스를 CONCURRENTLY 로 미리 생성
+--   1) legacy 범위 CHECK 제약을 NOT VALID 로 추가 → 별도 트랜잭션에서 VALIDATE
+--   2) chat_messages → chat_messages_legacy 이름 변경 + 동일 컬럼 구성의 파티션 부모 생성 +
+--      legacy 를 [MINVALUE, 상한) 범위로 ATTACH — 메타데이터 변경만 하는 한 트랜잭션
+--      PK 는 파티션 키를 포함해야 하므로 (id, created_at) — id 는 UUIDv7 로 전역 유일
+--   3) 월 파티션 생성 / 보존 기간 경과 파티션 DETACH / legacy 배치 삭제 함수 — chat-server 스케줄러가 호출
+--   4) DEFAULT 파티션: 파티션 생성 누락 시에도 INSERT 실패 방지용 안전망
+--
+-- 트랜잭션 / 잠금:
+--   V14__partition_chat_messages.sql.conf 의 executeInTransaction=false 로 문장마다 개별 커밋된다.
+--   Flyway 가 스크립트 전체를 한 트랜잭션으로 실행하면 RENAME / ADD CONSTRAINT 가 잡은 ACCESS EXCLUSIVE 가
+--   VALIDATE 의 전체 스캔이 끝날 때까지 유지되어 그동안 읽기/쓰기가 모두 막힌다.
+--   - ADD CONSTRAINT ... NOT VALID : ACCESS EXCLUSIVE 이지만 스캔 없이 즉시 커밋
+--   - VALIDATE CONSTRAINT          : SHARE UPDATE EXCLUSIVE — 전체 스캔 중에도 읽기/쓰기 가능
+--   - 2) 의 DO 블록                : ACCESS EXCLUSIVE 이지만 인덱스 빌드 / 스캔 없음
+--                                    (UNIQUE 는 사전 생성 인덱스 재사용, ATTACH 는 검증된 CHECK 로 스캔 생략)
+--   중간에 실패하면 롤백되지 않으므로 원인 해결 후 flyway repair → 재실행한다. 각 단계는 재실행해도 안전하다.
+--
+-- 사전 작업 (5억 행 이상 — 트랜잭션 밖에서 실행, 쓰기를 막지 않음):
+--   CREATE UNIQUE INDEX CONCURRENTLY chat_messages_legacy_id_created_key ON chat_messages (id, created_at);
+--   CREATE INDEX CONCURRENTLY idx_chat_messages_legacy_created_at ON chat_messages (created_at);
+--   실패해 INVALID 인덱스가 남았으면 DROP INDEX CONCURRENTLY 후 다시 만든다.
+--   두 인덱스가 유효하지 않으면 이 마이그레이션은 아무것도 변경하지 않고 실패한다.
+
+-- ========================================
+-- 0. 사전 인덱스 확인
+-- ========================================
+DO $$
+DECLARE
+    v_index TEXT;
+BEGIN
+    -- 재실행: 이미 전환이 끝났으면 확인 생략
+    IF to_regclass('chat_messages_legacy') IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    FOREACH v_index IN ARRAY ARRAY['chat_messages_legacy_id_created_key', 'idx_chat_messages_legacy_created_at']
+    LOOP
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_index x
+                       JOIN pg_class c ON c.oid = x.indexrelid
+                       WHERE c.relname = v_index
+                         AND x.indrelid = 'chat_messages'::regclass
+                         AND x.indisvalid) THEN
+            RAISE EXCEPTION 'V14 requires index % on chat_messages (CREATE INDEX CONCURRENTLY, see header)', v_index;
+        END IF;
+    END LOOP;
+END $$;
+
+-- ========================================
+-- 1. legacy 범위 CHECK 제약 (NOT VALID → VALIDATE, 각각 별도 트랜잭션)
+-- ========================================
+-- 상한은 다음다음 달 1일 — VALIDATE 와 2) 사이에 달이 바뀌어도 새 INSERT 가 CHECK 에 걸리지 않도록 여유를 둔다
+DO $$
+DECLARE
+    v_upper TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '2 month';
+BEGIN
+    IF to_regclass('chat_messages_legacy') IS NOT NULL
+        OR EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'chk_chat_messages_legacy_range') THEN
+        RETURN;
+    END IF;
+    EXECUTE format(
+        'ALTER TABLE chat_messages ADD CONSTRAINT chk_chat_messages_legacy_range CHECK (created_at < %L) NOT VALID',
+        v_upper);
+END $$;
+
+DO $$
+BEGIN
+    IF to_regclass('chat_messages_legacy') IS NULL THEN
+        ALTER TABLE chat_messages VALIDATE CONSTRAINT chk_chat_messages_legacy_range;
+    END IF;
+END $$;
+
+-- ========================================
+-- 2. 이름 변경 + 파티션 부모 + legacy 편입 (한 트랜잭션)
+-- ========================================
+DO $$
+DECLARE
+    v_upper TIMESTAMP;
+BEGIN
+    IF to_regclass('chat_messages_legacy') IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    -- ATTACH 범위 상한 = 검증된 CHECK 제약의 상한 (같아야 스캔 생략)
+    SELECT substring(pg_get_constraintdef(oid) FROM '''([^'']+)''')::TIMESTAMP
+    INTO v_upper
+    FROM pg_constraint
+    WHERE conname = 'chk_chat_messages_legacy_range'
+      AND conrelid = 'chat_messages'::regclass;
+
+    ALTER TABLE chat_messages RENAME TO chat_messages_legacy;
+    ALTER INDEX IF EXISTS idx_chat_message_channel_created_id RENAME TO idx_chat_message_channel_created_id_legacy;
+    ALTER INDEX IF EXISTS idx_chat_message_sender RENAME TO idx_chat_message_sender_legacy;
+    ALTER INDEX IF EXISTS idx_chat_message_unread RENAME TO idx_chat_message_unread_legacy;
+
+    -- ATTACH 는 부모 PK 에 대응하는 "제약" 인덱스만 재사용하므로 사전 생성한 UNIQUE 인덱스를 제약으로 승격
+    ALTER TABLE chat_messages_legacy
+        ADD CONSTRAINT chat_messages_legacy_id_created_key UNIQUE USING INDEX chat_messages_legacy_id_created_key;
+
+    -- INCLUDING CONSTRAINTS 는 쓰지 않는다 — legacy 범위 CHECK 가 부모로 복사되어 이후 INSERT 가 막힘 (NOT NULL 은 항상 복사)
+    CREATE TABLE chat_messages (
+        LIKE chat_messages_legacy INCLUDING DEFAULTS INCLUDING COMMENTS,
+        CONSTRAINT chat_messages_pkey_part PRIMARY KEY (id, created_at),
+        CONSTRAINT fk_message_channel_part FOREIGN KEY (channel_id) REFERENCES chat_channels(id) ON DELETE CASCADE,
+        CONSTRAINT fk_message_sender_part FOREIGN KEY (sender_id) REFERENCES users(id)
+    ) PARTITION BY RANGE (created_at);
+
+    -- 부모가 비어 있으므로 즉시 생성되고, ATTACH 시 legacy 의 동일 구성 인덱스가 재사용된다
+    CREATE INDEX idx_chat_message_channel_created_id ON chat_messages (channel_id, created_at, id);
+    CREATE INDEX idx_chat_message_sender ON chat_messages (sender_id);
+    CREATE INDEX idx_chat_message_unread ON chat_messages (channel_id, unread_count) WHERE unread_count > 0;
+
+    EXECUTE format(
+        'ALTER TABLE chat_messages ATTACH PARTITION chat_messages_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        v_upper);
+
+    CREATE TABLE chat_messages_default PARTITION OF chat_messages DEFAULT;
+END $$;
+
+-- ========================================
+-- 3. 파티션 관리 함수
+-- ========================================
+
+-- 월 파티션 생성 (chat_messages_pYYYYMM). 이미 있거나 legacy 범위와 겹치면 false.
+CREATE OR REPLACE FUNCTION ensure_chat_messages_partition(p_month DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month)::TIMESTAMP;
+    v_to   TIMESTAMP := v_from + INTERVAL '1 month';
+    v_name TEXT      := 'chat_messages_p' || to_char(v_from, 'YYYYMM');
+BEGIN
+    -- 여러 인스턴스가 동시에 호출해도 한 번만 생성
+    PERFORM pg_advisory_xact_lock(hashtext('chat_messages_partition'));
+
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    -- DEFAULT 파티션에 이 달 행이 있으면 PARTITION OF 생성이 check_violation(23514)으로 매번 실패한다.
+    -- 독립 테이블로 만들어 DEFAULT 의 해당 월 행을 옮긴 뒤 ATTACH — 같은 트랜잭션이라 중간 상태는 보이지 않는다.
+    IF EXISTS (SELECT 1 FROM chat_messages_default WHERE created_at >= v_from AND created_at < v_to) THEN
+        EXECUTE format('CREATE TABLE %I (LIKE chat_messages INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM chat_messages_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+            'INSERT INTO %I SELECT * FROM moved',
+            v_from, v_to, v_name);
+        EXECUTE format('ALTER TABLE chat_messages ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_from, v_to);
+        RETURN TRUE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_from, v_to);
+    RETURN TRUE;
+EXCEPTION
+    WHEN invalid_object_definition THEN
+        -- 42P17: 기존 파티션(legacy) 범위와 겹침
+        RETURN FALSE;
+END;
+$$;
+
+-- 상한이 p_before 이하인 월 파티션을 DETACH 후 chat_messages_archive_YYYYMM 으로 이름 변경.
+-- legacy 는 상한(전환 시점)이 p_before 이하가 되면 통째로 DETACH → chat_messages_archive_legacy.
+-- 그 전까지의 legacy 이력은 purge_chat_messages_legacy_before 로 배치 삭제한다.
+-- default 파티션은 대상이 아니다. 분리된 테이블은 덤프/아카이브 후 운영자가 DROP 한다.
+CREATE OR REPLACE FUNCTION detach_chat_messages_partitions_before(p_before DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_child        TEXT;
+    v_month        TIMESTAMP;
+    v_legacy_upper TIMESTAMP;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('chat_messages_partition'));
+
+    FOR v_child IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'chat_messages'::regclass
+          AND c.relname ~ '^chat_messages_p[0-9]{6}$'
+        ORDER BY c.relname
+    LOOP
+        v_month := to_date(substring(v_child FROM 16), 'YYYYMM')::TIMESTAMP;
+        IF v_month + INTERVAL '1 month' <= p_before::TIMESTAMP THEN
+            EXECUTE format('ALTER TABLE chat_messages DETACH PARTITION %I', v_child);
+            EXECUTE format('ALTER TABLE %I RENAME TO %I',
+                           v_child, 'chat_messages_archive_' || substring(v_child FROM 16));
+            RETURN NEXT v_child;
+        END IF;
+    END LOOP;
+
+    -- FOR VALUES FROM (MINVALUE) TO ('yyyy-mm-dd hh:mi:ss')
+    SELECT substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \(''([^'']+)''\)')::TIMESTAMP
+    INTO v_legacy_upper
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'chat_messages'::regclass
+      AND c.relname = 'chat_messages_legacy';
+
+    IF v_legacy_upper IS NOT NULL AND v_legacy_upper <= p_before::TIMESTAMP THEN
+        ALTER TABLE chat_messages DETACH PARTITION chat_messages_legacy;
+        ALTER TABLE chat_messages_legacy RENAME TO chat_messages_archive_legacy;
+        RETURN NEXT 'chat_messages_legacy';
+    END IF;
+END;
+$$;
+
+-- legacy 파티션에서 created_at < p_before 인 행을 최대 p_limit 건 삭제 (idx_chat_messages_legacy_created_at 사용).
+-- legacy 는 [MINVALUE, 전환 시점) 범위라 상한이 보존 기준을 지나기 전에는 DETACH 할 수 없으므로
+-- 보존 기간 밖 이력을 이 함수로 줄여 나간다. 호출자가 반환값이 p_limit 미만이 될 때까지 반복한다.
+-- legacy 가 이미 분리됐으면 0.
+CREATE OR REPLACE FUNCTION purge_chat_messages_legacy_before(p_before DATE, p_limit INT)
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_deleted INT;
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM pg_inherits i
+                   JOIN pg_class c ON c.oid = i.inhrelid
+                   WHERE i.inhparent = 'chat_messages'::regclass
+                     AND c.relname = 'chat_messages_legacy') THEN
+        RETURN 0;
+    END IF;
+
+    DELETE FROM chat_messages_legacy
+    WHERE ctid = ANY (ARRAY(
+        SELECT ctid FROM chat_messages_legacy
+        WHERE created_at < p_before::TIMESTAMP
+        ORDER BY created_at
+        LIMIT p_limit));
+    GET DIAGNOSTICS v_deleted = ROW_COUNT;
+    RETURN v_deleted;
+END;
+$$;
+
+-- 다음 3개월 파티션 선생성 (legacy 범위와 겹치는 달은 false)
+SELECT ensure_chat_messages_partition((date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => m))::DATE)
+FROM generate_series(1, 3) AS m;
@@ -0,0 +1,31 @@
+-- V15: 채널 마지막 메시지 Read Model
+-- 채널 목록 조회가 chat_messages 에 상관 서브쿼리(MAX(created_at))를 채널마다 실행하던 것을
+-- 채널당 1행짜리 비정규화 테이블 조회로 대체한다.
+-- Outbox 릴레이가 MESSAGE_SENT 이벤트를 배치 단위로 합쳐 UPSERT 하며,
+-- (last_message_at, last_message_id) 가 더 최신인 경우에만 덮어쓴다.
+
+CREATE TABLE IF NOT EXISTS channel_last_message (
+    channel_id             VARCHAR(36)  PRIMARY KEY,
+    last_message_id        VARCHAR(36)  NOT NULL,
+    last_message_sender_id VARCHAR(36)  NOT NULL,
+    last_message_type      VARCHAR(20)  NOT NULL,
+    last_message_preview   VARCHAR(200),
+    last_message_at        TIMESTAMP    NOT NULL,
+    updated_at             TIMESTAMP    NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_last_message_channel FOREIGN KEY (channel_id) REFERENCES chat_channels(id) ON DELETE CASCADE
+);
+
+-- 기존 채널 백필 (채널별 최신 메시지 1건)
+INSERT INTO channel_last_message (channel_id, last_message_id, last_message_sender_id,
+                                  last_message_type, last_message_preview, last_message_at)
+SELECT DISTINCT ON (m.channel_id)
+       m.channel_id, m.id, m.sender_id, m.message_type,
+       LEFT(CASE
+                WHEN m.message_type IN ('TEXT', 'SYSTEM') THEN COALESCE(m.content_text, '')
+                WHEN m.message_type = 'IMAGE' THEN '[Image] ' || m.content_file_name
+                ELSE '[File] ' || m.content_file_name
+            END, 200),
+       COALESCE(m.sent_at, m.created_at)
+FROM chat_messages m
+ORDER BY m.channel_id, m.created_at DESC, m.id DESC
+ON CONFLICT (channel_id) DO NOTHING;
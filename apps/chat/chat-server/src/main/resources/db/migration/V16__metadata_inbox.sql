@@ -0,0 +1,39 @@
+-- V16: 사용자별 채널 목록(inbox) Read Model
+-- 채널 목록 조회를 chat_channels × chat_channel_members × chat_channel_metadata 3-테이블 JOIN(createdAt 정렬) 대신
+-- chat_channel_metadata 단독 조회(lastActivityAt 정렬)로 바꾼다.
+-- 이를 위해 멤버십마다 메타데이터 1행을 보장하고, 필터에 쓰이는 채널 타입/활성 여부를 비정규화한다.
+-- TIMESTAMP → TIMESTAMPTZ 변환은 세션 TimeZone(JDBC 드라이버가 JVM 기본값으로 설정) 기준이다.
+
+ALTER TABLE chat_channel_metadata ADD COLUMN IF NOT EXISTS channel_type VARCHAR(20);
+ALTER TABLE chat_channel_metadata ADD COLUMN IF NOT EXISTS channel_active BOOLEAN NOT NULL DEFAULT TRUE;
+
+UPDATE chat_channel_metadata m
+SET channel_type = c.channel_type,
+    channel_active = c.active
+FROM chat_channels c
+WHERE c.id = m.channel_id;
+
+-- 메타데이터가 없는 멤버십 백필 (지연 생성되던 행)
+INSERT INTO chat_channel_metadata (id, channel_id, user_id, notification_enabled, favorite, pinned,
+                                   unread_count, last_activity_at, channel_type, channel_active,
+                                   created_at, updated_at)
+SELECT gen_random_uuid()::text, mb.channel_id, mb.user_id, TRUE, FALSE, FALSE,
+       0, COALESCE(lm.last_message_at, c.created_at)::timestamptz, c.channel_type, c.active,
+       NOW(), NOW()
+FROM chat_channel_members mb
+JOIN chat_channels c ON c.id = mb.channel_id
+LEFT JOIN channel_last_message lm ON lm.channel_id = mb.channel_id
+ON CONFLICT (channel_id, user_id) DO NOTHING;
+
+-- 활동 기록이 없는 행은 마지막 메시지(없으면 채널 생성) 시각으로 채운다 — 정렬 키 NULL 방지
+UPDATE chat_channel_metadata m
+SET last_activity_at = COALESCE(lm.last_message_at, c.created_at)::timestamptz
+FROM chat_channels c
+LEFT JOIN channel_last_message lm ON lm.channel_id = c.id
+WHERE c.id = m.channel_id
+  AND m.last_activity_at IS NULL;
+
+-- inbox keyset 페이징 인덱스: (user_id) 등치 + (last_activity_at, channel_id) 역순 범위 스캔
+CREATE INDEX IF NOT EXISTS idx_metadata_inbox
+    ON chat_channel_metadata (user_id, last_activity_at DESC, channel_id DESC)
+    WHERE channel_active;
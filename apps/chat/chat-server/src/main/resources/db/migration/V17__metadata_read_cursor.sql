@@ -0,0 +1,19 @@
+-- V17: 멤버별 읽음 커서 (read position)
+-- 메시지 행마다 unread_count 를 감소시키던 방식 대신, 멤버가 마지막으로 읽은 메시지의 created_at 을
+-- chat_channel_metadata 에 보관하고 메시지별 미읽음 수('1')는 조회 시점에 커서로 계산한다.
+-- 읽음 처리는 메타데이터 1행 UPDATE 로 끝난다.
+
+ALTER TABLE chat_channel_metadata ADD COLUMN IF NOT EXISTS last_read_message_at TIMESTAMP WITH TIME ZONE;
+
+-- 기존 last_read_message_id 로 커서 백필 (created_at: TIMESTAMP → 세션 TimeZone 기준 TIMESTAMPTZ)
+UPDATE chat_channel_metadata md
+SET last_read_message_at = m.created_at::timestamptz
+FROM chat_messages m
+WHERE m.id = md.last_read_message_id
+  AND m.channel_id = md.channel_id
+  AND md.last_read_message_at IS NULL;
+
+COMMENT
+ON COLUMN chat_channel_metadata.last_read_message_at IS '마지막 읽은 메시지의 생성 시각 (읽음 커서)';
+COMMENT
+ON COLUMN chat_messages.unread_count IS '발송 시점 미읽음 멤버 수 (V17 이후 갱신하지 않음 — 조회 시 읽음 커서로 계산)';
@@ -0,0 +1,80 @@
+-- V18: 채널별 메시지 시퀀스 (재접속 catch-up 용)
+-- 발송 트랜잭션이 channel_message_seq 의 채널 행을 UPSERT ... RETURNING 으로 1 증가시켜 channel_seq 를 할당한다.
+-- 행 잠금이 커밋까지 유지되므로 같은 채널의 커밋 순서 = 시퀀스 순서이고, 롤백되면 증가분도 함께 취소되어
+-- 커밋된 메시지의 시퀀스에는 빈 번호가 없다. 클라이언트는 마지막으로 받은 seq 이후만 요청한다.
+--
+-- 이 마이그레이션은 데이터를 다시 쓰거나 인덱스를 빌드하지 않는다 (메타데이터 변경만).
+-- 기존 메시지 번호 부여는 ChannelSeqBackfillJob 이 채널 단위 배치로 처리하고,
+-- 채널 카운터 행은 그 채널의 첫 발송 시 기존 메시지 수로 시드된다 (JpaMessageRepository#nextChannelSeq).
+--
+-- 인덱스 (channel_id, channel_seq):
+--   파티션 부모(V14)에 CREATE INDEX 를 하면 CONCURRENTLY 를 쓸 수 없어 5억 행 legacy 파티션을 포함한
+--   모든 파티션을 INSERT 를 막은 채 빌드한다. 그래서 부모에는 ON ONLY 로 (무효 상태) 인덱스만 만들고,
+--   파티션별 인덱스는 사전 작업에서 CONCURRENTLY 로 만든 뒤 여기서 ATTACH 한다.
+--   모든 파티션이 연결되면 부모 인덱스가 유효해지고, 이후 생성되는 월 파티션은 자동으로 인덱스를 갖는다.
+--
+-- 사전 작업 (마이그레이션 전에 psql 로 실행 — 트랜잭션 밖, 쓰기를 막지 않음):
+--   ALTER TABLE chat_messages ADD COLUMN IF NOT EXISTS channel_seq BIGINT;
+--   SELECT format('CREATE INDEX CONCURRENTLY IF NOT EXISTS %I ON %I (channel_id, channel_seq)',
+--                 c.relname || '_channel_seq_idx', c.relname)
+--   FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+--   WHERE i.inhparent = 'chat_messages'::regclass \gexec
+--   실패해 INVALID 인덱스가 남았으면 DROP INDEX CONCURRENTLY 후 다시 만든다.
+--   비어 있는 파티션(선생성된 미래 월)은 사전 작업이 없어도 여기서 바로 만든다.
+--   행이 있는 파티션에 유효한 인덱스가 없으면 이 마이그레이션은 롤백된다.
+
+CREATE TABLE IF NOT EXISTS channel_message_seq (
+    channel_id VARCHAR(36) PRIMARY KEY,
+    last_seq   BIGINT      NOT NULL,
+    CONSTRAINT fk_message_seq_channel FOREIGN KEY (channel_id) REFERENCES chat_channels(id) ON DELETE CASCADE
+);
+
+-- NOT NULL 제약은 전체 스캔이 필요하므로 추가하지 않는다
+ALTER TABLE chat_messages ADD COLUMN IF NOT EXISTS channel_seq BIGINT;
+
+-- "seq N 이후" 조회: (channel_id) 등치 + channel_seq 범위 스캔
+-- ON ONLY: 파티션으로 재귀하지 않음 — 파티션 인덱스를 모두 ATTACH 할 때까지 무효 상태
+CREATE INDEX IF NOT EXISTS idx_chat_message_channel_seq ON ONLY chat_messages (channel_id, channel_seq);
+
+DO $$
+DECLARE
+    v_partition TEXT;
+    v_index     TEXT;
+    v_has_rows  BOOLEAN;
+BEGIN
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'chat_messages'::regclass
+        ORDER BY c.relname
+    LOOP
+        v_index := v_partition || '_channel_seq_idx';
+
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_index x
+                       JOIN pg_class c ON c.oid = x.indexrelid
+                       WHERE c.relname = v_index
+                         AND x.indrelid = v_partition::regclass
+                         AND x.indisvalid) THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', v_partition) INTO v_has_rows;
+            IF v_has_rows THEN
+                RAISE EXCEPTION 'V18 requires index % on % (CREATE INDEX CONCURRENTLY, see header)',
+                    v_index, v_partition;
+            END IF;
+            -- 빈 파티션: 빌드할 행이 없어 즉시 끝난다
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (channel_id, channel_seq)', v_index, v_partition);
+        END IF;
+
+        -- 이미 연결된 인덱스는 건너뛴다
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_inherits i
+                       WHERE i.inhrelid = v_index::regclass
+                         AND i.inhparent = 'idx_chat_message_channel_seq'::regclass) THEN
+            EXECUTE format('ALTER INDEX idx_chat_message_channel_seq ATTACH PARTITION %I', v_index);
+        END IF;
+    END LOOP;
+END $$;
+
+COMMENT
+ON COLUMN chat_messages.channel_seq IS '채널 내 메시지 순번 (1부터, 빈 번호 없음) — 재접속 catch-up 기준';
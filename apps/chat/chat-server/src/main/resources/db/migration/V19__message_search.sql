@@ -0,0 +1,31 @@
+-- V19: 메시지 검색 인덱스 (Read Model)
+-- chat_messages 에 직접 GIN 인덱스를 두면 발송 INSERT 마다 인덱스 갱신 비용이 붙으므로,
+-- Outbox 릴레이가 커밋 후 MESSAGE_SENT 이벤트를 배치로 적재하는 별도 테이블에서 검색한다 (발송 지연 무관).
+--
+-- 매칭:
+--   content_tsv ('simple' 사전, 공백/구두점 단위 토큰)  — 영문/숫자 단어 검색
+--   content gin_trgm_ops (ILIKE '%검색어%')             — 조사가 붙은 한글/CJK 부분 문자열 검색
+-- 운영 참고: pg_trgm 이 한글을 단어 문자로 인식하려면 DB LC_CTYPE 이 UTF-8 로캘이어야 한다 (C 로캘이면 트라이그램 미생성).
+--           2글자 검색어는 트라이그램이 없어 인덱스 대신 사용자 채널 범위 스캔으로 처리된다.
+--
+-- 기존 메시지 백필은 하지 않는다 — 한 문장으로 전체 텍스트 메시지를 복사하면 GIN 인덱스 두 개를 갱신하며
+-- 장시간 트랜잭션이 되므로, MessageSearchBackfillJob 이 채널 단위 짧은 트랜잭션으로 나눠 적재한다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS chat_message_search (
+    message_id  VARCHAR(36) PRIMARY KEY,
+    channel_id  VARCHAR(36) NOT NULL,
+    channel_seq BIGINT,
+    sender_id   VARCHAR(36) NOT NULL,
+    content     TEXT        NOT NULL,
+    message_at  TIMESTAMP   NOT NULL,
+    content_tsv TSVECTOR GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED,
+    CONSTRAINT fk_message_search_channel FOREIGN KEY (channel_id) REFERENCES chat_channels(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_message_search_tsv ON chat_message_search USING GIN (content_tsv);
+CREATE INDEX IF NOT EXISTS idx_message_search_trgm ON chat_message_search USING GIN (content gin_trgm_ops);
+-- 채널 한정 검색 / keyset 페이징 (message_at, message_id) 역순
+CREATE INDEX IF NOT EXISTS idx_message_search_channel_at
+    ON chat_message_search (channel_id, message_at DESC, message_id DESC);
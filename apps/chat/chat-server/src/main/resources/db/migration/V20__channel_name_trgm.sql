@@ -0,0 +1,15 @@
+-- V20: 채널명 키워드 검색 인덱스
+-- inbox 키워드 검색(findInboxPageByKeyword)은 LOWER(c.name) LIKE '%키워드%' 를 멤버십 행마다 평가해
+-- 채널 수가 많은 사용자(봇, 상담원 등)는 inbox 전체를 훑었다.
+-- lower(name) 트라이그램 인덱스로 키워드에 맞는 채널을 먼저 찾고, (channel_id, user_id) 유니크 인덱스로
+-- 사용자 inbox 행에 조인하는 경로를 플래너가 선택할 수 있게 한다 (선택도가 낮은 키워드는 기존 inbox 인덱스 경로 유지).
+-- pg_trgm 확장은 V19 에서 생성.
+--
+-- 운영 참고: 3글자 미만 키워드는 트라이그램이 없어 기존 경로로 처리된다.
+--           효과 확인 — 사용자 1명에 채널 10k 를 만든 뒤 EXPLAIN (ANALYZE, BUFFERS) 로
+--           Bitmap Index Scan on idx_channel_name_trgm 사용 여부와 inbox 인덱스 경로 대비 buffers 를 비교한다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_channel_name_trgm
+    ON chat_channels USING GIN (lower(name) gin_trgm_ops);
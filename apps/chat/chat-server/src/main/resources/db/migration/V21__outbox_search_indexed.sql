@@ -0,0 +1,21 @@
+-- V21: 메시지 검색 적재 상태 (ms_outbox_event.search_indexed)
+-- 검색 Read Model(chat_message_search, V19)은 릴레이 커밋 후 1회 적재하고 실패하면 로그만 남겼기 때문에
+-- 누락분이 영구히 검색되지 않았다. Outbox 행에 적재 여부를 두고 MessageSearchIndexJob 이 미적재 행을
+-- id 순으로 읽어 적재 → 표시한다. 실패하면 표시하지 않으므로 다음 실행에서 재시도된다.
+-- Outbox purge 는 처리 완료 + 검색 적재 완료 행만 삭제한다.
+--
+-- 기존 행은 FALSE 로 시작한다 — 보존 기간(기본 24시간) 안의 이벤트를 한 번 더 적재하며
+-- ON CONFLICT DO NOTHING 이라 이미 적재된 메시지는 변하지 않고, 과거 실패분은 이때 채워진다.
+-- PostgreSQL 11+ 에서 상수 DEFAULT 컬럼 추가는 테이블 재작성 없이 메타데이터만 변경한다.
+
+ALTER TABLE ms_outbox_event
+    ADD COLUMN IF NOT EXISTS search_indexed BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 미적재 행만 id 오름차순으로 읽으므로 V12 와 같은 방식의 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_outbox_search_pending_id
+    ON ms_outbox_event (id)
+    WHERE search_indexed = FALSE;
+
+-- 보존 기간 purge 용 (chat_message_search 는 message_at 단독 인덱스가 없어 배치 삭제마다 전체 스캔됨)
+CREATE INDEX IF NOT EXISTS idx_message_search_message_at
+    ON chat_message_search (message_at);
@@ -0,0 +1,16 @@
+-- V22: Outbox 릴레이 파티션 임대 (ms_outbox_relay_lease)
+-- 릴레이는 트랜잭션 advisory lock 을 잡은 채 Redis 발행 / unread 증분 / Kafka 전송까지 한 트랜잭션에서 수행해
+-- 외부 호출 동안 풀 커넥션을 점유했고, 처리 완료 표시나 커밋이 실패하면 부수효과 전체가 재실행됐다.
+-- 이제 짧은 점유 트랜잭션에서 파티션 임대를 얻어 배치를 읽고, 트랜잭션 밖에서 부수효과를 수행한 뒤,
+-- 짧은 완료 트랜잭션에서 처리 완료 표시 + 임대 반납을 한다.
+-- 임대는 lease_until 까지 유효하며, 보유 인스턴스가 죽으면 만료 후 다른 인스턴스가 이어받는다 (at-least-once).
+-- owner_token 은 점유마다 새로 발급 — 만료 후 늦게 끝난 이전 보유자가 새 보유자의 임대를 반납하지 못하게 한다.
+
+CREATE TABLE IF NOT EXISTS ms_outbox_relay_lease (
+    partition_no INT         PRIMARY KEY,
+    owner_token  VARCHAR(36) NOT NULL,
+    lease_until  TIMESTAMP   NOT NULL
+);
+
+COMMENT
+ON TABLE ms_outbox_relay_lease IS 'Outbox 릴레이 파티션 임대 — 부수효과 수행 동안 같은 파티션의 중복 릴레이 방지';
@@ -0,0 +1,94 @@
+package com.example.chat.channel.application.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.shared.exception.ChatException;
+
+/**
+ * [단위 테스트] ChannelCursor
+ *
+ * 검증 범위:
+ * - {lastActivityAt}_{channelId} 왕복 변환
+ * - 기존 lastActivityAt 단독 형식 하위 호환
+ * - 형식 오류 시 CHANNEL_INVALID_CURSOR
+ */
+@DisplayName("ChannelCursor 단위 테스트")
+class ChannelCursorTest {
+
+    private static final Instant ACTIVITY_AT = Instant.parse("2026-03-10T09:00:00.123456Z");
+    private static final String CHANNEL_ID  = "01900000-0000-7000-8000-000000000001";
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("encode → parse 왕복 시 동일 커서")
+        void shouldRoundTrip() {
+            // Given
+            ChannelCursor cursor = new ChannelCursor(ACTIVITY_AT, CHANNEL_ID);
+
+            // When
+            ChannelCursor parsed = ChannelCursor.parse(cursor.encode());
+
+            // Then
+            assertThat(parsed).isEqualTo(cursor);
+        }
+    }
+
+    @Nested
+    @DisplayName("Boundary")
+    class Boundary {
+
+        @Test
+        @DisplayName("lastActivityAt 단독 기존 형식은 channelId 없이 파싱")
+        void shouldAcceptLegacyFormat() {
+            // When
+            ChannelCursor parsed = ChannelCursor.parse(ACTIVITY_AT.toString());
+
+            // Then
+            assertThat(parsed.lastActivityAt()).isEqualTo(ACTIVITY_AT);
+            assertThat(parsed.channelId()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure")
+    class Failure {
+
+        @Test
+        @DisplayName("시각 형식 오류 시 CHANNEL_INVALID_CURSOR")
+        void shouldRejectMalformedTimestamp() {
+            assertThatThrownBy(() -> ChannelCursor.parse("not-a-time_" + CHANNEL_ID))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.CHANNEL_INVALID_CURSOR);
+        }
+
+        @Test
+        @DisplayName("구분자 뒤 channelId 가 비어 있으면 CHANNEL_INVALID_CURSOR")
+        void shouldRejectBlankChannelId() {
+            assertThatThrownBy(() -> ChannelCursor.parse(ACTIVITY_AT + "_"))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.CHANNEL_INVALID_CURSOR);
+        }
+
+        @Test
+        @DisplayName("구분자 없는 비시각 문자열이면 CHANNEL_INVALID_CURSOR")
+        void shouldRejectGarbage() {
+            assertThatThrownBy(() -> ChannelCursor.parse("garbage"))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.CHANNEL_INVALID_CURSOR);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.chat.channel.application.service;
 import java.time.Instant;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,11 +12,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.example.chat.auth.core.util.SecurityUtils;
 import com.example.chat.common.core.enums.ChannelType;
+import com.example.chat.shared.cache.ChannelStateCacheService;
 import com.example.chat.shared.cache.UnreadCacheService;
 import com.example.chat.shared.exception.ChatException;
 import com.example.chat.shared.exception.ResourceNotFoundException;
@@ -30,6 +34,7 @@ import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
 import com.example.chat.storage.domain.entity.ChatChannelEntity;
 import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
 import com.example.chat.storage.domain.entity.LastReadPointer;
+import com.example.chat.storage.domain.entity.UserEntity;
 import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
 import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
 import com.example.chat.storage.domain.repository.JpaChannelRepository;
@@ -46,6 +51,7 @@ import org.springframework.test.util.ReflectionTestUtils;
  * - 소유자 스스로 퇴장 시도: ChatException (DOMAIN_RULE_VIOLATION)
  * - 권한 없는 사용자 제거 시도: ChatException
  * - 채널 없음: ResourceNotFoundException
+ * - inbox 유지: 멤버 추가 시 메타데이터 행 생성, 비활성화 시 inbox 숨김
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ChannelCommandService.removeMember 단위 테스트")
@@ -57,6 +63,7 @@ class ChannelCommandServiceTest {
     @Mock JpaChannelMetadataRepository channelMetadataRepository;
     @Mock KafkaMessageProducer kafkaMessageProducer;
     @Mock UnreadCacheService unreadCacheService;
+    @Mock ChannelStateCacheService channelStateCacheService;
 
     @InjectMocks ChannelCommandService service;
 
@@ -113,6 +120,17 @@ class ChannelCommandServiceTest {
             verify(channelMemberRepository).deleteByChannelIdAndUserId(CHANNEL_ID, MEMBER_ID);
         }
 
+        @Test
+        @DisplayName("발송 경로 채널 상태 캐시 무효화")
+        void shouldInvalidateChannelStateCache() {
+            when(channelMetadataRepository.findByChannelIdAndUserId(CHANNEL_ID, MEMBER_ID))
+                    .thenReturn(Optional.of(metadataWith(LAST_READ)));
+
+            service.removeMember(CHANNEL_ID, MEMBER_ID);
+
+            verify(channelStateCacheService).invalidateChannel(CHANNEL_ID);
+        }
+
         @Test
         @DisplayName("publishMemberLeft 에 lastReadAt 커서 포함")
         void shouldPublishMemberLeftWithLastReadAt() {
@@ -237,4 +255,64 @@ class ChannelCommandServiceTest {
             inOrder.verify(kafkaMessageProducer).publishMemberLeft(MEMBER_ID, CHANNEL_ID, LAST_READ);
         }
     }
+
+    // ──────────────────────────────────────────────────
+    // Inbox Read Model 유지
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("inbox 행 유지")
+    class InboxMaintenance {
+
+        @Test
+        @DisplayName("멤버 추가 시 채널 타입을 담은 inbox 행 생성")
+        void shouldCreateInboxRowOnAddMember() {
+            // Given
+            mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(OWNER_ID));
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(activeChannel(OWNER_ID)));
+            when(userRepository.findById(MEMBER_ID)).thenReturn(Optional.of(mock(UserEntity.class)));
+            when(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, MEMBER_ID)).thenReturn(false);
+            when(channelMetadataRepository.existsByChannelIdAndUserId(CHANNEL_ID, MEMBER_ID)).thenReturn(false);
+
+            // When
+            service.addMember(CHANNEL_ID, MEMBER_ID);
+
+            // Then
+            ArgumentCaptor<ChatChannelMetadataEntity> captor = ArgumentCaptor.forClass(ChatChannelMetadataEntity.class);
+            verify(channelMetadataRepository).save(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(MEMBER_ID);
+            assertThat(captor.getValue().getChannelType()).isEqualTo(ChannelType.GROUP);
+            assertThat(captor.getValue().isChannelActive()).isTrue();
+        }
+
+        @Test
+        @DisplayName("이전 inbox 행이 남아 있으면 중복 생성하지 않음")
+        void shouldNotDuplicateInboxRow() {
+            // Given
+            mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(OWNER_ID));
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(activeChannel(OWNER_ID)));
+            when(userRepository.findById(MEMBER_ID)).thenReturn(Optional.of(mock(UserEntity.class)));
+            when(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, MEMBER_ID)).thenReturn(false);
+            when(channelMetadataRepository.existsByChannelIdAndUserId(CHANNEL_ID, MEMBER_ID)).thenReturn(true);
+
+            // When
+            service.addMember(CHANNEL_ID, MEMBER_ID);
+
+            // Then
+            verify(channelMetadataRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("채널 비활성화 시 모든 멤버 inbox 에서 숨김")
+        void shouldHideInboxRowsOnDeactivate() {
+            // Given
+            mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(OWNER_ID));
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(activeChannel(OWNER_ID)));
+
+            // When
+            service.deactivateChannel(CHANNEL_ID);
+
+            // Then
+            verify(channelMetadataRepository).deactivateChannel(CHANNEL_ID);
+        }
+    }
 }
@@ -0,0 +1,230 @@
+package com.example.chat.channel.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.chat.channel.application.model.CursorPage;
+import com.example.chat.channel.application.query.ChannelListQuery;
+import com.example.chat.channel.rest.dto.response.ChannelListItem;
+import com.example.chat.common.core.enums.ChannelType;
+import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.shared.exception.ChatException;
+import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
+import com.example.chat.storage.domain.repository.JpaChannelLastMessageRepository;
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
+import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
+import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.storage.domain.repository.JpaUserRepository;
+
+/**
+ * [단위 테스트] ChannelListQueryService
+ *
+ * 검증 범위:
+ * - inbox 쿼리 선택: 첫 페이지 / 커서 이후 × 채널 타입 필터 × 키워드 조합마다 전용 쿼리 호출
+ * - 시각 단독(하위 호환) 커서는 빈 문자열 channelId 로 조회
+ * - size+1 조회 → hasNext / nextCursor = 페이지 마지막 inbox 행
+ * - 커서 형식 오류 시 CHANNEL_INVALID_CURSOR, 저장소 미조회
+ * - 채널명 키워드 패턴: 소문자화 + 앞뒤 공백 제거, LIKE 메타 문자(\, %, _) 리터럴 이스케이프, '%' 로 감쌈
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChannelListQueryService 단위 테스트")
+class ChannelListQueryServiceTest {
+
+    @Mock JpaChannelRepository channelRepository;
+    @Mock JpaChannelMemberRepository channelMemberRepository;
+    @Mock JpaChannelMetadataRepository metadataRepository;
+    @Mock JpaChannelLastMessageRepository lastMessageRepository;
+    @Mock JpaUserRepository userRepository;
+    @Mock UnreadCacheService unreadCacheService;
+
+    private ChannelListQueryService service;
+
+    private static final String USER_ID     = "u-001";
+    private static final Instant ACTIVITY_AT = Instant.parse("2026-03-10T09:00:00Z");
+    private static final String CURSOR_CH   = "ch-050";
+    private static final PageRequest PAGE   = PageRequest.ofSize(21);
+
+    @BeforeEach
+    void setUp() {
+        service = new ChannelListQueryService(channelRepository, channelMemberRepository, metadataRepository,
+                lastMessageRepository, userRepository, unreadCacheService);
+    }
+
+    private static ChannelListQuery query(ChannelType type, String keyword, String cursor, int size) {
+        return new ChannelListQuery(USER_ID, type, null, null, null, keyword, cursor, size);
+    }
+
+    private static ChatChannelMetadataEntity inboxRow(String channelId, Instant lastActivityAt) {
+        ChatChannelMetadataEntity row = ChatChannelMetadataEntity.create("md-" + channelId, channelId, USER_ID,
+                ChannelType.GROUP);
+        ReflectionTestUtils.setField(row, "lastActivityAt", lastActivityAt);
+        return row;
+    }
+
+    // ──────────────────────────────────────────────────
+    // Inbox Query Selection
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("getChannelList — 쿼리 선택")
+    class QuerySelection {
+
+        @Test
+        @DisplayName("커서·타입·키워드 없음 → 첫 페이지 쿼리")
+        void shouldUseFirstPageQuery() {
+            // When
+            service.getChannelList(query(null, null, null, 20));
+
+            // Then
+            verify(metadataRepository).findInboxFirstPage(USER_ID, false, false, false, PAGE);
+            verifyNoMoreInteractions(metadataRepository);
+        }
+
+        @Test
+        @DisplayName("타입 필터 + 커서 → 타입 지정 커서 이후 쿼리")
+        void shouldUseTypedAfterCursorQuery() {
+            service.getChannelList(query(ChannelType.GROUP, null, ACTIVITY_AT + "_" + CURSOR_CH, 20));
+
+            verify(metadataRepository).findInboxPageAfterByType(
+                    USER_ID, ChannelType.GROUP, false, false, false, ACTIVITY_AT, CURSOR_CH, PAGE);
+            verifyNoMoreInteractions(metadataRepository);
+        }
+
+        @Test
+        @DisplayName("시각 단독 기존 커서 → channelId 빈 문자열로 커서 이후 쿼리 (시각만 비교)")
+        void shouldUseEmptyChannelIdForLegacyCursor() {
+            service.getChannelList(query(null, null, ACTIVITY_AT.toString(), 20));
+
+            verify(metadataRepository).findInboxPageAfter(USER_ID, false, false, false, ACTIVITY_AT, "", PAGE);
+            verifyNoMoreInteractions(metadataRepository);
+        }
+
+        @Test
+        @DisplayName("키워드 → 이스케이프한 패턴으로 키워드 첫 페이지 쿼리")
+        void shouldUseKeywordFirstPageQuery() {
+            service.getChannelList(query(null, " Dev_Ops ", null, 20));
+
+            verify(metadataRepository).findInboxFirstPageByKeyword(USER_ID, false, false, false, "%dev\\_ops%", PAGE);
+            verifyNoMoreInteractions(metadataRepository);
+        }
+
+        @Test
+        @DisplayName("타입 + 키워드 + 커서 → 전용 쿼리")
+        void shouldUseTypedKeywordAfterCursorQuery() {
+            service.getChannelList(query(ChannelType.DIRECT, "dev", ACTIVITY_AT + "_" + CURSOR_CH, 20));
+
+            verify(metadataRepository).findInboxPageAfterByTypeAndKeyword(
+                    USER_ID, ChannelType.DIRECT, false, false, false, "%dev%", ACTIVITY_AT, CURSOR_CH, PAGE);
+            verifyNoMoreInteractions(metadataRepository);
+        }
+
+        @Test
+        @DisplayName("공백 키워드는 키워드 없음으로 처리")
+        void shouldIgnoreBlankKeyword() {
+            service.getChannelList(query(null, "   ", null, 20));
+
+            verify(metadataRepository).findInboxFirstPage(USER_ID, false, false, false, PAGE);
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Paging
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("getChannelList — 페이징")
+    class Paging {
+
+        @Test
+        @DisplayName("size+1 개 조회 시 hasNext, nextCursor 는 페이지 마지막 inbox 행")
+        void shouldBuildNextCursorFromLastRow() {
+            // Given
+            when(metadataRepository.findInboxFirstPage(USER_ID, false, false, false, PageRequest.ofSize(3)))
+                    .thenReturn(List.of(
+                            inboxRow("ch-003", ACTIVITY_AT.plusSeconds(2)),
+                            inboxRow("ch-002", ACTIVITY_AT.plusSeconds(1)),
+                            inboxRow("ch-001", ACTIVITY_AT)));
+
+            // When
+            CursorPage<ChannelListItem> page = service.getChannelList(query(null, null, null, 2));
+
+            // Then
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.nextCursor()).isEqualTo(ACTIVITY_AT.plusSeconds(1) + "_ch-002");
+        }
+
+        @Test
+        @DisplayName("결과가 없으면 빈 페이지, 배치 조회 생략")
+        void shouldReturnEmptyPage() {
+            CursorPage<ChannelListItem> page = service.getChannelList(query(null, null, null, 20));
+
+            assertThat(page.content()).isEmpty();
+            assertThat(page.hasNext()).isFalse();
+            verifyNoInteractions(channelRepository, channelMemberRepository, lastMessageRepository, unreadCacheService);
+        }
+
+        @Test
+        @DisplayName("커서 형식 오류 시 CHANNEL_INVALID_CURSOR, 저장소 미조회")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> service.getChannelList(query(null, null, "not-a-time_ch-1", 20)))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.CHANNEL_INVALID_CURSOR);
+            verifyNoInteractions(metadataRepository);
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Keyword Pattern
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("keywordPattern")
+    class KeywordPattern {
+
+        @Test
+        @DisplayName("소문자화 + 앞뒤 공백 제거 후 '%' 로 감쌈")
+        void shouldLowercaseAndWrap() {
+            assertThat(ChannelListQueryService.keywordPattern("  Dev Team ")).isEqualTo("%dev team%");
+        }
+
+        @Test
+        @DisplayName("'%' 는 리터럴로 이스케이프")
+        void shouldEscapePercent() {
+            assertThat(ChannelListQueryService.keywordPattern("100%")).isEqualTo("%100\\%%");
+        }
+
+        @Test
+        @DisplayName("'_' 는 리터럴로 이스케이프")
+        void shouldEscapeUnderscore() {
+            assertThat(ChannelListQueryService.keywordPattern("dev_ops")).isEqualTo("%dev\\_ops%");
+        }
+
+        @Test
+        @DisplayName("'\\' 는 리터럴로 이스케이프")
+        void shouldEscapeBackslash() {
+            assertThat(ChannelListQueryService.keywordPattern("a\\b")).isEqualTo("%a\\\\b%");
+        }
+
+        @Test
+        @DisplayName("한글은 그대로 유지")
+        void shouldKeepHangul() {
+            assertThat(ChannelListQueryService.keywordPattern("공지방")).isEqualTo("%공지방%");
+        }
+    }
+}
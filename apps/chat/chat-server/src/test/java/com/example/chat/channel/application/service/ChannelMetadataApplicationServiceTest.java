@@ -22,10 +22,10 @@ import org.mockito.quality.Strictness;
 import com.example.chat.channel.rest.dto.response.ChannelMetadataResponse;
 import com.example.chat.channel.infrastructure.redis.ReadReceiptEventPublisher;
 import com.example.chat.common.core.enums.MessageType;
+import com.example.chat.shared.cache.ChannelReadCursorCache;
 import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer;
 import com.example.chat.shared.exception.ResourceNotFoundException;
-import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
-import com.example.chat.message.infrastructure.kafka.ReadReceiptKafkaEvent;
 import com.example.chat.storage.domain.entity.ChatChannelMetadataEntity;
 import com.example.chat.storage.domain.entity.ChatMessageEntity;
 import com.example.chat.storage.domain.entity.MessageContent;
@@ -39,11 +39,11 @@ import org.springframework.test.util.ReflectionTestUtils;
  * [단위 테스트] ChannelMetadataApplicationService.markAsRead()
  *
  * 검증 범위:
- * - 정상 markAsRead → metadata 저장 + Redis 발행 + Kafka 발행
- * - messageId 없는 메시지 → Kafka 이벤트 미발행 (ifPresent)
+ * - 정상 markAsRead → metadata 저장(읽음 커서 포함) + Redis 발행 + 읽음 커서 전진
+ * - 미반영 Write-Behind 증분 폐기 후 0 리셋
+ * - 메시지 없음 / 다른 채널 메시지 → 읽음 커서 미전진
+ * - 과거 메시지 읽음 → 읽음 커서 후퇴 없음
  * - metadata 없음 → ResourceNotFoundException
- * - Kafka 발행 실패 → non-critical, 예외 전파 없음
- * - Redis 발행 실패 → 예외 전파 확인 (설계 의도 검증)
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)  // @BeforeEach stub이 Nested 클래스에서 override될 때 허용
@@ -54,9 +54,10 @@ class ChannelMetadataApplicationServiceTest {
     @Mock JpaChannelRepository channelRepository;
     @Mock JpaChannelMemberRepository channelMemberRepository;
     @Mock ReadReceiptEventPublisher readReceiptEventPublisher;
-    @Mock KafkaMessageProducer kafkaMessageProducer;
     @Mock JpaMessageRepository messageRepository;
     @Mock UnreadCacheService unreadCacheService;
+    @Mock UnreadWriteBehindBuffer unreadWriteBehindBuffer;
+    @Mock ChannelReadCursorCache readCursorCache;
 
     @InjectMocks ChannelMetadataApplicationService service;
 
@@ -70,9 +71,13 @@ class ChannelMetadataApplicationServiceTest {
     }
 
     private ChatMessageEntity stubMessage() {
+        return stubMessage(MESSAGE_ID, CHANNEL_ID, CREATED_AT);
+    }
+
+    private ChatMessageEntity stubMessage(String messageId, String channelId, Instant createdAt) {
         MessageContent content = MessageContent.of("test", null, null, null, null);
-        ChatMessageEntity msg = ChatMessageEntity.create(MESSAGE_ID, CHANNEL_ID, "other-user", MessageType.TEXT, content);
-        ReflectionTestUtils.setField(msg, "createdAt", CREATED_AT);
+        ChatMessageEntity msg = ChatMessageEntity.create(messageId, channelId, "other-user", MessageType.TEXT, content);
+        ReflectionTestUtils.setField(msg, "createdAt", createdAt);
         return msg;
     }
 
@@ -113,46 +118,97 @@ class ChannelMetadataApplicationServiceTest {
         }
 
         @Test
-        @DisplayName("Kafka ReadReceipt 이벤트 발행 — channelId, createdAt 커서 포함")
-        void shouldPublishKafkaReadReceiptWithCorrectCursor() {
+        @DisplayName("읽은 메시지 생성 시각을 읽음 커서로 저장")
+        void shouldStoreMessageCreatedAtAsReadCursor() {
+            service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
+
+            ArgumentCaptor<ChatChannelMetadataEntity> captor = ArgumentCaptor.forClass(ChatChannelMetadataEntity.class);
+            verify(metadataRepository).save(captor.capture());
+            assertThat(captor.getValue().getLastReadMessageId()).isEqualTo(MESSAGE_ID);
+            assertThat(captor.getValue().getLastReadMessageAt()).isEqualTo(CREATED_AT);
+            assertThat(captor.getValue().getUnreadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("읽음 커서 캐시를 메시지 생성 시각으로 전진")
+        void shouldAdvanceReadCursorCache() {
             service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
 
-            ArgumentCaptor<ReadReceiptKafkaEvent> captor = ArgumentCaptor.forClass(ReadReceiptKafkaEvent.class);
-            verify(kafkaMessageProducer).publishReadReceipt(captor.capture());
+            verify(readCursorCache).advance(CHANNEL_ID, USER_ID, CREATED_AT);
+        }
+
+        @Test
+        @DisplayName("미반영 Write-Behind 증분을 metadata 저장 전에 폐기")
+        void shouldDiscardBufferedDeltaBeforeSave() {
+            service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
 
-            ReadReceiptKafkaEvent published = captor.getValue();
-            assertThat(published.userId()).isEqualTo(USER_ID);
-            assertThat(published.channelId()).isEqualTo(CHANNEL_ID);
-            assertThat(published.lastReadMessageId()).isEqualTo(MESSAGE_ID);
-            assertThat(published.lastReadCreatedAt()).isEqualTo(CREATED_AT);
+            var inOrder = inOrder(unreadWriteBehindBuffer, metadataRepository);
+            inOrder.verify(unreadWriteBehindBuffer).discardUser(CHANNEL_ID, USER_ID);
+            inOrder.verify(metadataRepository).save(any());
         }
 
         @Test
-        @DisplayName("Redis 발행과 Kafka 발행이 모두 호출됨")
-        void shouldCallBothRedisAndKafka() {
+        @DisplayName("메시지 행 미읽음 수는 갱신하지 않음 (조회 전용)")
+        void shouldNotTouchMessageRows() {
             service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
 
-            verify(readReceiptEventPublisher, times(1)).publish(any(), any(), any());
-            verify(kafkaMessageProducer, times(1)).publishReadReceipt(any());
+            verify(messageRepository, never()).save(any());
+            verify(messageRepository, never()).saveAll(any());
         }
     }
 
     // ──────────────────────────────────────────────────
-    // Message Not Found (Kafka event skip)
+    // Read Cursor Boundary
     // ──────────────────────────────────────────────────
     @Nested
-    @DisplayName("메시지 조회 실패 시 Kafka 발행 스킵")
-    class MessageNotFound {
+    @DisplayName("읽음 커서 경계")
+    class ReadCursorBoundary {
 
         @Test
-        @DisplayName("메시지 없으면 Kafka 미발행, Redis는 발행")
-        void shouldSkipKafkaWhenMessageNotFound() {
+        @DisplayName("메시지 없으면 커서 미전진, Redis는 발행")
+        void shouldNotAdvanceCursorWhenMessageNotFound() {
+            // Given
             when(messageRepository.findById(MESSAGE_ID)).thenReturn(Optional.empty());
 
+            // When
             service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
 
+            // Then
             verify(readReceiptEventPublisher).publish(USER_ID, CHANNEL_ID, MESSAGE_ID);
-            verify(kafkaMessageProducer, never()).publishReadReceipt(any());
+            verify(readCursorCache).advance(CHANNEL_ID, USER_ID, null);
+        }
+
+        @Test
+        @DisplayName("다른 채널 메시지 ID 면 커서 미전진")
+        void shouldNotAdvanceCursorForMessageOfOtherChannel() {
+            // Given
+            when(messageRepository.findById(MESSAGE_ID))
+                    .thenReturn(Optional.of(stubMessage(MESSAGE_ID, "ch-other", CREATED_AT)));
+
+            // When
+            service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
+
+            // Then
+            verify(readCursorCache).advance(CHANNEL_ID, USER_ID, null);
+        }
+
+        @Test
+        @DisplayName("현재 커서보다 과거 메시지 읽음 → 커서 유지")
+        void shouldNotMoveCursorBackward() {
+            // Given: 이미 CREATED_AT 까지 읽음
+            ChatChannelMetadataEntity meta = stubMetadata();
+            meta.markAsRead(MESSAGE_ID, CREATED_AT);
+            when(metadataRepository.findByChannelIdAndUserId(CHANNEL_ID, USER_ID)).thenReturn(Optional.of(meta));
+            when(messageRepository.findById("msg-old"))
+                    .thenReturn(Optional.of(stubMessage("msg-old", CHANNEL_ID, CREATED_AT.minusSeconds(60))));
+
+            // When
+            service.markAsRead(USER_ID, CHANNEL_ID, "msg-old");
+
+            // Then
+            assertThat(meta.getLastReadMessageId()).isEqualTo(MESSAGE_ID);
+            assertThat(meta.getLastReadMessageAt()).isEqualTo(CREATED_AT);
+            verify(readCursorCache).advance(CHANNEL_ID, USER_ID, CREATED_AT);
         }
     }
 
@@ -172,27 +228,4 @@ class ChannelMetadataApplicationServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class);
         }
     }
-
-    // ──────────────────────────────────────────────────
-    // Kafka Non-Critical Failure
-    // ──────────────────────────────────────────────────
-    @Nested
-    @DisplayName("Kafka 발행 실패 — non-critical")
-    class KafkaFailure {
-
-        @Test
-        @DisplayName("Kafka 예외 발생해도 markAsRead 정상 응답 반환")
-        void shouldReturnResponseEvenWhenKafkaFails() {
-            ChatMessageEntity msg = stubMessage();
-            when(messageRepository.findById(MESSAGE_ID)).thenReturn(Optional.of(msg));
-            doThrow(new RuntimeException("Kafka unavailable"))
-                    .when(kafkaMessageProducer).publishReadReceipt(any());
-
-            // Kafka 실패는 내부에서 catch → 예외 전파 없음
-            ChannelMetadataResponse response = service.markAsRead(USER_ID, CHANNEL_ID, MESSAGE_ID);
-
-            assertThat(response).isNotNull();
-            verify(metadataRepository).save(any());
-        }
-    }
 }
@@ -1,57 +1,66 @@
 package com.example.chat.channel.infrastructure.kafka;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 
 import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
-import com.example.chat.storage.domain.repository.JpaMessageRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * [단위 테스트] MemberLeftKafkaConsumer
+ * [단위 테스트] MemberLeftKafkaConsumer (배치 리스너)
  *
  * 검증 범위:
- * - lastReadAt 있음 → bulkDecrementUnreadCountAfterCursor 호출 + deleteByChannelIdAndUserId + ACK
- * - lastReadAt null(한 번도 읽지 않음) → 전체 메시지 감소 + ACK
- * - channelId / userId null → 스킵(ACK)
- * - JSON 파싱 / DB 예외 → 예외 전파 없이 ACK
+ * - 같은 채널 퇴장자 병합 → 채널당 deleteByChannelIdAndUserIdIn 1회 + 배치 ACK 1회
+ * - 같은 사용자 중복 이벤트 → 1건으로 병합
+ * - channelId / userId null, 역직렬화 null → 해당 레코드만 스킵
+ * - JSON 파싱 실패 → 해당 레코드만 스킵 후 ACK
+ * - DB 예외 → 나머지 채널은 처리, ACK 없이 첫 실패 레코드 위치로 BatchListenerFailedException
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MemberLeftKafkaConsumer 단위 테스트")
 class MemberLeftKafkaConsumerTest {
 
-    @Mock JpaMessageRepository messageRepository;
     @Mock JpaChannelMetadataRepository metadataRepository;
     @Mock ObjectMapper objectMapper;
     @Mock Acknowledgment acknowledgment;
 
     @InjectMocks MemberLeftKafkaConsumer consumer;
 
-    private static final String CHANNEL_ID = "ch-001";
-    private static final String USER_ID    = "u-001";
-    private static final Instant LAST_READ = Instant.parse("2026-03-10T09:00:00Z");
+    private static final String CHANNEL_ID   = "ch-001";
+    private static final String CHANNEL_ID_2 = "ch-002";
+    private static final String USER_ID      = "u-001";
+    private static final String USER_ID_2    = "u-002";
+    private static final Instant LAST_READ   = Instant.parse("2026-03-10T09:00:00Z");
 
     private ConsumerRecord<String, String> record(String value) {
         return new ConsumerRecord<>("member-left-events", 0, 0L, CHANNEL_ID, value);
     }
 
+    private void stubEvent(String json, MemberLeftKafkaEvent event) throws Exception {
+        when(objectMapper.readValue(json, MemberLeftKafkaEvent.class)).thenReturn(event);
+    }
+
     // ──────────────────────────────────────────────────
     // Happy Path
     // ──────────────────────────────────────────────────
@@ -60,43 +69,43 @@ class MemberLeftKafkaConsumerTest {
     class HappyPath {
 
         @Test
-        @DisplayName("lastReadAt 있음 → bulkDecrement + deleteMetadata + ACK")
-        void shouldDecrementAndDeleteWhenLastReadAtPresent() throws Exception {
-            MemberLeftKafkaEvent event = new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ);
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class))).thenReturn(event);
-            when(messageRepository.bulkDecrementUnreadCountAfterCursor(CHANNEL_ID, LAST_READ)).thenReturn(7);
-
-            consumer.consume(record("{}"), acknowledgment);
-
-            verify(messageRepository).bulkDecrementUnreadCountAfterCursor(CHANNEL_ID, LAST_READ);
-            verify(metadataRepository).deleteByChannelIdAndUserId(CHANNEL_ID, USER_ID);
-            verify(acknowledgment).acknowledge();
+        @DisplayName("같은 채널 퇴장자 병합 → 채널당 DELETE 1회 + ACK 1회")
+        void shouldDeleteOncePerChannel() throws Exception {
+            // Given
+            stubEvent("a", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ));
+            stubEvent("b", new MemberLeftKafkaEvent(USER_ID_2, CHANNEL_ID, null));
+            stubEvent("c", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID_2, LAST_READ));
+
+            // When
+            consumer.consume(List.of(record("a"), record("b"), record("c")), acknowledgment);
+
+            // Then
+            verify(metadataRepository).deleteByChannelIdAndUserIdIn(CHANNEL_ID, Set.of(USER_ID, USER_ID_2));
+            verify(metadataRepository).deleteByChannelIdAndUserIdIn(CHANNEL_ID_2, Set.of(USER_ID));
+            verify(acknowledgment, times(1)).acknowledge();
         }
 
         @Test
-        @DisplayName("lastReadAt null (한 번도 읽지 않음) → 전체 메시지 감소")
-        void shouldDecrementAllWhenLastReadAtIsNull() throws Exception {
-            MemberLeftKafkaEvent event = new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, null);
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class))).thenReturn(event);
-            when(messageRepository.bulkDecrementUnreadCountAfterCursor(CHANNEL_ID, null)).thenReturn(20);
+        @DisplayName("같은 사용자 중복 이벤트 → 1건으로 병합")
+        void shouldCollapseDuplicateEvents() throws Exception {
+            // Given
+            stubEvent("a", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ));
+            stubEvent("b", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ));
 
-            consumer.consume(record("{}"), acknowledgment);
+            // When
+            consumer.consume(List.of(record("a"), record("b")), acknowledgment);
 
-            verify(messageRepository).bulkDecrementUnreadCountAfterCursor(CHANNEL_ID, null);
-            verify(metadataRepository).deleteByChannelIdAndUserId(CHANNEL_ID, USER_ID);
+            // Then
+            verify(metadataRepository, times(1)).deleteByChannelIdAndUserIdIn(CHANNEL_ID, Set.of(USER_ID));
             verify(acknowledgment).acknowledge();
         }
 
         @Test
-        @DisplayName("업데이트 결과 0건이어도 메타데이터 삭제 후 ACK")
-        void shouldDeleteMetadataEvenWhenZeroMessagesUpdated() throws Exception {
-            MemberLeftKafkaEvent event = new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ);
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class))).thenReturn(event);
-            when(messageRepository.bulkDecrementUnreadCountAfterCursor(any(), any())).thenReturn(0);
-
-            consumer.consume(record("{}"), acknowledgment);
+        @DisplayName("빈 배치 → DB 호출 없이 ACK")
+        void shouldAckEmptyBatch() {
+            consumer.consume(List.of(), acknowledgment);
 
-            verify(metadataRepository).deleteByChannelIdAndUserId(CHANNEL_ID, USER_ID);
+            verifyNoInteractions(metadataRepository);
             verify(acknowledgment).acknowledge();
         }
     }
@@ -111,35 +120,34 @@ class MemberLeftKafkaConsumerTest {
         @Test
         @DisplayName("channelId null → 스킵(ACK), DB 호출 없음")
         void shouldSkipWhenChannelIdNull() throws Exception {
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class)))
-                    .thenReturn(new MemberLeftKafkaEvent(USER_ID, null, LAST_READ));
+            stubEvent("{}", new MemberLeftKafkaEvent(USER_ID, null, LAST_READ));
 
-            consumer.consume(record("{}"), acknowledgment);
+            consumer.consume(List.of(record("{}")), acknowledgment);
 
-            verifyNoInteractions(messageRepository, metadataRepository);
+            verifyNoInteractions(metadataRepository);
             verify(acknowledgment).acknowledge();
         }
 
         @Test
         @DisplayName("userId null → 스킵(ACK), DB 호출 없음")
         void shouldSkipWhenUserIdNull() throws Exception {
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class)))
-                    .thenReturn(new MemberLeftKafkaEvent(null, CHANNEL_ID, LAST_READ));
+            stubEvent("{}", new MemberLeftKafkaEvent(null, CHANNEL_ID, LAST_READ));
 
-            consumer.consume(record("{}"), acknowledgment);
+            consumer.consume(List.of(record("{}")), acknowledgment);
 
-            verifyNoInteractions(messageRepository, metadataRepository);
+            verifyNoInteractions(metadataRepository);
             verify(acknowledgment).acknowledge();
         }
 
         @Test
-        @DisplayName("역직렬화 null 반환 → 스킵(ACK)")
-        void shouldSkipWhenDeserializationReturnsNull() throws Exception {
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class))).thenReturn(null);
+        @DisplayName("역직렬화 null 반환 → 스킵, 같은 배치의 유효 레코드는 처리")
+        void shouldSkipOnlyInvalidRecord() throws Exception {
+            stubEvent("null", null);
+            stubEvent("ok", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ));
 
-            consumer.consume(record("null"), acknowledgment);
+            consumer.consume(List.of(record("null"), record("ok")), acknowledgment);
 
-            verifyNoInteractions(messageRepository, metadataRepository);
+            verify(metadataRepository).deleteByChannelIdAndUserIdIn(CHANNEL_ID, Set.of(USER_ID));
             verify(acknowledgment).acknowledge();
         }
     }
@@ -154,36 +162,29 @@ class MemberLeftKafkaConsumerTest {
         @Test
         @DisplayName("JSON 파싱 실패 → 예외 전파 없이 ACK")
         void shouldNotPropagateJsonException() throws Exception {
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class)))
+            when(objectMapper.readValue("bad", MemberLeftKafkaEvent.class))
                     .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "bad"));
 
-            assertThatNoException().isThrownBy(() -> consumer.consume(record("bad"), acknowledgment));
+            assertThatNoException().isThrownBy(() -> consumer.consume(List.of(record("bad")), acknowledgment));
+            verifyNoInteractions(metadataRepository);
             verify(acknowledgment).acknowledge();
         }
 
         @Test
-        @DisplayName("DB 예외 발생 → 예외 전파 없이 ACK")
-        void shouldNotPropagateDbException() throws Exception {
-            MemberLeftKafkaEvent event = new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ);
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class))).thenReturn(event);
-            when(messageRepository.bulkDecrementUnreadCountAfterCursor(any(), any()))
+        @DisplayName("한 채널 DELETE 예외 → 다른 채널은 처리, ACK 없이 실패 레코드 위치로 예외")
+        void shouldNotAckWhenChannelFails() throws Exception {
+            // Given: index 0 = 성공 채널, index 1 = 실패 채널
+            stubEvent("a", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID_2, LAST_READ));
+            stubEvent("b", new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ));
+            when(metadataRepository.deleteByChannelIdAndUserIdIn(eq(CHANNEL_ID), eq(Set.of(USER_ID))))
                     .thenThrow(new RuntimeException("DB down"));
 
-            assertThatNoException().isThrownBy(() -> consumer.consume(record("{}"), acknowledgment));
-            verify(acknowledgment).acknowledge();
-        }
-
-        @Test
-        @DisplayName("bulkDecrement 성공 후 deleteMetadata 예외 → 예외 전파 없이 ACK")
-        void shouldNotPropagateDeleteMetadataException() throws Exception {
-            MemberLeftKafkaEvent event = new MemberLeftKafkaEvent(USER_ID, CHANNEL_ID, LAST_READ);
-            when(objectMapper.readValue(anyString(), eq(MemberLeftKafkaEvent.class))).thenReturn(event);
-            when(messageRepository.bulkDecrementUnreadCountAfterCursor(any(), any())).thenReturn(3);
-            doThrow(new RuntimeException("constraint error"))
-                    .when(metadataRepository).deleteByChannelIdAndUserId(CHANNEL_ID, USER_ID);
-
-            assertThatNoException().isThrownBy(() -> consumer.consume(record("{}"), acknowledgment));
-            verify(acknowledgment).acknowledge();
+            // When & Then
+            assertThatThrownBy(() -> consumer.consume(List.of(record("a"), record("b")), acknowledgment))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1));
+            verify(metadataRepository).deleteByChannelIdAndUserIdIn(CHANNEL_ID_2, Set.of(USER_ID));
+            verify(acknowledgment, never()).acknowledge();
         }
     }
 }
@@ -0,0 +1,156 @@
+package com.example.chat.channel.infrastructure.unread;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer;
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer.Snapshot;
+import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * [단위 테스트] UnreadWriteBehindFlusher
+ *
+ * 검증 범위:
+ * - dirty 채널마다 점유 → UPDATE 1회 → 스냅샷 삭제
+ * - 점유할 증분이 없으면 UPDATE 생략
+ * - DB 반영 실패 시 스냅샷 유지 (acknowledge 미호출) 후 다음 채널 계속 처리
+ * - 점유 토큰으로 acknowledge, 점유가 회수되어 거부되어도 다음 채널 계속 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadWriteBehindFlusher 단위 테스트")
+class UnreadWriteBehindFlusherTest {
+
+    @Mock UnreadWriteBehindBuffer buffer;
+    @Mock JpaChannelMetadataRepository metadataRepository;
+
+    private final UnreadFlushProperties properties = new UnreadFlushProperties();
+    private UnreadWriteBehindFlusher flusher;
+
+    private static final Instant ACTIVITY_AT = Instant.parse("2026-03-10T09:00:00Z");
+    private static final Instant CLAIMED_AT  = Instant.parse("2026-03-10T09:00:02Z");
+    private static final String TOKEN        = "claim-token";
+
+    @BeforeEach
+    void setUp() {
+        flusher = new UnreadWriteBehindFlusher(buffer, metadataRepository, properties, new ObjectMapper());
+    }
+
+    private Snapshot snapshot(String channelId) {
+        return new Snapshot(channelId, Map.of("u-1", 3), ACTIVITY_AT, CLAIMED_AT, TOKEN);
+    }
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("채널 증분을 UPDATE 1회로 반영하고 스냅샷 삭제")
+        void shouldApplyDeltaAndAcknowledge() {
+            // Given
+            when(buffer.findDirtyChannels(500)).thenReturn(new LinkedHashSet<>(List.of("ch-1")));
+            when(buffer.claim("ch-1")).thenReturn(Optional.of(snapshot("ch-1")));
+            when(buffer.acknowledge("ch-1", TOKEN)).thenReturn(true);
+
+            // When
+            flusher.flush();
+
+            // Then
+            verify(metadataRepository).applyUnreadDelta("ch-1", "{\"u-1\":3}", ACTIVITY_AT, CLAIMED_AT);
+            verify(buffer).acknowledge("ch-1", TOKEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Boundary")
+    class Boundary {
+
+        @Test
+        @DisplayName("점유할 증분이 없으면 UPDATE 하지 않음")
+        void shouldSkipWhenNothingClaimed() {
+            // Given
+            when(buffer.findDirtyChannels(500)).thenReturn(new LinkedHashSet<>(List.of("ch-1")));
+            when(buffer.claim("ch-1")).thenReturn(Optional.empty());
+
+            // When
+            flusher.flush();
+
+            // Then
+            verify(metadataRepository, never()).applyUnreadDelta(anyString(), anyString(), any(), any());
+            verify(buffer, never()).acknowledge(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure")
+    class Failure {
+
+        @Test
+        @DisplayName("DB 반영 실패 채널은 스냅샷을 남기고 다음 채널 계속 처리")
+        void shouldKeepSnapshotOnDbFailure() {
+            // Given
+            when(buffer.findDirtyChannels(500)).thenReturn(new LinkedHashSet<>(List.of("ch-1", "ch-2")));
+            when(buffer.claim("ch-1")).thenReturn(Optional.of(snapshot("ch-1")));
+            when(buffer.claim("ch-2")).thenReturn(Optional.of(snapshot("ch-2")));
+            lenient().doThrow(new RuntimeException("db down")).when(metadataRepository)
+                    .applyUnreadDelta(eq("ch-1"), anyString(), any(), any());
+
+            // When
+            flusher.flush();
+
+            // Then
+            verify(buffer, never()).acknowledge(eq("ch-1"), anyString());
+            verify(buffer).acknowledge("ch-2", TOKEN);
+        }
+
+        @Test
+        @DisplayName("점유가 회수되어 acknowledge 거부 → 예외 없이 다음 채널 계속 처리")
+        void shouldContinueWhenAcknowledgeRejected() {
+            // Given
+            when(buffer.findDirtyChannels(500)).thenReturn(new LinkedHashSet<>(List.of("ch-1", "ch-2")));
+            when(buffer.claim("ch-1")).thenReturn(Optional.of(snapshot("ch-1")));
+            when(buffer.claim("ch-2")).thenReturn(Optional.of(snapshot("ch-2")));
+            when(buffer.acknowledge("ch-1", TOKEN)).thenReturn(false);
+            when(buffer.acknowledge("ch-2", TOKEN)).thenReturn(true);
+
+            // When
+            flusher.flush();
+
+            // Then
+            verify(metadataRepository).applyUnreadDelta(eq("ch-2"), anyString(), any(), any());
+            verify(buffer).acknowledge("ch-2", TOKEN);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 플러시 건너뜀")
+        void shouldSkipWhenRedisUnavailable() {
+            // Given
+            when(buffer.findDirtyChannels(500)).thenThrow(new RuntimeException("redis down"));
+
+            // When
+            flusher.flush();
+
+            // Then
+            verify(buffer, never()).claim(anyString());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.chat.common.core.exception.ChatErrorCode;
 import com.example.chat.file.domain.model.*;
 import com.example.chat.file.domain.repository.UploadedFileRepository;
 import com.example.chat.file.domain.service.S3StorageService;
+import com.example.chat.file.domain.service.StorageBusyException;
 import com.example.chat.file.rest.dto.response.FileUploadResponse;
 import com.example.chat.shared.exception.ChatException;
 import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
@@ -16,7 +17,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -68,7 +72,7 @@ class FileUploadCommandServiceImplTest {
                 MockMultipartFile file = imageFile(fiveMB);
                 given(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, UPLOADER_ID))
                         .willReturn(true);
-                given(s3StorageService.upload(any(S3Key.class), any(byte[].class), anyString()))
+                given(s3StorageService.upload(any(S3Key.class), any(InputStream.class), anyLong(), anyString()))
                         .willReturn(FILE_URL);
 
                 ArgumentCaptor<UploadedFile> captor = ArgumentCaptor.forClass(UploadedFile.class);
@@ -79,10 +83,35 @@ class FileUploadCommandServiceImplTest {
                 FileUploadResponse response = sut.uploadFile(UPLOADER_ID, CHANNEL_ID, file);
 
                 // then
-                then(s3StorageService).should().upload(any(S3Key.class), any(byte[].class), eq("image/jpeg"));
+                then(s3StorageService).should()
+                        .upload(any(S3Key.class), any(InputStream.class), eq(fiveMB), eq("image/jpeg"));
                 assertThat(response.fileUrl()).isEqualTo(FILE_URL);
                 assertThat(response.fileType()).isEqualTo(FileType.IMAGE);
             }
+
+            @Test
+            @DisplayName("업로드 전 PENDING, 업로드 후 COMPLETED 를 각각 따로 저장한다")
+            void savesPendingThenCompleted() {
+                // given
+                MockMultipartFile file = imageFile(1024);
+                given(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, UPLOADER_ID))
+                        .willReturn(true);
+                given(s3StorageService.upload(any(S3Key.class), any(InputStream.class), anyLong(), anyString()))
+                        .willReturn(FILE_URL);
+
+                List<UploadStatus> savedStatuses = new ArrayList<>();
+                given(uploadedFileRepository.save(any(UploadedFile.class))).willAnswer(inv -> {
+                    UploadedFile saved = inv.getArgument(0);
+                    savedStatuses.add(saved.getStatus());
+                    return saved;
+                });
+
+                // when
+                sut.uploadFile(UPLOADER_ID, CHANNEL_ID, file);
+
+                // then
+                assertThat(savedStatuses).containsExactly(UploadStatus.PENDING, UploadStatus.COMPLETED);
+            }
         }
 
         @Nested
@@ -197,7 +226,7 @@ class FileUploadCommandServiceImplTest {
                 MockMultipartFile file = imageFile(1024);
                 given(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, UPLOADER_ID))
                         .willReturn(true);
-                given(s3StorageService.upload(any(), any(), any()))
+                given(s3StorageService.upload(any(), any(), anyLong(), any()))
                         .willThrow(new RuntimeException("S3 error"));
 
                 ArgumentCaptor<UploadedFile> captor = ArgumentCaptor.forClass(UploadedFile.class);
@@ -214,6 +243,50 @@ class FileUploadCommandServiceImplTest {
                 assertThat(captor.getAllValues())
                         .anySatisfy(saved -> assertThat(saved.getStatus()).isEqualTo(UploadStatus.FAILED));
             }
+
+            @Test
+            @DisplayName("동시 업로드 한도 초과 시 FAILED 상태 저장 후 FILE_UPLOAD_BUSY 예외가 발생한다")
+            void storageBusy() {
+                // given
+                MockMultipartFile file = imageFile(1024);
+                given(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, UPLOADER_ID))
+                        .willReturn(true);
+                given(s3StorageService.upload(any(), any(), anyLong(), any()))
+                        .willThrow(new StorageBusyException("Too many concurrent uploads"));
+
+                ArgumentCaptor<UploadedFile> captor = ArgumentCaptor.forClass(UploadedFile.class);
+                given(uploadedFileRepository.save(captor.capture()))
+                        .willAnswer(inv -> captor.getValue());
+
+                // when & then
+                assertThatThrownBy(() -> sut.uploadFile(UPLOADER_ID, CHANNEL_ID, file))
+                        .isInstanceOf(ChatException.class)
+                        .extracting(ex -> ((ChatException) ex).getErrorCode())
+                        .isEqualTo(ChatErrorCode.FILE_UPLOAD_BUSY);
+
+                assertThat(captor.getAllValues())
+                        .anySatisfy(saved -> assertThat(saved.getStatus()).isEqualTo(UploadStatus.FAILED));
+            }
+
+            @Test
+            @DisplayName("FAILED 상태 저장이 실패해도 원래 업로드 오류(FILE_UPLOAD_FAILED)로 응답한다")
+            void failedStatusSaveDoesNotMaskError() {
+                // given
+                MockMultipartFile file = imageFile(1024);
+                given(channelMemberRepository.existsByChannelIdAndUserId(CHANNEL_ID, UPLOADER_ID))
+                        .willReturn(true);
+                given(s3StorageService.upload(any(), any(), anyLong(), any()))
+                        .willThrow(new RuntimeException("S3 error"));
+                given(uploadedFileRepository.save(any(UploadedFile.class)))
+                        .willAnswer(inv -> inv.getArgument(0))
+                        .willThrow(new RuntimeException("DB down"));
+
+                // when & then
+                assertThatThrownBy(() -> sut.uploadFile(UPLOADER_ID, CHANNEL_ID, file))
+                        .isInstanceOf(ChatException.class)
+                        .extracting(ex -> ((ChatException) ex).getErrorCode())
+                        .isEqualTo(ChatErrorCode.FILE_UPLOAD_FAILED);
+            }
         }
     }
 }
@@ -0,0 +1,158 @@
+package com.example.chat.file.infrastructure.storage;
+
+import com.example.chat.file.domain.model.S3Key;
+import com.example.chat.file.domain.service.StorageBusyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3StorageServiceImpl")
+class S3StorageServiceImplTest {
+
+    private static final int MB = 1024 * 1024;
+    private static final S3Key KEY = new S3Key("channel-1/uuid/test.pdf");
+
+    @Mock
+    S3Client s3Client;
+
+    private final S3Properties properties = new S3Properties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setMultipartThresholdMb(8);
+        properties.setPartSizeMb(5);
+    }
+
+    private S3StorageServiceImpl sut() {
+        return new S3StorageServiceImpl(properties, s3Client);
+    }
+
+    private void givenMultipartUpload() {
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    }
+
+    @Nested
+    @DisplayName("upload()")
+    class Upload {
+
+        @Test
+        @DisplayName("임계값 미만이면 PutObject 로 스트리밍 업로드하고 URL 을 반환한다")
+        void smallFileUsesPutObject() {
+            // given
+            given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                    .willReturn(PutObjectResponse.builder().build());
+
+            // when
+            String url = sut().upload(KEY, new ByteArrayInputStream(new byte[1024]), 1024, "application/pdf");
+
+            // then
+            ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            then(s3Client).should().putObject(captor.capture(), any(RequestBody.class));
+            assertThat(captor.getValue().contentLength()).isEqualTo(1024L);
+            then(s3Client).should(never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+            assertThat(url).endsWith("/" + KEY.value());
+        }
+
+        @Test
+        @DisplayName("임계값 이상이면 파트 크기 단위로 나눠 멀티파트 업로드 후 완료한다")
+        void largeFileUsesMultipart() {
+            // given - 11MB / 5MB 파트 → 5, 5, 1MB
+            givenMultipartUpload();
+            given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .willReturn(UploadPartResponse.builder().eTag("etag").build());
+
+            // when
+            sut().upload(KEY, new ByteArrayInputStream(new byte[11 * MB]), 11L * MB, "application/pdf");
+
+            // then
+            ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+            then(s3Client).should(times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+            assertThat(parts.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(1, 2, 3);
+            assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength)
+                    .containsExactly(5L * MB, 5L * MB, 1L * MB);
+
+            ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                    ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+            then(s3Client).should().completeMultipartUpload(complete.capture());
+            assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("스트림이 선언된 크기보다 먼저 끝나면 멀티파트 업로드를 중단하고 예외를 던진다")
+        void truncatedStreamAbortsUpload() {
+            // given
+            givenMultipartUpload();
+            given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .willReturn(UploadPartResponse.builder().eTag("etag").build());
+
+            // when & then
+            assertThatThrownBy(() -> sut().upload(
+                    KEY, new ByteArrayInputStream(new byte[6 * MB]), 11L * MB, "application/pdf"))
+                    .isInstanceOf(RuntimeException.class);
+
+            then(s3Client).should().abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+            then(s3Client).should(never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 업로드 제한")
+    class ConcurrencyLimit {
+
+        @Test
+        @DisplayName("한도만큼 업로드 중이면 대기 시간 후 StorageBusyException 을 던진다")
+        void rejectsWhenLimitReached() throws Exception {
+            // given - 한도 1, 첫 업로드가 끝나지 않은 상태
+            properties.setMaxConcurrentUploads(1);
+            properties.setAcquireTimeoutMs(50);
+            S3StorageServiceImpl sut = sut();
+
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(inv -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return PutObjectResponse.builder().build();
+            });
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(
+                    () -> sut.upload(KEY, new ByteArrayInputStream(new byte[16]), 16, "application/pdf"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> sut.upload(KEY, new ByteArrayInputStream(new byte[16]), 16, "application/pdf"))
+                    .isInstanceOf(StorageBusyException.class);
+
+            // 첫 업로드 종료 후 슬롯 반환
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            assertThatCode(() -> sut.upload(KEY, new ByteArrayInputStream(new byte[16]), 16, "application/pdf"))
+                    .doesNotThrowAnyException();
+        }
+    }
+}
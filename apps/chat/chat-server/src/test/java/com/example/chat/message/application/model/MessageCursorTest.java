@@ -0,0 +1,81 @@
+package com.example.chat.message.application.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.chat.shared.exception.ChatException;
+
+/**
+ * [단위 테스트] MessageCursor
+ *
+ * 검증 범위:
+ * - {createdAt}_{messageId} 왕복 변환
+ * - 기존 createdAt 단독 형식 하위 호환
+ * - 형식 오류 시 ChatException
+ */
+@DisplayName("MessageCursor 단위 테스트")
+class MessageCursorTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-03-10T09:00:00.123456Z");
+    private static final String MESSAGE_ID  = "01900000-0000-7000-8000-000000000001";
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("encode → parse 왕복 시 동일 커서")
+        void shouldRoundTrip() {
+            // Given
+            MessageCursor cursor = new MessageCursor(CREATED_AT, MESSAGE_ID);
+
+            // When
+            MessageCursor parsed = MessageCursor.parse(cursor.encode());
+
+            // Then
+            assertThat(parsed).isEqualTo(cursor);
+            assertThat(parsed.hasMessageId()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Boundary")
+    class Boundary {
+
+        @Test
+        @DisplayName("createdAt 단독 기존 형식은 messageId 없이 파싱")
+        void shouldAcceptLegacyFormat() {
+            // When
+            MessageCursor parsed = MessageCursor.parse(CREATED_AT.toString());
+
+            // Then
+            assertThat(parsed.createdAt()).isEqualTo(CREATED_AT);
+            assertThat(parsed.hasMessageId()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure")
+    class Failure {
+
+        @Test
+        @DisplayName("시각 형식 오류 시 ChatException")
+        void shouldRejectMalformedTimestamp() {
+            assertThatThrownBy(() -> MessageCursor.parse("not-a-time_" + MESSAGE_ID))
+                    .isInstanceOf(ChatException.class);
+        }
+
+        @Test
+        @DisplayName("구분자 뒤 messageId 가 비어 있으면 ChatException")
+        void shouldRejectBlankMessageId() {
+            assertThatThrownBy(() -> MessageCursor.parse(CREATED_AT + "_"))
+                    .isInstanceOf(ChatException.class);
+        }
+    }
+}
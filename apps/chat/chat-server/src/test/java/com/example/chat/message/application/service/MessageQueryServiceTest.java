@@ -0,0 +1,233 @@
+package com.example.chat.message.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.example.chat.auth.core.util.SecurityUtils;
+import com.example.chat.common.core.enums.MessageStatus;
+import com.example.chat.common.core.enums.MessageType;
+import com.example.chat.message.application.model.MessageCursor;
+import com.example.chat.message.infrastructure.recent.RecentMessageCache;
+import com.example.chat.message.rest.dto.response.MessageResponse;
+import com.example.chat.shared.cache.ChannelReadCursorCache;
+import com.example.chat.shared.cache.ChannelReadCursorCache.ReadCursors;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.shared.exception.ChatException;
+import com.example.chat.storage.domain.repository.JpaMessageRepository;
+
+/**
+ * [단위 테스트] MessageQueryService 캐시 경로
+ *
+ * 검증 범위:
+ * - 첫 페이지: 최근 메시지 링 hit 시 DB 미조회, miss 시 DB keyset 조회
+ * - catch-up(since): 링이 커서 구간을 덮으면 DB 미조회, 아니면 findPageAfterKeyset
+ * - catch-up(since?seq): 링이 순번 구간을 덮으면 DB 미조회, 아니면 channel_seq 범위 조회
+ * - 링 응답에도 현재 미읽음 수(읽음 커서) 반영, hasNext 시 nextCursor = 마지막 항목
+ * - 채널 없음 / 비멤버 → ChatException, 링·DB 미조회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageQueryService 단위 테스트")
+class MessageQueryServiceTest {
+
+    @Mock JpaMessageRepository messageRepository;
+    @Mock ChannelStateCacheService channelStateCacheService;
+    @Mock ChannelReadCursorCache readCursorCache;
+    @Mock RecentMessageCache recentMessageCache;
+
+    @InjectMocks MessageQueryService messageQueryService;
+
+    private MockedStatic<SecurityUtils> mockedSecurity;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String USER_ID    = "u-001";
+    private static final Instant BASE      = Instant.parse("2026-03-12T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        mockedSecurity = Mockito.mockStatic(SecurityUtils.class);
+        mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(USER_ID));
+        lenient().when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                .thenReturn(Optional.of(new ChannelState(true, List.of(USER_ID, "u-sender"))));
+
+        ReadCursors cursors = mock(ReadCursors.class);
+        lenient().when(cursors.unreadCount(anyString(), any())).thenReturn(7);
+        lenient().when(readCursorCache.getCursors(CHANNEL_ID)).thenReturn(cursors);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedSecurity.close();
+    }
+
+    private static MessageResponse message(String id, int offsetSeconds) {
+        return new MessageResponse(id, CHANNEL_ID, (long) offsetSeconds, "u-sender", MessageType.TEXT, "hi",
+                MessageStatus.SENT, 1, BASE.plusSeconds(offsetSeconds), BASE.plusSeconds(offsetSeconds), null, null);
+    }
+
+    // ──────────────────────────────────────────────────
+    // First Page
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("getMessages")
+    class GetMessages {
+
+        @Test
+        @DisplayName("첫 페이지 링 hit → DB 미조회, 현재 미읽음 수 반영, nextCursor = 마지막 항목")
+        void shouldServeFirstPageFromRing() {
+            // Given: limit 2 → 링에서 3개 요청
+            when(recentMessageCache.findLatest(CHANNEL_ID, 3))
+                    .thenReturn(Optional.of(List.of(message("m3", 3), message("m2", 2), message("m1", 1))));
+
+            // When
+            var page = messageQueryService.getMessages(CHANNEL_ID, null, 2);
+
+            // Then
+            verifyNoInteractions(messageRepository);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.items()).extracting(MessageResponse::id).containsExactly("m3", "m2");
+            assertThat(page.items()).extracting(MessageResponse::unreadCount).containsOnly(7);
+            assertThat(page.nextCursor()).isEqualTo(new MessageCursor(BASE.plusSeconds(2), "m2").encode());
+        }
+
+        @Test
+        @DisplayName("첫 페이지 링 miss → DB 최신순 조회")
+        void shouldFallBackToDatabaseOnRingMiss() {
+            when(recentMessageCache.findLatest(CHANNEL_ID, 3)).thenReturn(Optional.empty());
+
+            messageQueryService.getMessages(CHANNEL_ID, null, 2);
+
+            verify(messageRepository).findByChannelIdOrderByCreatedAtDescIdDesc(eq(CHANNEL_ID), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("커서 페이지(과거 방향) → 링 미조회, DB keyset 조회")
+        void shouldQueryDatabaseForOlderPages() {
+            String cursor = new MessageCursor(BASE, "m1").encode();
+
+            messageQueryService.getMessages(CHANNEL_ID, cursor, 2);
+
+            verifyNoInteractions(recentMessageCache);
+            verify(messageRepository).findPageBeforeKeyset(eq(CHANNEL_ID), eq(BASE), eq("m1"), any(Pageable.class));
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Catch-up
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("getMessagesAfter")
+    class GetMessagesAfter {
+
+        private final String cursor = new MessageCursor(BASE, "m0").encode();
+
+        @Test
+        @DisplayName("링이 커서 구간을 덮으면 DB 미조회")
+        void shouldServeCatchUpFromRing() {
+            when(recentMessageCache.findAfter(CHANNEL_ID, new MessageCursor(BASE, "m0")))
+                    .thenReturn(Optional.of(List.of(message("m1", 1), message("m2", 2))));
+
+            var page = messageQueryService.getMessagesAfter(CHANNEL_ID, cursor, 50);
+
+            verifyNoInteractions(messageRepository);
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.items()).extracting(MessageResponse::id).containsExactly("m1", "m2");
+        }
+
+        @Test
+        @DisplayName("링 miss → DB 미래 방향 keyset 조회")
+        void shouldFallBackToDatabaseOnRingMiss() {
+            when(recentMessageCache.findAfter(eq(CHANNEL_ID), any())).thenReturn(Optional.empty());
+
+            messageQueryService.getMessagesAfter(CHANNEL_ID, cursor, 50);
+
+            verify(messageRepository).findPageAfterKeyset(eq(CHANNEL_ID), eq(BASE), eq("m0"), any(Pageable.class));
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Catch-up (seq)
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("getMessagesSinceSeq")
+    class GetMessagesSinceSeq {
+
+        @Test
+        @DisplayName("링 hit → DB 미조회, hasNext 시 nextCursor = 마지막 항목 seq")
+        void shouldServeFromRingWithSeqCursor() {
+            when(recentMessageCache.findAfterSeq(CHANNEL_ID, 0))
+                    .thenReturn(Optional.of(List.of(message("m1", 1), message("m2", 2), message("m3", 3))));
+
+            var page = messageQueryService.getMessagesSinceSeq(CHANNEL_ID, 0, 2);
+
+            verifyNoInteractions(messageRepository);
+            assertThat(page.items()).extracting(MessageResponse::id).containsExactly("m1", "m2");
+            assertThat(page.nextCursor()).isEqualTo("2");
+        }
+
+        @Test
+        @DisplayName("링 miss → DB 순번 범위 조회")
+        void shouldFallBackToDatabaseOnRingMiss() {
+            when(recentMessageCache.findAfterSeq(CHANNEL_ID, 5)).thenReturn(Optional.empty());
+
+            messageQueryService.getMessagesSinceSeq(CHANNEL_ID, 5, 50);
+
+            verify(messageRepository).findByChannelIdAndChannelSeqGreaterThanOrderByChannelSeqAsc(
+                    eq(CHANNEL_ID), eq(5L), any(Pageable.class));
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Membership
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("멤버십 검증")
+    class Membership {
+
+        @Test
+        @DisplayName("비멤버 → ChatException, 링·DB 미조회")
+        void shouldRejectNonMember() {
+            when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                    .thenReturn(Optional.of(new ChannelState(true, List.of("u-other"))));
+
+            assertThatThrownBy(() -> messageQueryService.getMessages(CHANNEL_ID, null, 50))
+                    .isInstanceOf(ChatException.class);
+            verifyNoInteractions(recentMessageCache, messageRepository);
+        }
+
+        @Test
+        @DisplayName("채널 없음 → ChatException")
+        void shouldRejectMissingChannel() {
+            when(channelStateCacheService.getChannelState(CHANNEL_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> messageQueryService.getMessagesAfter(CHANNEL_ID, "2026-03-12T10:00:00Z", 50))
+                    .isInstanceOf(ChatException.class);
+            verifyNoInteractions(recentMessageCache, messageRepository);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.chat.message.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.chat.auth.core.util.SecurityUtils;
+import com.example.chat.common.core.exception.ChatErrorCode;
+import com.example.chat.message.application.model.MessageCursor;
+import com.example.chat.message.rest.dto.response.MessageSearchResponse;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.shared.exception.ChatException;
+import com.example.chat.storage.domain.entity.MessageSearchEntity;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+
+/**
+ * [단위 테스트] MessageSearchService
+ *
+ * 검증 범위:
+ * - 검색어 앞뒤 공백 제거, LIKE 메타 문자(\, %, _) 이스케이프
+ * - 첫 페이지 / cursor 페이지 keyset 조회, hasNext 시 nextCursor = 마지막 항목
+ * - 검색어 길이 2~100자 밖 → MESSAGE_INVALID_SEARCH_QUERY, 저장소 미조회
+ * - 채널 지정 시 비멤버 → CHANNEL_NOT_MEMBER, 저장소 미조회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageSearchService 단위 테스트")
+class MessageSearchServiceTest {
+
+    @Mock JpaMessageSearchRepository messageSearchRepository;
+    @Mock ChannelStateCacheService channelStateCacheService;
+
+    @InjectMocks MessageSearchService messageSearchService;
+
+    private MockedStatic<SecurityUtils> mockedSecurity;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String USER_ID    = "u-001";
+    private static final Instant BASE      = Instant.parse("2026-03-12T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        mockedSecurity = Mockito.mockStatic(SecurityUtils.class);
+        mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(USER_ID));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedSecurity.close();
+    }
+
+    private static MessageSearchEntity row(String id, int offsetSeconds) {
+        MessageSearchEntity entity = BeanUtils.instantiateClass(MessageSearchEntity.class);
+        ReflectionTestUtils.setField(entity, "messageId", id);
+        ReflectionTestUtils.setField(entity, "channelId", CHANNEL_ID);
+        ReflectionTestUtils.setField(entity, "channelSeq", (long) offsetSeconds);
+        ReflectionTestUtils.setField(entity, "senderId", "u-sender");
+        ReflectionTestUtils.setField(entity, "content", "회의록 공유합니다");
+        ReflectionTestUtils.setField(entity, "messageAt", BASE.plusSeconds(offsetSeconds));
+        return entity;
+    }
+
+    // ──────────────────────────────────────────────────
+    // Search
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("search")
+    class Search {
+
+        @Test
+        @DisplayName("첫 페이지 → 전체 참여 채널 검색, hasNext 시 nextCursor = 마지막 항목")
+        void shouldSearchFirstPageAcrossChannels() {
+            // Given: limit 2 → 3개 조회
+            when(messageSearchRepository.searchFirstPage(USER_ID, "회의록", "%회의록%", 3))
+                    .thenReturn(List.of(row("m3", 3), row("m2", 2), row("m1", 1)));
+
+            // When
+            var page = messageSearchService.search("  회의록 ", null, null, 2);
+
+            // Then
+            verifyNoInteractions(channelStateCacheService);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.items()).extracting(MessageSearchResponse::messageId).containsExactly("m3", "m2");
+            assertThat(page.items().get(0).seq()).isEqualTo(3L);
+            assertThat(page.nextCursor()).isEqualTo(new MessageCursor(BASE.plusSeconds(2), "m2").encode());
+        }
+
+        @Test
+        @DisplayName("채널 지정 첫 페이지 → 채널 한정 쿼리 (멤버 서브쿼리 없음)")
+        void shouldSearchFirstPageInChannel() {
+            when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                    .thenReturn(Optional.of(new ChannelState(true, List.of(USER_ID))));
+
+            messageSearchService.search("회의록", CHANNEL_ID, null, 20);
+
+            verify(messageSearchRepository).searchChannelFirstPage(CHANNEL_ID, "회의록", "%회의록%", 21);
+            verify(messageSearchRepository, Mockito.never())
+                    .searchFirstPage(anyString(), anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("cursor 페이지 → (createdAt, messageId) keyset 조회")
+        void shouldSearchPageBeforeCursor() {
+            String cursor = new MessageCursor(BASE, "m1").encode();
+            when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                    .thenReturn(Optional.of(new ChannelState(true, List.of(USER_ID))));
+
+            var page = messageSearchService.search("회의록", CHANNEL_ID, cursor, 20);
+
+            verify(messageSearchRepository).searchChannelPageBefore(
+                    CHANNEL_ID, "회의록", "%회의록%", BASE, "m1", 21);
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("LIKE 메타 문자는 리터럴로 이스케이프")
+        void shouldEscapeLikeWildcards() {
+            messageSearchService.search("50%_off\\", null, null, 20);
+
+            verify(messageSearchRepository).searchFirstPage(
+                    eq(USER_ID), eq("50%_off\\"), eq("%50\\%\\_off\\\\%"), anyInt());
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Validation
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+
+        @Test
+        @DisplayName("검색어 1자 → MESSAGE_INVALID_SEARCH_QUERY, 저장소 미조회")
+        void shouldRejectTooShortQuery() {
+            assertThatThrownBy(() -> messageSearchService.search(" a ", null, null, 20))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.MESSAGE_INVALID_SEARCH_QUERY);
+            verifyNoInteractions(messageSearchRepository);
+        }
+
+        @Test
+        @DisplayName("검색어 101자 → MESSAGE_INVALID_SEARCH_QUERY")
+        void shouldRejectTooLongQuery() {
+            assertThatThrownBy(() -> messageSearchService.search("가".repeat(101), null, null, 20))
+                    .isInstanceOf(ChatException.class);
+            verifyNoInteractions(messageSearchRepository);
+        }
+
+        @Test
+        @DisplayName("채널 지정 시 비멤버 → CHANNEL_NOT_MEMBER, 저장소 미조회")
+        void shouldRejectNonMemberChannel() {
+            when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                    .thenReturn(Optional.of(new ChannelState(true, List.of("u-other"))));
+
+            assertThatThrownBy(() -> messageSearchService.search("회의록", CHANNEL_ID, null, 20))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.CHANNEL_NOT_MEMBER);
+            verify(messageSearchRepository, Mockito.never())
+                    .searchChannelFirstPage(anyString(), anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("createdAt 단독 형식 cursor → MESSAGE_INVALID_CURSOR")
+        void shouldRejectLegacyCursor() {
+            assertThatThrownBy(() -> messageSearchService.search("회의록", null, BASE.toString(), 20))
+                    .isInstanceOf(ChatException.class)
+                    .extracting(ex -> ((ChatException) ex).getErrorCode())
+                    .isEqualTo(ChatErrorCode.MESSAGE_INVALID_CURSOR);
+        }
+    }
+}
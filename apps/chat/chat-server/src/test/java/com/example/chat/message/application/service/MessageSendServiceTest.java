@@ -0,0 +1,119 @@
+package com.example.chat.message.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.chat.common.core.enums.MessageStatus;
+import com.example.chat.common.core.enums.UserStatus;
+import com.example.chat.message.domain.MessageContent;
+import com.example.chat.message.infrastructure.outbox.MessageOutboxAppender;
+import com.example.chat.message.infrastructure.recent.RecentMessageCache;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.storage.domain.entity.ChatMessageEntity;
+import com.example.chat.storage.domain.repository.JpaMessageRepository;
+
+/**
+ * [단위 테스트] MessageSendService 메시지 영속화 경로
+ *
+ * 검증 범위:
+ * - 엔티티를 SENT / unreadCount / sentAt 까지 초기화한 뒤 save 1회만 호출
+ * - 저장 대상 엔티티가 신규(isNew)로 인식되어 merge SELECT 없이 persist 됨
+ * - 발송 응답을 최근 메시지 링에 적재
+ * - save 전에 채널 순번(seq) 할당
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageSendService 영속화 단위 테스트")
+class MessageSendServiceTest {
+
+    @Mock JpaMessageRepository messageRepository;
+    @Mock ChannelStateCacheService channelStateCacheService;
+    @Mock MessageOutboxAppender outboxAppender;
+    @Mock RecentMessageCache recentMessageCache;
+
+    @InjectMocks MessageSendService messageSendService;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String SENDER_ID  = "u-sender";
+
+    @Nested
+    @DisplayName("sendScheduledMessage")
+    class SendScheduledMessage {
+
+        @BeforeEach
+        void setUp() {
+            when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                    .thenReturn(Optional.of(new ChannelState(true, List.of(SENDER_ID, "u-1", "u-2"))));
+            when(channelStateCacheService.getUserStatus(SENDER_ID)).thenReturn(Optional.of(UserStatus.ACTIVE));
+            when(messageRepository.save(any(ChatMessageEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        }
+
+        @Test
+        @DisplayName("완전히 초기화된 신규 엔티티로 save 1회 호출")
+        void shouldPersistFullyInitializedEntityOnce() {
+            // Given
+            ArgumentCaptor<ChatMessageEntity> captor = ArgumentCaptor.forClass(ChatMessageEntity.class);
+
+            // When
+            messageSendService.sendScheduledMessage(SENDER_ID, CHANNEL_ID, new MessageContent.Text("hello"));
+
+            // Then
+            verify(messageRepository, times(1)).save(captor.capture());
+            ChatMessageEntity persisted = captor.getValue();
+            assertThat(persisted.isNew()).isTrue();
+            assertThat(persisted.getMessageStatus()).isEqualTo(MessageStatus.SENT);
+            assertThat(persisted.getSentAt()).isNotNull();
+            assertThat(persisted.getUnreadCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("save 전에 채널 순번 할당 — 응답에 seq 포함")
+        void shouldAssignChannelSeqBeforeSave() {
+            // Given
+            when(messageRepository.nextChannelSeq(CHANNEL_ID)).thenReturn(42L);
+
+            // When
+            var response = messageSendService.sendScheduledMessage(SENDER_ID, CHANNEL_ID, new MessageContent.Text("hello"));
+
+            // Then
+            assertThat(response.seq()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("Outbox 에 저장된 동일 엔티티와 멤버 목록 전달")
+        void shouldAppendOutboxWithPersistedEntity() {
+            // When
+            messageSendService.sendScheduledMessage(SENDER_ID, CHANNEL_ID, new MessageContent.Text("hello"));
+
+            // Then
+            verify(outboxAppender).appendMessageSent(any(ChatMessageEntity.class), anyInt());
+        }
+
+        @Test
+        @DisplayName("발송 응답을 최근 메시지 링에 적재")
+        void shouldAppendResponseToRecentRing() {
+            // When
+            var response = messageSendService.sendScheduledMessage(SENDER_ID, CHANNEL_ID, new MessageContent.Text("hello"));
+
+            // Then
+            verify(recentMessageCache).append(response);
+        }
+    }
+}
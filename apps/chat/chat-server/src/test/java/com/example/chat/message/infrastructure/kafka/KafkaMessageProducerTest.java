@@ -1,6 +1,7 @@
 package com.example.chat.message.infrastructure.kafka;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -22,9 +24,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * [단위 테스트] KafkaMessageProducer
  *
  * 검증 범위:
- * - publishReadReceipt: READ_RECEIPT_TOPIC / channelId 파티션키 / JSON 직렬화
  * - publishMemberLeft:  MEMBER_LEFT_TOPIC  / channelId 파티션키 / JSON 직렬화
  * - publishNotification: NOTIFICATION_TOPIC / JSON 직렬화
+ * - publishChannelNotification: CHANNEL_NOTIFICATION_TOPIC / channelId 파티션키 / 수신자 없음 스킵
  * - 직렬화 예외 → 예외 전파 없음 (fire-and-forget 설계)
  */
 @ExtendWith(MockitoExtension.class)
@@ -42,35 +44,6 @@ class KafkaMessageProducerTest {
     private static final Instant CURSOR     = Instant.parse("2026-03-12T10:00:00Z");
     private static final String SERIALIZED  = "{\"serialized\":\"value\"}";
 
-    // ──────────────────────────────────────────────────
-    // publishReadReceipt
-    // ──────────────────────────────────────────────────
-    @Nested
-    @DisplayName("publishReadReceipt")
-    class PublishReadReceipt {
-
-        @Test
-        @DisplayName("read-receipt-events 토픽에 channelId 파티션키로 발행")
-        void shouldPublishToReadReceiptTopicWithChannelIdKey() throws Exception {
-            ReadReceiptKafkaEvent event = new ReadReceiptKafkaEvent(USER_ID, CHANNEL_ID, MESSAGE_ID, CURSOR);
-            when(objectMapper.writeValueAsString(event)).thenReturn(SERIALIZED);
-
-            producer.publishReadReceipt(event);
-
-            verify(kafkaTemplate).send("read-receipt-events", CHANNEL_ID, SERIALIZED);
-        }
-
-        @Test
-        @DisplayName("직렬화 예외 발생 시 예외 전파 없음")
-        void shouldSilentlyFailOnSerializationError() throws Exception {
-            ReadReceiptKafkaEvent event = new ReadReceiptKafkaEvent(USER_ID, CHANNEL_ID, MESSAGE_ID, CURSOR);
-            when(objectMapper.writeValueAsString(any())).thenThrow(new com.fasterxml.jackson.core.JsonProcessingException("err"){});
-
-            assertThatNoException().isThrownBy(() -> producer.publishReadReceipt(event));
-            verifyNoInteractions(kafkaTemplate);
-        }
-    }
-
     // ──────────────────────────────────────────────────
     // publishMemberLeft
     // ──────────────────────────────────────────────────
@@ -135,4 +108,43 @@ class KafkaMessageProducerTest {
             verifyNoInteractions(kafkaTemplate);
         }
     }
+
+    // ──────────────────────────────────────────────────
+    // publishChannelNotification
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("publishChannelNotification")
+    class PublishChannelNotification {
+
+        @Test
+        @DisplayName("수신자 수와 무관하게 channel-notification-events 토픽에 channelId 파티션키로 1건 발행")
+        void shouldPublishSingleRecordForAllReceivers() throws Exception {
+            when(objectMapper.writeValueAsString(any())).thenReturn(SERIALIZED);
+
+            producer.publishChannelNotification(CHANNEL_ID, MESSAGE_ID, USER_ID,
+                    List.of("u-002", "u-003", "u-004"), "title", "content", "CHAT_MESSAGE");
+
+            verify(objectMapper, times(1)).writeValueAsString(any());
+            verify(kafkaTemplate, times(1)).send("channel-notification-events", CHANNEL_ID, SERIALIZED);
+        }
+
+        @Test
+        @DisplayName("수신자가 없으면 발행하지 않음")
+        void shouldSkipWhenNoReceivers() {
+            producer.publishChannelNotification(CHANNEL_ID, MESSAGE_ID, USER_ID,
+                    List.of(), "title", "content", "CHAT_MESSAGE");
+
+            verifyNoInteractions(objectMapper, kafkaTemplate);
+        }
+
+        @Test
+        @DisplayName("직렬화 예외 발생 시 예외 전파 없음")
+        void shouldSilentlyFailOnSerializationError() throws Exception {
+            when(objectMapper.writeValueAsString(any())).thenThrow(new com.fasterxml.jackson.core.JsonProcessingException("err"){});
+
+            assertThatNoException().isThrownBy(() -> producer.publishChannelNotification(
+                    CHANNEL_ID, MESSAGE_ID, USER_ID, List.of("u-002"), "t", "c", "CHAT_MESSAGE"));
+            verifyNoInteractions(kafkaTemplate);
+        }
+    }
 }
@@ -0,0 +1,307 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.chat.message.infrastructure.kafka.KafkaMessageProducer;
+import com.example.chat.message.infrastructure.messaging.MessageEventPublisher;
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.shared.cache.ChannelStateCacheService;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.shared.cache.PresenceCacheService;
+import com.example.chat.shared.cache.UnreadCacheService;
+import com.example.chat.shared.cache.UnreadWriteBehindBuffer;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * [단위 테스트] MessageOutboxProcessor
+ *
+ * 검증 범위:
+ * - 배치 릴레이: 점유 → Redis 발행 → unread 캐시 → 푸시 순서 수행 후 완료 단계에 처리 id 전달
+ * - 점유 실패(다른 인스턴스 임대 중 / 이벤트 없음) 시 완료 단계 생략
+ * - Redis 발행 실패 시 해당 이벤트에서 중단 (이후 이벤트 보류)
+ * - 역직렬화 불가 이벤트는 건너뛰고 처리 완료 표시
+ * - 채널 마지막 메시지: 배치 내 채널별 최신 1건만 완료 단계에 전달
+ * - 메타데이터 미읽음: Write-Behind 버퍼 적재, 실패분은 완료 단계에서 DB 직접 UPDATE
+ * - unread 증분은 메시지 id 와 함께 호출 (재시도 시 중복 반영 방지)
+ * - 멤버는 릴레이 시점에 채널 상태 캐시에서 조회, 채널이 없으면 unread / 푸시 생략
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageOutboxProcessor 단위 테스트")
+class MessageOutboxProcessorTest {
+
+    @Mock MessageOutboxStore outboxStore;
+    @Mock JpaOutboxEventRepository outboxEventRepository;
+    @Mock MessageEventPublisher messageEventPublisher;
+    @Mock KafkaMessageProducer kafkaMessageProducer;
+    @Mock UnreadCacheService unreadCacheService;
+    @Mock UnreadWriteBehindBuffer unreadWriteBehindBuffer;
+    @Mock PresenceCacheService presenceCacheService;
+    @Mock ChannelStateCacheService channelStateCacheService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxRelayProperties properties = new OutboxRelayProperties();
+
+    @Captor ArgumentCaptor<Collection<MessageSentEvent>> latestCaptor;
+
+    private MessageOutboxProcessor processor;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String SENDER_ID  = "u-sender";
+
+    @BeforeEach
+    void setUp() {
+        processor = new MessageOutboxProcessor(outboxStore, outboxEventRepository,
+                messageEventPublisher, kafkaMessageProducer,
+                unreadCacheService, unreadWriteBehindBuffer, presenceCacheService, channelStateCacheService,
+                properties, objectMapper);
+        lenient().when(channelStateCacheService.getChannelState(CHANNEL_ID))
+                .thenReturn(Optional.of(new ChannelState(true, List.of(SENDER_ID, "u-1", "u-2"))));
+    }
+
+    private OutboxEventEntity outboxEvent(long id, String messageId) throws Exception {
+        return outboxEvent(id, messageId, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    private OutboxEventEntity outboxEvent(long id, String messageId, Instant sentAt) throws Exception {
+        MessageSentEvent sent = new MessageSentEvent("MESSAGE", messageId, CHANNEL_ID, id, SENDER_ID,
+                "TEXT", "hello", "SENT", 2, sentAt);
+        String payload = objectMapper.writeValueAsString(
+                new MessageOutboxPayload(sent, "hello"));
+        return stubId(OutboxEventEntity.create(CHANNEL_ID, MessageOutboxAppender.MESSAGE_SENT, payload), id);
+    }
+
+    private OutboxEventEntity stubId(OutboxEventEntity entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("배치 내 이벤트를 모두 릴레이하고 한 번에 처리 완료 표시")
+        void shouldRelayBatchAndMarkProcessed() throws Exception {
+            // Given
+            when(outboxStore.claim(eq(0), anyString()))
+                    .thenReturn(List.of(outboxEvent(1L, "m-1"), outboxEvent(2L, "m-2")));
+            when(presenceCacheService.filterNotViewing(eq(CHANNEL_ID), anyList())).thenReturn(List.of("u-1"));
+            when(unreadWriteBehindBuffer.record(anyString(), anyString(), anyString(), anyList(), any())).thenReturn(true);
+
+            // When
+            int relayed = processor.relayBatch(0);
+
+            // Then
+            assertThat(relayed).isEqualTo(2);
+            verify(unreadCacheService)
+                    .incrementAllMembers(CHANNEL_ID, "m-1", SENDER_ID, List.of(SENDER_ID, "u-1", "u-2"));
+            verify(unreadCacheService)
+                    .incrementAllMembers(CHANNEL_ID, "m-2", SENDER_ID, List.of(SENDER_ID, "u-1", "u-2"));
+            verify(presenceCacheService, times(2)).filterNotViewing(CHANNEL_ID, List.of("u-1", "u-2"));
+            verify(kafkaMessageProducer).publishChannelNotification(
+                    CHANNEL_ID, "m-1", SENDER_ID, List.of("u-1"), "새 메시지", "hello", "CHAT_MESSAGE");
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of(1L, 2L)), any(), eq(List.of()));
+        }
+
+        @Test
+        @DisplayName("점유와 완료는 같은 임대 token 으로 호출")
+        void shouldCompleteWithClaimToken() throws Exception {
+            // Given
+            ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+            when(outboxStore.claim(eq(0), claimToken.capture())).thenReturn(List.of(outboxEvent(1L, "m-1")));
+            when(presenceCacheService.filterNotViewing(eq(CHANNEL_ID), anyList())).thenReturn(List.of());
+            when(unreadWriteBehindBuffer.record(anyString(), anyString(), anyString(), anyList(), any())).thenReturn(true);
+
+            // When
+            processor.relayBatch(0);
+
+            // Then
+            verify(outboxStore).complete(eq(0), eq(claimToken.getValue()), eq(List.of(1L)), any(), anyList());
+        }
+
+        @Test
+        @DisplayName("채널 마지막 메시지는 배치 내 가장 최신 메시지 1건만 전달")
+        void shouldPassLatestMessagePerChannel() throws Exception {
+            // Given — id 순서와 발송 시각 순서가 뒤바뀐 경우
+            Instant base = Instant.parse("2026-01-01T00:00:00Z");
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(
+                    outboxEvent(1L, "m-1", base),
+                    outboxEvent(2L, "m-3", base.plusMillis(20)),
+                    outboxEvent(3L, "m-2", base.plusMillis(10))));
+            when(presenceCacheService.filterNotViewing(eq(CHANNEL_ID), anyList())).thenReturn(List.of());
+            when(unreadWriteBehindBuffer.record(anyString(), anyString(), anyString(), anyList(), any())).thenReturn(true);
+
+            // When
+            processor.relayBatch(0);
+
+            // Then
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of(1L, 2L, 3L)), latestCaptor.capture(), anyList());
+            assertThat(latestCaptor.getValue()).extracting(MessageSentEvent::messageId).containsExactly("m-3");
+        }
+
+        @Test
+        @DisplayName("메타데이터 미읽음 증분은 버퍼에 적재하고 DB 직접 갱신 대상으로 넘기지 않음")
+        void shouldBufferMetadataUnreadWithoutDbUpdate() throws Exception {
+            // Given
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(outboxEvent(1L, "m-1")));
+            when(presenceCacheService.filterNotViewing(eq(CHANNEL_ID), anyList())).thenReturn(List.of());
+            when(unreadWriteBehindBuffer.record(eq(CHANNEL_ID), eq("m-1"), eq(SENDER_ID), anyList(), any()))
+                    .thenReturn(true);
+
+            // When
+            processor.relayBatch(0);
+
+            // Then
+            verify(unreadWriteBehindBuffer).record(CHANNEL_ID, "m-1", SENDER_ID,
+                    List.of(SENDER_ID, "u-1", "u-2"), Instant.parse("2026-01-01T00:00:00Z"));
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of(1L)), any(), eq(List.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Boundary")
+    class Boundary {
+
+        @Test
+        @DisplayName("점유한 이벤트가 없으면 (임대 중 / 미처리 없음) 완료 단계를 실행하지 않음")
+        void shouldSkipWhenNothingClaimed() {
+            // Given
+            when(outboxStore.claim(eq(1), anyString())).thenReturn(List.of());
+
+            // When
+            int relayed = processor.relayBatch(1);
+
+            // Then
+            assertThat(relayed).isZero();
+            verify(outboxStore, never()).complete(anyInt(), anyString(), anyList(), any(), anyList());
+            verify(messageEventPublisher, never()).publishMessageSent(any());
+        }
+
+        @Test
+        @DisplayName("채널이 삭제됐으면 브로드캐스트만 하고 unread / 푸시 생략")
+        void shouldSkipMemberEffectsWhenChannelGone() throws Exception {
+            // Given
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(outboxEvent(1L, "m-1")));
+            when(channelStateCacheService.getChannelState(CHANNEL_ID)).thenReturn(Optional.empty());
+            when(unreadWriteBehindBuffer.record(anyString(), anyString(), anyString(), anyList(), any())).thenReturn(true);
+
+            // When
+            int relayed = processor.relayBatch(0);
+
+            // Then
+            assertThat(relayed).isEqualTo(1);
+            verify(messageEventPublisher).publishMessageSent(argThat(e -> "m-1".equals(e.messageId())));
+            verify(unreadCacheService).incrementAllMembers(CHANNEL_ID, "m-1", SENDER_ID, List.of());
+            verify(kafkaMessageProducer, never()).publishChannelNotification(
+                    anyString(), anyString(), anyString(), anyList(), anyString(), anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure")
+    class Failure {
+
+        @Test
+        @DisplayName("버퍼 적재 실패 시 완료 단계에 DB 직접 갱신 대상으로 전달")
+        void shouldFallBackToDbWhenBufferUnavailable() throws Exception {
+            // Given
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(outboxEvent(1L, "m-1")));
+            when(presenceCacheService.filterNotViewing(eq(CHANNEL_ID), anyList())).thenReturn(List.of());
+            when(unreadWriteBehindBuffer.record(anyString(), anyString(), anyString(), anyList(), any())).thenReturn(false);
+
+            // When
+            int relayed = processor.relayBatch(0);
+
+            // Then
+            assertThat(relayed).isEqualTo(1);
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of(1L)), any(),
+                    argThat(list -> list.size() == 1 && "m-1".equals(list.get(0).messageId())));
+        }
+
+        @Test
+        @DisplayName("채널 멤버 조회 실패 시 해당 이벤트부터 보류")
+        void shouldHaltWhenMembersUnavailable() throws Exception {
+            // Given
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(outboxEvent(1L, "m-1")));
+            when(channelStateCacheService.getChannelState(CHANNEL_ID)).thenThrow(new RuntimeException("db down"));
+
+            // When
+            int relayed = processor.relayBatch(0);
+
+            // Then
+            assertThat(relayed).isZero();
+            verify(messageEventPublisher, never()).publishMessageSent(any());
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of()), any(), eq(List.of()));
+        }
+
+        @Test
+        @DisplayName("Redis 발행 실패 시 해당 이벤트부터 보류하고 앞선 이벤트만 처리 완료 표시")
+        void shouldHaltOnPublishFailure() throws Exception {
+            // Given
+            OutboxEventEntity first  = outboxEvent(1L, "m-1");
+            OutboxEventEntity second = outboxEvent(2L, "m-2");
+            OutboxEventEntity third  = outboxEvent(3L, "m-3");
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(first, second, third));
+            when(presenceCacheService.filterNotViewing(eq(CHANNEL_ID), anyList())).thenReturn(List.of());
+            when(unreadWriteBehindBuffer.record(anyString(), anyString(), anyString(), anyList(), any())).thenReturn(true);
+            lenient().doThrow(new RuntimeException("redis down")).when(messageEventPublisher)
+                    .publishMessageSent(argThat(e -> "m-2".equals(e.messageId())));
+
+            // When
+            int relayed = processor.relayBatch(0);
+
+            // Then
+            assertThat(relayed).isEqualTo(1);
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of(1L)), any(), anyList());
+            verify(unreadCacheService).incrementAllMembers(anyString(), anyString(), anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("역직렬화 불가 페이로드는 건너뛰고 처리 완료 표시")
+        void shouldSkipMalformedPayload() {
+            // Given
+            OutboxEventEntity malformed = stubId(
+                    OutboxEventEntity.create(CHANNEL_ID, MessageOutboxAppender.MESSAGE_SENT, "{not-json"), 7L);
+            when(outboxStore.claim(eq(0), anyString())).thenReturn(List.of(malformed));
+
+            // When
+            int relayed = processor.relayBatch(0);
+
+            // Then
+            assertThat(relayed).isEqualTo(1);
+            verify(messageEventPublisher, never()).publishMessageSent(any());
+            verify(outboxStore).complete(eq(0), anyString(), eq(List.of(7L)), latestCaptor.capture(), eq(List.of()));
+            assertThat(latestCaptor.getValue()).isEmpty();
+        }
+    }
+}
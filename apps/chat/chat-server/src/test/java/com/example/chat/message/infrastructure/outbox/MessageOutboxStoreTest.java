@@ -0,0 +1,168 @@
+package com.example.chat.message.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaChannelLastMessageRepository;
+import com.example.chat.storage.domain.repository.JpaChannelMetadataRepository;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+
+/**
+ * [단위 테스트] MessageOutboxStore
+ *
+ * 검증 범위:
+ * - claim: 파티션 임대 획득 후 미처리 이벤트 조회, 다른 보유자가 임대 중이면 조회 생략
+ * - claim: 읽을 이벤트가 없으면 임대 즉시 반납
+ * - complete: 마지막 메시지 UPSERT + 버퍼 실패분 DB 직접 갱신 + 처리 완료 표시 후 임대 반납
+ * - complete: 임대가 이미 넘어갔어도 처리 완료 표시는 유지
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageOutboxStore 단위 테스트")
+class MessageOutboxStoreTest {
+
+    @Mock JpaOutboxEventRepository outboxEventRepository;
+    @Mock JpaChannelLastMessageRepository channelLastMessageRepository;
+    @Mock JpaChannelMetadataRepository channelMetadataRepository;
+
+    private final OutboxRelayProperties properties = new OutboxRelayProperties();
+
+    private MessageOutboxStore store;
+
+    private static final String TOKEN      = "token-1";
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String SENDER_ID  = "u-sender";
+
+    @BeforeEach
+    void setUp() {
+        store = new MessageOutboxStore(outboxEventRepository, channelLastMessageRepository,
+                channelMetadataRepository, properties);
+    }
+
+    private MessageSentEvent sent(String messageId, Instant sentAt) {
+        return new MessageSentEvent("MESSAGE", messageId, CHANNEL_ID, 1L, SENDER_ID,
+                "TEXT", "hello", "SENT", 2, sentAt);
+    }
+
+    @Nested
+    @DisplayName("claim")
+    class Claim {
+
+        @Test
+        @DisplayName("임대 획득 시 미처리 이벤트 조회")
+        void shouldReadBatchWhenLeaseAcquired() {
+            // Given
+            OutboxEventEntity event = OutboxEventEntity.create(CHANNEL_ID, MessageOutboxAppender.MESSAGE_SENT, "{}");
+            when(outboxEventRepository.acquireRelayLease(0, TOKEN, 30L)).thenReturn(1);
+            when(outboxEventRepository.findPendingBatch(2, 0, 200)).thenReturn(List.of(event));
+
+            // When
+            List<OutboxEventEntity> batch = store.claim(0, TOKEN);
+
+            // Then
+            assertThat(batch).containsExactly(event);
+            verify(outboxEventRepository, never()).releaseRelayLease(anyInt(), anyString());
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 임대 중이면 조회하지 않음")
+        void shouldSkipWhenLeaseHeld() {
+            // Given
+            when(outboxEventRepository.acquireRelayLease(1, TOKEN, 30L)).thenReturn(0);
+
+            // When
+            List<OutboxEventEntity> batch = store.claim(1, TOKEN);
+
+            // Then
+            assertThat(batch).isEmpty();
+            verify(outboxEventRepository, never()).findPendingBatch(anyInt(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("미처리 이벤트가 없으면 임대 즉시 반납")
+        void shouldReleaseWhenEmpty() {
+            // Given
+            when(outboxEventRepository.acquireRelayLease(0, TOKEN, 30L)).thenReturn(1);
+            when(outboxEventRepository.findPendingBatch(anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+
+            // When
+            List<OutboxEventEntity> batch = store.claim(0, TOKEN);
+
+            // Then
+            assertThat(batch).isEmpty();
+            verify(outboxEventRepository).releaseRelayLease(0, TOKEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("complete")
+    class Complete {
+
+        @Test
+        @DisplayName("마지막 메시지 UPSERT + 버퍼 실패분 직접 갱신 + 처리 완료 표시 후 임대 반납")
+        void shouldApplyResultsThenReleaseLease() {
+            // Given
+            Instant sentAt = Instant.parse("2026-01-01T00:00:00Z");
+            MessageSentEvent latest = sent("m-2", sentAt);
+            when(outboxEventRepository.releaseRelayLease(0, TOKEN)).thenReturn(1);
+
+            // When
+            store.complete(0, TOKEN, List.of(1L, 2L), List.of(latest), List.of(sent("m-1", sentAt)));
+
+            // Then
+            InOrder order = inOrder(channelLastMessageRepository, channelMetadataRepository, outboxEventRepository);
+            order.verify(channelLastMessageRepository)
+                    .upsertIfNewer(CHANNEL_ID, "m-2", SENDER_ID, "TEXT", "hello", sentAt);
+            order.verify(channelMetadataRepository).bulkIncrementUnreadCount(CHANNEL_ID, SENDER_ID);
+            order.verify(channelMetadataRepository).updateLastActivity(CHANNEL_ID, SENDER_ID);
+            order.verify(outboxEventRepository).markProcessed(List.of(1L, 2L));
+            order.verify(outboxEventRepository).releaseRelayLease(0, TOKEN);
+        }
+
+        @Test
+        @DisplayName("처리한 이벤트가 없으면 UPDATE 없이 임대만 반납")
+        void shouldOnlyReleaseWhenNothingProcessed() {
+            // Given
+            when(outboxEventRepository.releaseRelayLease(0, TOKEN)).thenReturn(1);
+
+            // When
+            store.complete(0, TOKEN, List.of(), List.of(), List.of());
+
+            // Then
+            verify(outboxEventRepository, never()).markProcessed(anyList());
+            verify(outboxEventRepository).releaseRelayLease(0, TOKEN);
+        }
+
+        @Test
+        @DisplayName("임대가 만료되어 넘어갔어도 처리 완료 표시는 유지")
+        void shouldMarkProcessedEvenIfLeaseLost() {
+            // Given
+            when(outboxEventRepository.releaseRelayLease(0, TOKEN)).thenReturn(0);
+
+            // When
+            store.complete(0, TOKEN, List.of(1L), List.of(), List.of());
+
+            // Then
+            verify(outboxEventRepository).markProcessed(List.of(1L));
+        }
+    }
+}
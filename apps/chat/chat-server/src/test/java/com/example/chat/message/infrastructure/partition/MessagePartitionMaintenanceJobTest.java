@@ -0,0 +1,143 @@
+package com.example.chat.message.infrastructure.partition;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.chat.storage.domain.repository.JpaMessageRepository;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+
+/**
+ * [단위 테스트] MessagePartitionMaintenanceJob
+ *
+ * 검증 범위:
+ * - 현재 달 ~ premakeMonths 후까지 월 파티션 생성 요청
+ * - retentionMonths 미설정(0) 시 DETACH 미호출
+ * - retentionMonths 설정 시 현재 달 - N 개월 기준 DETACH + 같은 기준으로 legacy 파티션 / 검색 행 배치 삭제 (배치가 가득 차면 반복)
+ * - 파티션 함수 오류 시 예외 전파 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessagePartitionMaintenanceJob 단위 테스트")
+class MessagePartitionMaintenanceJobTest {
+
+    @Mock JpaMessageRepository messageRepository;
+    @Mock JpaMessageSearchRepository messageSearchRepository;
+
+    private final MessagePartitionProperties properties = new MessagePartitionProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-18T03:30:00Z"), ZoneOffset.UTC);
+
+    private MessagePartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new MessagePartitionMaintenanceJob(messageRepository, messageSearchRepository, properties, clock);
+    }
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("현재 달부터 premakeMonths 개월 후까지 파티션 생성 요청")
+        void shouldEnsureUpcomingPartitions() {
+            // Given
+            properties.setPremakeMonths(2);
+
+            // When
+            job.maintain();
+
+            // Then
+            verify(messageRepository).ensureMonthlyPartition(LocalDate.of(2026, 10, 1));
+            verify(messageRepository).ensureMonthlyPartition(LocalDate.of(2026, 11, 1));
+            verify(messageRepository).ensureMonthlyPartition(LocalDate.of(2026, 12, 1));
+            verify(messageRepository, never()).detachMonthlyPartitionsBefore(any());
+            verify(messageRepository, never()).purgeLegacyPartitionBefore(any(), anyInt());
+            verify(messageSearchRepository, never()).deleteBatchByMessageAtBefore(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("retentionMonths 설정 시 보존 기간 이전 파티션 DETACH")
+        void shouldDetachExpiredPartitions() {
+            // Given
+            properties.setRetentionMonths(12);
+            when(messageRepository.detachMonthlyPartitionsBefore(LocalDate.of(2025, 10, 1)))
+                    .thenReturn(List.of("chat_messages_p202509"));
+
+            // When
+            job.maintain();
+
+            // Then
+            verify(messageRepository).detachMonthlyPartitionsBefore(LocalDate.of(2025, 10, 1));
+            verify(messageRepository).purgeLegacyPartitionBefore(LocalDate.of(2025, 10, 1), 5000);
+            verify(messageSearchRepository).deleteBatchByMessageAtBefore(Instant.parse("2025-10-01T00:00:00Z"), 5000);
+        }
+
+        @Test
+        @DisplayName("legacy 파티션 행은 배치 크기 미만이 삭제될 때까지 반복 삭제")
+        void shouldPurgeLegacyPartitionInBatches() {
+            // Given
+            properties.setRetentionMonths(12);
+            properties.setLegacyPurgeBatchSize(100);
+            LocalDate before = LocalDate.of(2025, 10, 1);
+            when(messageRepository.purgeLegacyPartitionBefore(before, 100)).thenReturn(100, 100, 0);
+
+            // When
+            job.maintain();
+
+            // Then
+            verify(messageRepository, times(3)).purgeLegacyPartitionBefore(before, 100);
+        }
+
+        @Test
+        @DisplayName("검색 행은 배치 크기 미만이 삭제될 때까지 반복 삭제")
+        void shouldPurgeSearchRowsInBatches() {
+            // Given
+            properties.setRetentionMonths(12);
+            properties.setSearchPurgeBatchSize(100);
+            Instant threshold = Instant.parse("2025-10-01T00:00:00Z");
+            when(messageSearchRepository.deleteBatchByMessageAtBefore(threshold, 100)).thenReturn(100, 100, 40);
+
+            // When
+            job.maintain();
+
+            // Then
+            verify(messageSearchRepository, times(3)).deleteBatchByMessageAtBefore(threshold, 100);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure")
+    class Failure {
+
+        @Test
+        @DisplayName("파티션 함수가 없는 DB 에서도 예외 전파 없음")
+        void shouldSwallowMissingFunction() {
+            // Given
+            when(messageRepository.ensureMonthlyPartition(any()))
+                    .thenThrow(new RuntimeException("function ensure_chat_messages_partition(date) does not exist"));
+
+            // When
+            job.maintain();
+
+            // Then
+            verify(messageRepository, never()).detachMonthlyPartitionsBefore(any());
+        }
+    }
+}
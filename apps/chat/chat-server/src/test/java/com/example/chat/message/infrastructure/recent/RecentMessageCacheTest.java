@@ -0,0 +1,326 @@
+package com.example.chat.message.infrastructure.recent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.example.chat.common.core.enums.MessageStatus;
+import com.example.chat.common.core.enums.MessageType;
+import com.example.chat.message.application.model.MessageCursor;
+import com.example.chat.message.rest.dto.response.MessageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * [단위 테스트] RecentMessageCache
+ *
+ * 검증 범위:
+ * - 첫 페이지: 링에 요청 수 이상 쌓였을 때만 (createdAt, id) 최신순으로 응답
+ * - catch-up: 커서가 링 범위 안일 때만 커서 이후 메시지를 오래된 순으로 응답
+ * - 첫 페이지 / catch-up 모두 응답 구간 순번에 빈 번호가 있거나 순번 없는 항목이 섞이면 empty
+ * - 순번 catch-up: afterSeq+1 부터 빈 번호 없이 이어질 때만 응답
+ * - L1 hit 시 Redis 미조회
+ * - 적재: Pipeline 1회, 실패 시 링 삭제 (구멍 난 링으로 응답하지 않음)
+ * - 적재 / 링 삭제 후 무효화 토픽 발행 (다른 인스턴스 L1 제거), 수신 시 L1 제거
+ * - Redis 장애 시 empty (DB 조회로 계속 동작)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentMessageCache 단위 테스트")
+class RecentMessageCacheTest {
+
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock ListOperations<String, String> listOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private RecentMessageCache cache;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String KEY        = "chat:channel:ch-001:recent";
+    private static final Instant BASE      = Instant.parse("2026-03-12T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        RecentMessageCacheProperties properties = new RecentMessageCacheProperties();
+        properties.setCapacity(5);
+        properties.setLocalTtlMs(60_000);
+        cache = new RecentMessageCache(redisTemplate, objectMapper, properties);
+    }
+
+    private static MessageResponse message(String id, int offsetSeconds) {
+        return new MessageResponse(id, CHANNEL_ID, (long) offsetSeconds, "u-sender", MessageType.TEXT, "hi",
+                MessageStatus.SENT, 1, BASE.plusSeconds(offsetSeconds), BASE.plusSeconds(offsetSeconds), null, null);
+    }
+
+    private static MessageResponse unsequenced(String id, int offsetSeconds) {
+        return new MessageResponse(id, CHANNEL_ID, null, "u-sender", MessageType.TEXT, "hi",
+                MessageStatus.SENT, 1, BASE.plusSeconds(offsetSeconds), BASE.plusSeconds(offsetSeconds), null, null);
+    }
+
+    /** LPUSH 순서(최신이 앞) 그대로 Redis 에 있다고 가정. 커밋 순서 역전을 흉내내기 위해 일부 순서를 섞는다 */
+    private void givenRing(MessageResponse... messages) throws Exception {
+        List<String> raw = new ArrayList<>();
+        for (MessageResponse m : messages) {
+            raw.add(objectMapper.writeValueAsString(m));
+        }
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(KEY, 0, -1)).thenReturn(raw);
+    }
+
+    // ──────────────────────────────────────────────────
+    // Latest (첫 페이지)
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("findLatest")
+    class FindLatest {
+
+        @Test
+        @DisplayName("링이 요청 수 이상이면 최신순으로 count 개 반환")
+        void shouldReturnNewestFirst() throws Exception {
+            // Given: m3 이 m4 보다 늦게 커밋되어 앞에 있음
+            givenRing(message("m3", 3), message("m4", 4), message("m2", 2), message("m1", 1));
+
+            // When
+            var result = cache.findLatest(CHANNEL_ID, 3);
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get()).extracting(MessageResponse::id).containsExactly("m4", "m3", "m2");
+        }
+
+        @Test
+        @DisplayName("링이 요청 수 미만이면 empty (채널 전체 이력인지 알 수 없음)")
+        void shouldReturnEmptyWhenRingTooShort() throws Exception {
+            givenRing(message("m2", 2), message("m1", 1));
+
+            assertThat(cache.findLatest(CHANNEL_ID, 3)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("응답 구간 순번에 빈 번호가 있으면 empty (LTRIM 으로 잘린 메시지)")
+        void shouldReturnEmptyWhenLatestHasHole() throws Exception {
+            // Given: m4 가 잘려 나가고 m3 이 늦게 적재됨
+            givenRing(message("m3", 3), message("m5", 5), message("m2", 2));
+
+            assertThat(cache.findLatest(CHANNEL_ID, 3)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("구멍이 응답 구간 밖(더 오래된 쪽)에만 있으면 응답")
+        void shouldIgnoreHoleOutsideRequestedRange() throws Exception {
+            givenRing(message("m5", 5), message("m4", 4), message("m2", 2));
+
+            var result = cache.findLatest(CHANNEL_ID, 2);
+
+            assertThat(result.get()).extracting(MessageResponse::id).containsExactly("m5", "m4");
+        }
+
+        @Test
+        @DisplayName("순번 없는 항목(V18 이전 적재분)이 섞이면 empty")
+        void shouldReturnEmptyWhenUnsequencedEntryPresent() throws Exception {
+            givenRing(message("m2", 2), unsequenced("m1", 1));
+
+            assertThat(cache.findLatest(CHANNEL_ID, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("L1 hit 시 Redis 재조회 없음")
+        void shouldServeFromLocalNearCache() throws Exception {
+            givenRing(message("m2", 2), message("m1", 1));
+
+            cache.findLatest(CHANNEL_ID, 1);
+            cache.findLatest(CHANNEL_ID, 2);
+
+            verify(listOperations, times(1)).range(KEY, 0, -1);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 empty")
+        void shouldReturnEmptyOnRedisFailure() {
+            when(redisTemplate.opsForList()).thenThrow(new RuntimeException("Redis down"));
+
+            assertThat(cache.findLatest(CHANNEL_ID, 1)).isEmpty();
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // After (catch-up)
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("findAfter")
+    class FindAfter {
+
+        @Test
+        @DisplayName("커서가 링 범위 안이면 커서 이후 메시지를 오래된 순으로 반환")
+        void shouldReturnNewerMessagesOldestFirst() throws Exception {
+            givenRing(message("m4", 4), message("m3", 3), message("m2", 2), message("m1", 1));
+
+            var result = cache.findAfter(CHANNEL_ID, new MessageCursor(BASE.plusSeconds(2), "m2"));
+
+            assertThat(result).isPresent();
+            assertThat(result.get()).extracting(MessageResponse::id).containsExactly("m3", "m4");
+        }
+
+        @Test
+        @DisplayName("최신 메시지까지 받은 커서 → 빈 목록 (DB 미조회)")
+        void shouldReturnEmptyListWhenUpToDate() throws Exception {
+            givenRing(message("m2", 2), message("m1", 1));
+
+            var result = cache.findAfter(CHANNEL_ID, new MessageCursor(BASE.plusSeconds(2), "m2"));
+
+            assertThat(result).hasValueSatisfying(list -> assertThat(list).isEmpty());
+        }
+
+        @Test
+        @DisplayName("커서가 링의 가장 오래된 메시지보다 이전이면 empty (중간 구간 누락)")
+        void shouldReturnEmptyWhenCursorOlderThanRing() throws Exception {
+            givenRing(message("m4", 4), message("m3", 3));
+
+            assertThat(cache.findAfter(CHANNEL_ID, new MessageCursor(BASE.plusSeconds(1), "m1"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("기존 형식(createdAt 단독) 커서는 시각만 비교")
+        void shouldCompareTimeOnlyForLegacyCursor() throws Exception {
+            givenRing(message("m3", 3), message("m2", 2), message("m1", 1));
+
+            var result = cache.findAfter(CHANNEL_ID, new MessageCursor(BASE.plusSeconds(1), null));
+
+            assertThat(result.get()).extracting(MessageResponse::id).containsExactly("m2", "m3");
+        }
+
+        @Test
+        @DisplayName("커서 이후 구간에 빈 번호가 있으면 empty")
+        void shouldReturnEmptyWhenNewerHasHole() throws Exception {
+            givenRing(message("m5", 5), message("m3", 3), message("m2", 2));
+
+            assertThat(cache.findAfter(CHANNEL_ID, new MessageCursor(BASE.plusSeconds(2), "m2"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("커서 위치 메시지와 첫 응답 메시지 사이가 비어 있으면 empty")
+        void shouldReturnEmptyWhenHoleRightAfterCursor() throws Exception {
+            givenRing(message("m4", 4), message("m3", 3), message("m1", 1));
+
+            assertThat(cache.findAfter(CHANNEL_ID, new MessageCursor(BASE.plusSeconds(1), "m1"))).isEmpty();
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // After Seq (채널 순번 catch-up)
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("findAfterSeq")
+    class FindAfterSeq {
+
+        @Test
+        @DisplayName("링이 afterSeq+1 부터 이어지면 이후 메시지를 순번 오름차순으로 반환")
+        void shouldReturnMessagesAfterSeq() throws Exception {
+            givenRing(message("m4", 4), message("m3", 3), message("m2", 2));
+
+            var result = cache.findAfterSeq(CHANNEL_ID, 2);
+
+            assertThat(result.get()).extracting(MessageResponse::id).containsExactly("m3", "m4");
+        }
+
+        @Test
+        @DisplayName("링의 가장 오래된 순번이 afterSeq+1 보다 크면 empty")
+        void shouldReturnEmptyWhenRingStartsLater() throws Exception {
+            givenRing(message("m4", 4), message("m3", 3));
+
+            assertThat(cache.findAfterSeq(CHANNEL_ID, 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("링 중간에 빈 번호가 있으면 empty (적재 실패 구간)")
+        void shouldReturnEmptyWhenRingHasHole() throws Exception {
+            givenRing(message("m4", 4), message("m2", 2));
+
+            assertThat(cache.findAfterSeq(CHANNEL_ID, 2)).isEmpty();
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Append (write-through)
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("append")
+    class Append {
+
+        @Test
+        @DisplayName("트랜잭션 밖 호출 시 즉시 Pipeline 적재")
+        void shouldPushImmediatelyOutsideTransaction() {
+            cache.append(message("m1", 1));
+
+            verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("적재 실패 시 링 삭제, 예외 전파 없음")
+        void shouldDropRingOnPushFailure() {
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenThrow(new RuntimeException("Redis down"));
+
+            assertThatNoException().isThrownBy(() -> cache.append(message("m1", 1)));
+            verify(redisTemplate).delete(KEY);
+            verify(redisTemplate).convertAndSend(RecentMessageCache.INVALIDATION_TOPIC, CHANNEL_ID);
+        }
+
+        @Test
+        @DisplayName("적재 후 무효화 토픽으로 channelId 발행")
+        void shouldPublishInvalidationAfterPush() {
+            cache.append(message("m1", 1));
+
+            verify(redisTemplate).convertAndSend(RecentMessageCache.INVALIDATION_TOPIC, CHANNEL_ID);
+        }
+
+        @Test
+        @DisplayName("무효화 발행 실패 시 예외 전파 없음")
+        void shouldNotPropagatePublishFailure() {
+            when(redisTemplate.convertAndSend(RecentMessageCache.INVALIDATION_TOPIC, CHANNEL_ID))
+                    .thenThrow(new RuntimeException("Redis down"));
+
+            assertThatNoException().isThrownBy(() -> cache.append(message("m1", 1)));
+        }
+
+        @Test
+        @DisplayName("무효화 수신(evictLocal) 시 다음 조회는 Redis 재조회")
+        void shouldReloadAfterEvictLocal() throws Exception {
+            givenRing(message("m1", 1));
+            cache.findLatest(CHANNEL_ID, 1);
+
+            cache.evictLocal(CHANNEL_ID);
+            cache.findLatest(CHANNEL_ID, 1);
+
+            verify(listOperations, times(2)).range(KEY, 0, -1);
+        }
+
+        @Test
+        @DisplayName("적재 시 로컬 near cache 무효화")
+        void shouldInvalidateLocalWindowOnAppend() throws Exception {
+            givenRing(message("m1", 1));
+            cache.findLatest(CHANNEL_ID, 1);
+
+            cache.append(message("m2", 2));
+            cache.findLatest(CHANNEL_ID, 1);
+
+            verify(listOperations, times(2)).range(KEY, 0, -1);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.chat.message.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.chat.message.infrastructure.messaging.MessageSentEvent;
+import com.example.chat.message.infrastructure.outbox.MessageOutboxAppender;
+import com.example.chat.message.infrastructure.outbox.MessageOutboxPayload;
+import com.example.chat.storage.domain.entity.OutboxEventEntity;
+import com.example.chat.storage.domain.repository.JpaMessageSearchRepository;
+import com.example.chat.storage.domain.repository.JpaOutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * [단위 테스트] MessageSearchIndexer
+ *
+ * 검증 범위:
+ * - 미적재 이벤트 중 텍스트 메시지만 검색 테이블에 적재, 배치 전체를 단일 UPDATE 로 적재 완료 표시
+ * - 잠금 실패 시 조회 생략
+ * - 적재 실패 시 예외 전파 → 적재 완료 표시 없음 (다음 실행에서 재시도)
+ * - 역직렬화 불가 / 다른 타입 이벤트는 적재 없이 표시 (재시도해도 적재 불가)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageSearchIndexer 단위 테스트")
+class MessageSearchIndexerTest {
+
+    @Mock JpaOutboxEventRepository outboxEventRepository;
+    @Mock JpaMessageSearchRepository messageSearchRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private MessageSearchIndexer indexer;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String SENDER_ID  = "u-sender";
+    private static final Instant SENT_AT   = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        indexer = new MessageSearchIndexer(outboxEventRepository, messageSearchRepository, objectMapper);
+    }
+
+    private OutboxEventEntity outboxEvent(long id, String messageId, String messageType, String content) throws Exception {
+        MessageSentEvent sent = new MessageSentEvent("MESSAGE", messageId, CHANNEL_ID, id, SENDER_ID,
+                messageType, content, "SENT", 1, SENT_AT);
+        String payload = objectMapper.writeValueAsString(new MessageOutboxPayload(sent, content));
+        return stubId(OutboxEventEntity.create(CHANNEL_ID, MessageOutboxAppender.MESSAGE_SENT, payload), id);
+    }
+
+    private OutboxEventEntity stubId(OutboxEventEntity entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("텍스트 메시지만 적재하고 배치 전체를 한 번에 적재 완료 표시")
+        void shouldIndexTextMessagesAndMarkBatch() throws Exception {
+            // Given
+            when(outboxEventRepository.tryLockPartition(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findSearchPendingBatch(100)).thenReturn(List.of(
+                    outboxEvent(1L, "m-1", "TEXT", "hello"),
+                    outboxEvent(2L, "m-2", "IMAGE", "[Image] a.png"),
+                    outboxEvent(3L, "m-3", "TEXT", "  ")));
+            when(messageSearchRepository.insertIfAbsent(anyString(), anyString(), anyLong(), anyString(), anyString(), any()))
+                    .thenReturn(1);
+
+            // When
+            int marked = indexer.indexPending(100);
+
+            // Then
+            assertThat(marked).isEqualTo(3);
+            verify(messageSearchRepository).insertIfAbsent("m-1", CHANNEL_ID, 1L, SENDER_ID, "hello", SENT_AT);
+            verify(messageSearchRepository, times(1))
+                    .insertIfAbsent(anyString(), anyString(), anyLong(), anyString(), anyString(), any());
+            verify(outboxEventRepository).markSearchIndexed(List.of(1L, 2L, 3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Boundary")
+    class Boundary {
+
+        @Test
+        @DisplayName("다른 인스턴스가 적재 중이면 조회하지 않음")
+        void shouldSkipWhenLocked() {
+            when(outboxEventRepository.tryLockPartition(anyLong())).thenReturn(false);
+
+            assertThat(indexer.indexPending(100)).isZero();
+            verify(outboxEventRepository, never()).findSearchPendingBatch(anyInt());
+        }
+
+        @Test
+        @DisplayName("미적재 이벤트가 없으면 UPDATE 를 실행하지 않음")
+        void shouldNotUpdateWhenEmpty() {
+            when(outboxEventRepository.tryLockPartition(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findSearchPendingBatch(anyInt())).thenReturn(List.of());
+
+            assertThat(indexer.indexPending(100)).isZero();
+            verify(outboxEventRepository, never()).markSearchIndexed(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure")
+    class Failure {
+
+        @Test
+        @DisplayName("적재 실패 시 예외 전파, 적재 완료 표시 없음 (다음 실행에서 재시도)")
+        void shouldNotMarkWhenInsertFails() throws Exception {
+            // Given
+            when(outboxEventRepository.tryLockPartition(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findSearchPendingBatch(anyInt()))
+                    .thenReturn(List.of(outboxEvent(1L, "m-1", "TEXT", "hello")));
+            when(messageSearchRepository.insertIfAbsent(anyString(), anyString(), anyLong(), anyString(), anyString(), any()))
+                    .thenThrow(new RuntimeException("db down"));
+
+            // When & Then
+            assertThatThrownBy(() -> indexer.indexPending(100)).isInstanceOf(RuntimeException.class);
+            verify(outboxEventRepository, never()).markSearchIndexed(anyList());
+        }
+
+        @Test
+        @DisplayName("역직렬화 불가 페이로드는 적재 없이 표시")
+        void shouldMarkMalformedPayloadWithoutIndexing() {
+            // Given
+            OutboxEventEntity malformed = stubId(
+                    OutboxEventEntity.create(CHANNEL_ID, MessageOutboxAppender.MESSAGE_SENT, "{not-json"), 7L);
+            when(outboxEventRepository.tryLockPartition(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findSearchPendingBatch(anyInt())).thenReturn(List.of(malformed));
+
+            // When
+            indexer.indexPending(100);
+
+            // Then
+            verify(messageSearchRepository, never())
+                    .insertIfAbsent(anyString(), anyString(), any(), anyString(), anyString(), any());
+            verify(outboxEventRepository).markSearchIndexed(List.of(7L));
+        }
+    }
+}
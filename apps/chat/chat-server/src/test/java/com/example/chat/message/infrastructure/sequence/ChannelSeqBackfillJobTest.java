@@ -0,0 +1,125 @@
+package com.example.chat.message.infrastructure.sequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.chat.common.core.enums.ChannelType;
+import com.example.chat.storage.domain.entity.ChatChannelEntity;
+import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.storage.domain.repository.JpaMessageRepository;
+
+/**
+ * [단위 테스트] ChannelSeqBackfillJob
+ *
+ * 검증 범위:
+ * - 채널 ID keyset 으로 batchChannels 개씩 순회하며 채널마다 백필 호출
+ * - 채널 백필 실패 시 커서를 그 채널 앞에 두고 다음 실행에서 재시도
+ * - 마지막 채널 이후 빈 배치 → 완료, 이후 실행은 조회하지 않음
+ * - enabled=false 면 아무것도 하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChannelSeqBackfillJob 단위 테스트")
+class ChannelSeqBackfillJobTest {
+
+    @Mock JpaChannelRepository channelRepository;
+    @Mock JpaMessageRepository messageRepository;
+
+    private final ChannelSeqBackfillProperties properties = new ChannelSeqBackfillProperties();
+    private ChannelSeqBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchChannels(2);
+        job = new ChannelSeqBackfillJob(channelRepository, messageRepository, properties);
+    }
+
+    private static ChatChannelEntity channel(String id) {
+        return ChatChannelEntity.create(id, "ch", null, ChannelType.GROUP, "u-1");
+    }
+
+    @Nested
+    @DisplayName("HappyPath")
+    class HappyPath {
+
+        @Test
+        @DisplayName("배치마다 마지막 채널 ID 다음부터 조회하고 빈 배치에서 완료")
+        void shouldWalkChannelsByKeysetUntilEmpty() {
+            // Given
+            when(channelRepository.findByIdGreaterThanOrderByIdAsc("", PageRequest.of(0, 2)))
+                    .thenReturn(List.of(channel("ch-a"), channel("ch-b")));
+            when(channelRepository.findByIdGreaterThanOrderByIdAsc("ch-b", PageRequest.of(0, 2)))
+                    .thenReturn(List.of());
+            when(messageRepository.backfillChannelSeq(anyString())).thenReturn(3);
+
+            // When
+            job.backfill();
+            job.backfill();
+            job.backfill();
+
+            // Then
+            verify(messageRepository).backfillChannelSeq("ch-a");
+            verify(messageRepository).backfillChannelSeq("ch-b");
+            verify(channelRepository, times(2)).findByIdGreaterThanOrderByIdAsc(anyString(), any());
+            assertThat(job.isCompleted()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 / 비활성")
+    class FailureAndDisabled {
+
+        @Test
+        @DisplayName("채널 백필 실패 시 남은 채널은 건너뛰지 않고 다음 실행에서 그 채널부터 재시도")
+        void shouldRetryFailedChannelNextRun() {
+            // Given
+            when(channelRepository.findByIdGreaterThanOrderByIdAsc("", PageRequest.of(0, 2)))
+                    .thenReturn(List.of(channel("ch-a"), channel("ch-b")));
+            when(channelRepository.findByIdGreaterThanOrderByIdAsc("ch-a", PageRequest.of(0, 2)))
+                    .thenReturn(List.of(channel("ch-b")));
+            when(messageRepository.backfillChannelSeq("ch-a")).thenReturn(1);
+            when(messageRepository.backfillChannelSeq("ch-b"))
+                    .thenThrow(new QueryTimeoutException("timeout"))
+                    .thenReturn(1);
+
+            // When
+            job.backfill();
+            job.backfill();
+
+            // Then
+            verify(messageRepository, times(2)).backfillChannelSeq("ch-b");
+            verify(channelRepository).findByIdGreaterThanOrderByIdAsc(eq("ch-a"), any());
+            assertThat(job.isCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("enabled=false 면 채널을 조회하지 않음")
+        void shouldDoNothingWhenDisabled() {
+            // Given
+            properties.setEnabled(false);
+
+            // When
+            job.backfill();
+
+            // Then
+            verify(channelRepository, never()).findByIdGreaterThanOrderByIdAsc(anyString(), any());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.chat.shared.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.example.chat.shared.cache.ChannelReadCursorCache.ReadCursors;
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository.MemberReadCursor;
+
+/**
+ * [단위 테스트] ChannelReadCursorCache
+ *
+ * 검증 범위:
+ * - 미읽음 수 = 커서가 메시지 시각 이전인 멤버 수 (발신자 제외)
+ * - 메시지 이후 입장한 멤버는 미읽음에서 제외 (입장 시각 = 최소 커서)
+ * - 커서 전진 시 미읽음 감소, 후퇴/비멤버 전진은 무시
+ * - L1 hit 시 DB 미조회, evict 후 재적재
+ * - 전진: 로컬 반영 + 토픽 발행, Redis 장애 시 예외 전파 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChannelReadCursorCache 단위 테스트")
+class ChannelReadCursorCacheTest {
+
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock JpaChannelMemberRepository channelMemberRepository;
+
+    @InjectMocks ChannelReadCursorCache cursorCache;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final Instant JOINED    = Instant.parse("2026-03-01T00:00:00Z");
+    private static final Instant T1        = Instant.parse("2026-03-12T10:00:00Z");
+    private static final Instant T2        = Instant.parse("2026-03-12T10:05:00Z");
+    private static final Instant T3        = Instant.parse("2026-03-12T10:10:00Z");
+
+    private static MemberReadCursor cursor(String userId, Instant joinedAt, Instant lastReadMessageAt) {
+        return new MemberReadCursor() {
+            @Override public String getUserId() { return userId; }
+            @Override public Instant getJoinedAt() { return joinedAt; }
+            @Override public Instant getLastReadMessageAt() { return lastReadMessageAt; }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        // sender: T1 까지 읽음 / u-002: T2 까지 읽음 / u-003: 읽은 적 없음 / u-004: T2 이후 입장
+        lenient().when(channelMemberRepository.findReadCursorsByChannelId(CHANNEL_ID)).thenReturn(List.of(
+                cursor("sender", JOINED, T1),
+                cursor("u-002", JOINED, T2),
+                cursor("u-003", JOINED, null),
+                cursor("u-004", T2.plusSeconds(1), null)));
+    }
+
+    // ──────────────────────────────────────────────────
+    // Unread Count
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("미읽음 수 계산")
+    class UnreadCount {
+
+        @Test
+        @DisplayName("발신자를 제외하고 커서가 메시지 시각 이전인 멤버 수")
+        void shouldCountMembersBehindMessageExcludingSender() {
+            ReadCursors cursors = cursorCache.getCursors(CHANNEL_ID);
+
+            // T2 메시지: u-003 미읽음 (u-002 는 T2 까지 읽음, u-004 는 이후 입장, sender 제외)
+            assertThat(cursors.unreadCount("sender", T2)).isEqualTo(1);
+            // T3 메시지: u-002, u-003, u-004 미읽음
+            assertThat(cursors.unreadCount("sender", T3)).isEqualTo(3);
+            assertThat(cursors.memberCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("발신자가 비멤버(퇴장)여도 음수가 되지 않음")
+        void shouldIgnoreUnknownSender() {
+            ReadCursors cursors = cursorCache.getCursors(CHANNEL_ID);
+
+            assertThat(cursors.unreadCount("left-user", T1)).isEqualTo(1);
+            assertThat(cursors.unreadCount("sender", null)).isZero();
+        }
+
+        @Test
+        @DisplayName("L1 hit 시 DB 재조회 없음, evict 후 재적재")
+        void shouldLoadOncePerChannelUntilEvicted() {
+            cursorCache.getCursors(CHANNEL_ID);
+            cursorCache.getCursors(CHANNEL_ID);
+            verify(channelMemberRepository, times(1)).findReadCursorsByChannelId(CHANNEL_ID);
+
+            cursorCache.evictLocal(CHANNEL_ID);
+            cursorCache.getCursors(CHANNEL_ID);
+            verify(channelMemberRepository, times(2)).findReadCursorsByChannelId(CHANNEL_ID);
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // Advance
+    // ──────────────────────────────────────────────────
+    @Nested
+    @DisplayName("커서 전진")
+    class Advance {
+
+        @Test
+        @DisplayName("전진 시 로컬 반영 + 전진 토픽 발행")
+        void shouldApplyLocallyAndPublish() {
+            cursorCache.getCursors(CHANNEL_ID);
+
+            cursorCache.advance(CHANNEL_ID, "u-003", T3);
+
+            assertThat(cursorCache.getCursors(CHANNEL_ID).unreadCount("sender", T3)).isEqualTo(2);
+            verify(redisTemplate).convertAndSend(eq(ChannelReadCursorCache.ADVANCE_TOPIC),
+                    eq(ChannelReadCursorCache.encode(CHANNEL_ID, "u-003", ChannelReadCursorCache.toPosition(T3))));
+        }
+
+        @Test
+        @DisplayName("과거 위치로의 전진은 무시")
+        void shouldIgnoreBackwardMove() {
+            cursorCache.getCursors(CHANNEL_ID);
+
+            cursorCache.applyLocal(CHANNEL_ID, "u-002", ChannelReadCursorCache.toPosition(T1));
+
+            assertThat(cursorCache.getCursors(CHANNEL_ID).unreadCount("sender", T2)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비멤버 전진은 무시")
+        void shouldIgnoreNonMember() {
+            cursorCache.getCursors(CHANNEL_ID);
+
+            cursorCache.applyLocal(CHANNEL_ID, "stranger", ChannelReadCursorCache.toPosition(T3));
+
+            assertThat(cursorCache.getCursors(CHANNEL_ID).memberCount()).isEqualTo(4);
+            assertThat(cursorCache.getCursors(CHANNEL_ID).unreadCount("sender", T3)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("여러 멤버 전진 후에도 정렬 유지")
+        void shouldKeepOrderAfterSuccessiveAdvances() {
+            cursorCache.getCursors(CHANNEL_ID);
+
+            cursorCache.applyLocal(CHANNEL_ID, "u-004", ChannelReadCursorCache.toPosition(T3));
+            cursorCache.applyLocal(CHANNEL_ID, "u-003", ChannelReadCursorCache.toPosition(T2));
+            cursorCache.applyLocal(CHANNEL_ID, "sender", ChannelReadCursorCache.toPosition(T3));
+
+            ReadCursors cursors = cursorCache.getCursors(CHANNEL_ID);
+            assertThat(cursors.unreadCount("sender", T2)).isZero();
+            // T3 메시지: u-002, u-003 미읽음
+            assertThat(cursors.unreadCount("sender", T3)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("messageAt null 이면 아무 것도 하지 않음")
+        void shouldSkipWhenMessageAtNull() {
+            cursorCache.advance(CHANNEL_ID, "u-003", null);
+
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Redis 발행 실패해도 예외 전파 없음, 로컬은 반영")
+        void shouldNotPropagateRedisFailure() {
+            cursorCache.getCursors(CHANNEL_ID);
+            when(redisTemplate.convertAndSend(anyString(), anyString()))
+                    .thenThrow(new RuntimeException("Redis down"));
+
+            assertThatNoException().isThrownBy(() -> cursorCache.advance(CHANNEL_ID, "u-003", T3));
+            assertThat(cursorCache.getCursors(CHANNEL_ID).unreadCount("sender", T3)).isEqualTo(2);
+        }
+    }
+}
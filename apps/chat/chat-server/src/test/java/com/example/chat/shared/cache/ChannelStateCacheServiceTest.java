@@ -0,0 +1,224 @@
+package com.example.chat.shared.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.example.chat.common.core.enums.ChannelType;
+import com.example.chat.shared.cache.ChannelStateCacheService.ChannelState;
+import com.example.chat.storage.domain.entity.ChatChannelEntity;
+import com.example.chat.storage.domain.repository.JpaChannelMemberRepository;
+import com.example.chat.storage.domain.repository.JpaChannelRepository;
+import com.example.chat.storage.domain.repository.JpaUserRepository;
+
+/**
+ * [단위 테스트] ChannelStateCacheService
+ *
+ * 검증 범위:
+ * - L1 hit 시 Redis/DB 미조회
+ * - L2(Redis) hit 시 DB 미조회
+ * - 전체 miss 시 DB 적재 전 버전 조회 → 버전 일치 조건부(Lua) Redis 기록
+ * - 버전을 읽지 못하면 Redis 에 기록하지 않음
+ * - 채널 부재는 캐시하지 않음
+ * - 무효화: 버전 INCR + Redis 키 삭제(Lua) + 무효화 토픽 발행
+ * - isMember: 멤버 Set 조회
+ * - Redis 장애 시 DB 조회로 계속 동작 (degraded mode)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChannelStateCacheService 단위 테스트")
+class ChannelStateCacheServiceTest {
+
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock ValueOperations<String, String> valueOperations;
+    @Mock JpaChannelRepository channelRepository;
+    @Mock JpaChannelMemberRepository channelMemberRepository;
+    @Mock JpaUserRepository userRepository;
+
+    @InjectMocks ChannelStateCacheService cacheService;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String KEY        = "chat:channel:ch-001:state";
+    private static final String VER_KEY    = "chat:channel:ch-001:state:ver";
+
+    @Nested
+    @DisplayName("getChannelState")
+    class GetChannelState {
+
+        @BeforeEach
+        void setUp() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        }
+
+        @Test
+        @DisplayName("Redis hit 이면 DB 를 조회하지 않고, 이후 조회는 로컬 캐시에서 응답")
+        void shouldServeFromRedisThenLocal() {
+            // Given
+            when(valueOperations.get(KEY)).thenReturn("1|u-1,u-2");
+
+            // When
+            Optional<ChannelState> first  = cacheService.getChannelState(CHANNEL_ID);
+            Optional<ChannelState> second = cacheService.getChannelState(CHANNEL_ID);
+
+            // Then
+            assertThat(first).contains(new ChannelState(true, List.of("u-1", "u-2")));
+            assertThat(second).isEqualTo(first);
+            verify(valueOperations, times(1)).get(KEY);
+            verifyNoInteractions(channelRepository, channelMemberRepository);
+        }
+
+        @Test
+        @DisplayName("전체 miss 시 DB 적재 전에 읽은 버전을 조건으로 Redis 에 기록")
+        void shouldLoadFromDbAndWriteRedisOnMiss() {
+            // Given
+            when(valueOperations.get(KEY)).thenReturn(null);
+            when(valueOperations.get(VER_KEY)).thenReturn("3");
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(
+                    ChatChannelEntity.create(CHANNEL_ID, "test-ch", null, ChannelType.GROUP, "u-1")));
+            when(channelMemberRepository.findUserIdsByChannelId(CHANNEL_ID)).thenReturn(List.of("u-1", "u-2"));
+
+            // When
+            Optional<ChannelState> result = cacheService.getChannelState(CHANNEL_ID);
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get().isMember("u-2")).isTrue();
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VER_KEY)),
+                    eq("1|u-1,u-2"), eq("600"), eq("3"));
+        }
+
+        @Test
+        @DisplayName("버전 키가 없으면 '없음' 조건으로 기록")
+        void shouldWriteWithEmptyVersionWhenAbsent() {
+            // Given
+            when(valueOperations.get(KEY)).thenReturn(null);
+            when(valueOperations.get(VER_KEY)).thenReturn(null);
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(
+                    ChatChannelEntity.create(CHANNEL_ID, "test-ch", null, ChannelType.GROUP, "u-1")));
+            when(channelMemberRepository.findUserIdsByChannelId(CHANNEL_ID)).thenReturn(List.of("u-1"));
+
+            // When
+            cacheService.getChannelState(CHANNEL_ID);
+
+            // Then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VER_KEY)),
+                    eq("1|u-1"), eq("600"), eq(""));
+        }
+
+        @Test
+        @DisplayName("버전을 읽지 못하면 무효화 경합을 판단할 수 없으므로 Redis 에 기록하지 않음")
+        void shouldSkipRedisWriteWhenVersionUnknown() {
+            // Given
+            when(valueOperations.get(KEY)).thenReturn(null);
+            when(valueOperations.get(VER_KEY)).thenThrow(new RuntimeException("redis down"));
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(
+                    ChatChannelEntity.create(CHANNEL_ID, "test-ch", null, ChannelType.GROUP, "u-1")));
+            when(channelMemberRepository.findUserIdsByChannelId(CHANNEL_ID)).thenReturn(List.of("u-1"));
+
+            // When
+            Optional<ChannelState> result = cacheService.getChannelState(CHANNEL_ID);
+
+            // Then
+            assertThat(result).contains(new ChannelState(true, List.of("u-1")));
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("채널이 없으면 empty 반환 및 Redis 미기록")
+        void shouldNotCacheMissingChannel() {
+            // Given
+            when(valueOperations.get(KEY)).thenReturn(null);
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.empty());
+
+            // When
+            Optional<ChannelState> result = cacheService.getChannelState(CHANNEL_ID);
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("Redis 예외 시 DB 조회로 계속 동작")
+        void shouldFallbackToDbOnRedisFailure() {
+            // Given
+            when(valueOperations.get(KEY)).thenThrow(new RuntimeException("redis down"));
+            when(channelRepository.findById(CHANNEL_ID)).thenReturn(Optional.of(
+                    ChatChannelEntity.create(CHANNEL_ID, "test-ch", null, ChannelType.GROUP, "u-1")));
+            when(channelMemberRepository.findUserIdsByChannelId(CHANNEL_ID)).thenReturn(List.of("u-1"));
+
+            // When
+            Optional<ChannelState> result = cacheService.getChannelState(CHANNEL_ID);
+
+            // Then
+            assertThat(result).contains(new ChannelState(true, List.of("u-1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateChannel")
+    class InvalidateChannel {
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 즉시 버전 INCR + Redis 키 삭제 + 무효화 토픽 발행")
+        void shouldDeleteKeyAndPublishInvalidation() {
+            // When
+            cacheService.invalidateChannel(CHANNEL_ID);
+
+            // Then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VER_KEY)), eq("86400"));
+            verify(redisTemplate).convertAndSend(ChannelStateCacheService.INVALIDATION_TOPIC, CHANNEL_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("encode / decode")
+    class Codec {
+
+        @Test
+        @DisplayName("비활성 + 멤버 없음 상태도 왕복 변환 유지")
+        void shouldRoundTripEmptyMembers() {
+            // Given
+            ChannelState state = new ChannelState(false, List.of());
+
+            // When
+            ChannelState decoded = ChannelStateCacheService.decode(ChannelStateCacheService.encode(state));
+
+            // Then
+            assertThat(decoded).isEqualTo(state);
+        }
+
+        @Test
+        @DisplayName("isMember 는 멤버 Set 으로 판단 (중복 멤버 ID 허용, null 은 비멤버)")
+        void shouldCheckMembershipBySet() {
+            // Given
+            ChannelState state = new ChannelState(true, List.of("u-1", "u-2", "u-1"));
+
+            // Then
+            assertThat(state.isMember("u-2")).isTrue();
+            assertThat(state.isMember("u-3")).isFalse();
+            assertThat(state.isMember(null)).isFalse();
+            assertThat(state.memberIds()).containsExactly("u-1", "u-2", "u-1");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.chat.shared.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+/**
+ * [단위 테스트] PresenceCacheService
+ *
+ * 검증 범위:
+ * - 만료 시각이 현재 이후인 사용자(열람 중) 제외
+ * - 만료됐거나 기록 없는 사용자 유지
+ * - Redis 장애 시 전체 수신자 반환 (degraded mode)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceCacheService 단위 테스트")
+class PresenceCacheServiceTest {
+
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks PresenceCacheService presenceCacheService;
+
+    private static final String CHANNEL_ID = "ch-001";
+    private static final String KEY        = "chat:presence:ch-001";
+
+    @Nested
+    @DisplayName("filterNotViewing")
+    class FilterNotViewing {
+
+        @Test
+        @DisplayName("열람 중인 사용자만 제외하고 입력 순서를 유지")
+        void shouldExcludeViewingUsers() {
+            // Given
+            double future = System.currentTimeMillis() + 60_000;
+            double past   = System.currentTimeMillis() - 60_000;
+            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            when(zSetOperations.score(eq(KEY), any(Object[].class)))
+                    .thenReturn(Arrays.asList(future, null, past));
+
+            // When
+            List<String> result = presenceCacheService.filterNotViewing(CHANNEL_ID, List.of("u-1", "u-2", "u-3"));
+
+            // Then
+            assertThat(result).containsExactly("u-2", "u-3");
+        }
+
+        @Test
+        @DisplayName("후보가 없으면 Redis를 조회하지 않음")
+        void shouldSkipRedisWhenEmpty() {
+            // When
+            List<String> result = presenceCacheService.filterNotViewing(CHANNEL_ID, List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("Redis 예외 시 전체 후보를 그대로 반환")
+        void shouldReturnAllOnRedisFailure() {
+            // Given
+            when(redisTemplate.opsForZSet()).thenThrow(new RuntimeException("redis down"));
+
+            // When
+            List<String> result = presenceCacheService.filterNotViewing(CHANNEL_ID, List.of("u-1", "u-2"));
+
+            // Then
+            assertThat(result).containsExactly("u-1", "u-2");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.chat.shared.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * [단위 테스트] UnreadCacheService
+ *
+ * 검증 범위:
+ * - getUnreadCounts: Pipeline 결과를 입력 순서대로 채널에 매핑, miss 채널은 결과에서 제외
+ * - 빈 입력 시 Redis 미호출
+ * - Redis 장애 시 빈 Map 반환 (호출자 PostgreSQL fallback)
+ * - incrementAllMembers: 발신자 제외 멤버를 메시지별 반영 표시 키와 함께 스크립트 1회로 증분
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadCacheService 단위 테스트")
+class UnreadCacheServiceTest {
+
+    @Mock RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks UnreadCacheService unreadCacheService;
+
+    private static final String USER_ID = "u-001";
+
+    @Nested
+    @DisplayName("getUnreadCounts")
+    class GetUnreadCounts {
+
+        @Test
+        @DisplayName("hit 채널만 결과에 포함")
+        @SuppressWarnings("unchecked")
+        void shouldMapHitsInInputOrder() {
+            // Given
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(Arrays.asList("3", null, "0"));
+
+            // When
+            Map<String, Integer> result = unreadCacheService.getUnreadCounts(USER_ID, List.of("ch-1", "ch-2", "ch-3"));
+
+            // Then
+            assertThat(result).containsOnly(Map.entry("ch-1", 3), Map.entry("ch-3", 0));
+        }
+
+        @Test
+        @DisplayName("채널이 없으면 Redis를 조회하지 않음")
+        void shouldSkipRedisWhenEmpty() {
+            // When
+            Map<String, Integer> result = unreadCacheService.getUnreadCounts(USER_ID, List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("Redis 예외 시 빈 Map 반환")
+        @SuppressWarnings("unchecked")
+        void shouldReturnEmptyOnRedisFailure() {
+            // Given
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenThrow(new RuntimeException("redis down"));
+
+            // When
+            Map<String, Integer> result = unreadCacheService.getUnreadCounts(USER_ID, List.of("ch-1"));
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementAllMembers")
+    class IncrementAllMembers {
+
+        @Test
+        @DisplayName("발신자를 제외한 멤버를 메시지별 반영 표시 키와 함께 증분")
+        @SuppressWarnings("unchecked")
+        void shouldIncrementOncePerMessage() {
+            // When
+            unreadCacheService.incrementAllMembers("ch-1", "m-1", USER_ID, List.of(USER_ID, "u-2", "u-3"));
+
+            // Then
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("chat:channel:ch-1:unread", "chat:channel:ch-1:unread:applied:m-1")),
+                    eq("86400"), eq("3600"), eq("u-2"), eq("u-3"));
+        }
+
+        @Test
+        @DisplayName("멤버가 없으면 Redis를 호출하지 않음")
+        void shouldSkipEmptyMembers() {
+            // When
+            unreadCacheService.incrementAllMembers("ch-1", "m-1", USER_ID, List.of());
+
+            // Then
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
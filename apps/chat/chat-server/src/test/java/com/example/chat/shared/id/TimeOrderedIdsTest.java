@@ -0,0 +1,70 @@
+package com.example.chat.shared.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] TimeOrderedIds
+ *
+ * 검증 범위:
+ * - UUIDv7 버전/variant 비트
+ * - 연속 발급 ID 의 문자열 사전순 = 발급순 (같은 millis 내 포함)
+ * - 상위 48bit 타임스탬프가 현재 시각 근방
+ */
+@DisplayName("TimeOrderedIds 단위 테스트")
+class TimeOrderedIdsTest {
+
+    @Nested
+    @DisplayName("next")
+    class Next {
+
+        @Test
+        @DisplayName("RFC 9562 version 7 / variant 2 비트 설정")
+        void shouldSetVersionAndVariant() {
+            // When
+            UUID uuid = UUID.fromString(TimeOrderedIds.next());
+
+            // Then
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("연속 발급 ID 는 문자열 비교로도 엄격히 증가")
+        void shouldBeStrictlyIncreasing() {
+            // Given
+            List<String> ids = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(TimeOrderedIds.next());
+            }
+
+            // Then
+            for (int i = 1; i < ids.size(); i++) {
+                assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            }
+        }
+
+        @Test
+        @DisplayName("상위 48bit 에 현재 epoch millis 기록")
+        void shouldEmbedCurrentMillis() {
+            // Given
+            long before = System.currentTimeMillis();
+
+            // When
+            UUID uuid = TimeOrderedIds.nextUuid();
+
+            // Then
+            long millis = uuid.getMostSignificantBits() >>> 16;
+            assertThat(millis).isBetween(before, System.currentTimeMillis() + 1_000);
+        }
+    }
+}
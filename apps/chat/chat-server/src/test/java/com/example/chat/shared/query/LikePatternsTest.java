@@ -0,0 +1,36 @@
+package com.example.chat.shared.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] LikePatterns
+ *
+ * 검증 범위:
+ * - LIKE 메타 문자(\, %, _) 이스케이프, 그 외 문자는 그대로
+ * - contains: 이스케이프 후 '%' 로 감쌈
+ */
+@DisplayName("LikePatterns 단위 테스트")
+class LikePatternsTest {
+
+    @Test
+    @DisplayName("메타 문자는 백슬래시로 이스케이프")
+    void shouldEscapeMetaCharacters() {
+        assertThat(LikePatterns.escape("50%_off\\")).isEqualTo("50\\%\\_off\\\\");
+    }
+
+    @Test
+    @DisplayName("메타 문자가 없으면 그대로")
+    void shouldKeepPlainText() {
+        assertThat(LikePatterns.escape("회의록 v2")).isEqualTo("회의록 v2");
+    }
+
+    @Test
+    @DisplayName("contains 는 이스케이프한 값을 '%' 로 감쌈")
+    void shouldWrapEscapedValue() {
+        assertThat(LikePatterns.contains("a_b")).isEqualTo("%a\\_b%");
+        assertThat(LikePatterns.contains("")).isEqualTo("%%");
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.chat.websocket.application.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import com.example.chat.websocket.config.ChatServerProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널 멤버십 검증 서비스
+ *
+ * SUBSCRIBE / RESUME / 핸드셰이크 채팅방은 멤버에게만 허용한다.
+ *
+ * 조회 순서:
+ *   1. chat-server 가 적재하는 Redis 채널 상태 캐시
+ *      Key:   chat:channel:{channelId}:state
+ *      Value: {active 0|1}|{userId},{userId},...
+ *   2. 캐시가 없거나 Redis 장애 → chat-server GET /internal/channels/{channelId}/members/{userId}
+ *      (chat-server 가 조회하면서 캐시를 다시 적재한다)
+ *
+ * 두 경로 모두 실패하면 거부한다 (fail-closed).
+ */
+@Slf4j
+@Service
+public class ChannelMembershipService {
+
+    private static final String STATE_KEY_TEMPLATE = "chat:channel:%s:state";
+    private static final char FIELD_SEPARATOR = '|';
+    private static final String MEMBER_SEPARATOR = ",";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RestClient chatServerClient;
+
+    @Autowired
+    public ChannelMembershipService(RedisTemplate<String, String> redisTemplate,
+                                    RestClient.Builder restClientBuilder,
+                                    ChatServerProperties chatServerProperties) {
+        this(redisTemplate, restClientBuilder
+                .baseUrl(chatServerProperties.getBaseUrl())
+                .requestFactory(requestFactory(chatServerProperties))
+                .build());
+    }
+
+    ChannelMembershipService(RedisTemplate<String, String> redisTemplate, RestClient chatServerClient) {
+        this.redisTemplate = redisTemplate;
+        this.chatServerClient = chatServerClient;
+    }
+
+    /**
+     * 활성 채널의 멤버인지 확인
+     *
+     * @param channelId 채널 ID
+     * @param userId    사용자 ID (미인증 세션이면 null)
+     * @return 멤버이면 true, 판단할 수 없으면 false
+     */
+    public boolean isMember(String channelId, String userId) {
+        // Early return: 미인증 세션
+        if (channelId == null || userId == null) {
+            return false;
+        }
+
+        // Step 1: Redis 채널 상태 캐시
+        Boolean cached = readCached(channelId, userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Step 2: chat-server 조회
+        return fetchFromChatServer(channelId, userId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * @return 캐시가 없거나 읽을 수 없으면 null
+     */
+    private Boolean readCached(String channelId, String userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(String.format(STATE_KEY_TEMPLATE, channelId));
+            return value != null ? decode(value, userId) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read channel state cache: channelId={}", channelId, e);
+            return null;
+        }
+    }
+
+    static Boolean decode(String value, String userId) {
+        int separator = value.indexOf(FIELD_SEPARATOR);
+        // 형식이 다르면 캐시 미스로 보고 chat-server 에 묻는다
+        if (separator != 1) {
+            return null;
+        }
+        if (value.charAt(0) != '1') {
+            return false;
+        }
+        for (String memberId : value.substring(separator + 1).split(MEMBER_SEPARATOR)) {
+            if (memberId.equals(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean fetchFromChatServer(String channelId, String userId) {
+        try {
+            JsonNode response = chatServerClient.get()
+                    .uri("/internal/channels/{channelId}/members/{userId}", channelId, userId)
+                    .retrieve()
+                    .body(JsonNode.class);
+            return response != null && response.path("member").asBoolean(false);
+        } catch (Exception e) {
+            log.warn("Failed to verify channel membership: channelId={}, userId={}", channelId, userId, e);
+            return false;
+        }
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(ChatServerProperties properties) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(properties.getConnectTimeoutMs());
+        factory.setReadTimeout(properties.getReadTimeoutMs());
+        return factory;
+    }
+}
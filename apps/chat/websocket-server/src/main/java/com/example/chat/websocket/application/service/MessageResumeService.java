@@ -0,0 +1,179 @@
+package com.example.chat.websocket.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+
+import com.example.chat.websocket.config.OutboundProperties;
+import com.example.chat.websocket.domain.session.ChatSession;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재접속 RESUME 서비스
+ *
+ * 클라이언트가 채널별로 마지막으로 받은 seq 를 보내면, chat-server 가 발송 시 적재하는
+ * 최근 메시지 링(Redis List chat:channel:{channelId}:recent, MessageResponse JSON)에서
+ * 누락분만 골라 실시간 MESSAGE 이벤트와 같은 형식으로 해당 세션 송신 큐에 적재한다.
+ * DB 를 조회하지 않으므로 재접속 폭주 시에도 페이지 단위 DB 조회가 발생하지 않는다.
+ *
+ * 채널별 응답 프레임:
+ * - 링이 lastSeq+1 부터 빈 번호 없이 이어지면: 누락 MESSAGE 프레임(seq 오름차순) + RESUMED
+ *   {"eventType":"RESUMED","channelId":"...","lastSeq":N}
+ * - 아니면 (링 밖 구간 / Redis 장애 / 프레임 예산 초과): RESUME_GAP
+ *   {"eventType":"RESUME_GAP","channelId":"...","lastSeq":N}
+ *   → 클라이언트는 GET /api/messages/{channelId}/since?seq=N 으로 조회
+ *
+ * RESUME 과 실시간 브로드캐스트가 겹치면 같은 메시지를 두 번 받을 수 있으므로 클라이언트는 seq 로 중복을 제거한다.
+ * 한 번의 RESUME 으로 적재하는 프레임은 송신 큐 용량의 절반으로 제한한다 (누락분 때문에 느린 세션으로 끊기지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageResumeService {
+
+    private static final String RING_KEY_TEMPLATE = "chat:channel:%s:recent";
+    private static final String RESUMED_TYPE = "RESUMED";
+    private static final String RESUME_GAP_TYPE = "RESUME_GAP";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SessionOutboundDispatcher outboundDispatcher;
+    private final OutboundProperties outboundProperties;
+
+    /**
+     * 채널별 재개 지점
+     *
+     * @param channelId 채널 ID
+     * @param lastSeq   클라이언트가 마지막으로 받은 seq
+     */
+    public record ResumePoint(String channelId, long lastSeq) {
+    }
+
+    /**
+     * 누락 메시지 재전송
+     *
+     * @return 링에서 재개한 채널 수 (나머지는 RESUME_GAP 전송)
+     */
+    public int resume(ChatSession chatSession, List<ResumePoint> points) {
+        int budget = Math.max(0, outboundProperties.getCapacity() / 2);
+        int resumed = 0;
+
+        for (ResumePoint point : points) {
+            // Step 1: 링에서 누락분 조회 (구간을 덮지 못하면 null)
+            List<JsonNode> missed = findMissed(point.channelId(), point.lastSeq());
+
+            // Early return: 링 밖 구간 또는 프레임 예산 초과 → REST 조회 안내
+            if (missed == null || missed.size() > budget) {
+                enqueue(chatSession, controlFrame(RESUME_GAP_TYPE, point.channelId(), point.lastSeq()));
+                continue;
+            }
+
+            // Step 2: 누락 MESSAGE 프레임 + RESUMED 적재
+            long lastSeq = point.lastSeq();
+            for (JsonNode message : missed) {
+                enqueue(chatSession, messageFrame(message));
+                lastSeq = message.path("seq").asLong();
+            }
+            enqueue(chatSession, controlFrame(RESUMED_TYPE, point.channelId(), lastSeq));
+
+            budget -= missed.size();
+            resumed++;
+        }
+
+        log.debug("Resume completed: sessionId={}, requested={}, resumed={}",
+                chatSession.getSessionId(), points.size(), resumed);
+        return resumed;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * lastSeq 이후 메시지 (seq 오름차순)
+     *
+     * @return 링이 lastSeq+1 부터 빈 번호 없이 이어지지 않으면 null
+     */
+    private List<JsonNode> findMissed(String channelId, long lastSeq) {
+        List<JsonNode> sequenced = new ArrayList<>();
+        try {
+            List<String> raw = redisTemplate.opsForList().range(String.format(RING_KEY_TEMPLATE, channelId), 0, -1);
+            if (raw == null || raw.isEmpty()) {
+                return null;
+            }
+            for (String json : raw) {
+                JsonNode node = objectMapper.readTree(json);
+                // V18 이전 적재분은 seq 가 없다
+                if (node.path("seq").isIntegralNumber()) {
+                    sequenced.add(node);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read recent message ring: channelId={}", channelId, e);
+            return null;
+        }
+
+        if (sequenced.isEmpty()) {
+            return null;
+        }
+        sequenced.sort(Comparator.comparingLong(node -> node.path("seq").asLong()));
+
+        // 링의 가장 오래된 seq 가 lastSeq+1 보다 크면 중간 구간이 링 밖에 있음
+        if (sequenced.get(0).path("seq").asLong() > lastSeq + 1) {
+            return null;
+        }
+
+        List<JsonNode> missed = new ArrayList<>();
+        long expected = lastSeq + 1;
+        for (JsonNode node : sequenced) {
+            long seq = node.path("seq").asLong();
+            if (seq <= lastSeq) {
+                continue;
+            }
+            // 링에 구멍 (적재 실패) → DB 조회로 넘긴다
+            if (seq != expected) {
+                return null;
+            }
+            missed.add(node);
+            expected++;
+        }
+        return missed;
+    }
+
+    /**
+     * 링 항목(MessageResponse JSON) → 실시간 MESSAGE 이벤트(MessageSentEvent JSON) 형식 프레임
+     */
+    private TextMessage messageFrame(JsonNode message) {
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("eventType", "MESSAGE");
+        frame.set("messageId", message.get("id"));
+        frame.set("channelId", message.get("channelId"));
+        frame.set("seq", message.get("seq"));
+        frame.set("senderId", message.get("senderId"));
+        frame.set("messageType", message.get("messageType"));
+        frame.set("content", message.get("content"));
+        frame.set("status", message.get("status"));
+        frame.set("unreadCount", message.get("unreadCount"));
+        frame.set("sentAt", message.get("sentAt"));
+        return new TextMessage(frame.toString());
+    }
+
+    private TextMessage controlFrame(String type, String channelId, long lastSeq) {
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("eventType", type);
+        frame.put("channelId", channelId);
+        frame.put("lastSeq", lastSeq);
+        return new TextMessage(frame.toString());
+    }
+
+    private void enqueue(ChatSession chatSession, TextMessage frame) {
+        outboundDispatcher.enqueue(chatSession, frame, false);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.chat.websocket.application.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
+import com.example.chat.websocket.domain.session.RedisSessionMetadataManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 리스 스케줄러
+ *
+ * 책임:
+ * - 현재 노드 heartbeat 주기 갱신
+ * - heartbeat가 만료된(비정상 종료된) 노드의 세션 메타데이터 정리
+ * - 자신의 리스가 만료됐던 경우(GC 정지, Redis 단절 등) 로컬 세션을 Redis에 재등록
+ * - 채팅방 열람 presence 만료 시각 연장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NodeLeaseScheduler {
+
+    private final RedisSessionMetadataManager redisSessionMetadataManager;
+    private final ChatRoomSessionManager sessionManager;
+
+    private final AtomicBoolean firstHeartbeat = new AtomicBoolean(true);
+
+    @Scheduled(fixedDelayString = "${websocket.node-lease.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        boolean leaseWasLive = redisSessionMetadataManager.refreshNodeHeartbeat();
+        boolean first = firstHeartbeat.getAndSet(false);
+
+        // 첫 heartbeat가 아닌데 리스가 없었다면 다른 노드가 이 노드의 세션을 정리했을 수 있음
+        if (!leaseWasLive && !first) {
+            log.warn("Node lease had expired, re-registering local sessions: count={}",
+                    sessionManager.getTotalActiveSessionCount());
+            sessionManager.resyncSessionMetadata();
+        }
+
+        sessionManager.refreshPresence();
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.node-lease.reap-interval-ms:30000}",
+            initialDelayString = "${websocket.node-lease.reap-interval-ms:30000}")
+    public void reapDeadNodes() {
+        int reaped = redisSessionMetadataManager.reapDeadNodes();
+
+        if (reaped > 0) {
+            log.info("Reaped sessions of dead nodes: sessions={}", reaped);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        redisSessionMetadataManager.releaseNodeHeartbeat();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.chat.websocket.application.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.chat.websocket.config.OutboundProperties;
+import com.example.chat.websocket.config.OutboundProperties.OverflowPolicy;
+import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
+import com.example.chat.websocket.domain.session.ChatSession;
+import com.example.chat.websocket.domain.session.OutboundQueue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 비동기 송신 디스패처
+ *
+ * 브로드캐스트 루프는 프레임을 세션 큐에 넣기만 하고 즉시 반환한다.
+ * 실제 sendMessage는 세션마다 하나의 virtual thread writer가 순서대로 처리하므로
+ * 느린 클라이언트가 같은 채팅방의 다른 세션이나 Redis 리스너 스레드를 막지 않는다.
+ *
+ * 큐가 가득 차면 OverflowPolicy에 따라 타이핑 이벤트를 먼저 버리고,
+ * 그래도 공간이 없으면 느린 세션의 연결을 종료한다.
+ */
+@Slf4j
+@Component
+public class SessionOutboundDispatcher {
+
+    private final ChatRoomSessionManager sessionManager;
+    private final OutboundProperties properties;
+    private final Executor writerExecutor;
+
+    private final AtomicLong queuedFrames = new AtomicLong();
+    private final Counter typingDropCounter;
+    private final Counter overflowDropCounter;
+    private final Counter disconnectCounter;
+
+    @Autowired
+    public SessionOutboundDispatcher(ChatRoomSessionManager sessionManager,
+                                     OutboundProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this(sessionManager, properties, meterRegistry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    SessionOutboundDispatcher(ChatRoomSessionManager sessionManager,
+                              OutboundProperties properties,
+                              MeterRegistry meterRegistry,
+                              Executor writerExecutor) {
+        this.sessionManager = sessionManager;
+        this.properties = properties;
+        this.writerExecutor = writerExecutor;
+
+        Gauge.builder("websocket.outbound.queue.depth", queuedFrames, AtomicLong::get)
+                .description("세션 송신 큐에 대기 중인 전체 프레임 수")
+                .register(meterRegistry);
+        this.typingDropCounter = Counter.builder("websocket.outbound.dropped")
+                .tag("reason", "typing")
+                .register(meterRegistry);
+        this.overflowDropCounter = Counter.builder("websocket.outbound.dropped")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.disconnectCounter = Counter.builder("websocket.outbound.disconnected")
+                .description("송신 큐 오버플로로 종료된 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 송신 큐에 프레임 추가
+     *
+     * @param droppable 오버플로 시 우선 폐기 대상 여부 (타이핑 이벤트)
+     * @return 큐에 들어간 경우 true
+     */
+    public boolean enqueue(ChatSession chatSession, TextMessage message, boolean droppable) {
+        // Early return: 비활성 세션
+        if (!chatSession.isActive()) {
+            log.debug("Session is not active: {}", chatSession.getSessionId());
+            return false;
+        }
+
+        OutboundQueue queue = chatSession.getOutboundQueue();
+
+        // Step 1: 오버플로 처리
+        if (queue.size() >= properties.getCapacity() && !makeRoom(chatSession, queue, droppable)) {
+            return false;
+        }
+
+        // Step 2: 큐 적재 후 writer 기동
+        queue.offer(new OutboundQueue.Frame(message, droppable));
+        queuedFrames.incrementAndGet();
+        scheduleDrain(chatSession);
+        return true;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 큐 공간 확보
+     *
+     * @return 새 프레임을 넣을 공간이 생긴 경우 true
+     */
+    private boolean makeRoom(ChatSession chatSession, OutboundQueue queue, boolean droppable) {
+        // 타이핑 이벤트는 큐가 가득 차면 그대로 버린다
+        if (droppable) {
+            typingDropCounter.increment();
+            return false;
+        }
+
+        if (properties.getOverflowPolicy() == OverflowPolicy.DROP_TYPING_THEN_DISCONNECT) {
+            int removed = queue.removeDroppable();
+            queuedFrames.addAndGet(-removed);
+            typingDropCounter.increment(removed);
+
+            if (queue.size() < properties.getCapacity()) {
+                return true;
+            }
+        }
+
+        disconnectSlowConsumer(chatSession, queue);
+        return false;
+    }
+
+    /**
+     * 느린 세션 연결 종료
+     * close()는 블로킹될 수 있으므로 writer executor에서 수행한다.
+     * 세션 제거는 afterConnectionClosed에서 처리된다.
+     */
+    private void disconnectSlowConsumer(ChatSession chatSession, OutboundQueue queue) {
+        int removed = queue.clear();
+        queuedFrames.addAndGet(-removed);
+        overflowDropCounter.increment(removed + 1);
+        disconnectCounter.increment();
+
+        log.warn("Outbound queue overflow, disconnecting slow consumer: sessionId={}, capacity={}",
+                chatSession.getSessionId(), properties.getCapacity());
+
+        writerExecutor.execute(() -> closeQuietly(chatSession.getWebSocketSession(), CloseStatus.SESSION_NOT_RELIABLE));
+    }
+
+    private void scheduleDrain(ChatSession chatSession) {
+        if (chatSession.getOutboundQueue().tryStartDrain()) {
+            writerExecutor.execute(() -> drain(chatSession));
+        }
+    }
+
+    /**
+     * 큐 비우기 (세션당 단일 writer)
+     */
+    private void drain(ChatSession chatSession) {
+        OutboundQueue queue = chatSession.getOutboundQueue();
+
+        try {
+            OutboundQueue.Frame frame;
+            while ((frame = queue.poll()) != null) {
+                queuedFrames.decrementAndGet();
+
+                if (!chatSession.isActive() || !send(chatSession, frame.message())) {
+                    int removed = queue.clear();
+                    queuedFrames.addAndGet(-removed);
+                    return;
+                }
+            }
+        } finally {
+            queue.finishDrain();
+        }
+
+        // finishDrain 직전에 들어온 프레임 처리 (lost wake-up 방지)
+        if (!queue.isEmpty()) {
+            scheduleDrain(chatSession);
+        }
+    }
+
+    private boolean send(ChatSession chatSession, TextMessage message) {
+        WebSocketSession session = chatSession.getWebSocketSession();
+
+        try {
+            session.sendMessage(message);
+            return true;
+
+        } catch (Exception e) {
+            log.error("Failed to send message to session: sessionId={}",
+                    chatSession.getSessionId(), e);
+
+            // 세션 제거 (연결이 끊어진 경우)
+            sessionManager.removeSession(chatSession.getSessionId());
+            closeQuietly(session, CloseStatus.SERVER_ERROR);
+            return false;
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            if (session.isOpen()) {
+                session.close(status);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to close session: sessionId={}", session.getId(), e);
+        }
+    }
+}
@@ -5,7 +5,6 @@ import java.util.List;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
 
 import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
 import com.example.chat.websocket.domain.session.ChatSession;
@@ -19,6 +18,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * WebSocket 브로드캐스트 서비스
  * 채팅방의 모든 활성 세션에 메시지 전송
+ *
+ * 직렬화는 브로드캐스트당 1회만 수행하고, 전송은 SessionOutboundDispatcher의
+ * 세션별 큐에 위임하여 호출 스레드(Redis 리스너)를 블로킹하지 않는다.
  */
 @Slf4j
 @Service
@@ -27,6 +29,7 @@ public class WebSocketBroadcastService {
 
     private final ChatRoomSessionManager sessionManager;
     private final ObjectMapper objectMapper;
+    private final SessionOutboundDispatcher outboundDispatcher;
 
     /**
      * 채팅방의 모든 세션에 브로드캐스트
@@ -59,12 +62,13 @@ public class WebSocketBroadcastService {
             return;
         }
 
-        // Step 3: 각 세션에 메시지 전송
+        // Step 3: 각 세션 송신 큐에 적재 (TextMessage는 불변이므로 공유)
+        TextMessage frame = new TextMessage(messageJson);
         int successCount = 0;
         int failCount = 0;
 
         for (ChatSession session : activeSessions) {
-            if (sendMessageToSession(session, messageJson)) {
+            if (enqueue(session, frame, false)) {
                 successCount++;
             } else {
                 failCount++;
@@ -75,6 +79,41 @@ public class WebSocketBroadcastService {
                 roomId, event.getMessageId(), successCount, failCount);
     }
 
+    /**
+     * 채팅방의 모든 세션에 사전 인코딩된 프레임 그대로 브로드캐스트 (pass-through)
+     *
+     * Redis로 수신한 본문이 이미 클라이언트용 JSON이므로 역직렬화/재직렬화 없이
+     * 하나의 불변 TextMessage를 만들어 모든 세션이 공유한다.
+     */
+    public void broadcastRawToRoom(String roomId, byte[] payload) {
+        // Early return: null 체크
+        if (roomId == null || payload == null || payload.length == 0) {
+            log.warn("Cannot broadcast: roomId or payload is empty");
+            return;
+        }
+
+        // Step 1: 채팅방의 활성 세션 조회
+        List<ChatSession> activeSessions = findActiveSessionsByRoom(roomId);
+
+        // Early return: 활성 세션이 없으면 종료
+        if (activeSessions.isEmpty()) {
+            log.debug("No active sessions in room: {}", roomId);
+            return;
+        }
+
+        // Step 2: 프레임 1회 인코딩 후 각 세션 송신 큐에 공유 적재
+        TextMessage frame = new TextMessage(payload);
+        int successCount = 0;
+        for (ChatSession session : activeSessions) {
+            if (enqueue(session, frame, false)) {
+                successCount++;
+            }
+        }
+
+        log.debug("Raw broadcast completed: roomId={}, bytes={}, queued={}/{}",
+                roomId, payload.length, successCount, activeSessions.size());
+    }
+
     /**
      * 특정 사용자의 모든 세션에 전송
      */
@@ -106,10 +145,11 @@ public class WebSocketBroadcastService {
             return;
         }
 
-        // Step 3: 각 세션에 메시지 전송
+        // Step 3: 각 세션 송신 큐에 적재
+        TextMessage frame = new TextMessage(messageJson);
         int successCount = 0;
         for (ChatSession session : activeSessions) {
-            if (sendMessageToSession(session, messageJson)) {
+            if (enqueue(session, frame, false)) {
                 successCount++;
             }
         }
@@ -145,9 +185,10 @@ public class WebSocketBroadcastService {
             return;
         }
 
+        TextMessage frame = new TextMessage(json);
         int successCount = 0;
         for (ChatSession session : activeSessions) {
-            if (sendMessageToSession(session, json)) successCount++;
+            if (enqueue(session, frame, false)) successCount++;
         }
 
         log.info("Read receipt broadcast completed: roomId={}, userId={}, sent={}",
@@ -180,9 +221,11 @@ public class WebSocketBroadcastService {
             return;
         }
 
+        // 타이핑 이벤트는 송신 큐 오버플로 시 우선 폐기 대상
+        TextMessage frame = new TextMessage(json);
         int successCount = 0;
         for (ChatSession session : activeSessions) {
-            if (sendMessageToSession(session, json)) successCount++;
+            if (enqueue(session, frame, true)) successCount++;
         }
 
         log.debug("Typing event broadcast completed: roomId={}, eventType={}, sent={}",
@@ -218,29 +261,9 @@ public class WebSocketBroadcastService {
     }
 
     /**
-     * 세션에 메시지 전송
+     * 세션 송신 큐에 메시지 적재
      */
-    private boolean sendMessageToSession(ChatSession chatSession, @NonNull String messageJson) {
-        // Early return: 비활성 세션
-        if (!chatSession.isActive()) {
-            log.debug("Session is not active: {}", chatSession.getSessionId());
-            return false;
-        }
-
-        WebSocketSession session = chatSession.getWebSocketSession();
-
-        try {
-            // 동기 전송 (WebSocket은 기본적으로 동기)
-            session.sendMessage(new TextMessage(messageJson));
-            return true;
-
-        } catch (Exception e) {
-            log.error("Failed to send message to session: sessionId={}",
-                    chatSession.getSessionId(), e);
-
-            // 세션 제거 (연결이 끊어진 경우)
-            sessionManager.removeSession(chatSession.getSessionId());
-            return false;
-        }
+    private boolean enqueue(ChatSession chatSession, @NonNull TextMessage frame, boolean droppable) {
+        return outboundDispatcher.enqueue(chatSession, frame, droppable);
     }
 }
@@ -0,0 +1,24 @@
+package com.example.chat.websocket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * chat-server 내부 호출 설정
+ *
+ * websocket.chat-server.base-url: chat-server 주소 (/internal/** 호출용)
+ * websocket.chat-server.connect-timeout-ms / read-timeout-ms: 호출 제한 시간, 초과하면 검증 실패로 처리
+ */
+@Component
+@ConfigurationProperties(prefix = "websocket.chat-server")
+@Getter
+@Setter
+public class ChatServerProperties {
+
+	private String baseUrl = "http://localhost:20001";
+	private int connectTimeoutMs = 500;
+	private int readTimeoutMs = 1000;
+}
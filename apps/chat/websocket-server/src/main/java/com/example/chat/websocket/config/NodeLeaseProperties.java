@@ -0,0 +1,35 @@
+package com.example.chat.websocket.config;
+
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인스턴스(노드) 세션 리스 설정
+ *
+ * websocket.node-lease.node-id: 인스턴스 식별자 (미지정 시 기동마다 랜덤 생성)
+ * websocket.node-lease.lease-ttl-seconds: heartbeat 키 TTL, 이 시간 동안 갱신이 없으면 죽은 노드로 간주
+ * websocket.node-lease.heartbeat-interval-ms / reap-interval-ms: NodeLeaseScheduler 주기
+ */
+@Component
+@ConfigurationProperties(prefix = "websocket.node-lease")
+@Getter
+@Setter
+public class NodeLeaseProperties {
+
+	private String nodeId = UUID.randomUUID().toString();
+	private long leaseTtlSeconds = 30;
+	private long heartbeatIntervalMs = 10_000;
+	private long reapIntervalMs = 30_000;
+
+	/**
+	 * 세션 정보 값(userId:roomId:nodeId)의 구분자와 충돌하지 않도록 ':' 제거
+	 */
+	public void setNodeId(String nodeId) {
+		this.nodeId = nodeId.replace(':', '-');
+	}
+}
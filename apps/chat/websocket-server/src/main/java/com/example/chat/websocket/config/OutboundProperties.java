@@ -0,0 +1,30 @@
+package com.example.chat.websocket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 세션별 송신 큐 설정
+ *
+ * websocket.outbound.capacity: 세션당 최대 대기 프레임 수
+ * websocket.outbound.overflow-policy: 큐가 가득 찼을 때의 처리 방식
+ */
+@Component
+@ConfigurationProperties(prefix = "websocket.outbound")
+@Getter
+@Setter
+public class OutboundProperties {
+
+	private int capacity = 256;
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_TYPING_THEN_DISCONNECT;
+
+	public enum OverflowPolicy {
+		/** 대기 중인 타이핑 이벤트를 먼저 버리고, 그래도 가득 차면 연결 종료 */
+		DROP_TYPING_THEN_DISCONNECT,
+		/** 즉시 연결 종료 */
+		DISCONNECT
+	}
+}
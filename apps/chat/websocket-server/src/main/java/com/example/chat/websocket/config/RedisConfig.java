@@ -3,7 +3,6 @@ package com.example.chat.websocket.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.lang.NonNull;
@@ -27,30 +26,17 @@ public class RedisConfig {
 
 	/**
 	 * Redis 메시지 리스너 컨테이너
-	 * - chat:room:* : 신규 메시지 브로드캐스트
-	 * - chat:read:event:* : 읽음 처리 완료 이벤트 브로드캐스트
+	 *
+	 * 채널 구독은 RoomTopicSubscriptionManager가 로컬 세션 보유 채팅방 기준으로 동적으로 추가/해제한다.
+	 * - chat:room:{id} : 신규 메시지 브로드캐스트 (chat-server 발행)
+	 * - chat:read:event:{id} : 읽음 처리 완료 이벤트 브로드캐스트 (chat-server 발행)
+	 * - chat:typing:{id} : 타이핑 이벤트 (websocket-server 내부 발행)
 	 */
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 			@NonNull RedisConnectionFactory connectionFactory) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
-
-		// 신규 메시지 수신 (chat-server 발행)
-		container.addMessageListener(
-				messageListenerAdapter(),
-				new PatternTopic("chat:room:*"));
-
-		// 읽음 이벤트 수신 (chat-server 발행, 읽음 처리 완료 후)
-		container.addMessageListener(
-				readReceiptListenerAdapter(),
-				new PatternTopic("chat:read:event:*"));
-
-		// 타이핑 이벤트 수신 (websocket-server 내부 발행)
-		container.addMessageListener(
-				typingListenerAdapter(),
-				new PatternTopic("chat:typing:*"));
-
 		return container;
 	}
 
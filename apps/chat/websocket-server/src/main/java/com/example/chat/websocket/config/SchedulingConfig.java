@@ -0,0 +1,12 @@
+package com.example.chat.websocket.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (노드 heartbeat / 죽은 노드 세션 정리)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
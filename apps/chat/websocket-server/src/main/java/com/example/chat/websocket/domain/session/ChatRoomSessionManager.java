@@ -2,10 +2,15 @@ package com.example.chat.websocket.domain.session;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 통합 세션 관리자 (Facade 패턴)
@@ -15,21 +20,37 @@ import java.util.Optional;
  * - 로컬 세션 관리 위임 (LocalSessionManager)
  * - Redis 동기화 (RedisSessionMetadataManager)
  * - 두 관리자의 일관성 보장
+ * - 채팅방별 로컬 세션 참조 카운트 관리 (0↔1 전환 시 RoomInterestChangedEvent 발행)
+ * - 채팅방 열람 presence 동기화 (RedisPresenceManager)
+ *
+ * 같은 세션의 구독 추가/해제, 열람 변경, 제거는 ChatSession 단위로 직렬화한다.
+ * 제거와 구독이 겹쳐 참조 카운트나 Redis 메타데이터가 어긋나지 않도록 하기 위함이다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatRoomSessionManager {
 
+	private static final int INTEREST_LOCK_STRIPES = 64;
+
 	private final LocalSessionManager localSessionManager;
 	private final RedisSessionMetadataManager redisSessionMetadataManager;
+	private final RedisPresenceManager redisPresenceManager;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final Map<String, Integer> roomRefCounts = new ConcurrentHashMap<>();
+	/** 마지막으로 active=true 를 발행한 채팅방 */
+	private final Set<String> publishedRooms = ConcurrentHashMap.newKeySet();
+	private final Object[] interestLocks = newLocks(INTEREST_LOCK_STRIPES);
 
 	/**
 	 * 세션 등록 (로컬 + Redis 동기화)
 	 */
 	public void registerSession(ChatSession session) {
 		// Step 1: 로컬 등록
-		localSessionManager.register(session);
+		if (!localSessionManager.register(session)) {
+			return;
+		}
 
 		// Step 2: Redis 동기화
 		redisSessionMetadataManager.registerSessionMetadata(
@@ -37,17 +58,142 @@ public class ChatRoomSessionManager {
 				session.getUserId(),
 				session.getRoomId()
 		);
+
+		// Step 3: 채팅방 관심 등록
+		session.getSubscribedRooms().forEach(this::acquireRoom);
+
+		// Step 4: 열람 presence 등록
+		redisPresenceManager.markViewing(session.getPrincipalId(), session.getViewingRoomId());
+	}
+
+	/**
+	 * 채팅방 구독 추가 (로컬 + Redis 동기화)
+	 *
+	 * @return 새로 구독된 경우 true
+	 */
+	public boolean subscribeRoom(String sessionId, String roomId) {
+		ChatSession session = localSessionManager.findById(sessionId).orElse(null);
+
+		// Early return: 미등록 세션
+		if (session == null) {
+			return false;
+		}
+
+		synchronized (session) {
+			// Step 1: 로컬 구독
+			if (!localSessionManager.subscribe(sessionId, roomId)) {
+				return false;
+			}
+
+			// Step 2: Redis 동기화
+			redisSessionMetadataManager.addRoomSubscription(sessionId, roomId);
+
+			// Step 3: 채팅방 관심 등록
+			acquireRoom(roomId);
+			return true;
+		}
+	}
+
+	/**
+	 * 채팅방 구독 해제 (로컬 + Redis 동기화)
+	 * 현재 보고 있는 채팅방이면 열람 상태도 함께 해제한다 (푸시 억제가 남지 않도록)
+	 *
+	 * @return 구독 중이던 채팅방이면 true
+	 */
+	public boolean unsubscribeRoom(String sessionId, String roomId) {
+		ChatSession session = localSessionManager.findById(sessionId).orElse(null);
+
+		// Early return: 미등록 세션
+		if (session == null) {
+			return false;
+		}
+
+		synchronized (session) {
+			// Step 1: 로컬 구독 해제
+			if (!localSessionManager.unsubscribe(sessionId, roomId)) {
+				return false;
+			}
+
+			// Step 2: Redis 동기화
+			redisSessionMetadataManager.removeRoomSubscription(sessionId, roomId);
+
+			// Step 3: 채팅방 관심 해제
+			releaseRoom(roomId);
+
+			// Step 4: 보고 있던 채팅방이면 열람 presence 해제 (구독하지 않은 채팅방은 열람 중일 수 없다)
+			if (roomId.equals(session.getViewingRoomId())) {
+				session.view(null);
+				clearViewing(session, roomId);
+			}
+			return true;
+		}
 	}
 
 	/**
 	 * 세션 제거 (로컬 + Redis 동기화)
 	 */
 	public void removeSession(String sessionId) {
-		// Step 1: 로컬 제거
-		localSessionManager.remove(sessionId);
+		ChatSession session = localSessionManager.findById(sessionId).orElse(null);
 
-		// Step 2: Redis 동기화
-		redisSessionMetadataManager.removeSessionMetadata(sessionId);
+		// Early return: 미등록 세션 (Redis 잔여 메타데이터만 정리)
+		if (session == null) {
+			redisSessionMetadataManager.removeSessionMetadata(sessionId);
+			return;
+		}
+
+		synchronized (session) {
+			// Step 1: 로컬 제거
+			Optional<ChatSession> removed = localSessionManager.remove(sessionId);
+
+			// Step 2: Redis 동기화
+			redisSessionMetadataManager.removeSessionMetadata(sessionId);
+
+			// Step 3: 채팅방 관심 / 열람 presence 해제 (실제로 제거된 경우에만)
+			removed.ifPresent(target -> {
+				target.getSubscribedRooms().forEach(this::releaseRoom);
+				clearViewing(target, target.getViewingRoomId());
+			});
+		}
+	}
+
+	/**
+	 * 현재 보고 있는 채팅방 변경 (로컬 + Redis presence 동기화)
+	 *
+	 * @param roomId 새로 보는 채팅방 (null이면 채팅방 화면을 벗어남)
+	 */
+	public void changeViewingRoom(String sessionId, String roomId) {
+		Optional<ChatSession> found = localSessionManager.findById(sessionId);
+
+		// Early return: 미등록 세션
+		if (found.isEmpty()) {
+			return;
+		}
+
+		ChatSession session = found.get();
+
+		synchronized (session) {
+			String previous = session.view(roomId);
+
+			if (previous != null && !previous.equals(roomId)) {
+				clearViewing(session, previous);
+			}
+			redisPresenceManager.markViewing(session.getPrincipalId(), roomId);
+		}
+	}
+
+	/**
+	 * 로컬 세션의 열람 presence 일괄 연장 (heartbeat 주기)
+	 */
+	public void refreshPresence() {
+		redisPresenceManager.refreshViewing(localSessionManager.findAll());
+	}
+
+	/**
+	 * 로컬 세션 메타데이터 Redis 재동기화 (일괄 파이프라인)
+	 * Redis 장애 복구나 인스턴스 재기동 직후처럼 로컬과 Redis가 어긋난 경우 사용
+	 */
+	public void resyncSessionMetadata() {
+		redisSessionMetadataManager.registerSessionMetadataBatch(localSessionManager.findAll());
 	}
 
 	/**
@@ -91,4 +237,88 @@ public class ChatRoomSessionManager {
 	public int getTotalActiveSessionCount() {
 		return localSessionManager.countActive();
 	}
+
+	// ========== Private Methods ==========
+
+	/**
+	 * 열람 presence 해제 — 같은 사용자의 다른 로컬 세션(다른 탭/기기)이 아직 그 채팅방을 보고 있으면 유지한다
+	 * presence 는 사용자 단위라 한 세션이 떠날 때 지우면 남은 세션의 푸시 억제가 다음 heartbeat 까지 풀린다.
+	 * 호출 시점에 대상 세션은 이미 열람 해제 / 구독 해제 / 제거된 상태라 조회 결과에 포함되지 않는다.
+	 */
+	private void clearViewing(ChatSession session, String roomId) {
+		if (roomId != null && isViewedByOtherLocalSession(session, roomId)) {
+			return;
+		}
+		redisPresenceManager.clearViewing(session.getPrincipalId(), roomId);
+	}
+
+	/**
+	 * 열람 중인 채팅방은 구독 중이므로 채팅방 인덱스에서 같은 principal 의 열람 세션을 찾는다
+	 */
+	private boolean isViewedByOtherLocalSession(ChatSession session, String roomId) {
+		for (ChatSession other : localSessionManager.findActiveByRoom(roomId)) {
+			if (!other.getSessionId().equals(session.getSessionId())
+					&& Objects.equals(other.getPrincipalId(), session.getPrincipalId())
+					&& roomId.equals(other.getViewingRoomId())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 채팅방 참조 카운트 증가 (0 → 1 전환 시 관심 등록 이벤트 발행)
+	 * compute 안에서는 전환 여부만 계산하고, 이벤트는 밖에서 발행한다
+	 * (리스너가 Redis 구독 변경 같은 느린 작업을 해도 맵 버킷 잠금을 잡고 있지 않도록)
+	 */
+	private void acquireRoom(String roomId) {
+		boolean[] first = new boolean[1];
+		roomRefCounts.compute(roomId, (key, count) -> {
+			first[0] = count == null;
+			return count == null ? 1 : count + 1;
+		});
+
+		if (first[0]) {
+			syncRoomInterest(roomId);
+		}
+	}
+
+	/**
+	 * 채팅방 참조 카운트 감소 (1 → 0 전환 시 관심 해제 이벤트 발행)
+	 */
+	private void releaseRoom(String roomId) {
+		boolean[] last = new boolean[1];
+		roomRefCounts.computeIfPresent(roomId, (key, count) -> {
+			last[0] = count <= 1;
+			return count > 1 ? count - 1 : null;
+		});
+
+		if (last[0]) {
+			syncRoomInterest(roomId);
+		}
+	}
+
+	/**
+	 * 관심 상태를 현재 참조 카운트에 맞춰 발행
+	 * 전환과 발행 사이에 다른 스레드가 반대 전환을 했을 수 있으므로 발행 시점에 카운트를 다시 읽고,
+	 * 마지막으로 발행한 상태와 다를 때만 발행한다. 같은 채팅방의 발행은 stripe 락으로 직렬화된다.
+	 */
+	private void syncRoomInterest(String roomId) {
+		synchronized (interestLocks[Math.floorMod(roomId.hashCode(), interestLocks.length)]) {
+			boolean active = roomRefCounts.containsKey(roomId);
+			boolean changed = active ? publishedRooms.add(roomId) : publishedRooms.remove(roomId);
+
+			if (changed) {
+				eventPublisher.publishEvent(new RoomInterestChangedEvent(roomId, active));
+			}
+		}
+	}
+
+	private static Object[] newLocks(int stripes) {
+		Object[] locks = new Object[stripes];
+		for (int i = 0; i < stripes; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
+	}
 }
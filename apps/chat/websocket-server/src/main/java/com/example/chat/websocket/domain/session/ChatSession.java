@@ -1,7 +1,10 @@
 package com.example.chat.websocket.domain.session;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.web.socket.WebSocketSession;
 
@@ -11,6 +14,10 @@ import lombok.Getter;
 /**
  * 채팅 세션 도메인
  * WebSocket 세션과 사용자 정보를 관리
+ *
+ * 하나의 연결이 여러 채팅방을 구독할 수 있다 (멀티플렉싱).
+ * roomId는 핸드셰이크 시 지정된 초기 채팅방이며 없을 수 있다.
+ * viewingRoomId는 사용자가 현재 화면에 띄워 둔 채팅방으로, 푸시 억제용 presence 판단에 쓰인다.
  */
 @Getter
 @Builder
@@ -18,10 +25,57 @@ public class ChatSession {
 
 	private final String sessionId;
 	private final Long userId;
+	/** 인증 사용자 ID 원문 (UUID 문자열 지원) */
+	private final String principalId;
 	private final String roomId;
 	private final WebSocketSession webSocketSession;
 	private final Instant connectedAt;
 
+	@Builder.Default
+	private final Set<String> subscribedRooms = ConcurrentHashMap.newKeySet();
+
+	@Builder.Default
+	private final OutboundQueue outboundQueue = new OutboundQueue();
+
+	private volatile String viewingRoomId;
+
+	/**
+	 * 현재 보고 있는 채팅방 변경
+	 *
+	 * @param roomId 새로 보는 채팅방 (null이면 채팅방 화면을 벗어남)
+	 * @return 이전에 보던 채팅방
+	 */
+	public String view(String roomId) {
+		String previous = this.viewingRoomId;
+		this.viewingRoomId = roomId;
+		return previous;
+	}
+
+	/**
+	 * 채팅방 구독 추가
+	 *
+	 * @return 새로 추가된 경우 true
+	 */
+	public boolean subscribe(String roomId) {
+		return roomId != null && subscribedRooms.add(roomId);
+	}
+
+	/**
+	 * 채팅방 구독 해제
+	 *
+	 * @return 구독 중이던 경우 true
+	 */
+	public boolean unsubscribe(String roomId) {
+		return roomId != null && subscribedRooms.remove(roomId);
+	}
+
+	/**
+	 * 구독 중인 채팅방 목록 (읽기 전용)
+	 */
+	public Set<String> getSubscribedRooms() {
+		return Collections.unmodifiableSet(subscribedRooms);
+	}
+
 	/**
 	 * 세션이 활성 상태인지 확인
 	 */
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
@@ -15,6 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 로컬 세션 관리자
  * 현재 인스턴스의 WebSocket 세션만 관리 (단일 책임)
+ *
+ * sessionsByRoom은 채팅방 ↔ 세션 다대다 인덱스이다.
+ * 하나의 세션이 SUBSCRIBE한 모든 채팅방의 Set에 동시에 들어간다.
+ *
+ * sessionsByUser와 sessionCount는 register/remove 시점에 함께 갱신되어
+ * 사용자별 조회와 전체 세션 수 조회가 전체 세션 스캔 없이 동작한다.
  */
 @Slf4j
 @Component
@@ -22,39 +29,100 @@ public class LocalSessionManager implements SessionManager {
 
 	private final Map<String, ChatSession> sessionById = new ConcurrentHashMap<>();
 	private final Map<String, Set<ChatSession>> sessionsByRoom = new ConcurrentHashMap<>();
+	private final Map<Long, Set<ChatSession>> sessionsByUser = new ConcurrentHashMap<>();
+	private final AtomicInteger sessionCount = new AtomicInteger();
 
 	@Override
-	public void register(ChatSession session) {
+	public boolean register(ChatSession session) {
 		if (!validateSession(session)) {
-			return;
+			return false;
 		}
 
-		if (isDuplicate(session)) {
-			return;
+		if (!putIfAbsent(session)) {
+			return false;
 		}
 
-		addToMaps(session);
+		addToIndexes(session);
 
-		log.info("Local session registered: sessionId={}, roomId={}",
-				session.getSessionId(), session.getRoomId());
+		log.info("Local session registered: sessionId={}, rooms={}",
+				session.getSessionId(), session.getSubscribedRooms());
+		return true;
 	}
 
 	@Override
-	public void remove(String sessionId) {
+	public Optional<ChatSession> remove(String sessionId) {
 		if (sessionId == null) {
 			log.warn("Cannot remove null sessionId");
-			return;
+			return Optional.empty();
 		}
 
 		ChatSession session = sessionById.remove(sessionId);
 
 		if (session == null) {
-			return;
+			return Optional.empty();
 		}
 
-		removeFromMaps(session);
+		removeFromIndexes(session);
 
 		log.info("Local session removed: sessionId={}", sessionId);
+		return Optional.of(session);
+	}
+
+	/**
+	 * 기존 세션에 채팅방 구독 추가
+	 *
+	 * @return 새로 구독된 경우 true (미등록 세션이거나 이미 구독 중이면 false)
+	 */
+	public boolean subscribe(String sessionId, String roomId) {
+		if (sessionId == null || roomId == null) {
+			return false;
+		}
+
+		ChatSession session = sessionById.get(sessionId);
+
+		if (session == null) {
+			log.warn("Cannot subscribe unknown session: sessionId={}, roomId={}", sessionId, roomId);
+			return false;
+		}
+
+		if (!session.subscribe(roomId)) {
+			return false;
+		}
+
+		addToRoom(roomId, session);
+
+		// remove()가 사이에 끼어 인덱스 정리를 먼저 끝냈다면 방금 넣은 항목이 남으므로 되돌린다
+		if (sessionById.get(sessionId) != session) {
+			session.unsubscribe(roomId);
+			removeFromRoom(roomId, session);
+			log.debug("Subscribe raced with remove, rolled back: sessionId={}, roomId={}", sessionId, roomId);
+			return false;
+		}
+
+		log.debug("Local session subscribed: sessionId={}, roomId={}", sessionId, roomId);
+		return true;
+	}
+
+	/**
+	 * 기존 세션의 채팅방 구독 해제
+	 *
+	 * @return 구독 중이던 채팅방이면 true
+	 */
+	public boolean unsubscribe(String sessionId, String roomId) {
+		if (sessionId == null || roomId == null) {
+			return false;
+		}
+
+		ChatSession session = sessionById.get(sessionId);
+
+		if (session == null || !session.unsubscribe(roomId)) {
+			return false;
+		}
+
+		removeFromRoom(roomId, session);
+
+		log.debug("Local session unsubscribed: sessionId={}, roomId={}", sessionId, roomId);
+		return true;
 	}
 
 	@Override
@@ -85,19 +153,30 @@ public class LocalSessionManager implements SessionManager {
 			return Collections.emptyList();
 		}
 
-		return sessionById.values().stream()
-				.filter(session -> userId.equals(session.getUserId()))
+		Set<ChatSession> sessions = sessionsByUser.get(userId);
+
+		if (sessions == null) {
+			return Collections.emptyList();
+		}
+
+		return sessions.stream()
 				.filter(ChatSession::isActive)
 				.collect(Collectors.toList());
 	}
 
 	/**
-	 * 전체 활성 세션 수
+	 * 현재 인스턴스의 전체 세션 (스냅샷)
+	 */
+	public List<ChatSession> findAll() {
+		return List.copyOf(sessionById.values());
+	}
+
+	/**
+	 * 전체 활성 세션 수 (O(1))
+	 * 닫힌 세션은 afterConnectionClosed에서 제거되므로 등록된 세션 수를 활성 세션 수로 본다
 	 */
 	public int countActive() {
-		return (int) sessionById.values().stream()
-				.filter(ChatSession::isActive)
-				.count();
+		return sessionCount.get();
 	}
 
 	// ========== Private Methods ==========
@@ -110,31 +189,69 @@ public class LocalSessionManager implements SessionManager {
 		return true;
 	}
 
-	private boolean isDuplicate(ChatSession session) {
-		if (sessionById.containsKey(session.getSessionId())) {
+	/**
+	 * 중복 확인과 등록을 원자적으로 처리
+	 *
+	 * @return 새로 등록된 경우 true
+	 */
+	private boolean putIfAbsent(ChatSession session) {
+		if (sessionById.putIfAbsent(session.getSessionId(), session) != null) {
 			log.warn("Session already registered: {}", session.getSessionId());
-			return true;
+			return false;
 		}
-		return false;
+		return true;
 	}
 
-	private void addToMaps(ChatSession session) {
-		sessionById.put(session.getSessionId(), session);
+	private void addToIndexes(ChatSession session) {
+		sessionCount.incrementAndGet();
 
-		sessionsByRoom
-				.computeIfAbsent(session.getRoomId(), k -> ConcurrentHashMap.newKeySet())
-				.add(session);
+		if (session.getUserId() != null) {
+			addToIndex(sessionsByUser, session.getUserId(), session);
+		}
+
+		// 핸드셰이크 시 지정된 초기 채팅방은 자동 구독
+		session.subscribe(session.getRoomId());
+
+		for (String roomId : session.getSubscribedRooms()) {
+			addToRoom(roomId, session);
+		}
 	}
 
-	private void removeFromMaps(ChatSession session) {
-		Set<ChatSession> sessions = sessionsByRoom.get(session.getRoomId());
+	private void removeFromIndexes(ChatSession session) {
+		sessionCount.decrementAndGet();
 
-		if (sessions != null) {
-			sessions.remove(session);
+		if (session.getUserId() != null) {
+			removeFromIndex(sessionsByUser, session.getUserId(), session);
+		}
 
-			if (sessions.isEmpty()) {
-				sessionsByRoom.remove(session.getRoomId());
-			}
+		for (String roomId : session.getSubscribedRooms()) {
+			removeFromRoom(roomId, session);
 		}
 	}
+
+	private void addToRoom(String roomId, ChatSession session) {
+		addToIndex(sessionsByRoom, roomId, session);
+	}
+
+	private void removeFromRoom(String roomId, ChatSession session) {
+		removeFromIndex(sessionsByRoom, roomId, session);
+	}
+
+	/**
+	 * compute 내부에서 추가/제거해야 빈 Set 제거와 경합하지 않는다
+	 */
+	private <K> void addToIndex(Map<K, Set<ChatSession>> index, K key, ChatSession session) {
+		index.compute(key, (k, sessions) -> {
+			Set<ChatSession> target = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+			target.add(session);
+			return target;
+		});
+	}
+
+	private <K> void removeFromIndex(Map<K, Set<ChatSession>> index, K key, ChatSession session) {
+		index.computeIfPresent(key, (k, sessions) -> {
+			sessions.remove(session);
+			return sessions.isEmpty() ? null : sessions;
+		});
+	}
 }
@@ -0,0 +1,93 @@
+package com.example.chat.websocket.domain.session;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * 세션별 송신 대기 큐
+ * 용량 제한과 오버플로 정책은 SessionOutboundDispatcher가 적용하고,
+ * 이 클래스는 대기 프레임과 단일 writer 보장(draining 플래그)만 관리한다.
+ */
+public class OutboundQueue {
+
+	private final Deque<Frame> frames = new ConcurrentLinkedDeque<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	/**
+	 * 송신 프레임
+	 *
+	 * @param message   전송할 메시지 (여러 세션이 공유 가능한 불변 객체)
+	 * @param droppable 오버플로 시 버려도 되는 프레임 여부 (타이핑 이벤트 등)
+	 */
+	public record Frame(TextMessage message, boolean droppable) {
+	}
+
+	public void offer(Frame frame) {
+		frames.offerLast(frame);
+		size.incrementAndGet();
+	}
+
+	public Frame poll() {
+		Frame frame = frames.pollFirst();
+		if (frame != null) {
+			size.decrementAndGet();
+		}
+		return frame;
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	public boolean isEmpty() {
+		return size.get() == 0;
+	}
+
+	/**
+	 * 대기 중인 droppable 프레임 제거
+	 *
+	 * @return 제거된 프레임 수
+	 */
+	public int removeDroppable() {
+		int removed = 0;
+		Iterator<Frame> iterator = frames.iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().droppable()) {
+				iterator.remove();
+				size.decrementAndGet();
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * 대기 프레임 전체 제거
+	 *
+	 * @return 제거된 프레임 수
+	 */
+	public int clear() {
+		int removed = 0;
+		while (poll() != null) {
+			removed++;
+		}
+		return removed;
+	}
+
+	/**
+	 * writer 점유 시도 (동시에 하나의 writer만 sendMessage 호출)
+	 */
+	public boolean tryStartDrain() {
+		return draining.compareAndSet(false, true);
+	}
+
+	public void finishDrain() {
+		draining.set(false);
+	}
+}
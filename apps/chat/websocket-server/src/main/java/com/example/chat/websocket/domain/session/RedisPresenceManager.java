@@ -0,0 +1,124 @@
+package com.example.chat.websocket.domain.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.websocket.config.NodeLeaseProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 열람 presence 관리자
+ *
+ * 구조:
+ *   Key:    chat:presence:{channelId}
+ *   Member: {userId}
+ *   Score:  만료 시각 (epoch millis)
+ *
+ * 사용자가 채팅방 화면을 보고 있는 동안 노드 heartbeat 주기로 만료 시각을 연장한다.
+ * 노드가 죽으면 갱신이 멈춰 리스 TTL 내에 자연 만료되므로 별도 정리가 필요 없다.
+ * chat-server는 score가 현재 시각 이후인 사용자를 "열람 중"으로 보고 푸시를 생략한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPresenceManager {
+
+	private static final String PRESENCE_KEY_PREFIX = "chat:presence:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NodeLeaseProperties nodeLeaseProperties;
+
+	/**
+	 * 채팅방 열람 시작
+	 */
+	public void markViewing(String principalId, String roomId) {
+		// Early return: null 체크
+		if (principalId == null || roomId == null) {
+			return;
+		}
+
+		try {
+			long expiresAt = System.currentTimeMillis() + leaseMillis();
+			redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				byte[] key = bytes(PRESENCE_KEY_PREFIX + roomId);
+				conn.zSetCommands().zAdd(key, expiresAt, bytes(principalId));
+				conn.keyCommands().expire(key, nodeLeaseProperties.getLeaseTtlSeconds() * 2);
+				return null;
+			});
+
+		} catch (Exception e) {
+			log.warn("Failed to mark presence: userId={}, roomId={}", principalId, roomId, e);
+		}
+	}
+
+	/**
+	 * 채팅방 열람 종료 (사용자 단위 ZREM)
+	 * 같은 인스턴스의 다른 세션이 같은 채팅방을 보고 있으면 호출하지 않는다 (ChatRoomSessionManager 에서 확인).
+	 * 다른 인스턴스의 세션이 보고 있다면 그 인스턴스의 다음 heartbeat에서 다시 등록된다.
+	 */
+	public void clearViewing(String principalId, String roomId) {
+		// Early return: null 체크
+		if (principalId == null || roomId == null) {
+			return;
+		}
+
+		try {
+			redisTemplate.opsForZSet().remove(PRESENCE_KEY_PREFIX + roomId, principalId);
+
+		} catch (Exception e) {
+			log.warn("Failed to clear presence: userId={}, roomId={}", principalId, roomId, e);
+		}
+	}
+
+	/**
+	 * 로컬 세션의 열람 상태 일괄 연장 (heartbeat 주기, 단일 파이프라인)
+	 */
+	public void refreshViewing(Collection<ChatSession> sessions) {
+		long now = System.currentTimeMillis();
+		long expiresAt = now + leaseMillis();
+		Set<String> rooms = new HashSet<>();
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				for (ChatSession session : sessions) {
+					String roomId = session.getViewingRoomId();
+					if (session.getPrincipalId() == null || roomId == null || !session.isActive()) {
+						continue;
+					}
+					conn.zSetCommands().zAdd(bytes(PRESENCE_KEY_PREFIX + roomId), expiresAt,
+							bytes(session.getPrincipalId()));
+					rooms.add(roomId);
+				}
+
+				// 만료된 항목 정리 + 키 TTL 연장
+				for (String roomId : rooms) {
+					byte[] key = bytes(PRESENCE_KEY_PREFIX + roomId);
+					conn.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+					conn.keyCommands().expire(key, nodeLeaseProperties.getLeaseTtlSeconds() * 2);
+				}
+				return null;
+			});
+
+		} catch (Exception e) {
+			log.warn("Failed to refresh presence: rooms={}", rooms.size(), e);
+		}
+	}
+
+	// ========== Private Helper Methods ==========
+
+	private long leaseMillis() {
+		return nodeLeaseProperties.getLeaseTtlSeconds() * 1000;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
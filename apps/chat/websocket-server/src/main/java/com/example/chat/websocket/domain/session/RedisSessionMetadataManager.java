@@ -1,13 +1,22 @@
 package com.example.chat.websocket.domain.session;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import com.example.chat.websocket.config.NodeLeaseProperties;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,6 +26,16 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 실제 WebSocketSession은 각 인스턴스에만 존재하지만,
  * 세션 메타데이터(userId, roomId)는 Redis에 저장하여 공유
+ *
+ * 멀티플렉싱 연결은 chat:session:rooms:{sessionId}에 구독 채팅방 목록을 유지하여
+ * 연결 종료 시 모든 채팅방의 세션 목록에서 한 번에 정리한다.
+ *
+ * 쓰기 명령은 executePipelined로 묶어 등록은 1회, 제거는 2회 왕복으로 처리한다.
+ *
+ * 노드 리스:
+ * - 각 세션은 소유 노드의 chat:node:sessions:{nodeId}에도 기록된다.
+ * - 노드는 chat:node:heartbeat:{nodeId}를 짧은 TTL로 주기 갱신한다.
+ * - heartbeat가 만료된 노드의 세션은 다른 노드가 일괄 정리한다 (24h TTL은 안전망으로만 유지).
  */
 @Slf4j
 @Component
@@ -26,37 +45,37 @@ public class RedisSessionMetadataManager {
 	private static final String ROOM_SESSIONS_KEY_PREFIX = "chat:room:sessions:";
 	private static final String USER_SESSIONS_KEY_PREFIX = "chat:user:sessions:";
 	private static final String SESSION_INFO_KEY_PREFIX = "chat:session:info:";
+	private static final String SESSION_ROOMS_KEY_PREFIX = "chat:session:rooms:";
 	private static final @NonNull Duration SESSION_TTL = Objects.requireNonNull(Duration.ofHours(24));
+	private static final long TTL_SECONDS = SESSION_TTL.getSeconds();
+	private static final int BATCH_SIZE = 500;
+
+	private static final String NODES_KEY = "chat:nodes";
+	private static final String NODE_HEARTBEAT_KEY_PREFIX = "chat:node:heartbeat:";
+	private static final String NODE_SESSIONS_KEY_PREFIX = "chat:node:sessions:";
+	private static final String NODE_REAP_LOCK_KEY_PREFIX = "chat:node:reap:";
+	private static final long REAP_LOCK_SECONDS = 60;
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final NodeLeaseProperties nodeLeaseProperties;
 
 	/**
-	 * 세션 메타데이터 등록
+	 * 세션 메타데이터 등록 (단일 파이프라인 왕복)
 	 */
 	public void registerSessionMetadata(String sessionId, Long userId, String roomId) {
-		// Early return: null 체크
-		if (sessionId == null || roomId == null) {
-			log.warn("Cannot register session metadata: sessionId or roomId is null");
+		// Early return: null 체크 (roomId는 멀티플렉싱 연결에서 없을 수 있음)
+		if (sessionId == null) {
+			log.warn("Cannot register session metadata: sessionId is null");
 			return;
 		}
 
-		try {
-			// Step 1: 세션 정보 저장 (sessionId -> userId:roomId)
-			String sessionInfoKey = SESSION_INFO_KEY_PREFIX + sessionId;
-			String sessionInfo = userId + ":" + roomId;
-			redisTemplate.opsForValue().set(sessionInfoKey, sessionInfo, SESSION_TTL);
+		Set<String> rooms = roomId != null ? Set.of(roomId) : Set.of();
 
-			// Step 2: 채팅방별 세션 목록에 추가
-			String roomSessionsKey = ROOM_SESSIONS_KEY_PREFIX + roomId;
-			redisTemplate.opsForSet().add(roomSessionsKey, sessionId);
-			redisTemplate.expire(roomSessionsKey, SESSION_TTL);
-
-			// Step 3: 사용자별 세션 목록에 추가 (userId가 있는 경우)
-			if (userId != null) {
-				String userSessionsKey = USER_SESSIONS_KEY_PREFIX + userId;
-				redisTemplate.opsForSet().add(userSessionsKey, sessionId);
-				redisTemplate.expire(userSessionsKey, SESSION_TTL);
-			}
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				writeSessionMetadata(conn, sessionId, userId, roomId, rooms);
+				return null;
+			});
 
 			log.info("Session metadata registered in Redis: sessionId={}, userId={}, roomId={}",
 					sessionId, userId, roomId);
@@ -67,7 +86,36 @@ public class RedisSessionMetadataManager {
 	}
 
 	/**
-	 * 세션 메타데이터 제거
+	 * 세션 메타데이터 일괄 등록
+	 * 재연결 폭주나 인스턴스 재기동 후 재동기화 시 세션 수와 무관하게 배치당 1회 왕복으로 처리
+	 */
+	public void registerSessionMetadataBatch(Collection<ChatSession> sessions) {
+		// Early return: 빈 목록
+		if (sessions == null || sessions.isEmpty()) {
+			return;
+		}
+
+		List<ChatSession> batch = new ArrayList<>(BATCH_SIZE);
+		int registered = 0;
+
+		for (ChatSession session : sessions) {
+			if (session == null || session.getSessionId() == null) {
+				continue;
+			}
+			batch.add(session);
+			if (batch.size() == BATCH_SIZE) {
+				registered += flushBatch(batch);
+				batch.clear();
+			}
+		}
+		registered += flushBatch(batch);
+
+		log.info("Session metadata batch registered in Redis: requested={}, registered={}",
+				sessions.size(), registered);
+	}
+
+	/**
+	 * 세션 메타데이터 제거 (조회 1회 + 삭제 1회 파이프라인 왕복)
 	 */
 	public void removeSessionMetadata(String sessionId) {
 		// Early return: null 체크
@@ -77,42 +125,142 @@ public class RedisSessionMetadataManager {
 		}
 
 		try {
-			// Step 1: 세션 정보 조회
-			String sessionInfoKey = SESSION_INFO_KEY_PREFIX + sessionId;
-			String sessionInfo = redisTemplate.opsForValue().get(sessionInfoKey);
+			int removed = removeBatch(List.of(sessionId));
 
-			// Early return: 세션 정보가 없으면 종료
-			if (sessionInfo == null) {
+			if (removed == 0) {
 				log.debug("Session metadata not found in Redis: {}", sessionId);
 				return;
 			}
 
-			// Step 2: userId와 roomId 파싱
-			String[] parts = sessionInfo.split(":");
-			String userIdStr = parts.length > 0 ? parts[0] : null;
-			String roomId = parts.length > 1 ? parts[1] : null;
+			log.info("Session metadata removed from Redis: sessionId={}", sessionId);
 
-			// Step 3: 세션 정보 삭제
-			redisTemplate.delete(sessionInfoKey);
+		} catch (Exception e) {
+			log.error("Failed to remove session metadata from Redis", e);
+		}
+	}
 
-			// Step 4: 채팅방별 세션 목록에서 제거
-			if (roomId != null) {
-				String roomSessionsKey = ROOM_SESSIONS_KEY_PREFIX + roomId;
-				redisTemplate.opsForSet().remove(roomSessionsKey, sessionId);
-			}
+	/**
+	 * 채팅방 구독 추가 (SUBSCRIBE)
+	 */
+	public void addRoomSubscription(String sessionId, String roomId) {
+		// Early return: null 체크
+		if (sessionId == null || roomId == null) {
+			return;
+		}
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				writeRoomSubscription(conn, sessionId, roomId);
+				return null;
+			});
+
+		} catch (Exception e) {
+			log.error("Failed to add room subscription in Redis: sessionId={}, roomId={}", sessionId, roomId, e);
+		}
+	}
+
+	/**
+	 * 채팅방 구독 해제 (UNSUBSCRIBE)
+	 */
+	public void removeRoomSubscription(String sessionId, String roomId) {
+		// Early return: null 체크
+		if (sessionId == null || roomId == null) {
+			return;
+		}
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				conn.setCommands().sRem(bytes(ROOM_SESSIONS_KEY_PREFIX + roomId), bytes(sessionId));
+				conn.setCommands().sRem(bytes(SESSION_ROOMS_KEY_PREFIX + sessionId), bytes(roomId));
+				return null;
+			});
+
+		} catch (Exception e) {
+			log.error("Failed to remove room subscription in Redis: sessionId={}, roomId={}", sessionId, roomId, e);
+		}
+	}
+
+	/**
+	 * 현재 노드 heartbeat 갱신 (리스 연장)
+	 *
+	 * @return 갱신 직전까지 리스가 살아 있었으면 true (만료되어 다른 노드에 의해 정리됐을 수 있으면 false)
+	 */
+	public boolean refreshNodeHeartbeat() {
+		String nodeId = nodeLeaseProperties.getNodeId();
+
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				byte[] heartbeatKey = bytes(NODE_HEARTBEAT_KEY_PREFIX + nodeId);
+				conn.keyCommands().exists(heartbeatKey);
+				conn.stringCommands().setEx(heartbeatKey, nodeLeaseProperties.getLeaseTtlSeconds(),
+						bytes(String.valueOf(System.currentTimeMillis())));
+				conn.setCommands().sAdd(bytes(NODES_KEY), bytes(nodeId));
+				conn.keyCommands().expire(bytes(NODE_SESSIONS_KEY_PREFIX + nodeId), TTL_SECONDS);
+				return null;
+			});
+
+			return Boolean.TRUE.equals(results.get(0));
+
+		} catch (Exception e) {
+			log.error("Failed to refresh node heartbeat: nodeId={}", nodeId, e);
+			return true;
+		}
+	}
 
-			// Step 5: 사용자별 세션 목록에서 제거
-			if (userIdStr != null && !userIdStr.equals("null")) {
-				String userSessionsKey = USER_SESSIONS_KEY_PREFIX + userIdStr;
-				redisTemplate.opsForSet().remove(userSessionsKey, sessionId);
+	/**
+	 * 현재 노드 heartbeat 즉시 만료 (정상 종료 시 다른 노드가 바로 정리하도록)
+	 */
+	public void releaseNodeHeartbeat() {
+		String nodeId = nodeLeaseProperties.getNodeId();
+
+		try {
+			redisTemplate.delete(NODE_HEARTBEAT_KEY_PREFIX + nodeId);
+
+		} catch (Exception e) {
+			log.warn("Failed to release node heartbeat: nodeId={}", nodeId, e);
+		}
+	}
+
+	/**
+	 * heartbeat가 만료된 노드의 세션 메타데이터 일괄 정리
+	 *
+	 * @return 정리된 세션 수
+	 */
+	public int reapDeadNodes() {
+		String selfNodeId = nodeLeaseProperties.getNodeId();
+		int reaped = 0;
+
+		try {
+			// Step 1: 등록된 노드 목록과 heartbeat 존재 여부 조회
+			List<String> nodeIds = new ArrayList<>(Objects.requireNonNullElse(
+					redisTemplate.opsForSet().members(NODES_KEY), Set.<String>of()));
+			nodeIds.remove(selfNodeId);
+
+			// Early return: 다른 노드 없음
+			if (nodeIds.isEmpty()) {
+				return 0;
 			}
 
-			log.info("Session metadata removed from Redis: sessionId={}, userId={}, roomId={}",
-					sessionId, userIdStr, roomId);
+			List<Object> alive = redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				for (String nodeId : nodeIds) {
+					conn.keyCommands().exists(bytes(NODE_HEARTBEAT_KEY_PREFIX + nodeId));
+				}
+				return null;
+			});
+
+			// Step 2: 죽은 노드별 정리 (여러 노드가 동시에 정리하지 않도록 잠금)
+			for (int i = 0; i < nodeIds.size(); i++) {
+				if (Boolean.TRUE.equals(alive.get(i))) {
+					continue;
+				}
+				reaped += reapNode(nodeIds.get(i));
+			}
 
 		} catch (Exception e) {
-			log.error("Failed to remove session metadata from Redis", e);
+			log.error("Failed to reap dead nodes", e);
 		}
+
+		return reaped;
 	}
 
 	/**
@@ -177,4 +325,168 @@ public class RedisSessionMetadataManager {
 			return 0;
 		}
 	}
+
+	// ========== Private Helper Methods ==========
+
+	/**
+	 * 배치 단위 파이프라인 등록
+	 *
+	 * @return 등록된 세션 수 (실패 시 0)
+	 */
+	private int flushBatch(List<ChatSession> batch) {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+				for (ChatSession session : batch) {
+					writeSessionMetadata(conn, session.getSessionId(), session.getUserId(),
+							session.getRoomId(), session.getSubscribedRooms());
+				}
+				return null;
+			});
+			return batch.size();
+
+		} catch (Exception e) {
+			log.error("Failed to register session metadata batch in Redis: size={}", batch.size(), e);
+			return 0;
+		}
+	}
+
+	/**
+	 * 죽은 노드 1개 정리
+	 */
+	private int reapNode(String deadNodeId) {
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(
+				NODE_REAP_LOCK_KEY_PREFIX + deadNodeId, nodeLeaseProperties.getNodeId(),
+				Duration.ofSeconds(REAP_LOCK_SECONDS));
+
+		// Early return: 다른 노드가 정리 중
+		if (!Boolean.TRUE.equals(locked)) {
+			return 0;
+		}
+
+		String nodeSessionsKey = NODE_SESSIONS_KEY_PREFIX + deadNodeId;
+		List<String> sessionIds = new ArrayList<>(Objects.requireNonNullElse(
+				redisTemplate.opsForSet().members(nodeSessionsKey), Set.<String>of()));
+
+		int reaped = 0;
+		for (int from = 0; from < sessionIds.size(); from += BATCH_SIZE) {
+			reaped += removeBatch(sessionIds.subList(from, Math.min(from + BATCH_SIZE, sessionIds.size())));
+		}
+
+		redisTemplate.delete(nodeSessionsKey);
+		redisTemplate.opsForSet().remove(NODES_KEY, deadNodeId);
+
+		log.warn("Dead node sessions reaped: nodeId={}, sessions={}", deadNodeId, reaped);
+		return reaped;
+	}
+
+	/**
+	 * 세션 메타데이터 일괄 제거 (조회 파이프라인 1회 + 삭제 파이프라인 1회)
+	 *
+	 * @return 실제로 제거된 세션 수
+	 */
+	private int removeBatch(List<String> sessionIds) {
+		// Step 1: 세션 정보와 구독 채팅방 목록을 한 번에 조회
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+			for (String sessionId : sessionIds) {
+				conn.stringCommands().get(bytes(SESSION_INFO_KEY_PREFIX + sessionId));
+				conn.setCommands().sMembers(bytes(SESSION_ROOMS_KEY_PREFIX + sessionId));
+			}
+			return null;
+		});
+
+		// Step 2: userId / roomId / nodeId 파싱 (userId:roomId:nodeId)
+		List<SessionKeys> targets = new ArrayList<>();
+		for (int i = 0; i < sessionIds.size(); i++) {
+			String sessionInfo = (String) results.get(i * 2);
+			if (sessionInfo == null) {
+				continue;
+			}
+
+			String[] parts = sessionInfo.split(":");
+			String userIdStr = parts.length > 0 ? parts[0] : null;
+			String roomId = parts.length > 1 ? parts[1] : null;
+			String nodeId = parts.length > 2 ? parts[2] : null;
+
+			Set<String> rooms = new HashSet<>();
+			if (results.get(i * 2 + 1) instanceof Set<?> members) {
+				members.forEach(member -> rooms.add(String.valueOf(member)));
+			}
+			if (roomId != null && !roomId.equals("null")) {
+				rooms.add(roomId);
+			}
+
+			targets.add(new SessionKeys(sessionIds.get(i), userIdStr, nodeId, rooms));
+		}
+
+		// Early return: 제거할 세션 없음
+		if (targets.isEmpty()) {
+			return 0;
+		}
+
+		// Step 3: 세션 정보 / 채팅방별 / 사용자별 / 노드별 목록 일괄 삭제
+		redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+			for (SessionKeys target : targets) {
+				byte[] sessionIdBytes = bytes(target.sessionId());
+				conn.keyCommands().del(bytes(SESSION_INFO_KEY_PREFIX + target.sessionId()),
+						bytes(SESSION_ROOMS_KEY_PREFIX + target.sessionId()));
+				for (String subscribedRoomId : target.rooms()) {
+					conn.setCommands().sRem(bytes(ROOM_SESSIONS_KEY_PREFIX + subscribedRoomId), sessionIdBytes);
+				}
+				if (target.userId() != null && !target.userId().equals("null")) {
+					conn.setCommands().sRem(bytes(USER_SESSIONS_KEY_PREFIX + target.userId()), sessionIdBytes);
+				}
+				if (target.nodeId() != null) {
+					conn.setCommands().sRem(bytes(NODE_SESSIONS_KEY_PREFIX + target.nodeId()), sessionIdBytes);
+				}
+			}
+			return null;
+		});
+
+		return targets.size();
+	}
+
+	/**
+	 * 세션 정보 / 구독 채팅방 / 사용자별 / 노드별 목록 기록 (파이프라인 내부에서 호출)
+	 */
+	private void writeSessionMetadata(RedisConnection conn, String sessionId, Long userId,
+									  String roomId, Set<String> rooms) {
+		// Step 1: 세션 정보 저장 (sessionId -> userId:roomId:nodeId)
+		String nodeId = nodeLeaseProperties.getNodeId();
+		conn.stringCommands().setEx(bytes(SESSION_INFO_KEY_PREFIX + sessionId), TTL_SECONDS,
+				bytes(userId + ":" + roomId + ":" + nodeId));
+		conn.setCommands().sAdd(bytes(NODE_SESSIONS_KEY_PREFIX + nodeId), bytes(sessionId));
+
+		// Step 2: 채팅방별 세션 목록에 추가
+		for (String subscribedRoomId : rooms) {
+			writeRoomSubscription(conn, sessionId, subscribedRoomId);
+		}
+
+		// Step 3: 사용자별 세션 목록에 추가 (userId가 있는 경우)
+		if (userId != null) {
+			byte[] userSessionsKey = bytes(USER_SESSIONS_KEY_PREFIX + userId);
+			conn.setCommands().sAdd(userSessionsKey, bytes(sessionId));
+			conn.keyCommands().expire(userSessionsKey, TTL_SECONDS);
+		}
+	}
+
+	private void writeRoomSubscription(RedisConnection conn, String sessionId, String roomId) {
+		byte[] roomSessionsKey = bytes(ROOM_SESSIONS_KEY_PREFIX + roomId);
+		conn.setCommands().sAdd(roomSessionsKey, bytes(sessionId));
+		conn.keyCommands().expire(roomSessionsKey, TTL_SECONDS);
+
+		byte[] sessionRoomsKey = bytes(SESSION_ROOMS_KEY_PREFIX + sessionId);
+		conn.setCommands().sAdd(sessionRoomsKey, bytes(roomId));
+		conn.keyCommands().expire(sessionRoomsKey, TTL_SECONDS);
+	}
+
+	private record SessionKeys(String sessionId, String userId, String nodeId, Set<String> rooms) {
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
 }
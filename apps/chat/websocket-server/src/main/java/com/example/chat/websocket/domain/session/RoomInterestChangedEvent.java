@@ -0,0 +1,11 @@
+package com.example.chat.websocket.domain.session;
+
+/**
+ * 채팅방 관심 상태 변경 이벤트
+ * 현재 인스턴스가 해당 채팅방의 첫 세션을 얻거나(active=true) 마지막 세션을 잃을 때(active=false) 발행
+ *
+ * @param roomId 채팅방 ID
+ * @param active 로컬 세션 보유 여부
+ */
+public record RoomInterestChangedEvent(String roomId, boolean active) {
+}
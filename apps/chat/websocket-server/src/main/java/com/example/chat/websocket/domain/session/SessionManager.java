@@ -11,13 +11,17 @@ public interface SessionManager {
 
 	/**
 	 * 세션 등록
+	 *
+	 * @return 새로 등록된 경우 true (유효하지 않거나 중복이면 false)
 	 */
-	void register(ChatSession session);
+	boolean register(ChatSession session);
 
 	/**
 	 * 세션 제거
+	 *
+	 * @return 제거된 세션 (등록되지 않은 세션이면 empty)
 	 */
-	void remove(String sessionId);
+	Optional<ChatSession> remove(String sessionId);
 
 	/**
 	 * 세션 조회
@@ -20,6 +20,8 @@ public class MessageEvent {
     private String eventType;
     private String messageId;
     private String channelId;
+    /** 채널 내 메시지 순번 (빈 번호 없음) — 클라이언트는 마지막으로 받은 seq 로 RESUME 한다 */
+    private Long seq;
     private String senderId;
     private String messageType;
     private String content;
@@ -1,5 +1,7 @@
 package com.example.chat.websocket.infrastructure.redis;
 
+import java.nio.charset.StandardCharsets;
+
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.lang.NonNull;
@@ -7,7 +9,6 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import com.example.chat.websocket.application.service.WebSocketBroadcastService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,34 +16,27 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Redis 메시지 구독자
  * chat:room:{roomId} 채널에서 메시지를 수신하여 WebSocket으로 브로드캐스트
+ *
+ * 본문은 chat-server가 발행한 클라이언트용 JSON(MessageSentEvent)이므로
+ * 역직렬화하지 않고 채널명으로만 라우팅하여 원본 바이트를 그대로 전달한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisMessageSubscriber implements MessageListener {
 
-	private final ObjectMapper objectMapper;
 	private final WebSocketBroadcastService broadcastService;
 
 	@Override
 	public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
 		try {
-			// Step 1: 메시지 역직렬화
-			String messageBody = new String(message.getBody());
-			String channel = new String(message.getChannel());
+			// Step 1: 채널명 추출 (본문은 파싱하지 않음)
+			String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+			byte[] body = message.getBody();
 
 			log.debug("Received Redis message from channel: {}", channel);
 
-			// Step 2: MessageEvent로 역직렬화
-			MessageEvent event = deserializeMessage(messageBody);
-
-			// Early return: 역직렬화 실패
-			if (event == null) {
-				log.warn("Failed to deserialize message from channel: {}", channel);
-				return;
-			}
-
-			// Step 3: 채팅방 ID 추출
+			// Step 2: 채팅방 ID 추출
 			String roomId = extractRoomIdFromChannel(channel);
 
 			// Early return: roomId 추출 실패
@@ -51,8 +45,14 @@ public class RedisMessageSubscriber implements MessageListener {
 				return;
 			}
 
-			// Step 4: WebSocket 브로드캐스트
-			broadcastMessageToRoom(roomId, event);
+			// Early return: JSON 객체가 아닌 본문
+			if (!isJsonObject(body)) {
+				log.warn("Ignored non-JSON message from channel: {}", channel);
+				return;
+			}
+
+			// Step 3: 원본 프레임 그대로 WebSocket 브로드캐스트
+			broadcastService.broadcastRawToRoom(roomId, body);
 
 		} catch (Exception e) {
 			log.error("Error processing Redis message", e);
@@ -60,15 +60,20 @@ public class RedisMessageSubscriber implements MessageListener {
 	}
 
 	/**
-	 * JSON 메시지 역직렬화
+	 * 최소 형식 검증: 첫 유효 문자가 '{'인지 확인
 	 */
-	private MessageEvent deserializeMessage(String messageBody) {
-		try {
-			return objectMapper.readValue(messageBody, MessageEvent.class);
-		} catch (Exception e) {
-			log.error("Failed to deserialize message: {}", messageBody, e);
-			return null;
+	private boolean isJsonObject(byte[] body) {
+		if (body == null) {
+			return false;
+		}
+
+		for (byte b : body) {
+			if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+				continue;
+			}
+			return b == '{';
 		}
+		return false;
 	}
 
 	/**
@@ -82,11 +87,4 @@ public class RedisMessageSubscriber implements MessageListener {
 
 		return channel.substring("chat:room:".length());
 	}
-
-	/**
-	 * 채팅방에 메시지 브로드캐스트
-	 */
-	private void broadcastMessageToRoom(String roomId, MessageEvent event) {
-		broadcastService.broadcastToRoom(roomId, event);
-	}
 }
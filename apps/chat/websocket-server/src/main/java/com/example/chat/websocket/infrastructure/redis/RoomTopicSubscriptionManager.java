@@ -0,0 +1,90 @@
+package com.example.chat.websocket.infrastructure.redis;
+
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.stereotype.Component;
+
+import com.example.chat.websocket.domain.session.RoomInterestChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관심 기반 Redis 채널 구독 관리자
+ *
+ * 전역 패턴(chat:room:*) 대신 현재 인스턴스에 세션이 있는 채팅방의 채널만 구독한다.
+ * - 채팅방 첫 로컬 세션 등록 시: chat:room:{id}, chat:typing:{id}, chat:read:event:{id} SUBSCRIBE
+ * - 마지막 로컬 세션 제거 시: 위 채널 UNSUBSCRIBE
+ *
+ * 인스턴스 간 트래픽이 전체 플랫폼 메시지량이 아닌 실제 관심 채팅방 수에 비례하게 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomTopicSubscriptionManager {
+
+	private static final String ROOM_CHANNEL_PREFIX = "chat:room:";
+	private static final String TYPING_CHANNEL_PREFIX = "chat:typing:";
+	private static final String READ_EVENT_CHANNEL_PREFIX = "chat:read:event:";
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MessageListenerAdapter messageListenerAdapter;
+	private final MessageListenerAdapter readReceiptListenerAdapter;
+	private final MessageListenerAdapter typingListenerAdapter;
+
+	/**
+	 * 채팅방 관심 상태 변경 처리
+	 * ChatRoomSessionManager가 채팅방 단위로 순서를 보장하여 동기 발행한다.
+	 */
+	@EventListener
+	public void onRoomInterestChanged(RoomInterestChangedEvent event) {
+		String roomId = event.roomId();
+
+		// Early return: roomId 없음
+		if (roomId == null) {
+			return;
+		}
+
+		try {
+			if (event.active()) {
+				subscribe(roomId);
+			} else {
+				unsubscribe(roomId);
+			}
+		} catch (Exception e) {
+			log.error("Failed to update Redis room subscription: roomId={}, active={}",
+					roomId, event.active(), e);
+		}
+	}
+
+	// ========== Private Helper Methods ==========
+
+	private void subscribe(String roomId) {
+		for (ListenerTopic listenerTopic : topicsOf(roomId)) {
+			redisMessageListenerContainer.addMessageListener(listenerTopic.listener(), listenerTopic.topic());
+		}
+		log.debug("Redis room channels subscribed: roomId={}", roomId);
+	}
+
+	private void unsubscribe(String roomId) {
+		for (ListenerTopic listenerTopic : topicsOf(roomId)) {
+			redisMessageListenerContainer.removeMessageListener(listenerTopic.listener(), listenerTopic.topic());
+		}
+		log.debug("Redis room channels unsubscribed: roomId={}", roomId);
+	}
+
+	private List<ListenerTopic> topicsOf(String roomId) {
+		return List.of(
+				new ListenerTopic(messageListenerAdapter, new ChannelTopic(ROOM_CHANNEL_PREFIX + roomId)),
+				new ListenerTopic(typingListenerAdapter, new ChannelTopic(TYPING_CHANNEL_PREFIX + roomId)),
+				new ListenerTopic(readReceiptListenerAdapter, new ChannelTopic(READ_EVENT_CHANNEL_PREFIX + roomId)));
+	}
+
+	private record ListenerTopic(MessageListenerAdapter listener, Topic topic) {
+	}
+}
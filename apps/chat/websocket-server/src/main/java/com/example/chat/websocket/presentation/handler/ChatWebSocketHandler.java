@@ -1,6 +1,8 @@
 package com.example.chat.websocket.presentation.handler;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.example.chat.websocket.infrastructure.redis.TypingEvent;
@@ -13,6 +15,9 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import com.example.chat.websocket.application.service.ChannelMembershipService;
+import com.example.chat.websocket.application.service.MessageResumeService;
+import com.example.chat.websocket.application.service.MessageResumeService.ResumePoint;
 import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
 import com.example.chat.websocket.domain.session.ChatSession;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -35,10 +40,17 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     private static final String TYPING_START_TYPE = "TYPING_START";
     private static final String TYPING_STOP_TYPE = "TYPING_STOP";
     private static final String TYPING_CHANNEL_PREFIX = "chat:typing:";
+    private static final String SUBSCRIBE_TYPE = "SUBSCRIBE";
+    private static final String UNSUBSCRIBE_TYPE = "UNSUBSCRIBE";
+    private static final String VIEW_TYPE = "VIEW";
+    private static final String RESUME_TYPE = "RESUME";
+    private static final int MAX_SUBSCRIPTIONS_PER_SESSION = 500;
 
     private final ChatRoomSessionManager sessionManager;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final MessageResumeService messageResumeService;
+    private final ChannelMembershipService channelMembershipService;
 
     /**
      * WebSocket 연결 수립
@@ -51,13 +63,14 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         String roomId = extractRoomId(session);
         Long userId = extractUserId(session);
 
-        // Early return: roomId 없으면 연결 종료
-        if (roomId == null) {
-            log.warn("RoomId not found in session attributes. Closing connection.");
-            session.close(CloseStatus.BAD_DATA);
-            return;
+        // 핸드셰이크 채팅방도 멤버일 때만 자동 구독
+        if (roomId != null && !channelMembershipService.isMember(roomId, extractUserIdAsString(session))) {
+            log.warn("Handshake room rejected: not a member (sessionId={}, roomId={})", session.getId(), roomId);
+            roomId = null;
         }
 
+        // roomId 없이 연결하면 SUBSCRIBE 메시지로 채팅방을 추가한다 (멀티플렉싱)
+
         // Step 2: ChatSession 생성
         ChatSession chatSession = createChatSession(session, roomId, userId);
 
@@ -74,6 +87,12 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
      * 지원 메시지 타입:
      * - READ_RECEIPT: 읽음 처리 이벤트 → Redis chat:read:{channelId} 발행
      *   페이로드: {"type":"READ_RECEIPT","channelId":"...","lastReadMessageId":"..."}
+     * - SUBSCRIBE / UNSUBSCRIBE: 현재 연결에 채팅방 구독 추가/해제 (채널 멤버만 구독 가능)
+     *   페이로드: {"type":"SUBSCRIBE","channelIds":["...","..."]} 또는 {"type":"SUBSCRIBE","channelId":"..."}
+     * - VIEW: 현재 화면에 띄운 채팅방 변경 (열람 중인 채팅방은 푸시 생략)
+     *   페이로드: {"type":"VIEW","channelId":"..."} / 채팅방 화면을 벗어나면 channelId 생략
+     * - RESUME: 재접속 후 채널별 마지막으로 받은 seq 이후 누락 메시지 재전송 (구독 중이고 현재도 멤버인 채팅방만)
+     *   페이로드: {"type":"RESUME","channels":[{"channelId":"...","lastSeq":12}]} 또는 {"type":"RESUME","channelId":"...","lastSeq":12}
      */
     @Override
     protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) throws Exception {
@@ -86,6 +105,14 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
             if (READ_RECEIPT_TYPE.equals(type)) {
                 handleReadReceipt(session, node);
+            } else if (SUBSCRIBE_TYPE.equals(type)) {
+                handleSubscribe(session, node);
+            } else if (UNSUBSCRIBE_TYPE.equals(type)) {
+                handleUnsubscribe(session, node);
+            } else if (VIEW_TYPE.equals(type)) {
+                handleView(session, node);
+            } else if (RESUME_TYPE.equals(type)) {
+                handleResume(session, node);
             } else if (TYPING_START_TYPE.equals(type) || TYPING_STOP_TYPE.equals(type)) {
                 handleTypingEvent(session, node, type);
             } else {
@@ -126,6 +153,125 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * 채팅방 구독 추가
+     * 하나의 연결이 여러 채팅방 메시지를 수신하도록 로컬 인덱스와 Redis 메타데이터에 등록
+     * 채널 멤버가 아니면 해당 채팅방은 구독하지 않는다
+     */
+    private void handleSubscribe(WebSocketSession session, JsonNode node) {
+        List<String> channelIds = extractChannelIds(node);
+        String userId = extractUserIdAsString(session);
+
+        if (channelIds.isEmpty()) {
+            log.warn("Invalid SUBSCRIBE: channelIds missing: sessionId={}", session.getId());
+            return;
+        }
+
+        int currentCount = sessionManager.getSession(session.getId())
+                .map(chatSession -> chatSession.getSubscribedRooms().size())
+                .orElse(0);
+
+        int subscribed = 0;
+        for (String channelId : channelIds) {
+            // Early return: 연결당 구독 상한 초과
+            if (currentCount + subscribed >= MAX_SUBSCRIPTIONS_PER_SESSION) {
+                log.warn("Subscription limit reached: sessionId={}, limit={}",
+                        session.getId(), MAX_SUBSCRIPTIONS_PER_SESSION);
+                break;
+            }
+            if (!channelMembershipService.isMember(channelId, userId)) {
+                log.warn("Invalid SUBSCRIBE: not a member (sessionId={}, userId={}, channelId={})",
+                        session.getId(), userId, channelId);
+                continue;
+            }
+            if (sessionManager.subscribeRoom(session.getId(), channelId)) {
+                subscribed++;
+            }
+        }
+
+        log.debug("Rooms subscribed: sessionId={}, requested={}, subscribed={}",
+                session.getId(), channelIds.size(), subscribed);
+    }
+
+    /**
+     * 채팅방 구독 해제
+     */
+    private void handleUnsubscribe(WebSocketSession session, JsonNode node) {
+        List<String> channelIds = extractChannelIds(node);
+
+        if (channelIds.isEmpty()) {
+            log.warn("Invalid UNSUBSCRIBE: channelIds missing: sessionId={}", session.getId());
+            return;
+        }
+
+        int unsubscribed = 0;
+        for (String channelId : channelIds) {
+            if (sessionManager.unsubscribeRoom(session.getId(), channelId)) {
+                unsubscribed++;
+            }
+        }
+
+        log.debug("Rooms unsubscribed: sessionId={}, requested={}, unsubscribed={}",
+                session.getId(), channelIds.size(), unsubscribed);
+    }
+
+    /**
+     * 열람 채팅방 변경
+     * 구독 중인 채팅방만 열람 대상으로 인정한다
+     */
+    private void handleView(WebSocketSession session, JsonNode node) {
+        String channelId = node.path("channelId").asText(null);
+
+        if (channelId != null) {
+            boolean subscribed = sessionManager.getSession(session.getId())
+                    .map(chatSession -> chatSession.getSubscribedRooms().contains(channelId))
+                    .orElse(false);
+
+            if (!subscribed) {
+                log.warn("Invalid VIEW: channel not subscribed (sessionId={}, channelId={})",
+                        session.getId(), channelId);
+                return;
+            }
+        }
+
+        sessionManager.changeViewingRoom(session.getId(), channelId);
+    }
+
+    /**
+     * 누락 메시지 재전송
+     * SUBSCRIBE 이후에 보내야 한다 — 구독하지 않은 채팅방은 무시 (RESUME 이후 메시지는 실시간으로 수신)
+     * 구독 이후 멤버에서 빠졌을 수 있으므로 채팅방마다 멤버십을 다시 확인한다
+     */
+    private void handleResume(WebSocketSession session, JsonNode node) {
+        ChatSession chatSession = sessionManager.getSession(session.getId()).orElse(null);
+
+        // Early return: 등록되지 않은 세션
+        if (chatSession == null) {
+            log.warn("Invalid RESUME: session not registered: sessionId={}", session.getId());
+            return;
+        }
+
+        List<ResumePoint> points = new ArrayList<>();
+        for (ResumePoint point : extractResumePoints(node)) {
+            if (!chatSession.getSubscribedRooms().contains(point.channelId())) {
+                log.warn("Invalid RESUME: channel not subscribed (sessionId={}, channelId={})",
+                        session.getId(), point.channelId());
+            } else if (!channelMembershipService.isMember(point.channelId(), chatSession.getPrincipalId())) {
+                log.warn("Invalid RESUME: not a member (sessionId={}, userId={}, channelId={})",
+                        session.getId(), chatSession.getPrincipalId(), point.channelId());
+            } else {
+                points.add(point);
+            }
+        }
+
+        // Early return: 재개할 채팅방 없음
+        if (points.isEmpty()) {
+            return;
+        }
+
+        messageResumeService.resume(chatSession, points);
+    }
+
     /**
      * WebSocket 연결 종료
      */
@@ -204,6 +350,53 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         return roomId != null ? roomId.toString() : null;
     }
 
+    /**
+     * SUBSCRIBE/UNSUBSCRIBE 페이로드에서 channelIds(배열) 또는 channelId(단건) 추출
+     */
+    private List<String> extractChannelIds(JsonNode node) {
+        List<String> channelIds = new ArrayList<>();
+
+        JsonNode arrayNode = node.path("channelIds");
+        if (arrayNode.isArray()) {
+            arrayNode.forEach(item -> {
+                if (item.isTextual() && !item.asText().isBlank()) {
+                    channelIds.add(item.asText());
+                }
+            });
+        }
+
+        String single = node.path("channelId").asText(null);
+        if (single != null && !single.isBlank()) {
+            channelIds.add(single);
+        }
+
+        return channelIds;
+    }
+
+    /**
+     * RESUME 페이로드에서 channels(배열) 또는 channelId/lastSeq(단건) 추출
+     */
+    private List<ResumePoint> extractResumePoints(JsonNode node) {
+        List<ResumePoint> points = new ArrayList<>();
+
+        JsonNode arrayNode = node.path("channels");
+        if (arrayNode.isArray()) {
+            arrayNode.forEach(item -> addResumePoint(points, item));
+        }
+        addResumePoint(points, node);
+
+        return points;
+    }
+
+    private void addResumePoint(List<ResumePoint> points, JsonNode item) {
+        String channelId = item.path("channelId").asText(null);
+        JsonNode lastSeq = item.path("lastSeq");
+
+        if (channelId != null && !channelId.isBlank() && lastSeq.canConvertToLong() && lastSeq.asLong() >= 0) {
+            points.add(new ResumePoint(channelId, lastSeq.asLong()));
+        }
+    }
+
     /**
      * 세션에서 userId를 String으로 추출 (UUID 지원)
      */
@@ -238,12 +431,17 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
      * ChatSession 도메인 생성
      */
     private ChatSession createChatSession(WebSocketSession session, String roomId, Long userId) {
-        return ChatSession.builder()
+        ChatSession chatSession = ChatSession.builder()
                 .sessionId(session.getId())
                 .userId(userId)
+                .principalId(extractUserIdAsString(session))
                 .roomId(roomId)
                 .webSocketSession(session)
                 .connectedAt(Instant.now())
                 .build();
+
+        // 단일 채팅방 연결은 해당 채팅방을 보고 있는 것으로 간주
+        chatSession.view(roomId);
+        return chatSession;
     }
 }
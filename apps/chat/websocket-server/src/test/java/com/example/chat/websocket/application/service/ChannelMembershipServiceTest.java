@@ -0,0 +1,134 @@
+package com.example.chat.websocket.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChannelMembershipService — 채널 멤버십 검증")
+class ChannelMembershipServiceTest {
+
+    private static final String STATE_KEY = "chat:channel:ch-1:state";
+    private static final String MEMBERSHIP_URL = "http://chat-server/internal/channels/ch-1/members/u-1";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private MockRestServiceServer chatServer;
+    private ChannelMembershipService membershipService;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://chat-server");
+        chatServer = MockRestServiceServer.bindTo(builder).build();
+        membershipService = new ChannelMembershipService(redisTemplate, builder.build());
+    }
+
+    private void givenCachedState(String value) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(STATE_KEY)).thenReturn(value);
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("Redis 채널 상태 캐시 적중")
+    class CacheHit {
+
+        @Test
+        @DisplayName("활성 채널의 멤버 목록에 있으면 chat-server 호출 없이 허용한다")
+        void member_in_cache_is_allowed() {
+            // Given
+            givenCachedState("1|u-0,u-1,u-2");
+
+            // When & Then
+            assertThat(membershipService.isMember("ch-1", "u-1")).isTrue();
+            chatServer.verify();
+        }
+
+        @Test
+        @DisplayName("멤버 목록에 없으면 거부한다 (접두어가 같은 ID 포함)")
+        void non_member_in_cache_is_rejected() {
+            // Given
+            givenCachedState("1|u-10,u-2");
+
+            // When & Then
+            assertThat(membershipService.isMember("ch-1", "u-1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("비활성 채널은 멤버여도 거부한다")
+        void inactive_channel_is_rejected() {
+            // Given
+            givenCachedState("0|u-1");
+
+            // When & Then
+            assertThat(membershipService.isMember("ch-1", "u-1")).isFalse();
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("캐시 미스 / 장애")
+    class Fallback {
+
+        @Test
+        @DisplayName("캐시가 없으면 chat-server 내부 API 결과를 따른다")
+        void cache_miss_asks_chat_server() {
+            // Given
+            givenCachedState(null);
+            chatServer.expect(requestTo(MEMBERSHIP_URL))
+                    .andRespond(withSuccess("{\"channelId\":\"ch-1\",\"userId\":\"u-1\",\"member\":true}",
+                            MediaType.APPLICATION_JSON));
+
+            // When & Then
+            assertThat(membershipService.isMember("ch-1", "u-1")).isTrue();
+            chatServer.verify();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시에도 chat-server 로 검증한다")
+        void redis_failure_asks_chat_server() {
+            // Given
+            when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+            chatServer.expect(requestTo(MEMBERSHIP_URL))
+                    .andRespond(withSuccess("{\"member\":false}", MediaType.APPLICATION_JSON));
+
+            // When & Then
+            assertThat(membershipService.isMember("ch-1", "u-1")).isFalse();
+            chatServer.verify();
+        }
+
+        @Test
+        @DisplayName("chat-server 호출도 실패하면 거부한다 (fail-closed)")
+        void chat_server_failure_is_rejected() {
+            // Given
+            givenCachedState(null);
+            chatServer.expect(requestTo(MEMBERSHIP_URL)).andRespond(withServerError());
+
+            // When & Then
+            assertThat(membershipService.isMember("ch-1", "u-1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("미인증 세션(userId 없음)은 조회 없이 거부한다")
+        void anonymous_is_rejected() {
+            assertThat(membershipService.isMember("ch-1", null)).isFalse();
+        }
+    }
+}
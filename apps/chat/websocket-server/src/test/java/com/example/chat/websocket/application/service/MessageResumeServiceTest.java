@@ -0,0 +1,162 @@
+package com.example.chat.websocket.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.socket.TextMessage;
+
+import com.example.chat.websocket.application.service.MessageResumeService.ResumePoint;
+import com.example.chat.websocket.config.OutboundProperties;
+import com.example.chat.websocket.domain.session.ChatSession;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageResumeService — 재접속 누락 메시지 재전송")
+class MessageResumeServiceTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ListOperations<String, String> listOperations;
+    @Mock private SessionOutboundDispatcher outboundDispatcher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatSession chatSession = ChatSession.builder().sessionId("s1").build();
+    private MessageResumeService resumeService;
+
+    @BeforeEach
+    void setUp() {
+        OutboundProperties properties = new OutboundProperties();
+        properties.setCapacity(8);
+        resumeService = new MessageResumeService(redisTemplate, objectMapper, outboundDispatcher, properties);
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: 링(최신이 앞) 설정
+    // -----------------------------------------------------------------------
+    private void givenRing(String channelId, long... seqs) throws Exception {
+        List<String> raw = new ArrayList<>();
+        for (long seq : seqs) {
+            raw.add(objectMapper.writeValueAsString(Map.of(
+                    "id", "m-" + seq, "channelId", channelId, "seq", seq, "senderId", "u-1",
+                    "messageType", "TEXT", "content", "hi", "status", "SENT", "unreadCount", 1,
+                    "sentAt", "2026-03-12T10:00:00Z", "createdAt", "2026-03-12T10:00:00Z")));
+        }
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("chat:channel:" + channelId + ":recent", 0, -1)).thenReturn(raw);
+    }
+
+    private List<JsonNode> sentFrames() throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(outboundDispatcher, atLeastOnce()).enqueue(eq(chatSession), captor.capture(), eq(false));
+        List<JsonNode> frames = new ArrayList<>();
+        for (TextMessage message : captor.getAllValues()) {
+            frames.add(objectMapper.readTree(message.getPayload()));
+        }
+        return frames;
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("링이 구간을 덮는 경우")
+    class Covered {
+
+        @Test
+        @DisplayName("lastSeq 이후 메시지를 seq 오름차순 MESSAGE 프레임으로 보내고 RESUMED 로 끝낸다")
+        void resends_missed_messages_in_seq_order() throws Exception {
+            // Given
+            givenRing("ch-1", 5, 4, 3, 2);
+
+            // When
+            int resumed = resumeService.resume(chatSession, List.of(new ResumePoint("ch-1", 2)));
+
+            // Then
+            List<JsonNode> frames = sentFrames();
+            assertThat(resumed).isEqualTo(1);
+            assertThat(frames).extracting(f -> f.path("eventType").asText())
+                    .containsExactly("MESSAGE", "MESSAGE", "MESSAGE", "RESUMED");
+            assertThat(frames.subList(0, 3)).extracting(f -> f.path("seq").asLong()).containsExactly(3L, 4L, 5L);
+            assertThat(frames.get(0).path("messageId").asText()).isEqualTo("m-3");
+            assertThat(frames.get(3).path("lastSeq").asLong()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("이미 최신이면 MESSAGE 없이 RESUMED 만 보낸다")
+        void sends_only_resumed_when_up_to_date() throws Exception {
+            givenRing("ch-1", 5, 4);
+
+            resumeService.resume(chatSession, List.of(new ResumePoint("ch-1", 5)));
+
+            assertThat(sentFrames()).extracting(f -> f.path("eventType").asText()).containsExactly("RESUMED");
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("링이 구간을 덮지 못하는 경우")
+    class Gap {
+
+        @Test
+        @DisplayName("링의 가장 오래된 seq 가 lastSeq+1 보다 크면 RESUME_GAP")
+        void sends_gap_when_ring_starts_later() throws Exception {
+            givenRing("ch-1", 9, 8);
+
+            int resumed = resumeService.resume(chatSession, List.of(new ResumePoint("ch-1", 2)));
+
+            assertThat(resumed).isZero();
+            List<JsonNode> frames = sentFrames();
+            assertThat(frames).extracting(f -> f.path("eventType").asText()).containsExactly("RESUME_GAP");
+            assertThat(frames.get(0).path("lastSeq").asLong()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("링 중간에 빈 번호가 있으면 RESUME_GAP")
+        void sends_gap_when_ring_has_hole() throws Exception {
+            givenRing("ch-1", 5, 3, 2);
+
+            resumeService.resume(chatSession, List.of(new ResumePoint("ch-1", 2)));
+
+            assertThat(sentFrames()).extracting(f -> f.path("eventType").asText()).containsExactly("RESUME_GAP");
+        }
+
+        @Test
+        @DisplayName("프레임 예산(송신 큐 용량의 절반)을 넘으면 RESUME_GAP")
+        void sends_gap_when_budget_exceeded() throws Exception {
+            givenRing("ch-1", 6, 5, 4, 3, 2, 1);
+
+            resumeService.resume(chatSession, List.of(new ResumePoint("ch-1", 0)));
+
+            assertThat(sentFrames()).extracting(f -> f.path("eventType").asText()).containsExactly("RESUME_GAP");
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 예외 전파 없이 RESUME_GAP")
+        void sends_gap_on_redis_failure() throws Exception {
+            when(redisTemplate.opsForList()).thenThrow(new RuntimeException("Redis down"));
+
+            resumeService.resume(chatSession, List.of(new ResumePoint("ch-1", 2)));
+
+            assertThat(sentFrames()).extracting(f -> f.path("eventType").asText()).containsExactly("RESUME_GAP");
+            verify(listOperations, never()).range(anyString(), anyLong(), anyLong());
+        }
+    }
+}
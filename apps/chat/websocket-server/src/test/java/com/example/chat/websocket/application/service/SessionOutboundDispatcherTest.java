@@ -0,0 +1,209 @@
+package com.example.chat.websocket.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.chat.websocket.config.OutboundProperties;
+import com.example.chat.websocket.config.OutboundProperties.OverflowPolicy;
+import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
+import com.example.chat.websocket.domain.session.ChatSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionOutboundDispatcher — 세션별 송신 큐")
+class SessionOutboundDispatcherTest {
+
+    @Mock private ChatRoomSessionManager sessionManager;
+    @Mock private WebSocketSession ws;
+
+    // writer 실행을 지연시켜 느린 클라이언트를 재현
+    private final Queue<Runnable> pendingWriters = new ArrayDeque<>();
+    private final OutboundProperties properties = new OutboundProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SessionOutboundDispatcher dispatcher;
+    private ChatSession chatSession;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCapacity(2);
+        dispatcher = new SessionOutboundDispatcher(sessionManager, properties, meterRegistry, pendingWriters::add);
+        chatSession = ChatSession.builder()
+                .sessionId("s-1")
+                .webSocketSession(ws)
+                .build();
+        when(ws.isOpen()).thenReturn(true);
+    }
+
+    private void runWriters() {
+        Runnable writer;
+        while ((writer = pendingWriters.poll()) != null) {
+            writer.run();
+        }
+    }
+
+    private double counter(String name, String reason) {
+        return reason == null
+                ? meterRegistry.counter(name).count()
+                : meterRegistry.counter(name, "reason", reason).count();
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("정상 케이스")
+    class HappyPath {
+
+        @Test
+        @DisplayName("적재된 프레임은 writer가 순서대로 전송한다")
+        void writer_sends_in_order() throws Exception {
+            // Given
+            TextMessage first = new TextMessage("1");
+            TextMessage second = new TextMessage("2");
+
+            // When
+            dispatcher.enqueue(chatSession, first, false);
+            dispatcher.enqueue(chatSession, second, false);
+            runWriters();
+
+            // Then
+            InOrder inOrder = inOrder(ws);
+            inOrder.verify(ws).sendMessage(first);
+            inOrder.verify(ws).sendMessage(second);
+            assertThat(chatSession.getOutboundQueue().isEmpty()).isTrue();
+            assertThat(meterRegistry.get("websocket.outbound.queue.depth").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("enqueue는 전송 완료를 기다리지 않고 반환한다")
+        void enqueue_does_not_send_inline() throws Exception {
+            // When
+            boolean queued = dispatcher.enqueue(chatSession, new TextMessage("1"), false);
+
+            // Then
+            assertThat(queued).isTrue();
+            verify(ws, never()).sendMessage(any());
+            assertThat(meterRegistry.get("websocket.outbound.queue.depth").gauge().value()).isEqualTo(1.0);
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("오버플로 정책")
+    class Overflow {
+
+        @Test
+        @DisplayName("큐가 가득 차면 새 타이핑 이벤트는 폐기된다")
+        void typing_dropped_when_full() {
+            // Given
+            dispatcher.enqueue(chatSession, new TextMessage("1"), false);
+            dispatcher.enqueue(chatSession, new TextMessage("2"), false);
+
+            // When
+            boolean queued = dispatcher.enqueue(chatSession, new TextMessage("typing"), true);
+
+            // Then
+            assertThat(queued).isFalse();
+            assertThat(counter("websocket.outbound.dropped", "typing")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("대기 중인 타이핑 이벤트를 먼저 버려 일반 메시지 공간을 확보한다")
+        void pending_typing_evicted_for_message() throws Exception {
+            // Given
+            dispatcher.enqueue(chatSession, new TextMessage("typing"), true);
+            dispatcher.enqueue(chatSession, new TextMessage("1"), false);
+
+            // When
+            boolean queued = dispatcher.enqueue(chatSession, new TextMessage("2"), false);
+
+            // Then
+            assertThat(queued).isTrue();
+            assertThat(chatSession.getOutboundQueue().size()).isEqualTo(2);
+            assertThat(counter("websocket.outbound.dropped", "typing")).isEqualTo(1.0);
+            verify(ws, never()).close(any());
+        }
+
+        @Test
+        @DisplayName("타이핑 이벤트를 버려도 공간이 없으면 느린 세션을 종료한다")
+        void slow_consumer_disconnected() throws Exception {
+            // Given
+            dispatcher.enqueue(chatSession, new TextMessage("1"), false);
+            dispatcher.enqueue(chatSession, new TextMessage("2"), false);
+
+            // When
+            boolean queued = dispatcher.enqueue(chatSession, new TextMessage("3"), false);
+            runWriters();
+
+            // Then
+            assertThat(queued).isFalse();
+            verify(ws).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertThat(chatSession.getOutboundQueue().isEmpty()).isTrue();
+            assertThat(counter("websocket.outbound.disconnected", null)).isEqualTo(1.0);
+            assertThat(counter("websocket.outbound.dropped", "overflow")).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("DISCONNECT 정책은 타이핑 이벤트를 버리지 않고 즉시 종료한다")
+        void disconnect_policy_closes_immediately() throws Exception {
+            // Given
+            properties.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+            dispatcher.enqueue(chatSession, new TextMessage("typing"), true);
+            dispatcher.enqueue(chatSession, new TextMessage("1"), false);
+
+            // When
+            dispatcher.enqueue(chatSession, new TextMessage("2"), false);
+            runWriters();
+
+            // Then
+            verify(ws, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertThat(counter("websocket.outbound.dropped", "typing")).isZero();
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("실패 케이스")
+    class Failure {
+
+        @Test
+        @DisplayName("전송 실패 시 세션을 제거하고 남은 프레임을 비운다")
+        void send_failure_removes_session() throws Exception {
+            // Given
+            TextMessage first = new TextMessage("1");
+            doThrow(new IOException("broken")).when(ws).sendMessage(first);
+            dispatcher.enqueue(chatSession, first, false);
+            dispatcher.enqueue(chatSession, new TextMessage("2"), false);
+
+            // When
+            runWriters();
+
+            // Then
+            verify(sessionManager).removeSession("s-1");
+            verify(ws, times(1)).sendMessage(any());
+            assertThat(chatSession.getOutboundQueue().isEmpty()).isTrue();
+        }
+    }
+}
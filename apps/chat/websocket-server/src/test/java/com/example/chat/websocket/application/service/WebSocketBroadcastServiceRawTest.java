@@ -0,0 +1,102 @@
+package com.example.chat.websocket.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.chat.websocket.config.OutboundProperties;
+import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
+import com.example.chat.websocket.domain.session.ChatSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketBroadcastService — broadcastRawToRoom()")
+class WebSocketBroadcastServiceRawTest {
+
+    @Mock private ChatRoomSessionManager sessionManager;
+    @Mock private ObjectMapper objectMapper;
+    @Mock private WebSocketSession ws1;
+    @Mock private WebSocketSession ws2;
+
+    private WebSocketBroadcastService broadcastService;
+
+    @BeforeEach
+    void setUp() {
+        SessionOutboundDispatcher dispatcher = new SessionOutboundDispatcher(
+                sessionManager, new OutboundProperties(), new SimpleMeterRegistry(), Runnable::run);
+        broadcastService = new WebSocketBroadcastService(sessionManager, objectMapper, dispatcher);
+    }
+
+    private ChatSession activeSession(String sessionId, WebSocketSession ws) {
+        return ChatSession.builder()
+                .sessionId(sessionId)
+                .webSocketSession(ws)
+                .build();
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("정상 케이스")
+    class HappyPath {
+
+        @Test
+        @DisplayName("원본 바이트를 재직렬화 없이 하나의 공유 프레임으로 모든 세션에 전송한다")
+        void forwards_single_shared_frame() throws Exception {
+            // Given
+            String json = "{\"eventType\":\"MESSAGE\",\"messageId\":\"m-1\",\"content\":\"안녕\"}";
+            when(sessionManager.getActiveSessionsByRoom("ch-1"))
+                    .thenReturn(List.of(activeSession("s1", ws1), activeSession("s2", ws2)));
+            when(ws1.isOpen()).thenReturn(true);
+            when(ws2.isOpen()).thenReturn(true);
+
+            // When
+            broadcastService.broadcastRawToRoom("ch-1", json.getBytes(StandardCharsets.UTF_8));
+
+            // Then
+            ArgumentCaptor<TextMessage> first = ArgumentCaptor.forClass(TextMessage.class);
+            ArgumentCaptor<TextMessage> second = ArgumentCaptor.forClass(TextMessage.class);
+            verify(ws1).sendMessage(first.capture());
+            verify(ws2).sendMessage(second.capture());
+
+            assertThat(first.getValue()).isSameAs(second.getValue());
+            assertThat(first.getValue().getPayload()).isEqualTo(json);
+            verifyNoInteractions(objectMapper);
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("경계 케이스")
+    class Boundary {
+
+        @Test
+        @DisplayName("빈 payload는 세션 조회 없이 무시한다")
+        void empty_payload_skips() throws Exception {
+            // When
+            broadcastService.broadcastRawToRoom("ch-1", new byte[0]);
+
+            // Then
+            verify(sessionManager, never()).getActiveSessionsByRoom(any());
+            verify(ws1, never()).sendMessage(any());
+        }
+    }
+}
@@ -18,11 +18,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.socket.WebSocketSession;
 
+import com.example.chat.websocket.config.OutboundProperties;
 import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
 import com.example.chat.websocket.domain.session.ChatSession;
 import com.example.chat.websocket.infrastructure.redis.TypingEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WebSocketBroadcastService — broadcastTypingEvent()")
 class WebSocketBroadcastServiceTypingTest {
@@ -36,7 +39,10 @@ class WebSocketBroadcastServiceTypingTest {
 
     @BeforeEach
     void setUp() {
-        broadcastService = new WebSocketBroadcastService(sessionManager, objectMapper);
+        // 동기 executor로 송신 큐를 즉시 비워 sendMessage 호출을 검증
+        SessionOutboundDispatcher dispatcher = new SessionOutboundDispatcher(
+                sessionManager, new OutboundProperties(), new SimpleMeterRegistry(), Runnable::run);
+        broadcastService = new WebSocketBroadcastService(sessionManager, objectMapper, dispatcher);
     }
 
     // -----------------------------------------------------------------------
@@ -0,0 +1,212 @@
+package com.example.chat.websocket.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomSessionManager — 채팅방 관심(구독) 참조 카운트")
+class ChatRoomSessionManagerInterestTest {
+
+    @Mock private RedisSessionMetadataManager redisSessionMetadataManager;
+    @Mock private RedisPresenceManager redisPresenceManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private WebSocketSession ws;
+
+    private ChatRoomSessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new ChatRoomSessionManager(
+                new LocalSessionManager(), redisSessionMetadataManager, redisPresenceManager, eventPublisher);
+    }
+
+    private ChatSession session(String sessionId, String roomId) {
+        return ChatSession.builder()
+                .sessionId(sessionId)
+                .roomId(roomId)
+                .webSocketSession(ws)
+                .build();
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("관심 등록")
+    class Acquire {
+
+        @Test
+        @DisplayName("채팅방의 첫 세션 등록 시에만 active 이벤트를 발행한다")
+        void first_session_publishes_active_once() {
+            // When
+            sessionManager.registerSession(session("s-1", "ch-1"));
+            sessionManager.registerSession(session("s-2", "ch-1"));
+
+            // Then
+            verify(eventPublisher, times(1)).publishEvent(new RoomInterestChangedEvent("ch-1", true));
+        }
+
+        @Test
+        @DisplayName("SUBSCRIBE로 추가한 채팅방도 관심 등록된다")
+        void subscribe_acquires_room() {
+            // Given
+            sessionManager.registerSession(session("s-1", null));
+
+            // When
+            sessionManager.subscribeRoom("s-1", "ch-2");
+
+            // Then
+            verify(eventPublisher).publishEvent(new RoomInterestChangedEvent("ch-2", true));
+        }
+
+        @Test
+        @DisplayName("중복 등록된 세션은 참조 카운트를 늘리지 않는다")
+        void duplicate_register_does_not_acquire() {
+            // Given
+            sessionManager.registerSession(session("s-1", "ch-1"));
+            sessionManager.registerSession(session("s-1", "ch-1"));
+
+            // When
+            sessionManager.removeSession("s-1");
+
+            // Then
+            verify(eventPublisher).publishEvent(new RoomInterestChangedEvent("ch-1", false));
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("관심 해제")
+    class Release {
+
+        @Test
+        @DisplayName("마지막 세션이 제거될 때만 inactive 이벤트를 발행한다")
+        void last_session_publishes_inactive() {
+            // Given
+            sessionManager.registerSession(session("s-1", "ch-1"));
+            sessionManager.registerSession(session("s-2", "ch-1"));
+
+            // When
+            sessionManager.removeSession("s-1");
+
+            // Then
+            verify(eventPublisher, never()).publishEvent(new RoomInterestChangedEvent("ch-1", false));
+
+            // When
+            sessionManager.removeSession("s-2");
+
+            // Then
+            verify(eventPublisher).publishEvent(new RoomInterestChangedEvent("ch-1", false));
+        }
+
+        @Test
+        @DisplayName("UNSUBSCRIBE 후 세션 제거 시 해제 이벤트는 한 번만 발행된다")
+        void unsubscribe_then_remove_releases_once() {
+            // Given
+            sessionManager.registerSession(session("s-1", "ch-1"));
+
+            // When
+            sessionManager.unsubscribeRoom("s-1", "ch-1");
+            sessionManager.removeSession("s-1");
+            sessionManager.removeSession("s-1");
+
+            // Then
+            verify(eventPublisher, times(1)).publishEvent(new RoomInterestChangedEvent("ch-1", false));
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("이벤트 발행 시점")
+    class PublishOutsideCompute {
+
+        @Test
+        @DisplayName("리스너가 같은 채팅방을 다시 구독해도 참조 카운트 갱신과 충돌하지 않는다")
+        void listener_can_reenter_same_room() {
+            // Given
+            List<RoomInterestChangedEvent> events = new ArrayList<>();
+            ChatRoomSessionManager[] holder = new ChatRoomSessionManager[1];
+            holder[0] = new ChatRoomSessionManager(
+                    new LocalSessionManager(), redisSessionMetadataManager, redisPresenceManager,
+                    event -> {
+                        events.add((RoomInterestChangedEvent) event);
+                        // compute 안에서 발행했다면 같은 키 재진입으로 IllegalStateException
+                        holder[0].subscribeRoom("s-2", "ch-1");
+                    });
+            holder[0].registerSession(session("s-2", null));
+
+            // When
+            holder[0].registerSession(session("s-1", "ch-1"));
+
+            // Then
+            assertThat(events).containsExactly(new RoomInterestChangedEvent("ch-1", true));
+            assertThat(holder[0].getSession("s-2").orElseThrow().getSubscribedRooms()).containsExactly("ch-1");
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("구독 / 제거 경합")
+    class SubscribeRemoveRace {
+
+        @Test
+        @DisplayName("SUBSCRIBE와 세션 제거가 겹쳐도 채팅방 인덱스와 관심 등록이 남지 않는다")
+        void concurrent_subscribe_and_remove_leave_nothing_behind() throws Exception {
+            // Given
+            lenient().when(ws.isOpen()).thenReturn(true);
+            List<RoomInterestChangedEvent> events = Collections.synchronizedList(new ArrayList<>());
+            LocalSessionManager localSessionManager = new LocalSessionManager();
+            ChatRoomSessionManager manager = new ChatRoomSessionManager(
+                    localSessionManager, redisSessionMetadataManager, redisPresenceManager,
+                    event -> events.add((RoomInterestChangedEvent) event));
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // When
+            try {
+                for (int i = 0; i < 500; i++) {
+                    String sessionId = "s-" + i;
+                    manager.registerSession(session(sessionId, null));
+                    CountDownLatch start = new CountDownLatch(1);
+                    executor.submit(() -> {
+                        start.await();
+                        return manager.subscribeRoom(sessionId, "ch-1");
+                    });
+                    executor.submit(() -> {
+                        start.await();
+                        manager.removeSession(sessionId);
+                        return null;
+                    });
+                    start.countDown();
+                }
+            } finally {
+                executor.shutdown();
+                assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            }
+
+            // Then
+            assertThat(localSessionManager.findActiveByRoom("ch-1")).isEmpty();
+            long acquired = events.stream().filter(RoomInterestChangedEvent::active).count();
+            long released = events.stream().filter(event -> !event.active()).count();
+            assertThat(acquired).isEqualTo(released);
+        }
+    }
+}
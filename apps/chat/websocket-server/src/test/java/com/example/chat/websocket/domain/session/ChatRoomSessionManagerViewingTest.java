@@ -0,0 +1,231 @@
+package com.example.chat.websocket.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomSessionManager — 열람 채팅방 presence")
+class ChatRoomSessionManagerViewingTest {
+
+    @Mock private RedisSessionMetadataManager redisSessionMetadataManager;
+    @Mock private RedisPresenceManager redisPresenceManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private WebSocketSession ws;
+
+    private ChatRoomSessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(ws.isOpen()).thenReturn(true);
+        sessionManager = new ChatRoomSessionManager(
+                new LocalSessionManager(), redisSessionMetadataManager, redisPresenceManager, eventPublisher);
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: ch-1 로 핸드셰이크한 u-1 세션 (ch-1 열람 중)
+    // -----------------------------------------------------------------------
+    private ChatSession registerViewing(String sessionId, String roomId) {
+        ChatSession session = ChatSession.builder()
+                .sessionId(sessionId)
+                .principalId("u-1")
+                .roomId(roomId)
+                .webSocketSession(ws)
+                .build();
+        session.view(roomId);
+        sessionManager.registerSession(session);
+        return session;
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("같은 사용자의 다른 세션")
+    class OtherSessionOfSamePrincipal {
+
+        @Test
+        @DisplayName("다른 세션이 같은 채팅방을 보고 있으면 한 세션이 벗어나도 presence 를 유지한다")
+        void keeps_presence_while_other_session_views() {
+            // Given
+            registerViewing("s-1", "ch-1");
+            registerViewing("s-2", "ch-1");
+
+            // When
+            sessionManager.changeViewingRoom("s-1", "ch-2");
+            sessionManager.unsubscribeRoom("s-1", "ch-1");
+
+            // Then
+            verify(redisPresenceManager, never()).clearViewing("u-1", "ch-1");
+        }
+
+        @Test
+        @DisplayName("다른 세션이 보고 있으면 세션이 닫혀도 presence 를 유지한다")
+        void remove_keeps_presence_while_other_session_views() {
+            // Given
+            registerViewing("s-1", "ch-1");
+            registerViewing("s-2", "ch-1");
+
+            // When
+            sessionManager.removeSession("s-1");
+
+            // Then
+            verify(redisPresenceManager, never()).clearViewing("u-1", "ch-1");
+        }
+
+        @Test
+        @DisplayName("마지막으로 보던 세션이 벗어나면 presence 를 지운다")
+        void last_viewer_clears_presence() {
+            // Given
+            registerViewing("s-1", "ch-1");
+            registerViewing("s-2", "ch-1");
+            sessionManager.removeSession("s-1");
+
+            // When
+            sessionManager.changeViewingRoom("s-2", null);
+
+            // Then
+            verify(redisPresenceManager).clearViewing("u-1", "ch-1");
+        }
+
+        @Test
+        @DisplayName("다른 사용자가 같은 채팅방을 보고 있어도 자신의 presence 는 지운다")
+        void other_principal_does_not_keep_presence() {
+            // Given
+            registerViewing("s-1", "ch-1");
+            ChatSession other = ChatSession.builder()
+                    .sessionId("s-2")
+                    .principalId("u-2")
+                    .roomId("ch-1")
+                    .webSocketSession(ws)
+                    .build();
+            other.view("ch-1");
+            sessionManager.registerSession(other);
+
+            // When
+            sessionManager.changeViewingRoom("s-1", null);
+
+            // Then
+            verify(redisPresenceManager).clearViewing("u-1", "ch-1");
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("changeViewingRoom()")
+    class ChangeViewingRoom {
+
+        @Test
+        @DisplayName("다른 채팅방으로 이동하면 이전 채팅방 presence 를 지우고 새 채팅방을 등록한다")
+        void moves_presence_to_new_room() {
+            // Given
+            ChatSession session = registerViewing("s-1", "ch-1");
+
+            // When
+            sessionManager.changeViewingRoom("s-1", "ch-2");
+
+            // Then
+            verify(redisPresenceManager).clearViewing("u-1", "ch-1");
+            verify(redisPresenceManager).markViewing("u-1", "ch-2");
+            assertThat(session.getViewingRoomId()).isEqualTo("ch-2");
+        }
+
+        @Test
+        @DisplayName("같은 채팅방을 다시 보면 지우지 않고 만료 시각만 갱신한다")
+        void same_room_only_refreshes() {
+            // Given
+            registerViewing("s-1", "ch-1");
+
+            // When
+            sessionManager.changeViewingRoom("s-1", "ch-1");
+
+            // Then
+            verify(redisPresenceManager, never()).clearViewing(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("채팅방 화면을 벗어나면(null) 이전 채팅방 presence 를 지운다")
+        void leaving_room_clears_presence() {
+            // Given
+            ChatSession session = registerViewing("s-1", "ch-1");
+
+            // When
+            sessionManager.changeViewingRoom("s-1", null);
+
+            // Then
+            verify(redisPresenceManager).clearViewing("u-1", "ch-1");
+            assertThat(session.getViewingRoomId()).isNull();
+        }
+
+        @Test
+        @DisplayName("미등록 세션은 무시한다")
+        void unknown_session_is_ignored() {
+            // When
+            sessionManager.changeViewingRoom("s-x", "ch-1");
+
+            // Then
+            verify(redisPresenceManager, never()).markViewing(any(), any());
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("unsubscribeRoom()")
+    class UnsubscribeRoom {
+
+        @Test
+        @DisplayName("보고 있던 채팅방을 구독 해제하면 열람 상태와 presence 를 함께 해제한다")
+        void unsubscribing_viewed_room_clears_viewing() {
+            // Given
+            ChatSession session = registerViewing("s-1", "ch-1");
+
+            // When
+            sessionManager.unsubscribeRoom("s-1", "ch-1");
+
+            // Then
+            assertThat(session.getViewingRoomId()).isNull();
+            verify(redisPresenceManager).clearViewing("u-1", "ch-1");
+        }
+
+        @Test
+        @DisplayName("보고 있지 않은 채팅방을 구독 해제하면 열람 상태는 유지된다")
+        void unsubscribing_other_room_keeps_viewing() {
+            // Given
+            ChatSession session = registerViewing("s-1", "ch-1");
+            sessionManager.subscribeRoom("s-1", "ch-2");
+
+            // When
+            sessionManager.unsubscribeRoom("s-1", "ch-2");
+
+            // Then
+            assertThat(session.getViewingRoomId()).isEqualTo("ch-1");
+            verify(redisPresenceManager, never()).clearViewing(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("구독 해제 후 세션이 닫혀도 이미 지운 채팅방 presence 를 다시 지우지 않는다")
+        void remove_after_unsubscribe_does_not_clear_again() {
+            // Given
+            registerViewing("s-1", "ch-1");
+            sessionManager.unsubscribeRoom("s-1", "ch-1");
+
+            // When
+            sessionManager.removeSession("s-1");
+
+            // Then — ch-1 은 구독 해제 시 한 번만 지우고, 제거 시에는 열람 채팅방 없음(null)으로 호출
+            verify(redisPresenceManager).clearViewing("u-1", "ch-1");
+            verify(redisPresenceManager).clearViewing("u-1", null);
+        }
+    }
+}
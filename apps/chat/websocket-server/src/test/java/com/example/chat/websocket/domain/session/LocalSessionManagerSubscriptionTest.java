@@ -0,0 +1,139 @@
+package com.example.chat.websocket.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalSessionManager — 멀티플렉싱 구독")
+class LocalSessionManagerSubscriptionTest {
+
+    @Mock private WebSocketSession ws1;
+    @Mock private WebSocketSession ws2;
+
+    private LocalSessionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new LocalSessionManager();
+        lenient().when(ws1.isOpen()).thenReturn(true);
+        lenient().when(ws2.isOpen()).thenReturn(true);
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: 세션 생성
+    // -----------------------------------------------------------------------
+    private ChatSession session(String sessionId, String roomId, WebSocketSession ws) {
+        return ChatSession.builder()
+                .sessionId(sessionId)
+                .roomId(roomId)
+                .webSocketSession(ws)
+                .build();
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("subscribe()")
+    class Subscribe {
+
+        @Nested
+        @DisplayName("정상 케이스")
+        class HappyPath {
+
+            @Test
+            @DisplayName("하나의 세션이 여러 채팅방을 구독하면 각 채팅방 조회에 모두 포함된다")
+            void one_session_many_rooms() {
+                // Given
+                manager.register(session("s-1", null, ws1));
+
+                // When
+                manager.subscribe("s-1", "ch-1");
+                manager.subscribe("s-1", "ch-2");
+
+                // Then
+                assertThat(manager.findActiveByRoom("ch-1")).extracting(ChatSession::getSessionId).containsExactly("s-1");
+                assertThat(manager.findActiveByRoom("ch-2")).extracting(ChatSession::getSessionId).containsExactly("s-1");
+            }
+
+            @Test
+            @DisplayName("핸드셰이크 roomId는 등록 시 자동 구독된다")
+            void initial_room_is_subscribed() {
+                // Given & When
+                manager.register(session("s-1", "ch-1", ws1));
+
+                // Then
+                assertThat(manager.findById("s-1").orElseThrow().getSubscribedRooms()).containsExactly("ch-1");
+                assertThat(manager.findActiveByRoom("ch-1")).hasSize(1);
+            }
+        }
+
+        @Nested
+        @DisplayName("경계 케이스")
+        class Boundary {
+
+            @Test
+            @DisplayName("이미 구독 중인 채팅방을 다시 구독하면 false를 반환한다")
+            void duplicate_subscribe_returns_false() {
+                // Given
+                manager.register(session("s-1", "ch-1", ws1));
+
+                // When & Then
+                assertThat(manager.subscribe("s-1", "ch-1")).isFalse();
+                assertThat(manager.findActiveByRoom("ch-1")).hasSize(1);
+            }
+
+            @Test
+            @DisplayName("등록되지 않은 세션은 구독할 수 없다")
+            void unknown_session_cannot_subscribe() {
+                assertThat(manager.subscribe("unknown", "ch-1")).isFalse();
+                assertThat(manager.findActiveByRoom("ch-1")).isEmpty();
+            }
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("unsubscribe() / remove()")
+    class Unsubscribe {
+
+        @Test
+        @DisplayName("구독 해제한 채팅방에서만 제외되고 다른 채팅방 구독은 유지된다")
+        void unsubscribe_only_target_room() {
+            // Given
+            manager.register(session("s-1", "ch-1", ws1));
+            manager.subscribe("s-1", "ch-2");
+
+            // When
+            boolean result = manager.unsubscribe("s-1", "ch-1");
+
+            // Then
+            assertThat(result).isTrue();
+            assertThat(manager.findActiveByRoom("ch-1")).isEmpty();
+            assertThat(manager.findActiveByRoom("ch-2")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("세션 제거 시 구독 중인 모든 채팅방 인덱스에서 제거된다")
+        void remove_clears_all_rooms() {
+            // Given
+            manager.register(session("s-1", "ch-1", ws1));
+            manager.subscribe("s-1", "ch-2");
+            manager.register(session("s-2", "ch-2", ws2));
+
+            // When
+            manager.remove("s-1");
+
+            // Then
+            assertThat(manager.findActiveByRoom("ch-1")).isEmpty();
+            assertThat(manager.findActiveByRoom("ch-2")).extracting(ChatSession::getSessionId).containsExactly("s-2");
+        }
+    }
+}
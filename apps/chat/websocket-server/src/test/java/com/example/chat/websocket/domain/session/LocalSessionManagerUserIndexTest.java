@@ -0,0 +1,106 @@
+package com.example.chat.websocket.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalSessionManager — 사용자 인덱스 / 세션 카운터")
+class LocalSessionManagerUserIndexTest {
+
+    @Mock private WebSocketSession ws;
+
+    private LocalSessionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new LocalSessionManager();
+        lenient().when(ws.isOpen()).thenReturn(true);
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: 세션 생성
+    // -----------------------------------------------------------------------
+    private ChatSession session(String sessionId, Long userId) {
+        return ChatSession.builder()
+                .sessionId(sessionId)
+                .userId(userId)
+                .roomId("ch-1")
+                .webSocketSession(ws)
+                .build();
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("findActiveByUser()")
+    class FindActiveByUser {
+
+        @Test
+        @DisplayName("해당 사용자의 세션만 반환한다")
+        void returns_only_user_sessions() {
+            // Given
+            manager.register(session("s-1", 1L));
+            manager.register(session("s-2", 1L));
+            manager.register(session("s-3", 2L));
+
+            // When & Then
+            assertThat(manager.findActiveByUser(1L))
+                    .extracting(ChatSession::getSessionId)
+                    .containsExactlyInAnyOrder("s-1", "s-2");
+        }
+
+        @Test
+        @DisplayName("세션 제거 후에는 사용자 인덱스에서도 제외된다")
+        void removed_session_is_not_returned() {
+            // Given
+            manager.register(session("s-1", 1L));
+
+            // When
+            manager.remove("s-1");
+
+            // Then
+            assertThat(manager.findActiveByUser(1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("userId가 없는 세션은 사용자 인덱스에 포함되지 않는다")
+        void anonymous_session_is_not_indexed() {
+            // Given
+            manager.register(session("s-1", null));
+
+            // When & Then
+            assertThat(manager.findActiveByUser(1L)).isEmpty();
+            assertThat(manager.countActive()).isEqualTo(1);
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("countActive()")
+    class CountActive {
+
+        @Test
+        @DisplayName("중복 등록은 카운트되지 않고 제거 시 감소한다")
+        void counter_tracks_register_and_remove() {
+            // Given
+            manager.register(session("s-1", 1L));
+            manager.register(session("s-1", 1L));
+            manager.register(session("s-2", 2L));
+
+            // When
+            manager.remove("s-2");
+            manager.remove("s-2");
+
+            // Then
+            assertThat(manager.countActive()).isEqualTo(1);
+        }
+    }
+}
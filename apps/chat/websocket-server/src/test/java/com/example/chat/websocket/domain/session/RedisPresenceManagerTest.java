@@ -0,0 +1,181 @@
+package com.example.chat.websocket.domain.session;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.AdditionalMatchers.gt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.chat.websocket.config.NodeLeaseProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisPresenceManager — 채팅방 열람 presence")
+class RedisPresenceManagerTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ZSetOperations<String, String> zSetOperations;
+    @Mock private RedisConnection connection;
+    @Mock private RedisZSetCommands zSetCommands;
+    @Mock private RedisKeyCommands keyCommands;
+    @Mock private WebSocketSession openWs;
+    @Mock private WebSocketSession closedWs;
+
+    private final NodeLeaseProperties nodeLeaseProperties = new NodeLeaseProperties();
+    private RedisPresenceManager presenceManager;
+
+    @BeforeEach
+    void setUp() {
+        nodeLeaseProperties.setLeaseTtlSeconds(30);
+        presenceManager = new RedisPresenceManager(redisTemplate, nodeLeaseProperties);
+        lenient().when(connection.zSetCommands()).thenReturn(zSetCommands);
+        lenient().when(connection.keyCommands()).thenReturn(keyCommands);
+        lenient().when(openWs.isOpen()).thenReturn(true);
+        lenient().when(closedWs.isOpen()).thenReturn(false);
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: 파이프라인 콜백을 mock 커넥션으로 실행
+    // -----------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    private void givenPipelineRunsOnConnection() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ChatSession viewing(String principalId, String roomId, WebSocketSession ws) {
+        ChatSession session = ChatSession.builder().sessionId("s-" + principalId).principalId(principalId)
+                .webSocketSession(ws).build();
+        session.view(roomId);
+        return session;
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("markViewing()")
+    class MarkViewing {
+
+        @Test
+        @DisplayName("chat:presence:{roomId} 에 만료 시각(현재 + 리스 TTL)을 score 로 등록하고 키 TTL 을 연장한다")
+        void adds_member_with_lease_expiry() {
+            // Given
+            givenPipelineRunsOnConnection();
+            long now = System.currentTimeMillis();
+
+            // When
+            presenceManager.markViewing("u-1", "ch-1");
+
+            // Then
+            verify(zSetCommands).zAdd(aryEq(bytes("chat:presence:ch-1")), gt(now + 29_000d), aryEq(bytes("u-1")));
+            verify(keyCommands).expire(aryEq(bytes("chat:presence:ch-1")), eq(60L));
+        }
+
+        @Test
+        @DisplayName("roomId 가 없으면(채팅방 화면 밖) Redis 를 호출하지 않는다")
+        void null_room_skips() {
+            // When
+            presenceManager.markViewing("u-1", null);
+
+            // Then
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("Redis 장애는 예외를 전파하지 않는다")
+        void redis_failure_is_swallowed() {
+            // Given
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+
+            // When & Then (예외 없음)
+            presenceManager.markViewing("u-1", "ch-1");
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("clearViewing()")
+    class ClearViewing {
+
+        @Test
+        @DisplayName("chat:presence:{roomId} 에서 사용자를 제거한다")
+        void removes_member() {
+            // Given
+            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+            // When
+            presenceManager.clearViewing("u-1", "ch-1");
+
+            // Then
+            verify(zSetOperations).remove("chat:presence:ch-1", "u-1");
+        }
+
+        @Test
+        @DisplayName("principalId 가 없으면 Redis 를 호출하지 않는다")
+        void null_principal_skips() {
+            // When
+            presenceManager.clearViewing(null, "ch-1");
+
+            // Then
+            verify(redisTemplate, never()).opsForZSet();
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("refreshViewing()")
+    class RefreshViewing {
+
+        @Test
+        @DisplayName("열람 중인 활성 세션만 연장하고, 채팅방마다 만료 항목 정리 + TTL 연장을 한 번씩 한다")
+        void refreshes_only_active_viewers() {
+            // Given
+            givenPipelineRunsOnConnection();
+            List<ChatSession> sessions = List.of(
+                    viewing("u-1", "ch-1", openWs),
+                    viewing("u-2", "ch-1", openWs),
+                    viewing("u-3", null, openWs),
+                    viewing("u-4", "ch-2", closedWs));
+
+            // When
+            presenceManager.refreshViewing(sessions);
+
+            // Then
+            verify(zSetCommands).zAdd(aryEq(bytes("chat:presence:ch-1")), anyDouble(), aryEq(bytes("u-1")));
+            verify(zSetCommands).zAdd(aryEq(bytes("chat:presence:ch-1")), anyDouble(), aryEq(bytes("u-2")));
+            verify(zSetCommands, never()).zAdd(aryEq(bytes("chat:presence:ch-2")), anyDouble(), any(byte[].class));
+            verify(zSetCommands).zRemRangeByScore(aryEq(bytes("chat:presence:ch-1")),
+                    eq(Double.NEGATIVE_INFINITY), anyDouble());
+            verify(keyCommands).expire(aryEq(bytes("chat:presence:ch-1")), eq(60L));
+            verify(keyCommands, never()).expire(aryEq(bytes("chat:presence:ch-2")), eq(60L));
+        }
+    }
+}
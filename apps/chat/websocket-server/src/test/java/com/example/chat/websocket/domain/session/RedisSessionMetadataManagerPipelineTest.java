@@ -0,0 +1,197 @@
+package com.example.chat.websocket.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.example.chat.websocket.config.NodeLeaseProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisSessionMetadataManager — 파이프라인 왕복 수 / 노드 리스")
+class RedisSessionMetadataManagerPipelineTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private SetOperations<String, String> setOperations;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final NodeLeaseProperties nodeLeaseProperties = new NodeLeaseProperties();
+    private RedisSessionMetadataManager manager;
+
+    @BeforeEach
+    void setUp() {
+        nodeLeaseProperties.setNodeId("node-self");
+        manager = new RedisSessionMetadataManager(redisTemplate, nodeLeaseProperties);
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("registerSessionMetadata()")
+    class Register {
+
+        @Test
+        @DisplayName("세션 등록은 파이프라인 1회로 처리하고 개별 명령을 호출하지 않는다")
+        void register_uses_single_pipeline() {
+            // When
+            manager.registerSessionMetadata("s-1", 1L, "ch-1");
+
+            // Then
+            verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+            verify(redisTemplate, never()).opsForValue();
+            verify(redisTemplate, never()).opsForSet();
+        }
+
+        @Test
+        @DisplayName("sessionId가 없으면 Redis를 호출하지 않는다")
+        void null_session_id_skips() {
+            // When
+            manager.registerSessionMetadata(null, 1L, "ch-1");
+
+            // Then
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("registerSessionMetadataBatch()")
+    class RegisterBatch {
+
+        @Test
+        @DisplayName("배치 크기(500) 단위로 파이프라인을 나눠 호출한다")
+        void batch_is_chunked() {
+            // Given
+            List<ChatSession> sessions = new ArrayList<>();
+            for (int i = 0; i < 1001; i++) {
+                sessions.add(ChatSession.builder().sessionId("s-" + i).roomId("ch-1").build());
+            }
+
+            // When
+            manager.registerSessionMetadataBatch(sessions);
+
+            // Then
+            verify(redisTemplate, times(3)).executePipelined(any(RedisCallback.class));
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("removeSessionMetadata()")
+    class Remove {
+
+        @Test
+        @DisplayName("조회 1회 + 삭제 1회, 총 2회 파이프라인으로 처리한다")
+        void remove_uses_two_pipelines() {
+            // Given
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(Arrays.asList("1:ch-1", Set.of("ch-1", "ch-2")))
+                    .thenReturn(List.of());
+
+            // When
+            manager.removeSessionMetadata("s-1");
+
+            // Then
+            verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("세션 정보가 없으면 삭제 파이프라인을 실행하지 않는다")
+        void missing_session_info_skips_delete() {
+            // Given
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(Arrays.asList(null, Set.of()));
+
+            // When
+            manager.removeSessionMetadata("s-1");
+
+            // Then
+            verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("reapDeadNodes()")
+    class ReapDeadNodes {
+
+        @Test
+        @DisplayName("heartbeat가 없는 노드의 세션을 정리하고 노드 목록에서 제거한다")
+        void dead_node_sessions_are_reaped() {
+            // Given
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(setOperations.members("chat:nodes")).thenReturn(Set.of("node-self", "node-dead"));
+            when(valueOperations.setIfAbsent(eq("chat:node:reap:node-dead"), eq("node-self"), any(Duration.class)))
+                    .thenReturn(true);
+            when(setOperations.members("chat:node:sessions:node-dead")).thenReturn(Set.of("s-9"));
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(List.of(false))                                  // EXISTS heartbeat
+                    .thenReturn(Arrays.asList("7:ch-1:node-dead", Set.of("ch-1"))) // 세션 정보 조회
+                    .thenReturn(List.of());                                      // 삭제
+
+            // When
+            int reaped = manager.reapDeadNodes();
+
+            // Then
+            assertThat(reaped).isEqualTo(1);
+            verify(redisTemplate).delete("chat:node:sessions:node-dead");
+            verify(setOperations).remove("chat:nodes", "node-dead");
+        }
+
+        @Test
+        @DisplayName("다른 노드가 정리 잠금을 잡고 있으면 건너뛴다")
+        void locked_node_is_skipped() {
+            // Given
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(setOperations.members("chat:nodes")).thenReturn(Set.of("node-dead"));
+            when(valueOperations.setIfAbsent(eq("chat:node:reap:node-dead"), eq("node-self"), any(Duration.class)))
+                    .thenReturn(false);
+            when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(false));
+
+            // When
+            int reaped = manager.reapDeadNodes();
+
+            // Then
+            assertThat(reaped).isZero();
+            verify(redisTemplate, never()).delete("chat:node:sessions:node-dead");
+        }
+
+        @Test
+        @DisplayName("살아 있는 노드는 정리하지 않는다")
+        void live_node_is_kept() {
+            // Given
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.members("chat:nodes")).thenReturn(Set.of("node-live"));
+            when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true));
+
+            // When
+            int reaped = manager.reapDeadNodes();
+
+            // Then
+            assertThat(reaped).isZero();
+            verify(redisTemplate, never()).opsForValue();
+        }
+    }
+}
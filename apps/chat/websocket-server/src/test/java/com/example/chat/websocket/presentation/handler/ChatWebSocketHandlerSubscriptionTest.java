@@ -0,0 +1,186 @@
+package com.example.chat.websocket.presentation.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.chat.websocket.application.service.ChannelMembershipService;
+import com.example.chat.websocket.application.service.MessageResumeService;
+import com.example.chat.websocket.application.service.MessageResumeService.ResumePoint;
+import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
+import com.example.chat.websocket.domain.session.ChatSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatWebSocketHandler — 구독 멤버십 검증")
+class ChatWebSocketHandlerSubscriptionTest {
+
+    @Mock private ChatRoomSessionManager sessionManager;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private WebSocketSession session;
+    @Mock private MessageResumeService messageResumeService;
+    @Mock private ChannelMembershipService channelMembershipService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private ChatWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ChatWebSocketHandler(sessionManager, redisTemplate, objectMapper, messageResumeService,
+                channelMembershipService);
+        attributes.put("userId", "u-1");
+        lenient().when(session.getId()).thenReturn("s-1");
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: 등록된 세션 / 프레임 전송
+    // -----------------------------------------------------------------------
+    private ChatSession givenRegisteredSession(String... subscribedRooms) {
+        ChatSession chatSession = ChatSession.builder().sessionId("s-1").principalId("u-1").build();
+        for (String roomId : subscribedRooms) {
+            chatSession.subscribe(roomId);
+        }
+        lenient().when(sessionManager.getSession("s-1")).thenReturn(Optional.of(chatSession));
+        return chatSession;
+    }
+
+    private void send(Map<String, Object> payload) throws Exception {
+        handler.handleTextMessage(session, new TextMessage(objectMapper.writeValueAsString(payload)));
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("SUBSCRIBE")
+    class Subscribe {
+
+        @Test
+        @DisplayName("멤버인 채팅방만 구독하고 멤버가 아닌 채팅방은 건너뛴다")
+        void subscribes_member_rooms_only() throws Exception {
+            // Given
+            givenRegisteredSession();
+            when(channelMembershipService.isMember("ch-1", "u-1")).thenReturn(true);
+            when(channelMembershipService.isMember("ch-2", "u-1")).thenReturn(false);
+            when(sessionManager.subscribeRoom("s-1", "ch-1")).thenReturn(true);
+
+            // When
+            send(Map.of("type", "SUBSCRIBE", "channelIds", new String[] {"ch-1", "ch-2"}));
+
+            // Then
+            verify(sessionManager).subscribeRoom("s-1", "ch-1");
+            verify(sessionManager, never()).subscribeRoom("s-1", "ch-2");
+        }
+
+        @Test
+        @DisplayName("userId 없는 세션은 어떤 채팅방도 구독하지 못한다")
+        void anonymous_session_cannot_subscribe() throws Exception {
+            // Given
+            attributes.remove("userId");
+            givenRegisteredSession();
+
+            // When
+            send(Map.of("type", "SUBSCRIBE", "channelId", "ch-1"));
+
+            // Then
+            verify(sessionManager, never()).subscribeRoom(anyString(), anyString());
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("핸드셰이크 채팅방")
+    class Handshake {
+
+        @Test
+        @DisplayName("멤버가 아니면 채팅방 없이 연결만 등록한다")
+        void non_member_handshake_room_is_dropped() throws Exception {
+            // Given
+            attributes.put("roomId", "ch-9");
+            when(channelMembershipService.isMember("ch-9", "u-1")).thenReturn(false);
+
+            // When
+            handler.afterConnectionEstablished(session);
+
+            // Then
+            ArgumentCaptor<ChatSession> captor = ArgumentCaptor.forClass(ChatSession.class);
+            verify(sessionManager).registerSession(captor.capture());
+            assertThat(captor.getValue().getRoomId()).isNull();
+            assertThat(captor.getValue().getViewingRoomId()).isNull();
+        }
+
+        @Test
+        @DisplayName("멤버이면 핸드셰이크 채팅방을 그대로 등록한다")
+        void member_handshake_room_is_kept() throws Exception {
+            // Given
+            attributes.put("roomId", "ch-1");
+            when(channelMembershipService.isMember("ch-1", "u-1")).thenReturn(true);
+
+            // When
+            handler.afterConnectionEstablished(session);
+
+            // Then
+            ArgumentCaptor<ChatSession> captor = ArgumentCaptor.forClass(ChatSession.class);
+            verify(sessionManager).registerSession(captor.capture());
+            assertThat(captor.getValue().getRoomId()).isEqualTo("ch-1");
+        }
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("RESUME")
+    class Resume {
+
+        @Test
+        @DisplayName("구독 중이어도 멤버에서 빠진 채팅방은 재전송하지 않는다")
+        void skips_rooms_no_longer_member() throws Exception {
+            // Given
+            ChatSession chatSession = givenRegisteredSession("ch-1", "ch-2");
+            when(channelMembershipService.isMember("ch-1", "u-1")).thenReturn(true);
+            when(channelMembershipService.isMember("ch-2", "u-1")).thenReturn(false);
+
+            // When
+            send(Map.of("type", "RESUME", "channels", List.of(
+                    Map.of("channelId", "ch-1", "lastSeq", 3),
+                    Map.of("channelId", "ch-2", "lastSeq", 7))));
+
+            // Then
+            verify(messageResumeService).resume(chatSession, List.of(new ResumePoint("ch-1", 3)));
+        }
+
+        @Test
+        @DisplayName("구독하지 않은 채팅방은 멤버십 조회 없이 무시한다")
+        void ignores_unsubscribed_rooms() throws Exception {
+            // Given
+            givenRegisteredSession();
+
+            // When
+            send(Map.of("type", "RESUME", "channelId", "ch-1", "lastSeq", 3));
+
+            // Then
+            verify(channelMembershipService, never()).isMember(anyString(), anyString());
+            verify(messageResumeService, never()).resume(any(), any());
+        }
+    }
+}
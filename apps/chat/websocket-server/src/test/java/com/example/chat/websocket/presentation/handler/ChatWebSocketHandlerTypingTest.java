@@ -21,6 +21,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import com.example.chat.websocket.application.service.ChannelMembershipService;
+import com.example.chat.websocket.application.service.MessageResumeService;
 import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -31,13 +33,16 @@ class ChatWebSocketHandlerTypingTest {
     @Mock private ChatRoomSessionManager sessionManager;
     @Mock private RedisTemplate<String, String> redisTemplate;
     @Mock private WebSocketSession session;
+    @Mock private MessageResumeService messageResumeService;
+    @Mock private ChannelMembershipService channelMembershipService;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private ChatWebSocketHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new ChatWebSocketHandler(sessionManager, redisTemplate, objectMapper);
+        handler = new ChatWebSocketHandler(sessionManager, redisTemplate, objectMapper, messageResumeService,
+                channelMembershipService);
     }
 
     // -----------------------------------------------------------------------
@@ -0,0 +1,116 @@
+package com.example.chat.websocket.presentation.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.chat.websocket.application.service.ChannelMembershipService;
+import com.example.chat.websocket.application.service.MessageResumeService;
+import com.example.chat.websocket.domain.session.ChatRoomSessionManager;
+import com.example.chat.websocket.domain.session.ChatSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatWebSocketHandler — VIEW 열람 채팅방 변경")
+class ChatWebSocketHandlerViewTest {
+
+    @Mock private ChatRoomSessionManager sessionManager;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private WebSocketSession session;
+    @Mock private MessageResumeService messageResumeService;
+    @Mock private ChannelMembershipService channelMembershipService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChatWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ChatWebSocketHandler(sessionManager, redisTemplate, objectMapper, messageResumeService,
+                channelMembershipService);
+        lenient().when(session.getId()).thenReturn("s-1");
+    }
+
+    // -----------------------------------------------------------------------
+    // Helper: ch-1 을 구독한 등록 세션
+    // -----------------------------------------------------------------------
+    private void givenSubscribedTo(String roomId) {
+        ChatSession chatSession = ChatSession.builder().sessionId("s-1").principalId("u-1").build();
+        chatSession.subscribe(roomId);
+        when(sessionManager.getSession("s-1")).thenReturn(Optional.of(chatSession));
+    }
+
+    private void send(String json) throws Exception {
+        handler.handleTextMessage(session, new TextMessage(json));
+    }
+
+    // =======================================================================
+    @Nested
+    @DisplayName("handleTextMessage() — VIEW")
+    class View {
+
+        @Test
+        @DisplayName("구독 중인 채팅방이면 열람 채팅방을 변경한다")
+        void subscribed_room_changes_viewing() throws Exception {
+            // Given
+            givenSubscribedTo("ch-1");
+
+            // When
+            send(objectMapper.writeValueAsString(Map.of("type", "VIEW", "channelId", "ch-1")));
+
+            // Then
+            verify(sessionManager).changeViewingRoom("s-1", "ch-1");
+        }
+
+        @Test
+        @DisplayName("구독하지 않은 채팅방은 열람 대상으로 인정하지 않는다")
+        void unsubscribed_room_is_rejected() throws Exception {
+            // Given
+            givenSubscribedTo("ch-1");
+
+            // When
+            send(objectMapper.writeValueAsString(Map.of("type", "VIEW", "channelId", "ch-2")));
+
+            // Then
+            verify(sessionManager, never()).changeViewingRoom(any(), any());
+        }
+
+        @Test
+        @DisplayName("channelId 없이 보내면 채팅방 화면을 벗어난 것으로 보고 열람을 해제한다")
+        void missing_channel_clears_viewing() throws Exception {
+            // When
+            send("{\"type\":\"VIEW\"}");
+
+            // Then
+            verify(sessionManager).changeViewingRoom("s-1", null);
+        }
+
+        @Test
+        @DisplayName("미등록 세션의 VIEW 는 무시한다")
+        void unknown_session_is_ignored() throws Exception {
+            // Given
+            when(sessionManager.getSession("s-1")).thenReturn(Optional.empty());
+
+            // When
+            send(objectMapper.writeValueAsString(Map.of("type", "VIEW", "channelId", "ch-1")));
+
+            // Then
+            verify(sessionManager, never()).changeViewingRoom(any(), any());
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.example.chat.push.application;
 
 import com.example.chat.push.domain.PushMessage;
 import com.example.chat.push.domain.PushMessageRepository;
+import com.example.chat.push.interfaces.kafka.ChannelNotificationEvent;
 import com.example.chat.push.interfaces.kafka.NotificationEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 푸시 메시지 저장 서비스
  *
@@ -26,4 +29,22 @@ public class PushMessageService {
                 event.pushType());
         return pushMessageRepository.save(pushMessage);
     }
+
+    /**
+     * 채널 fan-out 이벤트를 수신자별 PushMessage로 전개하여 단일 트랜잭션으로 저장합니다.
+     * 중복 수신자는 1건으로 합치고, 발신자가 수신자 목록에 섞여 있어도 발신자에게는 저장하지 않습니다.
+     */
+    @Transactional
+    public List<PushMessage> savePushMessages(ChannelNotificationEvent event) {
+        List<PushMessage> pushMessages = event.receiverIds().stream()
+                .filter(receiverId -> !receiverId.equals(event.senderId()))
+                .distinct()
+                .map(receiverId -> PushMessage.of(
+                        receiverId,
+                        event.title(),
+                        event.content(),
+                        event.pushType()))
+                .toList();
+        return pushMessageRepository.saveAll(pushMessages);
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.chat.push.interfaces.kafka;
+
+import java.util.List;
+
+/**
+ * Kafka로부터 수신하는 채널 fan-out 알림 이벤트
+ *
+ * 메시지 1건에 대한 수신자 전체를 한 레코드로 전달받아 push-service에서 수신자별로 전개합니다.
+ */
+public record ChannelNotificationEvent(
+        String channelId,
+        String messageId,
+        String senderId,
+        List<String> receiverIds,
+        String title,
+        String content,
+        String pushType) {
+}
@@ -10,7 +10,7 @@ import org.springframework.stereotype.Component;
 /**
  * 알림 이벤트 Kafka 컨슈머
  *
- * 책임: notification-events 토픽을 구독하여 PushMessage를 저장합니다.
+ * 책임: notification-events / channel-notification-events 토픽을 구독하여 PushMessage를 저장합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,4 +31,25 @@ public class NotificationConsumer {
             log.error("Failed to process notification event", e);
         }
     }
+
+    /**
+     * 채널 fan-out 알림 수신 — 수신자 목록을 PushMessage 여러 건으로 전개합니다.
+     */
+    @KafkaListener(
+            topics = "channel-notification-events",
+            groupId = "${spring.kafka.consumer.group-id:push-service-group}")
+    public void consumeChannelNotification(String message) {
+        try {
+            ChannelNotificationEvent event = objectMapper.readValue(message, ChannelNotificationEvent.class);
+            if (event == null || event.receiverIds() == null || event.receiverIds().isEmpty()) {
+                log.warn("Ignored channel notification without receivers: {}", message);
+                return;
+            }
+            log.info("Consumed channel notification: channelId={}, messageId={}, receivers={}",
+                    event.channelId(), event.messageId(), event.receiverIds().size());
+            pushMessageService.savePushMessages(event);
+        } catch (Exception e) {
+            log.error("Failed to process channel notification event", e);
+        }
+    }
 }
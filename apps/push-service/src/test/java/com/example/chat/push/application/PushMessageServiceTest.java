@@ -0,0 +1,97 @@
+package com.example.chat.push.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.chat.push.domain.PushMessage;
+import com.example.chat.push.domain.PushMessageRepository;
+import com.example.chat.push.domain.PushStatus;
+import com.example.chat.push.interfaces.kafka.ChannelNotificationEvent;
+
+/**
+ * [단위 테스트] PushMessageService 채널 fan-out 저장
+ *
+ * 검증 범위:
+ * - 채널 알림 1건 → 수신자별 PushMessage 전개, saveAll 1회 (단일 배치 저장)
+ * - 중복 수신자는 1건으로 합침
+ * - 발신자가 수신자 목록에 섞여 있어도 발신자에게는 저장하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PushMessageService 단위 테스트")
+class PushMessageServiceTest {
+
+    @Mock PushMessageRepository pushMessageRepository;
+
+    @InjectMocks PushMessageService pushMessageService;
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<PushMessage>> savedCaptor = ArgumentCaptor.forClass(List.class);
+
+    @BeforeEach
+    void setUp() {
+        when(pushMessageRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private static ChannelNotificationEvent event(List<String> receiverIds) {
+        return new ChannelNotificationEvent("ch-001", "m-001", "u-sender", receiverIds,
+                "새 메시지", "hello", "CHAT_MESSAGE");
+    }
+
+    @Nested
+    @DisplayName("savePushMessages")
+    class SavePushMessages {
+
+        @Test
+        @DisplayName("수신자마다 PENDING PushMessage 를 만들어 한 번에 저장")
+        void shouldFanOutToEveryReceiverInOneBatch() {
+            // When
+            List<PushMessage> saved = pushMessageService.savePushMessages(event(List.of("u-1", "u-2", "u-3")));
+
+            // Then
+            verify(pushMessageRepository, times(1)).saveAll(savedCaptor.capture());
+            assertThat(savedCaptor.getValue()).extracting(PushMessage::getTargetUserId)
+                    .containsExactly("u-1", "u-2", "u-3");
+            assertThat(saved).allSatisfy(message -> {
+                assertThat(message.getStatus()).isEqualTo(PushStatus.PENDING);
+                assertThat(message.getTitle()).isEqualTo("새 메시지");
+                assertThat(message.getContent()).isEqualTo("hello");
+                assertThat(message.getPushType()).isEqualTo("CHAT_MESSAGE");
+            });
+        }
+
+        @Test
+        @DisplayName("중복 수신자는 1건만 저장")
+        void shouldDeduplicateReceivers() {
+            pushMessageService.savePushMessages(event(List.of("u-1", "u-2", "u-1")));
+
+            verify(pushMessageRepository).saveAll(savedCaptor.capture());
+            assertThat(savedCaptor.getValue()).extracting(PushMessage::getTargetUserId)
+                    .containsExactly("u-1", "u-2");
+        }
+
+        @Test
+        @DisplayName("발신자는 수신자 목록에 있어도 제외")
+        void shouldExcludeSender() {
+            pushMessageService.savePushMessages(event(List.of("u-sender", "u-1")));
+
+            verify(pushMessageRepository).saveAll(savedCaptor.capture());
+            assertThat(savedCaptor.getValue()).extracting(PushMessage::getTargetUserId)
+                    .containsExactly("u-1");
+        }
+    }
+}
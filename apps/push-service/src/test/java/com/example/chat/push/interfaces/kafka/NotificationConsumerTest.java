@@ -0,0 +1,82 @@
+package com.example.chat.push.interfaces.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.chat.push.application.PushMessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * [단위 테스트] NotificationConsumer 채널 fan-out 수신
+ *
+ * 검증 범위:
+ * - 채널 알림 레코드 1건 → savePushMessages 1회 (수신자 목록 그대로 전달)
+ * - 수신자 없는 레코드 / 역직렬화 불가 레코드는 저장하지 않고 예외 전파 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationConsumer 단위 테스트")
+class NotificationConsumerTest {
+
+    @Mock PushMessageService pushMessageService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private NotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new NotificationConsumer(pushMessageService, objectMapper);
+    }
+
+    private String channelNotification(List<String> receiverIds) throws Exception {
+        return objectMapper.writeValueAsString(new ChannelNotificationEvent(
+                "ch-001", "m-001", "u-sender", receiverIds, "새 메시지", "hello", "CHAT_MESSAGE"));
+    }
+
+    @Nested
+    @DisplayName("consumeChannelNotification")
+    class ConsumeChannelNotification {
+
+        @Test
+        @DisplayName("메시지 1건의 수신자 전체를 한 번에 서비스로 전달")
+        void shouldDelegateWholeFanOutOnce() throws Exception {
+            // When
+            consumer.consumeChannelNotification(channelNotification(List.of("u-1", "u-2")));
+
+            // Then
+            ArgumentCaptor<ChannelNotificationEvent> captor = ArgumentCaptor.forClass(ChannelNotificationEvent.class);
+            verify(pushMessageService).savePushMessages(captor.capture());
+            assertThat(captor.getValue().receiverIds()).containsExactly("u-1", "u-2");
+            assertThat(captor.getValue().senderId()).isEqualTo("u-sender");
+            assertThat(captor.getValue().messageId()).isEqualTo("m-001");
+        }
+
+        @Test
+        @DisplayName("수신자가 없으면 저장하지 않음")
+        void shouldIgnoreEmptyReceivers() throws Exception {
+            consumer.consumeChannelNotification(channelNotification(List.of()));
+
+            verify(pushMessageService, never()).savePushMessages(any());
+        }
+
+        @Test
+        @DisplayName("역직렬화 불가 레코드는 예외 전파 없이 건너뜀")
+        void shouldSkipMalformedRecord() {
+            consumer.consumeChannelNotification("{not-json");
+
+            verify(pushMessageService, never()).savePushMessages(any());
+        }
+    }
+}